@@ -12,6 +12,7 @@ dependencies {
 
     api(libs.jsr305) // Marked api because the annotations are used in sdk methods
     api(libs.grpc.api) // Marked api because SdkException contains classes from this dependency
+    api(libs.reactive.streams) // Marked api because the publishers returned by the sdk implement it
     implementation(libs.grpc.stub)
     implementation(libs.grpc.nettyshaded)
     implementation(libs.grpc.context)
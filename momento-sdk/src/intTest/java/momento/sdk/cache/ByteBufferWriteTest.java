@@ -0,0 +1,109 @@
+package momento.sdk.cache;
+
+import static momento.sdk.TestUtils.randomString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.NearCacheConfiguration;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetResponse;
+import momento.sdk.responses.cache.dictionary.DictionaryGetFieldResponse;
+import momento.sdk.responses.cache.dictionary.DictionarySetFieldResponse;
+import momento.sdk.responses.cache.list.ListFetchResponse;
+import momento.sdk.responses.cache.list.ListPushBackResponse;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+public class ByteBufferWriteTest extends BaseCacheTestClass {
+
+  // A buffer over "xx<value>yy" whose position and limit select only the value.
+  private static ByteBuffer slice(String value) {
+    final ByteBuffer buffer =
+        ByteBuffer.wrap(("xx" + value + "yy").getBytes(StandardCharsets.UTF_8));
+    // Called through Buffer, since ByteBuffer only overrides position and limit from Java 9 on.
+    ((Buffer) buffer).position(2);
+    ((Buffer) buffer).limit(2 + value.length());
+    return buffer;
+  }
+
+  @Test
+  public void setSendsOnlyTheRemainingBytes() {
+    final String key = randomString();
+    final String value = randomString();
+
+    assertThat(cacheClient.set(cacheName, slice(key), slice(value)))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.get(cacheName, key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value));
+  }
+
+  @Test
+  public void listPushBackSendsOnlyTheRemainingBytes() {
+    final String listName = randomString();
+    final String value = randomString();
+
+    assertThat(cacheClient.listPushBack(cacheName, listName, slice(value)))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(ListPushBackResponse.Success.class);
+
+    assertThat(cacheClient.listFetch(cacheName, listName))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(ListFetchResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueListString()).containsExactly(value));
+  }
+
+  @Test
+  public void dictionarySetFieldSendsOnlyTheRemainingBytes() {
+    final String dictionaryName = randomString();
+    final String field = randomString();
+    final String value = randomString();
+
+    assertThat(cacheClient.dictionarySetField(cacheName, dictionaryName, field, slice(value)))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(DictionarySetFieldResponse.Success.class);
+
+    assertThat(cacheClient.dictionaryGetField(cacheName, dictionaryName, field))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(DictionaryGetFieldResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value));
+  }
+
+  @Test
+  public void setFromBuffersInvalidatesTheNearCache() {
+    final Configuration config =
+        Configurations.Laptop.latest().withNearCache(new NearCacheConfiguration());
+    try (final CacheClient client =
+        CacheClient.builder(credentialProvider, config, DEFAULT_TTL_SECONDS).build()) {
+      final String key = randomString();
+
+      assertThat(client.set(cacheName, key, "old"))
+          .succeedsWithin(FIVE_SECONDS)
+          .isInstanceOf(SetResponse.Success.class);
+
+      final ByteBuffer keyBuffer = ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+      final ByteBuffer value = ByteBuffer.wrap("new".getBytes(StandardCharsets.UTF_8));
+      assertThat(client.set(cacheName, keyBuffer, value))
+          .succeedsWithin(FIVE_SECONDS)
+          .isInstanceOf(SetResponse.Success.class);
+
+      // The caller may reuse the buffer once the set completes. Had the set written through, the
+      // near cache would now hold a view of the reused buffer.
+      value.clear();
+      value.put("bad".getBytes(StandardCharsets.UTF_8));
+
+      assertThat(client.get(cacheName, key))
+          .succeedsWithin(FIVE_SECONDS)
+          .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+          .satisfies(hit -> assertThat(hit.valueString()).isEqualTo("new"));
+    }
+  }
+}
@@ -12,9 +12,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import momento.sdk.CacheClient;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.auth.StringCredentialProvider;
+import momento.sdk.config.AutoBatchingConfiguration;
 import momento.sdk.config.Configuration;
 import momento.sdk.config.Configurations;
 import momento.sdk.exceptions.AuthenticationException;
@@ -23,6 +25,7 @@ import momento.sdk.exceptions.InvalidArgumentException;
 import momento.sdk.exceptions.ServerUnavailableException;
 import momento.sdk.responses.cache.DeleteResponse;
 import momento.sdk.responses.cache.GetBatchResponse;
+import momento.sdk.responses.cache.GetBatchStreamResponse;
 import momento.sdk.responses.cache.GetResponse;
 import momento.sdk.responses.cache.IncrementResponse;
 import momento.sdk.responses.cache.SetBatchResponse;
@@ -99,6 +102,27 @@ final class CacheClientTest extends BaseCacheTestClass {
     }
   }
 
+  @Test
+  public void closeCompletesBufferedSets() {
+    final String key = randomString();
+    final CompletableFuture<SetResponse> set;
+    try (final CacheClient client =
+        CacheClient.builder(
+                credentialProvider,
+                Configurations.Laptop.latest()
+                    .withAutoBatching(new AutoBatchingConfiguration(100, Duration.ofMinutes(1))),
+                DEFAULT_TTL_SECONDS)
+            .build()) {
+      set = client.set(cacheName, key, "value");
+    }
+
+    assertThat(set).isDone().succeedsWithin(FIVE_SECONDS).isInstanceOf(SetResponse.Success.class);
+    assertThat(cacheClient.get(cacheName, key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueString()).isEqualTo("value"));
+  }
+
   @Test
   public void shouldFlushCacheContents() {
     final String cacheToFlush = randomString("cacheToFlush");
@@ -973,6 +997,45 @@ final class CacheClientTest extends BaseCacheTestClass {
         .containsExactlyEntriesOf(items);
   }
 
+  @Test
+  public void getBatchStreamHappyPath() {
+    final Map<String, String> items = new HashMap<>();
+    items.put("key1", "val1");
+    items.put("key2", "val2");
+    items.put("key3", "val3");
+    assertThat(cacheClient.setBatch(cacheName, items, Duration.ofMinutes(1)))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetBatchResponse.Success.class);
+
+    final List<String> keys = new ArrayList<>(items.keySet());
+    keys.add("missing-key");
+    final Map<String, GetResponse> streamedItems = new ConcurrentHashMap<>();
+
+    assertThat(cacheClient.getBatch(cacheName, keys, streamedItems::put))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetBatchStreamResponse.Success.class))
+        .satisfies(success -> assertThat(success.itemCount()).isEqualTo(4));
+
+    assertThat(streamedItems).hasSize(4);
+    items.forEach(
+        (key, value) ->
+            assertThat(streamedItems.get(key))
+                .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+                .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value)));
+    assertThat(streamedItems.get("missing-key")).isInstanceOf(GetResponse.Miss.class);
+  }
+
+  @Test
+  public void getBatchStreamFailsWithNonExistentCache() {
+    final List<String> items = new ArrayList<>();
+    items.add("key1");
+
+    assertThat(cacheClient.getBatch(randomString("cache"), items, (key, response) -> {}))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetBatchStreamResponse.Error.class))
+        .satisfies(error -> assertThat(error).hasCauseInstanceOf(CacheNotFoundException.class));
+  }
+
   @Test
   public void getBatchFailsWithNullCacheName() {
     assertThat(cacheClient.getBatch(null, new ArrayList<>()))
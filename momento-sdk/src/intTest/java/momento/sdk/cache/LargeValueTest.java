@@ -0,0 +1,80 @@
+package momento.sdk.cache;
+
+import static momento.sdk.TestUtils.randomString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Random;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetResponse;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+public class LargeValueTest extends BaseCacheTestClass {
+
+  private static final Duration THIRTY_SECONDS = Duration.ofSeconds(30);
+
+  private static byte[] randomBytes(int size) {
+    final byte[] bytes = new byte[size];
+    new Random().nextBytes(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void putLargeGetLargeHappyPath() {
+    final String key = randomString();
+    // Larger than the maximum message size, and not a multiple of the chunk size.
+    final byte[] value = randomBytes(12 * 1024 * 1024 + 17);
+
+    assertThat(cacheClient.putLarge(cacheName, key, value, DEFAULT_TTL_SECONDS))
+        .succeedsWithin(THIRTY_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.getLarge(cacheName, key))
+        .succeedsWithin(THIRTY_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueByteArray()).isEqualTo(value));
+  }
+
+  @Test
+  public void putLargeOverwritesPreviousValue() {
+    final String key = randomString();
+    final byte[] first = randomBytes(3 * 1024 * 1024);
+    final byte[] second = randomBytes(1024);
+
+    assertThat(cacheClient.putLarge(cacheName, key, ByteBuffer.wrap(first), DEFAULT_TTL_SECONDS))
+        .succeedsWithin(THIRTY_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+    assertThat(cacheClient.putLarge(cacheName, key, second))
+        .succeedsWithin(THIRTY_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.getLarge(cacheName, key))
+        .succeedsWithin(THIRTY_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueByteArray()).isEqualTo(second));
+  }
+
+  @Test
+  public void getLargeMissesForMissingKey() {
+    assertThat(cacheClient.getLarge(cacheName, randomString()))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(GetResponse.Miss.class);
+  }
+
+  @Test
+  public void getLargeFailsForPlainValue() {
+    final String key = randomString();
+
+    assertThat(cacheClient.set(cacheName, key, "not a manifest"))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.getLarge(cacheName, key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Error.class))
+        .satisfies(error -> assertThat(error.getErrorCode()).isEqualTo(MomentoErrorCode.UNKNOWN));
+  }
+}
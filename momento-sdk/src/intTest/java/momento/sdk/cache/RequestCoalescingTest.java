@@ -0,0 +1,70 @@
+package momento.sdk.cache;
+
+import static momento.sdk.TestUtils.randomString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import momento.sdk.CacheClient;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetResponse;
+import momento.sdk.responses.cache.dictionary.DictionaryFetchResponse;
+import momento.sdk.responses.cache.dictionary.DictionarySetFieldResponse;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescingTest extends BaseCacheTestClass {
+
+  private static CacheClient coalescingClient() {
+    final Configuration config = Configurations.Laptop.latest().withRequestCoalescing(true);
+    return CacheClient.builder(credentialProvider, config, DEFAULT_TTL_SECONDS).build();
+  }
+
+  @Test
+  public void getAfterSetSeesTheWrite() {
+    try (final CacheClient client = coalescingClient()) {
+      final String key = randomString();
+      assertThat(client.set(cacheName, key, "old"))
+          .succeedsWithin(FIVE_SECONDS)
+          .isInstanceOf(SetResponse.Success.class);
+
+      for (int i = 0; i < 20; i++) {
+        final String value = "new" + i;
+        // A read that is in flight while the write is sent, which later reads could have joined.
+        final CompletableFuture<GetResponse> earlierGet = client.get(cacheName, key);
+        assertThat(client.set(cacheName, key, value))
+            .succeedsWithin(FIVE_SECONDS)
+            .isInstanceOf(SetResponse.Success.class);
+
+        assertThat(client.get(cacheName, key))
+            .succeedsWithin(FIVE_SECONDS)
+            .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+            .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value));
+        assertThat(earlierGet).succeedsWithin(FIVE_SECONDS);
+      }
+    }
+  }
+
+  @Test
+  public void dictionaryFetchAfterSetFieldSeesTheWrite() {
+    try (final CacheClient client = coalescingClient()) {
+      final String dictionaryName = randomString();
+
+      for (int i = 0; i < 20; i++) {
+        final String value = "value" + i;
+        final CompletableFuture<DictionaryFetchResponse> earlierFetch =
+            client.dictionaryFetch(cacheName, dictionaryName);
+        assertThat(client.dictionarySetField(cacheName, dictionaryName, "field", value))
+            .succeedsWithin(FIVE_SECONDS)
+            .isInstanceOf(DictionarySetFieldResponse.Success.class);
+
+        assertThat(client.dictionaryFetch(cacheName, dictionaryName))
+            .succeedsWithin(FIVE_SECONDS)
+            .asInstanceOf(InstanceOfAssertFactories.type(DictionaryFetchResponse.Hit.class))
+            .satisfies(hit -> assertThat(hit.valueMap()).containsEntry("field", value));
+        assertThat(earlierFetch).succeedsWithin(FIVE_SECONDS);
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package momento.sdk.cache;
+
+import static momento.sdk.TestUtils.randomString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import momento.sdk.SyncCacheClient;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.responses.cache.DeleteResponse;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.IncrementResponse;
+import momento.sdk.responses.cache.SetResponse;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+public class SyncCacheClientTest extends BaseCacheTestClass {
+
+  @Test
+  public void setGetDeleteHappyPath() {
+    final SyncCacheClient client = cacheClient.sync();
+    final String key = randomString();
+    final String value = randomString();
+
+    assertThat(client.set(cacheName, key, value, DEFAULT_TTL_SECONDS))
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(client.get(cacheName, key))
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value));
+
+    assertThat(client.delete(cacheName, key)).isInstanceOf(DeleteResponse.Success.class);
+    assertThat(client.get(cacheName, key)).isInstanceOf(GetResponse.Miss.class);
+  }
+
+  @Test
+  public void byteArraySetIsVisibleToAsyncGet() {
+    final byte[] key = randomString().getBytes();
+    final byte[] value = randomString().getBytes();
+
+    assertThat(cacheClient.sync().set(cacheName, key, value))
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.get(cacheName, key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueByteArray()).isEqualTo(value));
+  }
+
+  @Test
+  public void incrementHappyPath() {
+    final SyncCacheClient client = cacheClient.sync();
+    final String field = randomString();
+
+    assertThat(client.increment(cacheName, field, 5))
+        .asInstanceOf(InstanceOfAssertFactories.type(IncrementResponse.Success.class))
+        .satisfies(success -> assertThat(success.valueNumber()).isEqualTo(5));
+    assertThat(client.increment(cacheName, field, -2, DEFAULT_TTL_SECONDS))
+        .asInstanceOf(InstanceOfAssertFactories.type(IncrementResponse.Success.class))
+        .satisfies(success -> assertThat(success.valueNumber()).isEqualTo(3));
+  }
+
+  @Test
+  public void getReturnsErrorWithNonexistentCacheName() {
+    assertThat(cacheClient.sync().get(randomString(), randomString()))
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Error.class))
+        .satisfies(
+            error -> assertThat(error.getErrorCode()).isEqualTo(MomentoErrorCode.NOT_FOUND_ERROR));
+  }
+
+  @Test
+  public void setReturnsErrorWithNullKey() {
+    assertThat(cacheClient.sync().set(cacheName, (String) null, randomString()))
+        .asInstanceOf(InstanceOfAssertFactories.type(SetResponse.Error.class))
+        .satisfies(
+            error ->
+                assertThat(error.getErrorCode())
+                    .isEqualTo(MomentoErrorCode.INVALID_ARGUMENT_ERROR));
+  }
+}
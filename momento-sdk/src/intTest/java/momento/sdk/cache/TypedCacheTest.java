@@ -0,0 +1,107 @@
+package momento.sdk.cache;
+
+import static momento.sdk.TestUtils.randomString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import javax.annotation.Nonnull;
+import momento.sdk.TypedCache;
+import momento.sdk.codec.Codec;
+import momento.sdk.codec.Codecs;
+import momento.sdk.exceptions.InvalidArgumentException;
+import momento.sdk.responses.cache.DeleteResponse;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetResponse;
+import momento.sdk.responses.cache.TypedGetResponse;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+public class TypedCacheTest extends BaseCacheTestClass {
+
+  private static final Codec<Long> LONG_CODEC =
+      new Codec<Long>() {
+        @Override
+        public void encode(@Nonnull Long value, @Nonnull OutputStream out) throws IOException {
+          final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(value);
+          out.write(buffer.array());
+        }
+
+        @Override
+        public Long decode(@Nonnull ByteBuffer bytes) {
+          return bytes.getLong();
+        }
+      };
+
+  @Test
+  public void typedSetGetDeleteHappyPath() {
+    final TypedCache<String, Long> typedCache =
+        cacheClient.typed(cacheName, Codecs.utf8(), LONG_CODEC);
+    final String key = randomString();
+
+    assertThat(typedCache.get(key))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(TypedGetResponse.Miss.class);
+
+    assertThat(typedCache.set(key, 42L, DEFAULT_TTL_SECONDS))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(typedCache.get(key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(TypedGetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.value()).isEqualTo(42L));
+
+    assertThat(typedCache.delete(key))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(DeleteResponse.Success.class);
+
+    assertThat(typedCache.get(key))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(TypedGetResponse.Miss.class);
+  }
+
+  @Test
+  public void typedStringValuesAreReadableByUntypedClient() {
+    final TypedCache<String, String> typedCache =
+        cacheClient.typed(cacheName, Codecs.utf8(), Codecs.utf8());
+    final String key = randomString();
+    final String value = randomString();
+
+    assertThat(typedCache.set(key, value))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(cacheClient.get(cacheName, key))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(GetResponse.Hit.class))
+        .satisfies(hit -> assertThat(hit.valueString()).isEqualTo(value));
+  }
+
+  @Test
+  public void typedGetReturnsErrorWhenValueCannotBeDecoded() {
+    final TypedCache<String, Long> typedCache =
+        cacheClient.typed(cacheName, Codecs.utf8(), LONG_CODEC);
+    final String key = randomString();
+
+    assertThat(cacheClient.set(cacheName, key, "x"))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(SetResponse.Success.class);
+
+    assertThat(typedCache.get(key))
+        .succeedsWithin(FIVE_SECONDS)
+        .isInstanceOf(TypedGetResponse.Error.class);
+  }
+
+  @Test
+  public void typedSetReturnsErrorForNullValue() {
+    final TypedCache<String, String> typedCache =
+        cacheClient.typed(cacheName, Codecs.utf8(), Codecs.utf8());
+
+    assertThat(typedCache.set(randomString(), null))
+        .succeedsWithin(FIVE_SECONDS)
+        .asInstanceOf(InstanceOfAssertFactories.type(SetResponse.Error.class))
+        .satisfies(error -> assertThat(error).hasCauseInstanceOf(InvalidArgumentException.class));
+  }
+}
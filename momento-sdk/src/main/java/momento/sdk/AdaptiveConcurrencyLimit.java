@@ -0,0 +1,128 @@
+package momento.sdk;
+
+import java.util.EnumSet;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.AdaptiveConcurrencyConfiguration;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.exceptions.SdkException;
+
+/**
+ * Computes a concurrency limit with additive increase and multiplicative decrease.
+ *
+ * <p>Every completed request is a sample. A sample that failed with a congestion error, or took
+ * longer than the latency tolerance times the lowest recent latency, shrinks the limit by {@link
+ * #BACKOFF_RATIO}. After shrinking, further congestion signals are ignored until about one limit's
+ * worth of samples has completed, since those requests were already in flight. Any other sample
+ * grows the limit by {@code 1 / limit}, i.e. about one per round of requests, but only while the
+ * client is using at least half of the limit, so an idle client does not grow a limit it has never
+ * tested.
+ *
+ * <p>Only the latencies of single item requests are compared with each other. Batch and streaming
+ * requests take longer the more items they carry, so they are untimed samples, which only shrink
+ * the limit when they fail with a congestion error.
+ */
+final class AdaptiveConcurrencyLimit {
+
+  static final double BACKOFF_RATIO = 0.9;
+
+  // The lowest latency is re-measured from scratch this often, so a lasting change in network
+  // conditions is eventually reflected in it.
+  static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+  private static final Set<MomentoErrorCode> CONGESTION_ERRORS =
+      EnumSet.of(
+          MomentoErrorCode.TIMEOUT_ERROR,
+          MomentoErrorCode.SERVER_UNAVAILABLE,
+          MomentoErrorCode.LIMIT_EXCEEDED_ERROR);
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+
+  private double limit;
+  private long minRttNanos = Long.MAX_VALUE;
+  private int samplesSinceMinRttReset;
+  private int samplesUntilBackoff;
+
+  AdaptiveConcurrencyLimit(@Nonnull AdaptiveConcurrencyConfiguration configuration) {
+    this.minLimit = configuration.getMinLimit();
+    this.maxLimit = configuration.getMaxLimit();
+    this.latencyTolerance = configuration.getLatencyTolerance();
+    this.limit = configuration.getInitialLimit();
+  }
+
+  /**
+   * The current limit.
+   *
+   * @return the number of requests allowed in flight.
+   */
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Updates the limit with a completed request.
+   *
+   * @param rttNanos How long the request took.
+   * @param result The result of the request, or null if it failed with an exception.
+   * @param error The exception the request failed with, or null.
+   * @param inFlight The number of requests that were in flight when the request started.
+   * @return the new limit.
+   */
+  int onSample(long rttNanos, @Nullable Object result, @Nullable Throwable error, int inFlight) {
+    return onSample(rttNanos, isCongestion(result, error), inFlight);
+  }
+
+  /**
+   * Updates the limit with a completed request whose latency is not comparable to that of a single
+   * item request, such as a batch or streaming request.
+   *
+   * @param result The result of the request, or null if it failed with an exception.
+   * @param error The exception the request failed with, or null.
+   * @param inFlight The number of requests that were in flight when the request started.
+   * @return the new limit.
+   */
+  int onUntimedSample(@Nullable Object result, @Nullable Throwable error, int inFlight) {
+    return onUntimedSample(isCongestion(result, error), inFlight);
+  }
+
+  synchronized int onSample(long rttNanos, boolean congestion, int inFlight) {
+    if (++samplesSinceMinRttReset >= MIN_RTT_RESET_SAMPLES) {
+      samplesSinceMinRttReset = 0;
+      minRttNanos = Long.MAX_VALUE;
+    }
+    if (!congestion) {
+      minRttNanos = Math.min(minRttNanos, rttNanos);
+    }
+
+    final boolean slow = minRttNanos != Long.MAX_VALUE && rttNanos > minRttNanos * latencyTolerance;
+    return update(congestion || slow, inFlight);
+  }
+
+  synchronized int onUntimedSample(boolean congestion, int inFlight) {
+    return update(congestion, inFlight);
+  }
+
+  private int update(boolean backoff, int inFlight) {
+    if (samplesUntilBackoff > 0) {
+      samplesUntilBackoff--;
+    }
+    if (backoff) {
+      if (samplesUntilBackoff == 0) {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        samplesUntilBackoff = (int) Math.ceil(limit);
+      }
+    } else if (inFlight * 2 >= limit) {
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+    return (int) limit;
+  }
+
+  private static boolean isCongestion(@Nullable Object result, @Nullable Throwable error) {
+    final Object failure = error != null ? error : result;
+    return failure instanceof SdkException
+        && CONGESTION_ERRORS.contains(((SdkException) failure).getErrorCode());
+  }
+}
@@ -2,6 +2,7 @@ package momento.sdk;
 
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.auth.accessControl.DisposableTokenScope;
 import momento.sdk.auth.accessControl.ExpiresIn;
@@ -20,7 +21,17 @@ public class AuthClient implements IAuthClient {
    * @param credentialProvider Provider for the credentials required to connect to Momento.
    */
   public AuthClient(@Nonnull CredentialProvider credentialProvider) {
-    this.tokenClient = new ScsTokenClient(credentialProvider);
+    this(credentialProvider, null);
+  }
+
+  /**
+   * Constructs a AuthClient that may share resources with other clients.
+   *
+   * @param credentialProvider Provider for the credentials required to connect to Momento.
+   * @param runtime The runtime whose resources the client uses, or null to use its own.
+   */
+  AuthClient(@Nonnull CredentialProvider credentialProvider, @Nullable MomentoRuntime runtime) {
+    this.tokenClient = new ScsTokenClient(credentialProvider, runtime);
 
     logger.debug("Creating Momento Auth Client");
     logger.debug("Cache endpoint: " + credentialProvider.getCacheEndpoint());
@@ -1,12 +1,14 @@
 package momento.sdk;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 
 /** Builder for {@link AuthClient} */
 public final class AuthClientBuilder {
 
   private final CredentialProvider credentialProvider;
+  private @Nullable MomentoRuntime runtime;
 
   /**
    * Creates a AuthClient builder.
@@ -17,12 +19,24 @@ public final class AuthClientBuilder {
     this.credentialProvider = credentialProvider;
   }
 
+  /**
+   * Shares the connections, threads and executors of the given runtime with the other clients built
+   * with it, instead of creating the client's own.
+   *
+   * @param runtime The runtime to use. It must be closed after the client.
+   * @return the builder.
+   */
+  public AuthClientBuilder withRuntime(@Nonnull MomentoRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
   /**
    * Builds a AuthClient.
    *
    * @return the client.
    */
   public AuthClient build() {
-    return new AuthClient(credentialProvider);
+    return new AuthClient(credentialProvider, runtime);
   }
 }
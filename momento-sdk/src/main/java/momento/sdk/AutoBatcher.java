@@ -0,0 +1,190 @@
+package momento.sdk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InternalServerException;
+
+/**
+ * Buffers individual requests and sends them together as batches.
+ *
+ * <p>Requests are grouped by a batch key, e.g. the cache name, since only requests that share it
+ * can be sent in the same batch request. A batch is sent as soon as it holds the maximum number of
+ * requests, or once the maximum delay has passed since its first request was added.
+ *
+ * @param <K> The key identifying which requests can be batched together.
+ * @param <I> The type of a single request.
+ * @param <R> The type of a single response.
+ */
+final class AutoBatcher<K, I, R> {
+
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final ScheduledExecutorService scheduler;
+  private final BiFunction<K, List<I>, CompletableFuture<List<R>>> sendBatch;
+  private final Function<Throwable, R> errorFunction;
+
+  private final ConcurrentHashMap<K, Batch> openBatches = new ConcurrentHashMap<>();
+  // Completes each batch that has been sent, once its requests have their responses.
+  private final Set<CompletableFuture<Void>> sentBatches = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Constructs an AutoBatcher.
+   *
+   * @param maxBatchSize The maximum number of requests in one batch.
+   * @param maxDelay The maximum time a request waits before its batch is sent.
+   * @param scheduler Runs the delayed sends.
+   * @param sendBatch Sends a batch and completes with one response per request, in request order.
+   * @param errorFunction Converts a failure to send a batch to the response of each request.
+   */
+  AutoBatcher(
+      int maxBatchSize,
+      @Nonnull Duration maxDelay,
+      @Nonnull ScheduledExecutorService scheduler,
+      @Nonnull BiFunction<K, List<I>, CompletableFuture<List<R>>> sendBatch,
+      @Nonnull Function<Throwable, R> errorFunction) {
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.scheduler = scheduler;
+    this.sendBatch = sendBatch;
+    this.errorFunction = errorFunction;
+  }
+
+  /**
+   * Adds a request to the open batch for its key, opening a new batch if needed.
+   *
+   * @param batchKey Identifies which requests the request can be batched with.
+   * @param item The request.
+   * @return a future that completes with the response to the request.
+   */
+  CompletableFuture<R> submit(@Nonnull K batchKey, @Nonnull I item) {
+    final CompletableFuture<R> future = new CompletableFuture<>();
+    final List<Batch> fullBatch = new ArrayList<>(1);
+
+    openBatches.compute(
+        batchKey,
+        (key, batch) -> {
+          if (batch == null) {
+            batch = new Batch(key);
+          }
+          batch.items.add(item);
+          batch.futures.add(future);
+          if (batch.items.size() >= maxBatchSize) {
+            fullBatch.add(batch);
+            return null;
+          }
+          return batch;
+        });
+
+    if (!fullBatch.isEmpty()) {
+      send(fullBatch.get(0));
+    }
+    return future;
+  }
+
+  /**
+   * Sends every open batch immediately.
+   *
+   * @return a future that completes once every batch sent so far, including those sent by this
+   *     call, has its responses. It never completes exceptionally.
+   */
+  CompletableFuture<Void> flushAll() {
+    for (final K key : openBatches.keySet()) {
+      final Batch batch = openBatches.remove(key);
+      if (batch != null) {
+        send(batch);
+      }
+    }
+    return CompletableFuture.allOf(sentBatches.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * The number of batches that are waiting to be sent.
+   *
+   * @return the number of open batches.
+   */
+  int openBatchCount() {
+    return openBatches.size();
+  }
+
+  private void sendIfOpen(Batch batch) {
+    // A batch that filled up before its delay passed has already been removed and sent.
+    if (openBatches.remove(batch.key, batch)) {
+      send(batch);
+    }
+  }
+
+  private void send(Batch batch) {
+    batch.timer.cancel(false);
+
+    final CompletableFuture<List<R>> responsesFuture;
+    try {
+      responsesFuture = sendBatch.apply(batch.key, batch.items);
+    } catch (RuntimeException e) {
+      batch.completeAll(e);
+      return;
+    }
+
+    final CompletableFuture<Void> sent =
+        responsesFuture.handle(
+            (responses, e) -> {
+              if (e != null) {
+                batch.completeAll(e);
+              } else {
+                batch.complete(responses);
+              }
+              return null;
+            });
+    if (!sent.isDone()) {
+      sentBatches.add(sent);
+      // Runs right away if the batch completed after the check above.
+      sent.whenComplete((ignored, e) -> sentBatches.remove(sent));
+    }
+  }
+
+  private final class Batch {
+    private final K key;
+    private final List<I> items = new ArrayList<>();
+    private final List<CompletableFuture<R>> futures = new ArrayList<>();
+    private final ScheduledFuture<?> timer;
+
+    private Batch(K key) {
+      this.key = key;
+      // Batches are only created inside openBatches.compute, which holds the lock for the key
+      // until the batch has been added, so the timer cannot observe a batch that is not yet open.
+      this.timer = scheduler.schedule(() -> sendIfOpen(this), maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void complete(List<R> responses) {
+      for (int i = 0; i < futures.size(); i++) {
+        if (i < responses.size()) {
+          futures.get(i).complete(responses.get(i));
+        } else {
+          futures
+              .get(i)
+              .complete(
+                  errorFunction.apply(
+                      new InternalServerException(
+                          "Batch response had "
+                              + responses.size()
+                              + " items, expected "
+                              + futures.size())));
+        }
+      }
+    }
+
+    private void completeAll(Throwable e) {
+      final R response = errorFunction.apply(e);
+      futures.forEach(future -> future.complete(response));
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package momento.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A cold publisher that loads one result per key, in batches, as the subscriber requests them.
+ *
+ * <p>Batches are only loaded for demand that is not already covered by loaded or loading results.
+ * Each batch is loaded in full even if less is requested, and the results beyond the demand are
+ * held until the subscriber requests them, so a slow subscriber holds at most one batch more than
+ * it has requested. Up to a fixed number of batches are loaded concurrently, and results are
+ * published in key order.
+ */
+final class BatchedPublisher<K, R> implements Publisher<R> {
+
+  private final List<K> keys;
+  private final int batchSize;
+  private final int maxBatchesInFlight;
+  private final Function<List<K>, CompletableFuture<List<R>>> loader;
+
+  /**
+   * Creates a publisher.
+   *
+   * @param keys The keys to load, in the order their results are published.
+   * @param batchSize The maximum number of keys loaded by one batch.
+   * @param maxBatchesInFlight The maximum number of batches loaded or held at a time.
+   * @param loader Loads a batch of keys and completes with one result per key.
+   */
+  BatchedPublisher(
+      @Nonnull List<K> keys,
+      int batchSize,
+      int maxBatchesInFlight,
+      @Nonnull Function<List<K>, CompletableFuture<List<R>>> loader) {
+    if (batchSize <= 0 || maxBatchesInFlight <= 0) {
+      throw new IllegalArgumentException("Batch size and batches in flight must be positive");
+    }
+    this.keys = keys;
+    this.batchSize = batchSize;
+    this.maxBatchesInFlight = maxBatchesInFlight;
+    this.loader = loader;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super R> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new BatchSubscription(subscriber));
+  }
+
+  private static final class Batch<R> {
+    private final int size;
+    private final CompletableFuture<List<R>> results;
+
+    private Batch(int size, CompletableFuture<List<R>> results) {
+      this.size = size;
+      this.results = results;
+    }
+  }
+
+  private final class BatchSubscription implements Subscription {
+    private final Subscriber<? super R> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    // Serializes drain(); the fields below it are only accessed while draining.
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+
+    private final Queue<Batch<R>> batches = new ArrayDeque<>();
+    private Iterator<R> current = Collections.emptyIterator();
+    private int nextKey;
+    // Results loaded or loading that have not been published yet.
+    private long outstanding;
+    private boolean done;
+
+    private BatchSubscription(Subscriber<? super R> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest = Demand.invalidRequest(n);
+      } else {
+        Demand.add(requested, n);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (drainRequests.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (done) {
+          return;
+        }
+        if (cancelled) {
+          terminate();
+          return;
+        }
+        if (invalidRequest != null) {
+          terminate();
+          subscriber.onError(invalidRequest);
+          return;
+        }
+
+        final long demand = requested.get();
+        long published = 0;
+        while (published != demand && !cancelled) {
+          if (!current.hasNext()) {
+            final Batch<R> head = batches.peek();
+            if (head == null || !head.results.isDone()) {
+              break;
+            }
+            batches.poll();
+            final List<R> results;
+            try {
+              results = head.results.join();
+            } catch (CompletionException | CancellationException e) {
+              terminate();
+              subscriber.onError(e.getCause() != null ? e.getCause() : e);
+              return;
+            }
+            outstanding -= head.size - results.size();
+            current = results.iterator();
+            continue;
+          }
+          final R result = current.next();
+          outstanding--;
+          published++;
+          subscriber.onNext(result);
+        }
+        if (published > 0) {
+          Demand.produced(requested, published);
+        }
+        if (cancelled) {
+          continue;
+        }
+
+        long uncovered = requested.get() - outstanding;
+        while (uncovered > 0 && nextKey < keys.size() && batches.size() < maxBatchesInFlight) {
+          final int size = Math.min(batchSize, keys.size() - nextKey);
+          final List<K> batchKeys = keys.subList(nextKey, nextKey + size);
+          final CompletableFuture<List<R>> results;
+          try {
+            results = loader.apply(batchKeys);
+          } catch (Exception e) {
+            terminate();
+            subscriber.onError(e);
+            return;
+          }
+          batches.add(new Batch<>(size, results));
+          nextKey += size;
+          outstanding += size;
+          uncovered -= size;
+          results.whenComplete((r, e) -> drain());
+        }
+
+        if (nextKey == keys.size() && batches.isEmpty() && !current.hasNext()) {
+          done = true;
+          subscriber.onComplete();
+          return;
+        }
+        missed = drainRequests.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void terminate() {
+      done = true;
+      for (final Batch<R> batch : batches) {
+        batch.results.cancel(false);
+      }
+      batches.clear();
+      current = Collections.emptyIterator();
+    }
+  }
+}
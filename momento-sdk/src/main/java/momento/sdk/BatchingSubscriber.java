@@ -0,0 +1,185 @@
+package momento.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A subscriber that writes the items it receives in batches.
+ *
+ * <p>It only requests a batch worth of items at a time, and requests the next batch once the
+ * previous one has been written, so at most one batch is ever held in memory and a slow write
+ * holds back the publisher. A batch is written when it is full or when the publisher completes. The
+ * first failed write cancels the subscription.
+ */
+final class BatchingSubscriber<T, R> implements Subscriber<T> {
+
+  private final int batchSize;
+  private final Function<List<T>, CompletableFuture<R>> writer;
+  private final Predicate<R> isFailure;
+  private final Supplier<R> success;
+  private final Function<Throwable, R> failure;
+  private final CompletableFuture<R> result = new CompletableFuture<>();
+
+  // Guarded by this.
+  private Subscription subscription;
+  private List<T> batch;
+  private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+  private boolean done;
+
+  /**
+   * Creates a subscriber.
+   *
+   * @param batchSize The maximum number of items written by one batch.
+   * @param writer Writes a batch of items.
+   * @param isFailure Whether the result of a write is a failure.
+   * @param success The result once every item has been written.
+   * @param failure Converts an error from the publisher or a write to a result.
+   */
+  BatchingSubscriber(
+      int batchSize,
+      @Nonnull Function<List<T>, CompletableFuture<R>> writer,
+      @Nonnull Predicate<R> isFailure,
+      @Nonnull Supplier<R> success,
+      @Nonnull Function<Throwable, R> failure) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.batchSize = batchSize;
+    this.writer = writer;
+    this.isFailure = isFailure;
+    this.success = success;
+    this.failure = failure;
+    this.batch = new ArrayList<>(batchSize);
+    result.whenComplete((r, e) -> cancelSubscription());
+  }
+
+  /**
+   * Gets the result, which completes once every item has been written, or with the first failure.
+   * Cancelling it cancels the subscription.
+   *
+   * @return the result.
+   */
+  CompletableFuture<R> result() {
+    return result;
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription");
+    synchronized (this) {
+      if (this.subscription != null || done) {
+        subscription.cancel();
+        return;
+      }
+      this.subscription = subscription;
+    }
+    subscription.request(batchSize);
+  }
+
+  @Override
+  public void onNext(T item) {
+    Objects.requireNonNull(item, "item");
+    final List<T> full;
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      batch.add(item);
+      if (batch.size() < batchSize) {
+        return;
+      }
+      full = batch;
+      batch = new ArrayList<>(batchSize);
+    }
+    write(full, true);
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    Objects.requireNonNull(t, "throwable");
+    synchronized (this) {
+      done = true;
+      batch.clear();
+    }
+    result.complete(failure.apply(t));
+  }
+
+  @Override
+  public void onComplete() {
+    final List<T> remaining;
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+      remaining = batch;
+      batch = new ArrayList<>(0);
+    }
+    if (!remaining.isEmpty()) {
+      write(remaining, false);
+    }
+    final CompletableFuture<Void> lastWrite;
+    synchronized (this) {
+      lastWrite = this.lastWrite;
+    }
+    lastWrite.thenRun(() -> result.complete(success.get()));
+  }
+
+  private void write(List<T> items, boolean requestMore) {
+    CompletableFuture<R> written;
+    try {
+      written = writer.apply(items);
+    } catch (Exception e) {
+      written = new CompletableFuture<>();
+      written.completeExceptionally(e);
+    }
+    final CompletableFuture<Void> handled =
+        written.handle(
+            (r, e) -> {
+              final R outcome =
+                  e != null
+                      ? failure.apply(
+                          e instanceof CompletionException && e.getCause() != null
+                              ? e.getCause()
+                              : e)
+                      : r;
+              if (isFailure.test(outcome)) {
+                result.complete(outcome);
+              } else if (requestMore && !result.isDone()) {
+                requestBatch();
+              }
+              return null;
+            });
+    synchronized (this) {
+      lastWrite = handled;
+    }
+  }
+
+  private void requestBatch() {
+    final Subscription subscription;
+    synchronized (this) {
+      subscription = this.subscription;
+    }
+    subscription.request(batchSize);
+  }
+
+  private void cancelSubscription() {
+    final Subscription subscription;
+    synchronized (this) {
+      done = true;
+      subscription = this.subscription;
+    }
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+}
@@ -1,17 +1,22 @@
 package momento.sdk;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
+import momento.sdk.codec.Codec;
 import momento.sdk.config.Configuration;
 import momento.sdk.exceptions.InvalidArgumentException;
 import momento.sdk.requests.CollectionTtl;
 import momento.sdk.responses.SortOrder;
 import momento.sdk.responses.cache.DeleteResponse;
 import momento.sdk.responses.cache.GetBatchResponse;
+import momento.sdk.responses.cache.GetBatchStreamResponse;
 import momento.sdk.responses.cache.GetResponse;
 import momento.sdk.responses.cache.IncrementResponse;
 import momento.sdk.responses.cache.SetBatchResponse;
@@ -61,6 +66,7 @@ import momento.sdk.responses.cache.ttl.DecreaseTtlResponse;
 import momento.sdk.responses.cache.ttl.IncreaseTtlResponse;
 import momento.sdk.responses.cache.ttl.ItemGetTtlResponse;
 import momento.sdk.responses.cache.ttl.UpdateTtlResponse;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,6 +77,9 @@ public final class CacheClient implements AutoCloseable {
 
   private final ScsControlClient scsControlClient;
   private final ScsDataClient scsDataClient;
+  private final LargeValueStore largeValueStore;
+  private final SyncCacheClient syncCacheClient;
+  private final CompletableFuture<Void> ready;
 
   private static final long DEFAULT_EAGER_CONNECTION_TIMEOUT_SECONDS = 30;
 
@@ -85,12 +94,53 @@ public final class CacheClient implements AutoCloseable {
       @Nonnull CredentialProvider credentialProvider,
       @Nonnull Configuration configuration,
       @Nonnull Duration itemDefaultTtl) {
-    this.scsControlClient = new ScsControlClient(credentialProvider, configuration);
-    this.scsDataClient = new ScsDataClient(credentialProvider, configuration, itemDefaultTtl);
+    this(credentialProvider, configuration, itemDefaultTtl, null, null, 0);
+  }
+
+  /**
+   * Constructs a CacheClient that may share resources with other clients and warm itself up in the
+   * background.
+   *
+   * @param credentialProvider Provider for the credentials required to connect to Momento.
+   * @param configuration Configuration object containing all tunable client settings.
+   * @param itemDefaultTtl The default TTL for values written to a cache.
+   * @param runtime The runtime whose resources the client uses, or null to use its own.
+   * @param warmUpTimeout The time beyond which to give up on connecting, or null to not warm up.
+   * @param warmUpRequestsPerChannel The number of pings to send on each channel once connected.
+   */
+  CacheClient(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull Configuration configuration,
+      @Nonnull Duration itemDefaultTtl,
+      @Nullable MomentoRuntime runtime,
+      @Nullable Duration warmUpTimeout,
+      int warmUpRequestsPerChannel) {
+    this.scsControlClient = new ScsControlClient(credentialProvider, configuration, runtime);
+    this.scsDataClient =
+        new ScsDataClient(credentialProvider, configuration, itemDefaultTtl, runtime);
+    this.largeValueStore = new LargeValueStore(scsDataClient);
+    this.syncCacheClient = new SyncCacheClient(scsDataClient);
 
     logger.info("Creating Momento Cache Client");
     logger.debug("Cache endpoint: " + credentialProvider.getCacheEndpoint());
     logger.debug("Control endpoint: " + credentialProvider.getControlEndpoint());
+
+    if (warmUpTimeout == null) {
+      this.ready = CompletableFuture.completedFuture(null);
+    } else {
+      final long startNanos = System.nanoTime();
+      this.ready = scsDataClient.warmUp(warmUpTimeout, warmUpRequestsPerChannel);
+      ready.whenComplete(
+          (ignored, e) -> {
+            if (e == null) {
+              logger.debug(
+                  "Momento Cache Client warmed up in {} ms",
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            } else {
+              logger.warn("Momento Cache Client warm-up failed", e);
+            }
+          });
+    }
   }
 
   /**
@@ -164,6 +214,30 @@ public final class CacheClient implements AutoCloseable {
     return new CacheClientBuilder(credentialProvider, configuration, itemDefaultTtl);
   }
 
+  /**
+   * Reports when the client is ready to serve requests at full speed.
+   *
+   * @return a future that completes once the warm-up configured with {@link
+   *     CacheClientBuilder#withWarmUp(Duration)} is done, or fails with a {@link
+   *     momento.sdk.exceptions.ConnectionFailedException} if the client could not connect in time.
+   *     It is already complete if the client was built without a warm-up. Requests may be sent
+   *     before it completes.
+   */
+  public CompletableFuture<Void> ready() {
+    return ready;
+  }
+
+  /**
+   * Reports how often the retry budget stopped a retry.
+   *
+   * @return the number of retries the retry budget configured with {@link
+   *     Configuration#withRetryBudget} did not allow since the client was created, or 0 if the
+   *     configuration has no retry budget.
+   */
+  public long getRejectedRetryCount() {
+    return scsDataClient.rejectedRetryCount();
+  }
+
   /**
    * Creates a cache with provided name.
    *
@@ -183,7 +257,9 @@ public final class CacheClient implements AutoCloseable {
    *     CacheDeleteResponse.Success} or {@link CacheDeleteResponse.Error}.
    */
   public CompletableFuture<CacheDeleteResponse> deleteCache(String cacheName) {
-    return scsControlClient.deleteCache(cacheName);
+    final CompletableFuture<CacheDeleteResponse> future = scsControlClient.deleteCache(cacheName);
+    future.whenComplete((rsp, e) -> scsDataClient.invalidateNearCache(cacheName));
+    return future;
   }
 
   /**
@@ -194,7 +270,9 @@ public final class CacheClient implements AutoCloseable {
    *     or {@link CacheFlushResponse.Error}.
    */
   public CompletableFuture<CacheFlushResponse> flushCache(String cacheName) {
-    return scsControlClient.flushCache(cacheName);
+    final CompletableFuture<CacheFlushResponse> future = scsControlClient.flushCache(cacheName);
+    future.whenComplete((rsp, e) -> scsDataClient.invalidateNearCache(cacheName));
+    return future;
   }
 
   /**
@@ -242,6 +320,35 @@ public final class CacheClient implements AutoCloseable {
     return scsControlClient.listSigningKeys();
   }
 
+  /**
+   * Creates a blocking view of this client, whose operations return their responses directly
+   * instead of futures. It suits thread-per-request applications, including those running on
+   * virtual threads. The view shares this client's connections and configuration, and remains
+   * usable until this client is closed.
+   *
+   * @return the blocking view.
+   */
+  public SyncCacheClient sync() {
+    return syncCacheClient;
+  }
+
+  /**
+   * Creates a typed view of a cache, which converts keys and values with the given codecs instead
+   * of requiring them to be serialized by the caller. The view shares this client's connections and
+   * configuration, and remains usable until this client is closed.
+   *
+   * @param cacheName Name of the cache to read and write.
+   * @param keyCodec Converts keys to and from their stored form.
+   * @param valueCodec Converts values to and from their stored form.
+   * @param <K> The type of the keys.
+   * @param <V> The type of the values.
+   * @return the typed cache view.
+   */
+  public <K, V> TypedCache<K, V> typed(
+      @Nonnull String cacheName, @Nonnull Codec<K> keyCodec, @Nonnull Codec<V> valueCodec) {
+    return new TypedCache<>(scsDataClient, cacheName, keyCodec, valueCodec);
+  }
+
   /**
    * Get the cache value stored for the given key.
    *
@@ -278,6 +385,60 @@ public final class CacheClient implements AutoCloseable {
     return scsDataClient.getBatch(cacheName, keys);
   }
 
+  /**
+   * Get the cache values stored for the given keys, handing each result to a callback as soon as it
+   * arrives instead of collecting them into a single response. This keeps memory bounded and makes
+   * the first results usable early for large batches.
+   *
+   * <p>The callback is invoked once per key, in the order of the keys, on a gRPC thread, and must
+   * not block. If the callback throws, the batch is cancelled and completes with an error.
+   *
+   * @param cacheName Name of the cache to get the items from.
+   * @param keys The keys to get.
+   * @param itemConsumer Receives each key together with its {@link GetResponse}.
+   * @return Future with {@link GetBatchStreamResponse} that completes once every item was delivered
+   *     or the batch failed.
+   */
+  public CompletableFuture<GetBatchStreamResponse> getBatch(
+      String cacheName, Iterable<String> keys, BiConsumer<String, GetResponse> itemConsumer) {
+    return scsDataClient.getBatch(cacheName, keys, itemConsumer);
+  }
+
+  /**
+   * Creates a Reactive Streams publisher of the value stored for the given key. The get is sent
+   * separately for each subscriber, when it first requests the response, and cancelling the
+   * subscription cancels it.
+   *
+   * <p>On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts the publisher to a
+   * {@code java.util.concurrent.Flow.Publisher}. Other operations can be published with {@link
+   * ReactivePublishers#fromFuture}.
+   *
+   * @param cacheName Name of the cache to get the item from.
+   * @param key The key to get.
+   * @return a publisher of the {@link GetResponse}.
+   */
+  public Publisher<GetResponse> getPublisher(String cacheName, String key) {
+    return ReactivePublishers.fromFuture(() -> scsDataClient.get(cacheName, key));
+  }
+
+  /**
+   * Creates a Reactive Streams publisher of the cache values stored for the given keys. Each
+   * subscriber gets the keys together with their {@link GetResponse}s, in the order of the keys.
+   * The keys are fetched in batches, and only as the subscriber requests them, so a slow subscriber
+   * holds back the fetching instead of having the results buffered in memory.
+   *
+   * <p>On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts the publisher to a
+   * {@code java.util.concurrent.Flow.Publisher}.
+   *
+   * @param cacheName Name of the cache to get the items from.
+   * @param keys The keys to get.
+   * @return a publisher of each key with its {@link GetResponse}.
+   */
+  public Publisher<Map.Entry<String, GetResponse>> getBatchPublisher(
+      String cacheName, Iterable<String> keys) {
+    return scsDataClient.getBatchPublisher(cacheName, keys);
+  }
+
   /**
    * Delete the value stored in Momento cache.
    *
@@ -368,6 +529,125 @@ public final class CacheClient implements AutoCloseable {
     return scsDataClient.set(cacheName, key, value, null);
   }
 
+  /**
+   * Sets the value in cache with a given Time To Live (TTL) seconds.
+   *
+   * <p>If a value for this key is already present it will be replaced by the new value.
+   *
+   * <p>The remaining bytes of the buffers are sent without being copied, so direct buffers can be
+   * used as is. The buffers' contents must not be modified until the returned future completes.
+   * The value of a {@link SetResponse.Success} is a view of the value buffer rather than a copy,
+   * so it changes if the buffer is reused.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<SetResponse> set(
+      String cacheName, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl) {
+    return scsDataClient.set(cacheName, key, value, ttl);
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value.
+   *
+   * <p>The Time to Live (TTL) seconds defaults to the parameter used when building this Cache
+   * client - {@link CacheClient#builder(CredentialProvider, Configuration, Duration)}
+   *
+   * <p>The remaining bytes of the buffers are sent without being copied, so direct buffers can be
+   * used as is. The buffers' contents must not be modified until the returned future completes.
+   * The value of a {@link SetResponse.Success} is a view of the value buffer rather than a copy,
+   * so it changes if the buffer is reused.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<SetResponse> set(String cacheName, ByteBuffer key, ByteBuffer value) {
+    return scsDataClient.set(cacheName, key, value, null);
+  }
+
+  /**
+   * Stores a value that may be larger than the maximum size of a single item. The value is split
+   * into chunks that are written concurrently in batches, and a manifest describing them is written
+   * under the key once every chunk has been stored. Read the value back with {@link
+   * #getLarge(String, String)}; a plain {@link #get(String, String)} returns the manifest.
+   *
+   * <p>Overwriting a large value writes a new set of chunks, so readers never see a mix of the old
+   * and new value. The chunks of the old value are left to expire with their TTL.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}.
+   * @return Future containing the result of the operation.
+   */
+  public CompletableFuture<SetResponse> putLarge(
+      String cacheName, String key, byte[] value, @Nullable Duration ttl) {
+    return largeValueStore.put(cacheName, key, value, ttl);
+  }
+
+  /**
+   * Stores a value that may be larger than the maximum size of a single item. See {@link
+   * #putLarge(String, String, byte[], Duration)}.
+   *
+   * <p>The Time to Live (TTL) seconds defaults to the parameter used when building this Cache
+   * client - {@link CacheClient#builder(CredentialProvider, Configuration, Duration)}
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @return Future containing the result of the operation.
+   */
+  public CompletableFuture<SetResponse> putLarge(String cacheName, String key, byte[] value) {
+    return largeValueStore.put(cacheName, key, value, null);
+  }
+
+  /**
+   * Stores a value that may be larger than the maximum size of a single item. See {@link
+   * #putLarge(String, String, byte[], Duration)}.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied. The buffer's contents must
+   * not be modified until the returned future completes.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}.
+   * @return Future containing the result of the operation.
+   */
+  public CompletableFuture<SetResponse> putLarge(
+      String cacheName, String key, ByteBuffer value, @Nullable Duration ttl) {
+    return largeValueStore.put(cacheName, key, value, ttl);
+  }
+
+  /**
+   * Gets a value stored with {@link #putLarge(String, String, byte[], Duration)}. The chunks are
+   * fetched with concurrent batch requests, verified against the manifest as they arrive, and
+   * joined without copying them again.
+   *
+   * <p>If any chunk has expired or been evicted, the result is a miss. If a chunk does not match
+   * the manifest, or the key does not hold a large value, the result is an error.
+   *
+   * @param cacheName Name of the cache to get the item from.
+   * @param key The key to get.
+   * @return Future with {@link GetResponse} containing the status of the operation and the
+   *     reassembled value.
+   */
+  public CompletableFuture<GetResponse> getLarge(String cacheName, String key) {
+    return largeValueStore.get(cacheName, key);
+  }
+
   /**
    * Associates a key with a value. If a value for this key is already present it is not replaced by
    * the new value.
@@ -567,6 +847,44 @@ public final class CacheClient implements AutoCloseable {
     return scsDataClient.setBatchStringBytes(cacheName, items, null);
   }
 
+  /**
+   * Sets a batch of values in the cache. If a value for a key is already present it will be
+   * replaced by the new value.
+   *
+   * <p>The remaining bytes of each buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffers' contents must not be modified until the returned future completes.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param items The keys and values to be stored.
+   * @param ttl Time to Live for the items in the cache. This TTL takes precedence over the TTL used
+   *     when building a cache client {@link CacheClient#builder(CredentialProvider, Configuration,
+   *     Duration)}.
+   * @return Future containing the result of the set batch operation.
+   */
+  public CompletableFuture<SetBatchResponse> setBatchStringByteBuffer(
+      String cacheName, Map<String, ByteBuffer> items, Duration ttl) {
+    return scsDataClient.setBatchStringByteBuffer(cacheName, items, ttl);
+  }
+
+  /**
+   * Sets a batch of values in the cache. If a value for a key is already present it will be
+   * replaced by the new value.
+   *
+   * <p>The Time to Live (TTL) seconds defaults to the parameter used when building this Cache
+   * client - {@link CacheClient#builder(CredentialProvider, Configuration, Duration)}
+   *
+   * <p>The remaining bytes of each buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffers' contents must not be modified until the returned future completes.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param items The keys and values to be stored.
+   * @return Future containing the result of the set batch operation.
+   */
+  public CompletableFuture<SetBatchResponse> setBatchStringByteBuffer(
+      String cacheName, Map<String, ByteBuffer> items) {
+    return scsDataClient.setBatchStringByteBuffer(cacheName, items, null);
+  }
+
   /**
    * Updates TTL for a key to the given TTL.
    *
@@ -2006,6 +2324,48 @@ public final class CacheClient implements AutoCloseable {
     return scsDataClient.listPushBack(cacheName, listName, value, null, null);
   }
 
+  /**
+   * Pushes a value to the back of a list.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffer's contents must not be modified until the returned future completes.
+   *
+   * @param cacheName The cache containing the list.
+   * @param listName The list in which to add the value.
+   * @param value The value to add to the list.
+   * @param truncateFrontToSize If the list exceeds this length, remove excess from the front of the
+   *     list. Must be positive. Will not truncate if not provided.
+   * @param ttl TTL for the set in cache. This TTL takes precedence over the TTL used when
+   *     initializing a cache client. Defaults to the client's TTL if not provided.
+   * @return Future containing the result of the list push back operation: {@link
+   *     ListPushBackResponse.Success} or {@link ListPushBackResponse.Error}.
+   */
+  public CompletableFuture<ListPushBackResponse> listPushBack(
+      @Nonnull String cacheName,
+      @Nonnull String listName,
+      @Nonnull ByteBuffer value,
+      @Nullable Integer truncateFrontToSize,
+      @Nullable CollectionTtl ttl) {
+    return scsDataClient.listPushBack(cacheName, listName, value, truncateFrontToSize, ttl);
+  }
+
+  /**
+   * Pushes a value to the back of a list. Refreshes the list with the client's default TTL.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffer's contents must not be modified until the returned future completes.
+   *
+   * @param cacheName The cache containing the list.
+   * @param listName The list in which to add the value.
+   * @param value The value to add to the list.
+   * @return Future containing the result of the list push back operation: {@link
+   *     ListPushBackResponse.Success} or {@link ListPushBackResponse.Error}.
+   */
+  public CompletableFuture<ListPushBackResponse> listPushBack(
+      @Nonnull String cacheName, @Nonnull String listName, @Nonnull ByteBuffer value) {
+    return scsDataClient.listPushBack(cacheName, listName, value, null, null);
+  }
+
   /**
    * Pushes a value to the front of a list.
    *
@@ -2273,6 +2633,51 @@ public final class CacheClient implements AutoCloseable {
     return scsDataClient.dictionarySetField(cacheName, dictionaryName, field, value, null);
   }
 
+  /**
+   * Sets a field in the given dictionary.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffer's contents must not be modified until the returned future completes.
+   *
+   * @param cacheName The cache containing the dictionary.
+   * @param dictionaryName The dictionary to set the field in.
+   * @param field The field to set.
+   * @param value The value to set.
+   * @param ttl TTL for the set in cache. This TTL takes precedence over the TTL used when
+   *     initializing a cache client. Defaults to the client's TTL if not provided.
+   * @return Future containing the result of the dictionary set field operation: {@link
+   *     DictionarySetFieldResponse.Success} or {@link DictionarySetFieldResponse.Error}.
+   */
+  public CompletableFuture<DictionarySetFieldResponse> dictionarySetField(
+      @Nonnull String cacheName,
+      @Nonnull String dictionaryName,
+      @Nonnull String field,
+      @Nonnull ByteBuffer value,
+      @Nullable CollectionTtl ttl) {
+    return scsDataClient.dictionarySetField(cacheName, dictionaryName, field, value, ttl);
+  }
+
+  /**
+   * Sets a field in the given dictionary.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffer's contents must not be modified until the returned future completes.
+   *
+   * @param cacheName The cache containing the dictionary.
+   * @param dictionaryName The dictionary to set the field in.
+   * @param field The field to set.
+   * @param value The value to set.
+   * @return Future containing the result of the dictionary set field operation: {@link
+   *     DictionarySetFieldResponse.Success} or {@link DictionarySetFieldResponse.Error}.
+   */
+  public CompletableFuture<DictionarySetFieldResponse> dictionarySetField(
+      @Nonnull String cacheName,
+      @Nonnull String dictionaryName,
+      @Nonnull String field,
+      @Nonnull ByteBuffer value) {
+    return scsDataClient.dictionarySetField(cacheName, dictionaryName, field, value, null);
+  }
+
   /**
    * Sets all the given fields in a dictionary.
    *
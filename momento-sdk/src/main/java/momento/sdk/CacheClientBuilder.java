@@ -2,8 +2,10 @@ package momento.sdk;
 
 import java.time.Duration;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
+import momento.sdk.exceptions.InvalidArgumentException;
 
 /** Builder for {@link CacheClient} */
 public final class CacheClientBuilder {
@@ -11,6 +13,9 @@ public final class CacheClientBuilder {
   private final CredentialProvider credentialProvider;
   private Configuration configuration;
   private final Duration itemDefaultTtl;
+  private @Nullable MomentoRuntime runtime;
+  private @Nullable Duration warmUpTimeout;
+  private int warmUpRequestsPerChannel;
 
   /**
    * Creates a CacheClient builder.
@@ -29,12 +34,62 @@ public final class CacheClientBuilder {
     this.itemDefaultTtl = itemDefaultTtl;
   }
 
+  /**
+   * Shares the connections, threads and executors of the given runtime with the other clients built
+   * with it, instead of creating the client's own.
+   *
+   * @param runtime The runtime to use. It must be closed after the client.
+   * @return the builder.
+   */
+  public CacheClientBuilder withRuntime(@Nonnull MomentoRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
+  /**
+   * Warms the client up in the background once it is built: every channel is connected
+   * concurrently, within the given timeout, so that the first requests do not wait for the TLS
+   * handshake and HTTP/2 setup. {@link CacheClient#ready()} reports when the warm-up is done.
+   *
+   * @param timeout The time beyond which to give up on connecting.
+   * @return the builder.
+   */
+  public CacheClientBuilder withWarmUp(@Nonnull Duration timeout) {
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      throw new InvalidArgumentException("Warm-up timeout must be positive");
+    }
+    this.warmUpTimeout = timeout;
+    return this;
+  }
+
+  /**
+   * Sends ping requests on every channel once it is connected during the warm-up, so that the
+   * request path of the client is loaded and exercised before the first real request. Only used
+   * with {@link #withWarmUp(Duration)}.
+   *
+   * @param requestsPerChannel The number of pings to send on each channel.
+   * @return the builder.
+   */
+  public CacheClientBuilder withWarmUpRequestsPerChannel(int requestsPerChannel) {
+    if (requestsPerChannel < 0) {
+      throw new InvalidArgumentException("Warm-up requests per channel must not be negative");
+    }
+    this.warmUpRequestsPerChannel = requestsPerChannel;
+    return this;
+  }
+
   /**
    * Builds a CacheClient.
    *
    * @return the client.
    */
   public CacheClient build() {
-    return new CacheClient(credentialProvider, configuration, itemDefaultTtl);
+    return new CacheClient(
+        credentialProvider,
+        configuration,
+        itemDefaultTtl,
+        runtime,
+        warmUpTimeout,
+        warmUpRequestsPerChannel);
   }
 }
@@ -0,0 +1,80 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the load on one channel: the number of calls in flight on it, and a moving average of how
+ * long its calls take. It is installed as an interceptor on the stubs of the channel.
+ */
+final class ChannelLoad implements ClientInterceptor {
+
+  // The weight of the newest latency in the moving average.
+  private static final double LATENCY_DECAY = 0.2;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  // Zero until the first call completes. Concurrent updates may drop a sample, which the average
+  // can afford.
+  private volatile long averageLatencyNanos;
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        next.newCall(method, callOptions)) {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        final long startNanos = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+          super.start(
+              new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                  responseListener) {
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                  inFlight.decrementAndGet();
+                  recordLatency(System.nanoTime() - startNanos);
+                  super.onClose(status, trailers);
+                }
+              },
+              headers);
+        } catch (RuntimeException e) {
+          inFlight.decrementAndGet();
+          throw e;
+        }
+      }
+    };
+  }
+
+  /**
+   * The number of calls started on the channel that have not completed.
+   *
+   * @return the calls in flight.
+   */
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * The moving average of how long the calls on the channel took.
+   *
+   * @return the average latency in nanoseconds, or 0 if no call has completed yet.
+   */
+  long averageLatencyNanos() {
+    return averageLatencyNanos;
+  }
+
+  private void recordLatency(long nanos) {
+    final long average = averageLatencyNanos;
+    averageLatencyNanos =
+        average == 0 ? nanos : (long) (average + LATENCY_DECAY * (nanos - average));
+  }
+}
@@ -0,0 +1,137 @@
+package momento.sdk;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import momento.sdk.config.transport.ChannelSelectionStrategy;
+
+/** Picks the channel for each request according to a {@link ChannelSelectionStrategy}. */
+final class ChannelSelector {
+
+  private final ChannelSelectionStrategy strategy;
+  private final AtomicInteger nextIndex = new AtomicInteger();
+
+  /**
+   * Creates a selector.
+   *
+   * @param strategy How channels are picked.
+   */
+  ChannelSelector(@Nonnull ChannelSelectionStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  /**
+   * Picks the channel for the next request. The channels are passed on each call because the pool
+   * they come from may grow and shrink.
+   *
+   * @param channels The channels to pick from.
+   * @param loads The load of each channel, in the same order as the channels.
+   * @return the index of the channel.
+   */
+  int next(@Nonnull List<ManagedChannel> channels, @Nonnull List<ChannelLoad> loads) {
+    return next(channels, loads, -1);
+  }
+
+  /**
+   * Picks the channel for a second copy of a request, other than the channel of the first copy.
+   *
+   * @param channels The channels to pick from.
+   * @param loads The load of each channel, in the same order as the channels.
+   * @param excluded The index of the channel not to pick. It is picked anyway if it is the only
+   *     channel, and ignored if it is no longer in the pool.
+   * @return the index of the channel.
+   */
+  int next(@Nonnull List<ManagedChannel> channels, @Nonnull List<ChannelLoad> loads, int excluded) {
+    final int numChannels = channels.size();
+    if (numChannels == 1) {
+      return 0;
+    }
+    if (excluded >= numChannels) {
+      excluded = -1;
+    }
+    switch (strategy) {
+      case LEAST_OUTSTANDING_REQUESTS:
+        return leastOutstanding(
+            channels, loads, Math.floorMod(nextIndex.getAndIncrement(), numChannels), excluded);
+      case POWER_OF_TWO_CHOICES:
+        return powerOfTwoChoices(channels, loads, excluded);
+      default:
+        final int index = Math.floorMod(nextIndex.getAndIncrement(), numChannels);
+        return index != excluded ? index : (index + 1) % numChannels;
+    }
+  }
+
+  /**
+   * Picks the connected channel with the fewest requests in flight, starting from the given one so
+   * that ties are broken in turn. Every channel is considered if none is connected.
+   */
+  private static int leastOutstanding(
+      List<ManagedChannel> channels, List<ChannelLoad> loads, int start, int excluded) {
+    final int numChannels = channels.size();
+    int bestReady = -1;
+    int best = -1;
+    for (int i = 0; i < numChannels; i++) {
+      final int index = (start + i) % numChannels;
+      if (index == excluded) {
+        continue;
+      }
+      final int inFlight = loads.get(index).inFlight();
+      if (isReady(channels.get(index))
+          && (bestReady < 0 || inFlight < loads.get(bestReady).inFlight())) {
+        bestReady = index;
+      }
+      if (best < 0 || inFlight < loads.get(best).inFlight()) {
+        best = index;
+      }
+    }
+    return bestReady >= 0 ? bestReady : best;
+  }
+
+  /**
+   * Picks the cheaper of two random channels, preferring a connected one. Only the two candidates
+   * are checked, so picking takes the same time however large the pool is.
+   */
+  private static int powerOfTwoChoices(
+      List<ManagedChannel> channels, List<ChannelLoad> loads, int excluded) {
+    // Candidates are drawn from the channels other than the excluded one.
+    final int numCandidates = excluded >= 0 ? channels.size() - 1 : channels.size();
+    if (numCandidates == 1) {
+      return skip(0, excluded);
+    }
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int firstCandidate = random.nextInt(numCandidates);
+    final int first = skip(firstCandidate, excluded);
+    final int second =
+        skip((firstCandidate + 1 + random.nextInt(numCandidates - 1)) % numCandidates, excluded);
+    final boolean firstReady = isReady(channels.get(first));
+    final boolean secondReady = isReady(channels.get(second));
+    if (firstReady != secondReady) {
+      return firstReady ? first : second;
+    }
+    return cost(loads, first) <= cost(loads, second) ? first : second;
+  }
+
+  // Maps the position of a channel among those other than the excluded one to its index.
+  private static int skip(int candidate, int excluded) {
+    return excluded >= 0 && candidate >= excluded ? candidate + 1 : candidate;
+  }
+
+  // Whether the channel is connected. An idle channel is asked to connect.
+  private static boolean isReady(ManagedChannel channel) {
+    final ConnectivityState state = channel.getState(false);
+    if (state == ConnectivityState.IDLE) {
+      channel.getState(true);
+    }
+    return state == ConnectivityState.READY;
+  }
+
+  // The expected wait for a new request on the channel: the requests ahead of it, and itself, each
+  // taking the channel's average latency. Channels without latency samples only count requests.
+  private static double cost(List<ChannelLoad> loads, int index) {
+    final ChannelLoad load = loads.get(index);
+    return (load.inFlight() + 1) * (double) Math.max(1, load.averageLatencyNanos());
+  }
+}
@@ -0,0 +1,145 @@
+package momento.sdk;
+
+import java.util.function.LongSupplier;
+import momento.sdk.config.CircuitBreakerConfiguration;
+
+/**
+ * The circuit breaker of one cache and operation. See {@link CircuitBreakerConfiguration}.
+ *
+ * <p>A request asks for a {@link Permit} before it is sent, and reports its {@link Outcome} with
+ * that permit once it completes.
+ */
+final class CircuitBreaker {
+
+  /** Whether a request may be sent, and in which role. */
+  enum Permit {
+    /** The breaker is open; the request must fail without being sent. */
+    REJECTED,
+    /** The breaker is closed; the request counts towards the current window. */
+    NORMAL,
+    /** The breaker is half-open; the request decides whether it closes. */
+    PROBE
+  }
+
+  /** How a request that was sent completed. */
+  enum Outcome {
+    SUCCESS,
+    FAILURE,
+    /** The request was cancelled by the caller, which says nothing about the server. */
+    IGNORED
+  }
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final double failureRateThreshold;
+  private final int minimumRequests;
+  private final long windowNanos;
+  private final long openNanos;
+  private final int probeRequests;
+  private final LongSupplier nanoClock;
+
+  // Read without the lock, so that requests to a closed breaker do not contend for it.
+  private volatile State state = State.CLOSED;
+  private long windowStartNanos;
+  private int requests;
+  private int failures;
+  private long openedAtNanos;
+  private int probesInFlight;
+  private int probeSuccesses;
+
+  CircuitBreaker(CircuitBreakerConfiguration configuration, LongSupplier nanoClock) {
+    this.failureRateThreshold = configuration.getFailureRateThreshold();
+    this.minimumRequests = configuration.getMinimumRequests();
+    this.windowNanos = configuration.getWindow().toNanos();
+    this.openNanos = configuration.getOpenDuration().toNanos();
+    this.probeRequests = configuration.getProbeRequests();
+    this.nanoClock = nanoClock;
+    this.windowStartNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Asks whether a request may be sent.
+   *
+   * @return the permit of the request.
+   */
+  Permit tryAcquire() {
+    if (state == State.CLOSED) {
+      return Permit.NORMAL;
+    }
+    synchronized (this) {
+      if (state == State.CLOSED) {
+        return Permit.NORMAL;
+      }
+      if (state == State.OPEN) {
+        if (nanoClock.getAsLong() - openedAtNanos < openNanos) {
+          return Permit.REJECTED;
+        }
+        state = State.HALF_OPEN;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+      }
+      if (probesInFlight + probeSuccesses >= probeRequests) {
+        return Permit.REJECTED;
+      }
+      probesInFlight++;
+      return Permit.PROBE;
+    }
+  }
+
+  /**
+   * Reports how a request that was given a permit completed.
+   *
+   * @param permit The permit the request was sent with.
+   * @param outcome How the request completed.
+   */
+  synchronized void onComplete(Permit permit, Outcome outcome) {
+    if (permit == Permit.PROBE) {
+      // A probe of an earlier half-open period no longer decides anything.
+      if (state != State.HALF_OPEN) {
+        return;
+      }
+      probesInFlight--;
+      if (outcome == Outcome.FAILURE) {
+        open();
+      } else if (outcome == Outcome.SUCCESS && ++probeSuccesses >= probeRequests) {
+        state = State.CLOSED;
+        startWindow(nanoClock.getAsLong());
+      }
+      return;
+    }
+    // Requests sent before the breaker opened do not count towards a later window.
+    if (permit != Permit.NORMAL || state != State.CLOSED || outcome == Outcome.IGNORED) {
+      return;
+    }
+    final long now = nanoClock.getAsLong();
+    if (now - windowStartNanos >= windowNanos) {
+      startWindow(now);
+    }
+    requests++;
+    if (outcome == Outcome.FAILURE) {
+      failures++;
+      if (requests >= minimumRequests && failures >= failureRateThreshold * requests) {
+        open();
+      }
+    }
+  }
+
+  State state() {
+    return state;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAtNanos = nanoClock.getAsLong();
+  }
+
+  private void startWindow(long now) {
+    windowStartNanos = now;
+    requests = 0;
+    failures = 0;
+  }
+}
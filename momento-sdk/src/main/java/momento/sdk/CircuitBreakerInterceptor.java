@@ -0,0 +1,178 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.CircuitBreakerConfiguration;
+import momento.sdk.exceptions.CircuitOpenException;
+
+/**
+ * Fails the calls to a cache fast, without sending them, while recent calls of the same operation
+ * to that cache keep failing. See {@link CircuitBreakerConfiguration}.
+ *
+ * <p>The cache of a call is read from its cache header, so calls without one, such as pings, are
+ * not affected. A single instance is shared by all channels of a client, so that each cache and
+ * operation has one breaker. It must run before the retry interceptor, so that a call counts once
+ * however many attempts it took, and a call failed by the breaker is not retried. It also runs
+ * before the rate limit interceptor, so that a call failed by the breaker does not take a token.
+ *
+ * <p>A call failed by the breaker is closed on the executor of the call, or on the given executor
+ * if the call has none, as a call closed by the channel would be, rather than from within {@code
+ * start}.
+ */
+final class CircuitBreakerInterceptor implements ClientInterceptor {
+
+  // The status codes that say the server could not serve the call, rather than that the call was
+  // wrong.
+  private static final Set<Status.Code> FAILURE_CODES =
+      EnumSet.of(
+          Status.Code.RESOURCE_EXHAUSTED,
+          Status.Code.UNAVAILABLE,
+          Status.Code.DEADLINE_EXCEEDED,
+          Status.Code.INTERNAL);
+
+  // The most breakers kept. Calls to further caches are sent without one.
+  private static final int MAX_BREAKERS = 4096;
+
+  private final CircuitBreakerConfiguration configuration;
+  private final long slowCallNanos;
+  private final LongSupplier nanoClock;
+  private final Executor executor;
+  private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  CircuitBreakerInterceptor(
+      @Nonnull CircuitBreakerConfiguration configuration, @Nonnull Executor executor) {
+    this(configuration, executor, System::nanoTime);
+  }
+
+  CircuitBreakerInterceptor(
+      @Nonnull CircuitBreakerConfiguration configuration,
+      @Nonnull Executor executor,
+      LongSupplier nanoClock) {
+    this.configuration = configuration;
+    this.slowCallNanos =
+        configuration.getSlowCallDuration().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+    this.nanoClock = nanoClock;
+    this.executor = executor;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+        next.newCall(method, callOptions)) {
+      private boolean rejected;
+
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        final String cacheName = headers.get(ScsClientBase.CACHE_NAME_KEY);
+        final CircuitBreaker breaker =
+            cacheName == null ? null : breakerFor(cacheName, method.getFullMethodName());
+        if (breaker == null) {
+          super.start(responseListener, headers);
+          return;
+        }
+
+        final CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == CircuitBreaker.Permit.REJECTED) {
+          rejected = true;
+          final Status status =
+              Status.UNAVAILABLE
+                  .withDescription("Circuit breaker is open")
+                  .withCause(new CircuitOpenException(cacheName, method.getBareMethodName()));
+          closeLater(responseListener, status, callOptions);
+          return;
+        }
+
+        final long startNanos = nanoClock.getAsLong();
+        super.start(
+            new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                responseListener) {
+              @Override
+              public void onClose(Status status, Metadata trailers) {
+                breaker.onComplete(permit, outcomeOf(status, nanoClock.getAsLong() - startNanos));
+                super.onClose(status, trailers);
+              }
+            },
+            headers);
+      }
+
+      // A call failed by the breaker was never started, so the rest of its calls are dropped.
+      @Override
+      public void request(int numMessages) {
+        if (!rejected) {
+          super.request(numMessages);
+        }
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+        if (!rejected) {
+          super.sendMessage(message);
+        }
+      }
+
+      @Override
+      public void halfClose() {
+        if (!rejected) {
+          super.halfClose();
+        }
+      }
+
+      @Override
+      public void cancel(@Nullable String message, @Nullable Throwable cause) {
+        if (!rejected) {
+          super.cancel(message, cause);
+        }
+      }
+    };
+  }
+
+  private <RespT> void closeLater(
+      ClientCall.Listener<RespT> listener, Status status, CallOptions callOptions) {
+    final Executor callExecutor =
+        callOptions.getExecutor() != null ? callOptions.getExecutor() : executor;
+    try {
+      callExecutor.execute(() -> listener.onClose(status, new Metadata()));
+    } catch (RejectedExecutionException e) {
+      // The client is closing, so there is no executor left to close the call on.
+      listener.onClose(status, new Metadata());
+    }
+  }
+
+  @Nullable
+  private CircuitBreaker breakerFor(String cacheName, String methodName) {
+    final String key = cacheName + '/' + methodName;
+    final CircuitBreaker breaker = breakers.get(key);
+    if (breaker != null || breakers.size() >= MAX_BREAKERS) {
+      return breaker;
+    }
+    return breakers.computeIfAbsent(key, k -> new CircuitBreaker(configuration, nanoClock));
+  }
+
+  private CircuitBreaker.Outcome outcomeOf(Status status, long elapsedNanos) {
+    if (status.getCode() == Status.Code.CANCELLED) {
+      return CircuitBreaker.Outcome.IGNORED;
+    }
+    if (FAILURE_CODES.contains(status.getCode()) || elapsedNanos > slowCallNanos) {
+      return CircuitBreaker.Outcome.FAILURE;
+    }
+    return CircuitBreaker.Outcome.SUCCESS;
+  }
+}
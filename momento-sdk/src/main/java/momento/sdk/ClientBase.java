@@ -6,14 +6,15 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractFutureStub;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -24,16 +25,12 @@ import org.slf4j.LoggerFactory;
 
 abstract class ClientBase implements AutoCloseable {
 
-  protected final ExecutorService requestConcurrencyExecutor;
+  protected final @Nullable ConcurrencyLimiter concurrencyLimiter;
 
   protected final Logger logger = LoggerFactory.getLogger(getClass());
 
-  public ClientBase(@Nullable Integer concurrencyLimit) {
-    if (concurrencyLimit != null) {
-      requestConcurrencyExecutor = Executors.newFixedThreadPool(concurrencyLimit);
-    } else {
-      requestConcurrencyExecutor = null;
-    }
+  public ClientBase(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
   }
 
   protected <S extends AbstractFutureStub<S>> S attachMetadata(S stub, Metadata metadata) {
@@ -47,26 +44,27 @@ abstract class ClientBase implements AutoCloseable {
   }
 
   /**
-   * Executes the provided operation using the request concurrency executor in order to limit the
-   * number of concurrent operations to the size of the executor thread pool. Executes the operation
-   * directly if the executor is null.
+   * Executes the provided operation through the concurrency limiter in order to limit the number of
+   * concurrent operations. Operations over the limit are queued until an earlier one completes,
+   * without blocking a thread. Executes the operation directly if there is no limiter.
    */
   protected <R> CompletableFuture<R> executeWithConcurrencyLimiting(
       Supplier<CompletableFuture<R>> operation, Function<Throwable, R> errorHandler) {
+    return executeWithConcurrencyLimiting(operation, errorHandler, true);
+  }
+
+  /**
+   * Executes the provided operation through the concurrency limiter. Batch and streaming operations
+   * take longer the more items they carry, so they are not timed against single-item operations
+   * when the limit adapts to latency.
+   */
+  protected <R> CompletableFuture<R> executeWithConcurrencyLimiting(
+      Supplier<CompletableFuture<R>> operation,
+      Function<Throwable, R> errorHandler,
+      boolean timed) {
 
-    if (requestConcurrencyExecutor != null) {
-      return CompletableFuture.supplyAsync(
-          () -> {
-            try {
-              // The first get() starts the operation and the second get() blocks the executor
-              // thread until the operation completes. The result is then wrapped in the outer
-              // CompletableFuture.
-              return operation.get().get();
-            } catch (Exception e) {
-              return errorHandler.apply(e);
-            }
-          },
-          requestConcurrencyExecutor);
+    if (concurrencyLimiter != null) {
+      return concurrencyLimiter.execute(operation, errorHandler, timed);
     } else {
       return operation.get();
     }
@@ -151,7 +149,79 @@ abstract class ClientBase implements AutoCloseable {
 
           return future;
         },
-        errorFunction);
+        errorFunction,
+        false);
+  }
+
+  /**
+   * Executes a server streaming call and hands each response to the item consumer as it arrives,
+   * instead of collecting them. If the item consumer throws, the call is cancelled and completes
+   * with the error. Cancelling the returned future cancels the call.
+   */
+  protected <SdkResponse, GrpcResponse> CompletableFuture<SdkResponse> executeGrpcStreamingFunction(
+      Consumer<StreamObserver<GrpcResponse>> stubMethod,
+      Consumer<GrpcResponse> itemConsumer,
+      Supplier<SdkResponse> completedFunction,
+      Function<Throwable, SdkResponse> errorFunction) {
+
+    return executeWithConcurrencyLimiting(
+        () -> {
+          final AtomicReference<ClientCallStreamObserver<Object>> call = new AtomicReference<>();
+          final CompletableFuture<SdkResponse> future =
+              new CompletableFuture<SdkResponse>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                  // propagate cancel to the call if called on the returned future
+                  final boolean result = super.cancel(mayInterruptIfRunning);
+                  final ClientCallStreamObserver<Object> requestStream = call.get();
+                  if (requestStream != null) {
+                    requestStream.cancel("Cancelled by the caller", null);
+                  }
+                  return result;
+                }
+              };
+          try {
+            stubMethod.accept(
+                new ClientResponseObserver<Object, GrpcResponse>() {
+                  private ClientCallStreamObserver<Object> requestStream;
+
+                  @Override
+                  public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+                    this.requestStream = requestStream;
+                    call.set(requestStream);
+                  }
+
+                  @Override
+                  public void onNext(GrpcResponse response) {
+                    if (future.isDone()) {
+                      return;
+                    }
+                    try {
+                      itemConsumer.accept(response);
+                    } catch (RuntimeException e) {
+                      future.complete(errorFunction.apply(e));
+                      requestStream.cancel("Item consumer failed", e);
+                    }
+                  }
+
+                  @Override
+                  public void onError(Throwable t) {
+                    future.complete(errorFunction.apply(t));
+                  }
+
+                  @Override
+                  public void onCompleted() {
+                    future.complete(completedFunction.get());
+                  }
+                });
+          } catch (Exception e) {
+            future.complete(errorFunction.apply(e));
+          }
+
+          return future;
+        },
+        errorFunction,
+        false);
   }
 
   /**
@@ -161,15 +231,14 @@ abstract class ClientBase implements AutoCloseable {
   public abstract void doClose();
 
   /**
-   * Gracefully shuts down the request concurrency executor, if one exists. This happens ahead of
-   * shutting down the actual gRPC clients, so it acts mainly to let any queued up requests get
-   * through.
+   * Waits for the requests queued in the concurrency limiter, if one exists, to complete. This
+   * happens ahead of shutting down the actual gRPC clients, so it acts mainly to let any queued up
+   * requests get through.
    */
-  private void closeRequestConcurrencyExecutor() {
-    if (requestConcurrencyExecutor != null) {
+  private void awaitQueuedRequests() {
+    if (concurrencyLimiter != null) {
       try {
-        requestConcurrencyExecutor.shutdown();
-        if (!requestConcurrencyExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+        if (!concurrencyLimiter.awaitIdle(30, TimeUnit.SECONDS)) {
           logger.warn(
               "Momento requests still processing after 30 seconds while awaiting shutdown.");
         }
@@ -181,7 +250,7 @@ abstract class ClientBase implements AutoCloseable {
 
   @Override
   public void close() {
-    closeRequestConcurrencyExecutor();
+    awaitQueuedRequests();
     doClose();
   }
 }
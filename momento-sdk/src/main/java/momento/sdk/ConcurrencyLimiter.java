@@ -0,0 +1,249 @@
+package momento.sdk;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Limits the number of operations in flight without blocking any threads.
+ *
+ * <p>An operation starts right away if a permit is free, and is otherwise queued. When an operation
+ * completes, its permit is handed to the oldest queued operation, which is started on the thread
+ * that completed the previous one. Operations must therefore only start asynchronous work and not
+ * block.
+ *
+ * <p>The limit is either fixed, or adjusted by an {@link AdaptiveConcurrencyLimit} after every
+ * operation that completes. When the limit shrinks, operations already in flight are not affected;
+ * new ones wait until the number in flight has dropped below the new limit.
+ */
+final class ConcurrencyLimiter {
+
+  private volatile int limit;
+  private final @Nullable AdaptiveConcurrencyLimit adaptiveLimit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Queue<PendingOperation<?>> queue = new ConcurrentLinkedQueue<>();
+  // Ensures only one thread drains the queue at a time, and that operations completing
+  // synchronously do not start the next one recursively.
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private final Object idleLock = new Object();
+
+  ConcurrencyLimiter(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Concurrency limit must be greater than 0");
+    }
+    this.limit = limit;
+    this.adaptiveLimit = null;
+  }
+
+  ConcurrencyLimiter(@Nonnull AdaptiveConcurrencyLimit adaptiveLimit) {
+    this.limit = adaptiveLimit.getLimit();
+    this.adaptiveLimit = adaptiveLimit;
+  }
+
+  /**
+   * Creates a limiter with a fixed limit.
+   *
+   * @param limit The maximum number of operations in flight, or null for no limit.
+   * @return the limiter, or null if there is no limit.
+   */
+  @Nullable
+  static ConcurrencyLimiter withLimit(@Nullable Integer limit) {
+    return limit != null ? new ConcurrencyLimiter(limit) : null;
+  }
+
+  /**
+   * Starts the operation once fewer than the limit of operations are in flight.
+   *
+   * @param operation Starts the operation.
+   * @param errorHandler Converts an exception thrown while starting the operation to its result.
+   * @return a future that completes with the result of the operation.
+   */
+  <R> CompletableFuture<R> execute(
+      @Nonnull Supplier<CompletableFuture<R>> operation,
+      @Nonnull Function<Throwable, R> errorHandler) {
+    return execute(operation, errorHandler, true);
+  }
+
+  /**
+   * Starts the operation once fewer than the limit of operations are in flight.
+   *
+   * @param operation Starts the operation.
+   * @param errorHandler Converts an exception thrown while starting the operation to its result.
+   * @param timed Whether the latency of the operation is compared with that of others by the
+   *     adaptive limit. Should be false for operations whose latency depends on how many items they
+   *     carry.
+   * @return a future that completes with the result of the operation.
+   */
+  <R> CompletableFuture<R> execute(
+      @Nonnull Supplier<CompletableFuture<R>> operation,
+      @Nonnull Function<Throwable, R> errorHandler,
+      boolean timed) {
+    if (queue.isEmpty() && tryAcquire()) {
+      return start(operation, errorHandler, timed);
+    }
+
+    final PendingOperation<R> pending = new PendingOperation<>(operation, errorHandler, timed);
+    queue.add(pending);
+    drain();
+    return pending.result;
+  }
+
+  /**
+   * The current limit.
+   *
+   * @return the number of operations allowed in flight.
+   */
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * The number of operations that have been started and not yet completed.
+   *
+   * @return the number of operations in flight.
+   */
+  int inFlightCount() {
+    return inFlight.get();
+  }
+
+  /**
+   * The number of operations waiting for a permit.
+   *
+   * @return the number of queued operations.
+   */
+  int queuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * Waits until no operations are in flight or queued.
+   *
+   * @param timeout The maximum time to wait.
+   * @param unit The unit of the timeout.
+   * @return true if the limiter became idle, false if the timeout elapsed first.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (idleLock) {
+      while (inFlight.get() > 0 || !queue.isEmpty()) {
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        idleLock.wait(remainingMillis);
+      }
+    }
+    return true;
+  }
+
+  private boolean tryAcquire() {
+    while (true) {
+      final int current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void release() {
+    if (inFlight.decrementAndGet() == 0 && queue.isEmpty()) {
+      synchronized (idleLock) {
+        idleLock.notifyAll();
+      }
+    }
+    drain();
+  }
+
+  private <R> CompletableFuture<R> start(
+      Supplier<CompletableFuture<R>> operation,
+      Function<Throwable, R> errorHandler,
+      boolean timed) {
+    final long startNanos = System.nanoTime();
+    final int inFlightAtStart = inFlight.get();
+    final CompletableFuture<R> future;
+    try {
+      future = operation.get();
+    } catch (Exception e) {
+      release();
+      return CompletableFuture.completedFuture(errorHandler.apply(e));
+    }
+    future.whenComplete(
+        (r, e) -> {
+          // A cancelled operation says nothing about how long it would have taken.
+          if (adaptiveLimit != null && !future.isCancelled()) {
+            limit =
+                timed
+                    ? adaptiveLimit.onSample(System.nanoTime() - startNanos, r, e, inFlightAtStart)
+                    : adaptiveLimit.onUntimedSample(r, e, inFlightAtStart);
+          }
+          release();
+        });
+    return future;
+  }
+
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      while (!queue.isEmpty() && tryAcquire()) {
+        final PendingOperation<?> pending = queue.poll();
+        if (pending == null) {
+          release();
+        } else {
+          pending.start();
+        }
+      }
+    } while (drainRequests.decrementAndGet() != 0);
+  }
+
+  private final class PendingOperation<R> {
+    private final Supplier<CompletableFuture<R>> operation;
+    private final Function<Throwable, R> errorHandler;
+    private final boolean timed;
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+
+    private PendingOperation(
+        Supplier<CompletableFuture<R>> operation,
+        Function<Throwable, R> errorHandler,
+        boolean timed) {
+      this.operation = operation;
+      this.errorHandler = errorHandler;
+      this.timed = timed;
+    }
+
+    private void start() {
+      if (result.isDone()) {
+        // Cancelled by the caller while it was queued.
+        release();
+        return;
+      }
+      final CompletableFuture<R> future =
+          ConcurrencyLimiter.this.start(operation, errorHandler, timed);
+      future.whenComplete(
+          (r, e) -> {
+            if (e != null) {
+              result.completeExceptionally(e);
+            } else {
+              result.complete(r);
+            }
+          });
+      result.whenComplete(
+          (r, e) -> {
+            if (result.isCancelled()) {
+              future.cancel(true);
+            }
+          });
+    }
+  }
+}
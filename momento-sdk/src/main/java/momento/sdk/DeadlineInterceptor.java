@@ -0,0 +1,37 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+/**
+ * Applies the configured deadline to every call that does not already have one.
+ *
+ * <p>Setting the deadline when the call starts, rather than on the stub, lets stubs be created once
+ * and reused. A deadline set on a stub starts counting when the stub is created, so such stubs
+ * could not be cached. This interceptor must run before the retry interceptor, so that the deadline
+ * covers all attempts of a call rather than each one, as the deadline set on the stub did. The
+ * deadline now starts counting when the call starts rather than when its stub is fetched.
+ */
+final class DeadlineInterceptor implements ClientInterceptor {
+
+  private final long deadlineMillis;
+
+  DeadlineInterceptor(@Nonnull Duration deadline) {
+    this.deadlineMillis = deadline.toMillis();
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    if (callOptions.getDeadline() == null) {
+      callOptions = callOptions.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+    }
+    return next.newCall(method, callOptions);
+  }
+}
@@ -0,0 +1,53 @@
+package momento.sdk;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Bookkeeping for the demand signalled by a Reactive Streams subscriber. */
+final class Demand {
+
+  private Demand() {}
+
+  /**
+   * Adds to the outstanding demand. Demand that reaches {@link Long#MAX_VALUE} is unbounded and
+   * stays there.
+   *
+   * @param requested The outstanding demand.
+   * @param n The positive number of items requested.
+   */
+  static void add(AtomicLong requested, long n) {
+    long current;
+    long next;
+    do {
+      current = requested.get();
+      if (current == Long.MAX_VALUE) {
+        return;
+      }
+      next = current + n;
+      if (next < 0) {
+        next = Long.MAX_VALUE;
+      }
+    } while (!requested.compareAndSet(current, next));
+  }
+
+  /**
+   * Subtracts the items that have been delivered from the outstanding demand, unless it is
+   * unbounded.
+   *
+   * @param requested The outstanding demand.
+   * @param n The number of items delivered.
+   */
+  static void produced(AtomicLong requested, long n) {
+    long current;
+    do {
+      current = requested.get();
+      if (current == Long.MAX_VALUE) {
+        return;
+      }
+    } while (!requested.compareAndSet(current, current - n));
+  }
+
+  static IllegalArgumentException invalidRequest(long n) {
+    return new IllegalArgumentException(
+        "Reactive Streams rule 3.9: the number of items requested must be positive, got " + n);
+  }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 import momento.sdk.exceptions.ClientSdkException;
@@ -18,6 +19,7 @@ public class DynamicStreamGrpcConnectionPool implements StreamTopicGrpcConnectio
   private final CredentialProvider credentialProvider;
   private final TopicConfiguration configuration;
   private final UUID connectionIdKey;
+  private final @Nullable MomentoRuntime runtime;
 
   private final AtomicInteger index = new AtomicInteger(0);
   private final AtomicInteger currentNumStreamGrpcChannels = new AtomicInteger(1);
@@ -33,6 +35,14 @@ public class DynamicStreamGrpcConnectionPool implements StreamTopicGrpcConnectio
       CredentialProvider credentialProvider,
       TopicConfiguration configuration,
       UUID connectionIdKey) {
+    this(credentialProvider, configuration, connectionIdKey, null);
+  }
+
+  DynamicStreamGrpcConnectionPool(
+      CredentialProvider credentialProvider,
+      TopicConfiguration configuration,
+      UUID connectionIdKey,
+      @Nullable MomentoRuntime runtime) {
     this.currentMaxConcurrentStreams = GrpcChannelOptions.NUM_CONCURRENT_STREAMS_PER_GRPC_CHANNEL;
     this.maxStreamGrpcChannels =
         configuration.getTransportStrategy().getGrpcConfiguration().getNumStreamGrpcChannels();
@@ -40,13 +50,21 @@ public class DynamicStreamGrpcConnectionPool implements StreamTopicGrpcConnectio
     this.credentialProvider = credentialProvider;
     this.configuration = configuration;
     this.connectionIdKey = connectionIdKey;
+    this.runtime = runtime;
 
+    // The channels are not shared through the runtime, since each pool budgets the streams of its
+    // channels for itself.
     this.streamChannels =
         IntStream.range(0, this.currentNumStreamGrpcChannels.get())
             .mapToObj(
                 i ->
                     TopicGrpcConnectionPoolUtils.setupConnection(
-                        credentialProvider, configuration, connectionIdKey))
+                        credentialProvider,
+                        configuration,
+                        connectionIdKey,
+                        runtime,
+                        null,
+                        i))
             .collect(Collectors.toCollection(CopyOnWriteArrayList::new));
     this.streamStubs =
         streamChannels.stream()
@@ -69,12 +87,22 @@ public class DynamicStreamGrpcConnectionPool implements StreamTopicGrpcConnectio
 
     this.streamChannels.add(
         TopicGrpcConnectionPoolUtils.setupConnection(
-            credentialProvider, configuration, connectionIdKey));
+            credentialProvider,
+            configuration,
+            connectionIdKey,
+            runtime,
+            null,
+            updatedCount - 1));
     this.streamStubs.add(
         new StreamStubWithCount(
             PubsubGrpc.newStub(
                 TopicGrpcConnectionPoolUtils.setupConnection(
-                    credentialProvider, configuration, connectionIdKey))));
+                    credentialProvider,
+                    configuration,
+                    connectionIdKey,
+                    runtime,
+                    null,
+                    updatedCount - 1))));
   }
 
   @Override
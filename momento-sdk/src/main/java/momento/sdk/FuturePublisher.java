@@ -0,0 +1,104 @@
+package momento.sdk;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A cold publisher of the result of a single asynchronous operation.
+ *
+ * <p>The operation is started separately for each subscriber, when that subscriber first requests
+ * an item. Cancelling the subscription cancels the operation's future.
+ */
+final class FuturePublisher<T> implements Publisher<T> {
+
+  private final Supplier<CompletableFuture<T>> operation;
+
+  FuturePublisher(@Nonnull Supplier<CompletableFuture<T>> operation) {
+    this.operation = operation;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new FutureSubscription(subscriber));
+  }
+
+  private final class FutureSubscription implements Subscription {
+    private final Subscriber<? super T> subscriber;
+    private final AtomicBoolean started = new AtomicBoolean();
+    // Set once a terminal signal has been sent or the subscription has been cancelled.
+    private final AtomicBoolean done = new AtomicBoolean();
+    private volatile CompletableFuture<T> future;
+
+    private FutureSubscription(Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        if (done.compareAndSet(false, true)) {
+          cancelOperation();
+          subscriber.onError(Demand.invalidRequest(n));
+        }
+        return;
+      }
+      if (done.get() || !started.compareAndSet(false, true)) {
+        return;
+      }
+
+      final CompletableFuture<T> future;
+      try {
+        future = operation.get();
+      } catch (Exception e) {
+        if (done.compareAndSet(false, true)) {
+          subscriber.onError(e);
+        }
+        return;
+      }
+      this.future = future;
+      if (done.get()) {
+        future.cancel(false);
+        return;
+      }
+      future.whenComplete(
+          (result, error) -> {
+            if (!done.compareAndSet(false, true)) {
+              return;
+            }
+            if (error != null) {
+              subscriber.onError(
+                  error instanceof CompletionException && error.getCause() != null
+                      ? error.getCause()
+                      : error);
+            } else if (result == null) {
+              subscriber.onError(new NullPointerException("The operation completed with null"));
+            } else {
+              subscriber.onNext(result);
+              subscriber.onComplete();
+            }
+          });
+    }
+
+    @Override
+    public void cancel() {
+      if (done.compareAndSet(false, true)) {
+        cancelOperation();
+      }
+    }
+
+    private void cancelOperation() {
+      final CompletableFuture<T> future = this.future;
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+}
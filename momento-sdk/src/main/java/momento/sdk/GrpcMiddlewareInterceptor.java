@@ -12,9 +12,13 @@ import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import momento.sdk.config.middleware.*;
 import org.slf4j.Logger;
@@ -22,11 +26,16 @@ import org.slf4j.LoggerFactory;
 
 final class GrpcMiddlewareInterceptor implements ClientInterceptor {
 
+  private final List<Middleware> middlewares;
+  private final MiddlewareRequestHandlerContext context;
+  // The handlers of the channel, one per middleware, for calls the middleware has no handler for.
   private final List<MiddlewareRequestHandler> middlewareHandlers;
   private final Logger logger = LoggerFactory.getLogger(GrpcMiddlewareInterceptor.class);
 
   public GrpcMiddlewareInterceptor(
       List<Middleware> middlewares, MiddlewareRequestHandlerContext context) {
+    this.middlewares = middlewares;
+    this.context = context;
     this.middlewareHandlers =
         middlewares.stream()
             .map(middleware -> middleware.onNewRequest(context))
@@ -40,21 +49,26 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
       final Channel channel) {
 
     final ClientCall<ReqT, RespT> delegateCall = channel.newCall(methodDescriptor, callOptions);
+    if (middlewares.isEmpty()) {
+      return delegateCall;
+    }
+
+    final List<MiddlewareRequestHandler> middlewareHandlers =
+        handlersFor(methodDescriptor, callOptions);
 
     return new ForwardingClientCall<ReqT, RespT>() {
       @Override
       public void start(
           final ClientCall.Listener<RespT> responseListener, final Metadata metadata) {
         processMiddleware(
-                new MiddlewareMetadata(metadata),
-                middlewareHandlers,
-                MiddlewareRequestHandler::onRequestMetadata)
-            .thenAccept(
-                updatedMetadata ->
-                    delegateCall.start(
-                        new MiddlewareResponseListener<>(
-                            responseListener, channel, methodDescriptor),
-                        updatedMetadata.getGrpcMetadata()));
+            new MiddlewareMetadata(metadata),
+            middlewareHandlers,
+            MiddlewareRequestHandler::onRequestMetadata,
+            updatedMetadata ->
+                delegateCall.start(
+                    new MiddlewareResponseListener<>(
+                        responseListener, middlewareHandlers, channel, methodDescriptor),
+                    updatedMetadata.getGrpcMetadata()));
       }
 
       @Override
@@ -62,11 +76,10 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
         if (message instanceof Message) {
           final Message protoMessage = (Message) message;
           processMiddleware(
-                  new MiddlewareMessage(protoMessage),
-                  middlewareHandlers,
-                  MiddlewareRequestHandler::onRequestBody)
-              .thenAccept(
-                  updatedMessage -> delegateCall.sendMessage((ReqT) updatedMessage.getMessage()));
+              new MiddlewareMessage(protoMessage),
+              middlewareHandlers,
+              MiddlewareRequestHandler::onRequestBody,
+              updatedMessage -> delegateCall.sendMessage((ReqT) updatedMessage.getMessage()));
         } else {
           delegateCall.sendMessage(message);
         }
@@ -79,27 +92,74 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
     };
   }
 
-  private static <T> CompletableFuture<T> processMiddleware(
-      T initial, List<MiddlewareRequestHandler> handlers, final MiddlewareProcessor<T> processor) {
-    CompletableFuture<T> future = CompletableFuture.completedFuture(initial);
-    for (final MiddlewareRequestHandler handler : handlers) {
-      future =
-          future.thenCompose(
-              (Function<T, CompletableFuture<T>>) input -> processor.apply(handler, input));
+  /**
+   * Gets the handlers of a call: the handler each middleware creates for the call, or the handler
+   * of the channel if it does not create one. The handlers of the channel are used as they are when
+   * no middleware creates one.
+   */
+  private List<MiddlewareRequestHandler> handlersFor(
+      MethodDescriptor<?, ?> methodDescriptor, CallOptions callOptions) {
+    final MiddlewareRequestHandlerContext callContext = contextFor(callOptions);
+    List<MiddlewareRequestHandler> handlers = middlewareHandlers;
+    for (int i = 0; i < middlewares.size(); i++) {
+      final MiddlewareRequestHandler handler =
+          middlewares.get(i).onNewCall(callContext, methodDescriptor);
+      if (handler != null) {
+        if (handlers == middlewareHandlers) {
+          handlers = new ArrayList<>(middlewareHandlers);
+        }
+        handlers.set(i, handler);
+      }
+    }
+    return handlers;
+  }
+
+  private MiddlewareRequestHandlerContext contextFor(CallOptions callOptions) {
+    final Integer retryAttempt = callOptions.getOption(RetryClientInterceptor.RETRY_ATTEMPT);
+    if (retryAttempt == null) {
+      return context;
     }
-    return future;
+    final Map<String, String> callContext = new HashMap<>(context.getContext());
+    callContext.put(MiddlewareRequestHandlerContext.RETRY_ATTEMPT_KEY, retryAttempt.toString());
+    final Map<String, String> unmodifiableContext = Collections.unmodifiableMap(callContext);
+    return () -> unmodifiableContext;
+  }
+
+  /**
+   * Passes the value through each handler in turn, then hands the result to the consumer. Handlers
+   * that complete right away are chained on the calling thread without composing futures; the rest
+   * of the chain only waits for a handler that has not completed yet.
+   */
+  private static <T> void processMiddleware(
+      T value,
+      List<MiddlewareRequestHandler> handlers,
+      final MiddlewareProcessor<T> processor,
+      final Consumer<T> consumer) {
+    for (int i = 0; i < handlers.size(); i++) {
+      final CompletableFuture<T> future = processor.apply(handlers.get(i), value);
+      if (!future.isDone() || future.isCompletedExceptionally()) {
+        final List<MiddlewareRequestHandler> remaining = handlers.subList(i + 1, handlers.size());
+        future.thenAccept(result -> processMiddleware(result, remaining, processor, consumer));
+        return;
+      }
+      value = future.join();
+    }
+    consumer.accept(value);
   }
 
   private class MiddlewareResponseListener<RespT>
       extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+    private final List<MiddlewareRequestHandler> middlewareHandlers;
     private final Channel channel;
     private final MethodDescriptor<?, ?> methodDescriptor;
 
     protected MiddlewareResponseListener(
         ClientCall.Listener<RespT> delegate,
+        List<MiddlewareRequestHandler> middlewareHandlers,
         Channel channel,
         MethodDescriptor<?, ?> methodDescriptor) {
       super(delegate);
+      this.middlewareHandlers = middlewareHandlers;
       this.channel = channel;
       this.methodDescriptor = methodDescriptor;
     }
@@ -107,12 +167,11 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
     @Override
     public void onHeaders(final Metadata headers) {
       processMiddleware(
-              new MiddlewareMetadata(headers),
-              middlewareHandlers,
-              (handler, input) -> handler.onResponseMetadata(input))
-          .thenAccept(
-              updatedHeaders ->
-                  MiddlewareResponseListener.super.onHeaders(updatedHeaders.getGrpcMetadata()));
+          new MiddlewareMetadata(headers),
+          middlewareHandlers,
+          MiddlewareRequestHandler::onResponseMetadata,
+          updatedHeaders ->
+              MiddlewareResponseListener.super.onHeaders(updatedHeaders.getGrpcMetadata()));
     }
 
     @Override
@@ -120,13 +179,11 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
       if (message instanceof Message) {
         final Message protoMessage = (Message) message;
         processMiddleware(
-                new MiddlewareMessage(protoMessage),
-                middlewareHandlers,
-                MiddlewareRequestHandler::onResponseBody)
-            .thenAccept(
-                updatedMessage ->
-                    MiddlewareResponseListener.super.onMessage(
-                        (RespT) updatedMessage.getMessage()));
+            new MiddlewareMessage(protoMessage),
+            middlewareHandlers,
+            MiddlewareRequestHandler::onResponseBody,
+            updatedMessage ->
+                MiddlewareResponseListener.super.onMessage((RespT) updatedMessage.getMessage()));
       } else {
         super.onMessage(message);
       }
@@ -145,13 +202,11 @@ final class GrpcMiddlewareInterceptor implements ClientInterceptor {
       }
 
       processMiddleware(
-              new MiddlewareStatus(status),
-              middlewareHandlers,
-              MiddlewareRequestHandler::onResponseStatus)
-          .thenAccept(
-              updatedStatus ->
-                  MiddlewareResponseListener.super.onClose(
-                      updatedStatus.getGrpcStatus(), trailers));
+          new MiddlewareStatus(status),
+          middlewareHandlers,
+          MiddlewareRequestHandler::onResponseStatus,
+          updatedStatus ->
+              MiddlewareResponseListener.super.onClose(updatedStatus.getGrpcStatus(), trailers));
     }
   }
 
@@ -0,0 +1,213 @@
+package momento.sdk;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.HedgingConfiguration;
+import momento.sdk.exceptions.SdkException;
+
+/**
+ * Sends a second copy of a read that is slow to complete, and uses whichever copy completes first.
+ *
+ * <p>The delay before hedging is either fixed or a percentile of the latencies of recent reads, and
+ * never lower than the configured delay. Each read earns a fraction of a hedge, up to a small
+ * burst, and each hedge spends a whole one, which caps hedges at the configured fraction of reads.
+ */
+final class Hedger {
+
+  // The number of recent latencies the percentile is computed from.
+  static final int LATENCY_SAMPLES = 1024;
+  // How many new latencies are recorded between recomputations of the percentile.
+  private static final int RECOMPUTE_INTERVAL = 128;
+  // Budget is kept in thousandths of a hedge, so fractional ratios accumulate exactly enough.
+  private static final long HEDGE_COST = 1000;
+  // The most hedges that can be saved up while reads are fast.
+  private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+  private final ScheduledExecutorService scheduler;
+  private final long minDelayNanos;
+  private final @Nullable Double percentile;
+  private final long budgetPerRead;
+
+  private final AtomicLong budget = new AtomicLong();
+  private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+  private final AtomicInteger recorded = new AtomicInteger();
+  private volatile long delayNanos;
+
+  Hedger(@Nonnull HedgingConfiguration configuration, @Nonnull ScheduledExecutorService scheduler) {
+    this.scheduler = scheduler;
+    this.minDelayNanos = configuration.getDelay().toNanos();
+    this.percentile = configuration.getPercentile().orElse(null);
+    this.budgetPerRead = Math.max(1, Math.round(configuration.getMaxHedgeRatio() * HEDGE_COST));
+    this.delayNanos = minDelayNanos;
+  }
+
+  /**
+   * Executes a read, hedging it if it has not completed after the hedging delay.
+   *
+   * @param attempt Sends one copy of the read; called with 0 for the first copy and 1 for the
+   *     hedge, which should be sent on a different channel. Error responses are recognized as
+   *     {@link SdkException}s.
+   * @return a future that completes with the first successful response, or with an error response
+   *     if every copy failed. Cancelling it cancels every copy.
+   */
+  <R> CompletableFuture<R> execute(@Nonnull IntFunction<CompletableFuture<R>> attempt) {
+    earnBudget();
+    final long startNanos = System.nanoTime();
+    final CompletableFuture<R> primary = attempt.apply(0);
+    if (primary.isDone()) {
+      // Reads that complete right away count towards the percentile like any other.
+      recordLatency(System.nanoTime() - startNanos);
+      return primary;
+    }
+    return new HedgedRead<>(attempt, primary, startNanos).result;
+  }
+
+  /**
+   * The current delay before a read is hedged.
+   *
+   * @return the delay in nanoseconds.
+   */
+  long getDelayNanos() {
+    return delayNanos;
+  }
+
+  private void earnBudget() {
+    long current;
+    do {
+      current = budget.get();
+      if (current >= MAX_BUDGET) {
+        return;
+      }
+    } while (!budget.compareAndSet(current, Math.min(MAX_BUDGET, current + budgetPerRead)));
+  }
+
+  private boolean trySpendBudget() {
+    long current;
+    do {
+      current = budget.get();
+      if (current < HEDGE_COST) {
+        return false;
+      }
+    } while (!budget.compareAndSet(current, current - HEDGE_COST));
+    return true;
+  }
+
+  private void recordLatency(long nanos) {
+    if (percentile == null) {
+      return;
+    }
+    final int count = recorded.getAndIncrement();
+    latencies.set(Math.floorMod(count, LATENCY_SAMPLES), nanos);
+    if ((count + 1) % RECOMPUTE_INTERVAL == 0) {
+      final int samples = Math.min(count + 1, LATENCY_SAMPLES);
+      final long[] sorted = new long[samples];
+      for (int i = 0; i < samples; i++) {
+        sorted[i] = latencies.get(i);
+      }
+      Arrays.sort(sorted);
+      final int index = (int) Math.ceil(percentile / 100 * samples) - 1;
+      delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+    }
+  }
+
+  private static boolean failed(CompletableFuture<?> future) {
+    return future.isCompletedExceptionally() || future.join() instanceof SdkException;
+  }
+
+  private final class HedgedRead<R> {
+    private final IntFunction<CompletableFuture<R>> attempt;
+    private final CompletableFuture<R> primary;
+    private final long startNanos;
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final ScheduledFuture<?> timer;
+
+    // Guarded by this.
+    private CompletableFuture<R> hedge;
+    private boolean decided;
+
+    private HedgedRead(
+        IntFunction<CompletableFuture<R>> attempt, CompletableFuture<R> primary, long startNanos) {
+      this.attempt = attempt;
+      this.primary = primary;
+      this.startNanos = startNanos;
+      this.timer = scheduler.schedule(this::sendHedge, delayNanos, TimeUnit.NANOSECONDS);
+      result.whenComplete((r, e) -> cancelRemaining());
+      primary.whenComplete((r, e) -> onPrimaryComplete());
+    }
+
+    // Records the latency of the first copy whether or not it decides the result, so that the
+    // percentile is not skewed towards the reads that hedging helped. A first copy cancelled
+    // because the hedge won is recorded as taking as long as it ran, which is less than it would
+    // have taken. One cancelled by the caller is not recorded.
+    private void onPrimaryComplete() {
+      if (!result.isCancelled()) {
+        recordLatency(System.nanoTime() - startNanos);
+      }
+      onAttemptComplete(primary);
+    }
+
+    private void sendHedge() {
+      final CompletableFuture<R> hedge;
+      synchronized (this) {
+        if (decided || !trySpendBudget()) {
+          return;
+        }
+        try {
+          hedge = attempt.apply(1);
+        } catch (Exception e) {
+          // The first copy is still outstanding and decides the result.
+          return;
+        }
+        this.hedge = hedge;
+      }
+      hedge.whenComplete((r, e) -> onAttemptComplete(hedge));
+    }
+
+    private void onAttemptComplete(CompletableFuture<R> completed) {
+      CompletableFuture<R> winner = completed;
+      synchronized (this) {
+        if (decided || completed.isCancelled()) {
+          return;
+        }
+        final CompletableFuture<R> other = completed == primary ? hedge : primary;
+        if (failed(completed) && other != null) {
+          if (!other.isDone()) {
+            // Let the other copy decide the result.
+            return;
+          }
+          if (!other.isCancelled() && !failed(other)) {
+            winner = other;
+          }
+        }
+        decided = true;
+      }
+      if (winner.isCompletedExceptionally()) {
+        winner.whenComplete((r, e) -> result.completeExceptionally(e));
+      } else {
+        result.complete(winner.join());
+      }
+    }
+
+    private void cancelRemaining() {
+      timer.cancel(false);
+      final CompletableFuture<R> hedge;
+      synchronized (this) {
+        decided = true;
+        hedge = this.hedge;
+      }
+      primary.cancel(false);
+      if (hedge != null) {
+        hedge.cancel(false);
+      }
+    }
+  }
+}
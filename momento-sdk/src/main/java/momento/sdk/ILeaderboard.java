@@ -10,6 +10,7 @@ import momento.sdk.responses.leaderboard.FetchResponse;
 import momento.sdk.responses.leaderboard.LengthResponse;
 import momento.sdk.responses.leaderboard.RemoveElementsResponse;
 import momento.sdk.responses.leaderboard.UpsertResponse;
+import org.reactivestreams.Publisher;
 
 public interface ILeaderboard {
 
@@ -24,6 +25,28 @@ public interface ILeaderboard {
    */
   CompletableFuture<UpsertResponse> upsert(@Nonnull Map<Integer, Double> elements);
 
+  /**
+   * Upserts the elements of a Reactive Streams publisher, in batches of up to 8192 elements. The
+   * next batch is only requested from the publisher once the previous one has been upserted, so a
+   * fast publisher is held back instead of having its elements buffered in memory. A batch is sent
+   * when it is full or when the publisher completes. When an element appears more than once in a
+   * batch, its last score is kept.
+   *
+   * <p>On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts a {@code
+   * java.util.concurrent.Flow.Publisher} to a publisher accepted here.
+   *
+   * <p>By default, each batch is upserted with {@link #upsert(Map)}.
+   *
+   * @param elements The publisher of ID->score pairs to add to the leaderboard.
+   * @return A future containing the result of the upsert operation: {@link UpsertResponse.Success}
+   *     once every element has been upserted, or the first {@link UpsertResponse.Error}, after
+   *     which the subscription to the publisher is cancelled.
+   */
+  default CompletableFuture<UpsertResponse> upsertAll(
+      @Nonnull Publisher<Map.Entry<Integer, Double>> elements) {
+    return LeaderboardDataClient.upsertAll(elements, this::upsert);
+  }
+
   /**
    * Fetch the elements of the leaderboard by score. Note: can fetch a maximum of 8192 elements at a
    * time.
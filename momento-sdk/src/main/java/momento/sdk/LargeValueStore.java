@@ -0,0 +1,327 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.CacheServiceExceptionMapper;
+import momento.sdk.exceptions.ClientSdkException;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.exceptions.SdkException;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetBatchResponse;
+import momento.sdk.responses.cache.SetResponse;
+
+/**
+ * Stores values that are too large for a single request by splitting them into chunks.
+ *
+ * <p>The chunks are stored under keys derived from the item key and a version id that is unique to
+ * each write, and are written before the manifest. The manifest is stored under the item key itself
+ * and records the version id, the total length and a CRC32 of every chunk. A reader that sees a
+ * manifest therefore only ever reads chunks from the same write, and verifies each chunk as it
+ * arrives. A chunk that has expired or been evicted makes the whole value a miss; a chunk that does
+ * not match the manifest makes it an error.
+ */
+final class LargeValueStore {
+
+  /** The size of each chunk, which leaves room for the request overhead under the 5MB limit. */
+  static final int CHUNK_SIZE = 1024 * 1024;
+
+  /** The number of chunks written or read by one batch request. */
+  static final int CHUNKS_PER_BATCH = 4;
+
+  private static final ByteString MANIFEST_MAGIC =
+      ByteString.copyFrom(new byte[] {'M', 'L', 'V', 0x01});
+  // magic, version id, total length, chunk size, chunk count
+  private static final int MANIFEST_HEADER_SIZE =
+      MANIFEST_MAGIC.size() + 2 * Long.BYTES + Long.BYTES + 2 * Integer.BYTES;
+
+  private final ScsDataClient scsDataClient;
+
+  LargeValueStore(@Nonnull ScsDataClient scsDataClient) {
+    this.scsDataClient = scsDataClient;
+  }
+
+  CompletableFuture<SetResponse> put(
+      @Nonnull String cacheName, @Nonnull String key, byte[] value, @Nullable Duration ttl) {
+    try {
+      ValidationUtils.ensureValidKey(key);
+      ValidationUtils.ensureValidValue(value);
+      return sendPut(cacheName, key, ByteString.copyFrom(value), ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<SetResponse> put(
+      @Nonnull String cacheName, @Nonnull String key, ByteBuffer value, @Nullable Duration ttl) {
+    try {
+      ValidationUtils.ensureValidKey(key);
+      ValidationUtils.ensureValidValue(value);
+      return sendPut(cacheName, key, UnsafeByteOperations.unsafeWrap(value.slice()), ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  private CompletableFuture<SetResponse> sendPut(
+      String cacheName, String key, ByteString value, @Nullable Duration ttl) {
+    final UUID versionId = UUID.randomUUID();
+    final int chunkCount = chunkCount(value.size());
+
+    final int[] checksums = new int[chunkCount];
+    final List<CompletableFuture<SetBatchResponse>> batchFutures = new ArrayList<>();
+    Map<ByteString, ByteString> batch = new LinkedHashMap<>();
+    for (int i = 0; i < chunkCount; i++) {
+      final int start = i * CHUNK_SIZE;
+      final ByteString chunk = value.substring(start, Math.min(start + CHUNK_SIZE, value.size()));
+      checksums[i] = checksum(chunk);
+      batch.put(chunkKey(key, versionId, i), chunk);
+      if (batch.size() == CHUNKS_PER_BATCH || i == chunkCount - 1) {
+        batchFutures.add(scsDataClient.setBatchByteString(cacheName, batch, ttl));
+        batch = new LinkedHashMap<>();
+      }
+    }
+
+    final ByteString manifest = encodeManifest(versionId, value.size(), checksums);
+    final ByteString keyBytes = ByteString.copyFromUtf8(key);
+    return CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0]))
+        .thenCompose(
+            v -> {
+              for (final CompletableFuture<SetBatchResponse> batchFuture : batchFutures) {
+                final SdkException error = setBatchError(batchFuture.join());
+                if (error != null) {
+                  // The manifest is not written, so the chunks that were stored are never read and
+                  // expire with their TTL.
+                  return CompletableFuture.completedFuture(new SetResponse.Error(error));
+                }
+              }
+              return scsDataClient
+                  .set(cacheName, keyBytes, manifest, ttl)
+                  .thenApply(
+                      response ->
+                          response instanceof SetResponse.Success
+                              ? new SetResponse.Success(value)
+                              : response);
+            });
+  }
+
+  CompletableFuture<GetResponse> get(@Nonnull String cacheName, @Nonnull String key) {
+    try {
+      ValidationUtils.ensureValidKey(key);
+      return sendGet(cacheName, key);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new GetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  private CompletableFuture<GetResponse> sendGet(String cacheName, String key) {
+    return scsDataClient
+        .get(cacheName, ByteString.copyFromUtf8(key))
+        .thenCompose(
+            response -> {
+              if (!(response instanceof GetResponse.Hit)) {
+                return CompletableFuture.completedFuture(response);
+              }
+              final Manifest manifest;
+              try {
+                manifest = decodeManifest(key, ((GetResponse.Hit) response).valueByteBuffer());
+              } catch (SdkException e) {
+                return CompletableFuture.completedFuture(new GetResponse.Error(e));
+              }
+              return getChunks(cacheName, key, manifest);
+            });
+  }
+
+  private CompletableFuture<GetResponse> getChunks(
+      String cacheName, String key, Manifest manifest) {
+    final int chunkCount = manifest.checksums.length;
+    if (chunkCount == 0) {
+      return CompletableFuture.completedFuture(new GetResponse.Hit(ByteString.EMPTY));
+    }
+
+    // Each batch fills in its own slots as soon as it arrives; the chunks are only joined once all
+    // of them have been verified.
+    final ByteString[] chunks = new ByteString[chunkCount];
+    final List<CompletableFuture<GetResponse>> batchFutures = new ArrayList<>();
+    for (int first = 0; first < chunkCount; first += CHUNKS_PER_BATCH) {
+      final int firstIndex = first;
+      final List<ByteString> chunkKeys = new ArrayList<>(CHUNKS_PER_BATCH);
+      for (int i = first; i < Math.min(first + CHUNKS_PER_BATCH, chunkCount); i++) {
+        chunkKeys.add(chunkKey(key, manifest.versionId, i));
+      }
+      batchFutures.add(
+          scsDataClient
+              .getBatchByteString(cacheName, chunkKeys)
+              .thenApply(
+                  responses ->
+                      storeChunks(key, manifest, firstIndex, chunkKeys, responses, chunks)));
+    }
+
+    return CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0]))
+        .thenApply(
+            v -> {
+              GetResponse failure = null;
+              for (final CompletableFuture<GetResponse> batchFuture : batchFutures) {
+                final GetResponse batchFailure = batchFuture.join();
+                if (batchFailure instanceof GetResponse.Error) {
+                  return batchFailure;
+                } else if (batchFailure != null) {
+                  failure = batchFailure;
+                }
+              }
+              if (failure != null) {
+                return failure;
+              }
+
+              ByteString value = ByteString.EMPTY;
+              for (final ByteString chunk : chunks) {
+                value = value.concat(chunk);
+              }
+              if (value.size() != manifest.totalLength) {
+                return new GetResponse.Error(
+                    tornValue(
+                        key, "expected " + manifest.totalLength + " bytes, got " + value.size()));
+              }
+              return new GetResponse.Hit(value);
+            });
+  }
+
+  /**
+   * Verifies a batch of chunks and stores them in their slots.
+   *
+   * @return null if every chunk was stored, otherwise the response for the whole value.
+   */
+  @Nullable
+  private GetResponse storeChunks(
+      String key,
+      Manifest manifest,
+      int firstIndex,
+      List<ByteString> chunkKeys,
+      List<GetResponse> responses,
+      ByteString[] chunks) {
+    if (responses.size() != chunkKeys.size()) {
+      return new GetResponse.Error(
+          tornValue(key, "expected " + chunkKeys.size() + " chunks, got " + responses.size()));
+    }
+    for (int i = 0; i < responses.size(); i++) {
+      final GetResponse response = responses.get(i);
+      if (response instanceof GetResponse.Error) {
+        return response;
+      } else if (!(response instanceof GetResponse.Hit)) {
+        // The chunk expired or was evicted, so the value is gone even though the manifest is not.
+        return new GetResponse.Miss();
+      }
+      final int index = firstIndex + i;
+      final ByteString chunk =
+          UnsafeByteOperations.unsafeWrap(((GetResponse.Hit) response).valueByteBuffer());
+      if (checksum(chunk) != manifest.checksums[index]) {
+        return new GetResponse.Error(tornValue(key, "chunk " + index + " failed its checksum"));
+      }
+      chunks[index] = chunk;
+    }
+    return null;
+  }
+
+  private static SdkException setBatchError(SetBatchResponse response) {
+    if (response instanceof SetBatchResponse.Error) {
+      return (SetBatchResponse.Error) response;
+    }
+    for (final SetResponse setResponse : ((SetBatchResponse.Success) response).results().values()) {
+      if (setResponse instanceof SetResponse.Error) {
+        return (SetResponse.Error) setResponse;
+      }
+    }
+    return null;
+  }
+
+  static int chunkCount(int totalLength) {
+    return (totalLength + CHUNK_SIZE - 1) / CHUNK_SIZE;
+  }
+
+  static ByteString chunkKey(String key, UUID versionId, int index) {
+    return ByteString.copyFrom(
+        key + "/__momento_chunk/" + versionId + "/" + index, StandardCharsets.UTF_8);
+  }
+
+  private static int checksum(ByteString chunk) {
+    final CRC32 crc = new CRC32();
+    for (final ByteBuffer buffer : chunk.asReadOnlyByteBufferList()) {
+      crc.update(buffer);
+    }
+    return (int) crc.getValue();
+  }
+
+  static ByteString encodeManifest(UUID versionId, int totalLength, int[] checksums) {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(MANIFEST_HEADER_SIZE + checksums.length * Integer.BYTES);
+    buffer.put(MANIFEST_MAGIC.asReadOnlyByteBuffer());
+    buffer.putLong(versionId.getMostSignificantBits());
+    buffer.putLong(versionId.getLeastSignificantBits());
+    buffer.putLong(totalLength);
+    buffer.putInt(CHUNK_SIZE);
+    buffer.putInt(checksums.length);
+    for (final int checksum : checksums) {
+      buffer.putInt(checksum);
+    }
+    // Called through Buffer, since ByteBuffer only overrides flip() from Java 9 on.
+    ((Buffer) buffer).flip();
+    return ByteString.copyFrom(buffer);
+  }
+
+  static Manifest decodeManifest(String key, ByteBuffer buffer) {
+    if (buffer.remaining() < MANIFEST_HEADER_SIZE
+        || !ByteString.copyFrom(buffer.duplicate(), MANIFEST_MAGIC.size()).equals(MANIFEST_MAGIC)) {
+      throw new ClientSdkException(
+          MomentoErrorCode.UNKNOWN, "The value for key " + key + " is not a large value manifest");
+    }
+    ((Buffer) buffer).position(buffer.position() + MANIFEST_MAGIC.size());
+    final UUID versionId = new UUID(buffer.getLong(), buffer.getLong());
+    final long totalLength = buffer.getLong();
+    final int chunkSize = buffer.getInt();
+    final int chunkCount = buffer.getInt();
+    if (chunkSize != CHUNK_SIZE
+        || totalLength < 0
+        || totalLength > Integer.MAX_VALUE
+        || chunkCount != chunkCount((int) totalLength)
+        || buffer.remaining() != chunkCount * Integer.BYTES) {
+      throw tornValue(key, "the manifest is inconsistent");
+    }
+    final int[] checksums = new int[chunkCount];
+    for (int i = 0; i < chunkCount; i++) {
+      checksums[i] = buffer.getInt();
+    }
+    return new Manifest(versionId, (int) totalLength, checksums);
+  }
+
+  private static ClientSdkException tornValue(String key, String reason) {
+    return new ClientSdkException(
+        MomentoErrorCode.UNKNOWN, "The large value for key " + key + " is torn: " + reason);
+  }
+
+  static final class Manifest {
+    final UUID versionId;
+    final int totalLength;
+    final int[] checksums;
+
+    Manifest(UUID versionId, int totalLength, int[] checksums) {
+      this.versionId = versionId;
+      this.totalLength = totalLength;
+      this.checksums = checksums;
+    }
+  }
+}
@@ -10,6 +10,7 @@ import momento.sdk.responses.leaderboard.FetchResponse;
 import momento.sdk.responses.leaderboard.LengthResponse;
 import momento.sdk.responses.leaderboard.RemoveElementsResponse;
 import momento.sdk.responses.leaderboard.UpsertResponse;
+import org.reactivestreams.Publisher;
 
 public class Leaderboard implements ILeaderboard {
   private final String cacheName;
@@ -28,6 +29,12 @@ public class Leaderboard implements ILeaderboard {
     return leaderboardDataClient.upsert(cacheName, leaderboardName, elements);
   }
 
+  @Override
+  public CompletableFuture<UpsertResponse> upsertAll(
+      @Nonnull Publisher<Map.Entry<Integer, Double>> elements) {
+    return leaderboardDataClient.upsertAll(cacheName, leaderboardName, elements);
+  }
+
   @Override
   public CompletableFuture<FetchResponse> fetchByScore(
       @Nullable Double minScore,
@@ -1,6 +1,7 @@
 package momento.sdk;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.LeaderboardConfiguration;
 
@@ -17,7 +18,21 @@ public class LeaderboardClient implements AutoCloseable {
   public LeaderboardClient(
       @Nonnull CredentialProvider credentialProvider,
       @Nonnull LeaderboardConfiguration configuration) {
-    this.dataClient = new LeaderboardDataClient(credentialProvider, configuration);
+    this(credentialProvider, configuration, null);
+  }
+
+  /**
+   * Constructs a LeaderboardClient that may share resources with other clients.
+   *
+   * @param credentialProvider Provider for the credentials required to connect to Momento.
+   * @param configuration Configuration object containing all tunable client settings.
+   * @param runtime The runtime whose resources the client uses, or null to use its own.
+   */
+  LeaderboardClient(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull LeaderboardConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
+    this.dataClient = new LeaderboardDataClient(credentialProvider, configuration, runtime);
   }
 
   /**
@@ -1,6 +1,7 @@
 package momento.sdk;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.LeaderboardConfiguration;
 
@@ -9,6 +10,7 @@ public final class LeaderboardClientBuilder {
 
   private final CredentialProvider credentialProvider;
   private LeaderboardConfiguration configuration;
+  private @Nullable MomentoRuntime runtime;
 
   /**
    * Creates a LeaderboardClient builder.
@@ -23,12 +25,24 @@ public final class LeaderboardClientBuilder {
     this.configuration = configuration;
   }
 
+  /**
+   * Shares the connections, threads and executors of the given runtime with the other clients built
+   * with it, instead of creating the client's own.
+   *
+   * @param runtime The runtime to use. It must be closed after the client.
+   * @return the builder.
+   */
+  public LeaderboardClientBuilder withRuntime(@Nonnull MomentoRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
   /**
    * Builds a LeaderboardClient.
    *
    * @return the client.
    */
   public LeaderboardClient build() {
-    return new LeaderboardClient(credentialProvider, configuration);
+    return new LeaderboardClient(credentialProvider, configuration, runtime);
   }
 }
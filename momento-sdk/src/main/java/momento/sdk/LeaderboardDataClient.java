@@ -30,6 +30,7 @@ import grpc.leaderboard._RemoveElementsRequest;
 import grpc.leaderboard._ScoreRange;
 import grpc.leaderboard._UpsertElementsRequest;
 import io.grpc.Metadata;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -48,17 +49,23 @@ import momento.sdk.responses.leaderboard.LeaderboardElement;
 import momento.sdk.responses.leaderboard.LengthResponse;
 import momento.sdk.responses.leaderboard.RemoveElementsResponse;
 import momento.sdk.responses.leaderboard.UpsertResponse;
+import org.reactivestreams.Publisher;
 
 final class LeaderboardDataClient extends ScsClientBase {
 
+  // The most elements that can be upserted by one request.
+  private static final int MAX_UPSERT_ELEMENTS = 8192;
+
   private final LeaderboardGrpcStubsManager stubsManager;
 
   LeaderboardDataClient(
       @Nonnull CredentialProvider credentialProvider,
-      @Nonnull LeaderboardConfiguration configuration) {
+      @Nonnull LeaderboardConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     super(null);
 
-    this.stubsManager = new LeaderboardGrpcStubsManager(credentialProvider, configuration);
+    this.stubsManager =
+        new LeaderboardGrpcStubsManager(credentialProvider, configuration, runtime);
   }
 
   public CompletableFuture<UpsertResponse> upsert(
@@ -77,6 +84,55 @@ final class LeaderboardDataClient extends ScsClientBase {
     }
   }
 
+  public CompletableFuture<UpsertResponse> upsertAll(
+      @Nonnull String cacheName,
+      @Nonnull String leaderboardName,
+      @Nonnull Publisher<Map.Entry<Integer, Double>> elements) {
+    try {
+      checkCacheNameValid(cacheName);
+      validateLeaderboardName(leaderboardName);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new UpsertResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+    return upsertAll(elements, batch -> sendUpsert(cacheName, leaderboardName, batch));
+  }
+
+  /**
+   * Upserts the elements of a publisher in batches, as described by {@link
+   * ILeaderboard#upsertAll}.
+   *
+   * @param elements The publisher of ID->score pairs.
+   * @param upsert Upserts one batch.
+   * @return the result of the upsert.
+   */
+  static CompletableFuture<UpsertResponse> upsertAll(
+      @Nonnull Publisher<Map.Entry<Integer, Double>> elements,
+      @Nonnull Function<Map<Integer, Double>, CompletableFuture<UpsertResponse>> upsert) {
+    try {
+      validateNotNull(elements, "elements");
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new UpsertResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+
+    final BatchingSubscriber<Map.Entry<Integer, Double>, UpsertResponse> subscriber =
+        new BatchingSubscriber<>(
+            MAX_UPSERT_ELEMENTS,
+            batch -> {
+              final Map<Integer, Double> batchElements = new LinkedHashMap<>();
+              for (final Map.Entry<Integer, Double> element : batch) {
+                batchElements.put(element.getKey(), element.getValue());
+              }
+              return upsert.apply(batchElements);
+            },
+            response -> response instanceof UpsertResponse.Error,
+            UpsertResponse.Success::new,
+            e -> new UpsertResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    elements.subscribe(subscriber);
+    return subscriber.result();
+  }
+
   public CompletableFuture<FetchResponse> fetchByScore(
       @Nonnull String cacheName,
       @Nonnull String leaderboardName,
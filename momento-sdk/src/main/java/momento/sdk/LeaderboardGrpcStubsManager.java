@@ -3,7 +3,6 @@ package momento.sdk;
 import grpc.leaderboard.LeaderboardGrpc;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +11,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.LeaderboardConfiguration;
-import momento.sdk.internal.GrpcChannelOptions;
 
 /** Manager responsible for GRPC channels and stubs for leaderboards. */
 final class LeaderboardGrpcStubsManager implements AutoCloseable {
@@ -28,34 +27,38 @@ final class LeaderboardGrpcStubsManager implements AutoCloseable {
 
   LeaderboardGrpcStubsManager(
       @Nonnull CredentialProvider credentialProvider,
-      @Nonnull LeaderboardConfiguration configuration) {
+      @Nonnull LeaderboardConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     this.deadline = configuration.getTransportStrategy().getGrpcConfiguration().getDeadline();
     this.numGrpcChannels =
         configuration.getTransportStrategy().getGrpcConfiguration().getMinNumGrpcChannels();
 
     this.channels =
         IntStream.range(0, this.numGrpcChannels)
-            .mapToObj(i -> setupChannel(credentialProvider, configuration))
+            .mapToObj(i -> setupChannel(credentialProvider, configuration, runtime, i))
             .collect(Collectors.toList());
     this.futureStubs =
         channels.stream().map(LeaderboardGrpc::newFutureStub).collect(Collectors.toList());
   }
 
   private static ManagedChannel setupChannel(
-      CredentialProvider credentialProvider, LeaderboardConfiguration configuration) {
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getCacheEndpoint(), 443);
-
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
-        configuration.getTransportStrategy().getGrpcConfiguration(), channelBuilder);
-
+      CredentialProvider credentialProvider,
+      LeaderboardConfiguration configuration,
+      @Nullable MomentoRuntime runtime,
+      int slot) {
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(
         new UserHeaderInterceptor(credentialProvider.getAuthToken(), "leaderboard"));
-    channelBuilder.intercept(clientInterceptors);
 
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getCacheEndpoint(),
+        443,
+        true,
+        configuration.getTransportStrategy().getGrpcConfiguration(),
+        clientInterceptors,
+        "unary",
+        slot);
   }
 
   /**
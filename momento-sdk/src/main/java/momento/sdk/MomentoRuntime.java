@@ -0,0 +1,249 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.transport.IGrpcConfiguration;
+import momento.sdk.exceptions.InvalidArgumentException;
+import momento.sdk.internal.GrpcChannelOptions;
+import momento.sdk.internal.NettyResources;
+
+/**
+ * Resources shared by the Momento clients of a process: the Netty event loops that carry their
+ * connections and send retries, a scheduler for timers, and the connections themselves.
+ *
+ * <p>Without a runtime, each client creates its own connections, scheduler and executors. Clients
+ * built with the same runtime instead share them: channels to the same endpoint with the same
+ * transport settings are opened once and used by every client, each with its own credentials and
+ * middleware. A client of each kind used together therefore needs one set of connections and
+ * threads rather than one per client. Pools that budget the streams or calls of each channel for
+ * themselves, such as those of topic subscriptions or an elastic channel pool, keep channels of
+ * their own on the shared event loops, since another client's calls on a shared channel would not
+ * count against that budget.
+ *
+ * <p>The runtime must outlive the clients built with it. Close the clients first, then the
+ * runtime.
+ */
+public final class MomentoRuntime implements AutoCloseable {
+
+  private final EventLoopGroup eventLoopGroup;
+  private final ScheduledExecutorService scheduler;
+
+  // The channels in use by at least one client, by endpoint, transport settings and pool slot.
+  private final Map<String, SharedChannel> channels = new HashMap<>();
+  private boolean closed;
+
+  /** Creates a runtime with one event loop thread per available processor. */
+  public MomentoRuntime() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a runtime.
+   *
+   * @param eventLoopThreads The number of threads that carry the network I/O of every client.
+   */
+  public MomentoRuntime(int eventLoopThreads) {
+    this(eventLoopThreads, false);
+  }
+
+  /**
+   * Creates a runtime.
+   *
+   * @param eventLoopThreads The number of threads that carry the network I/O of every client.
+   * @param nativeTransport Whether to use the native epoll transport where it is available. Other
+   *     platforms fall back to NIO.
+   */
+  public MomentoRuntime(int eventLoopThreads, boolean nativeTransport) {
+    if (eventLoopThreads <= 0) {
+      throw new InvalidArgumentException("Event loop threads must be positive");
+    }
+    this.eventLoopGroup =
+        NettyResources.newEventLoopGroup(
+            NettyResources.useNativeTransport(nativeTransport),
+            eventLoopThreads,
+            new ThreadFactoryBuilder()
+                .setNameFormat("momento-event-loop-%d")
+                .setDaemon(true)
+                .build());
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("momento-scheduler-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Builds a channel with the given interceptors. It is shared through the runtime if there is one,
+   * and is a channel of its own otherwise.
+   *
+   * @param runtime The runtime of the client, or null.
+   * @param host The endpoint to connect to.
+   * @param port The port to connect to.
+   * @param isSecure Whether to use TLS.
+   * @param grpcConfiguration The transport settings of the channel.
+   * @param interceptors The interceptors of the client using the channel.
+   * @param poolName The pool the channel is part of, or null if the channel must not be shared.
+   *     Channels are only shared between pools of the same name, so that, for example, long-lived
+   *     streams are not mixed with unary requests.
+   * @param slot The position of the channel in its pool. The channel is shared with the channel at
+   *     the same position in the pools of other clients, so clients with several channels still
+   *     spread their requests over as many connections.
+   * @return the channel.
+   */
+  static ManagedChannel newChannel(
+      @Nullable MomentoRuntime runtime,
+      String host,
+      int port,
+      boolean isSecure,
+      IGrpcConfiguration grpcConfiguration,
+      List<ClientInterceptor> interceptors,
+      @Nullable String poolName,
+      int slot) {
+    final NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress(host, port);
+
+    // set additional channel options (message size, keepalive, auth, etc)
+    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
+        grpcConfiguration, channelBuilder, isSecure);
+
+    if (runtime == null) {
+      channelBuilder.intercept(interceptors);
+      return channelBuilder.build();
+    }
+    if (poolName == null) {
+      return runtime.newUnsharedChannel(channelBuilder, interceptors);
+    }
+    final String key =
+        String.join(
+            "|",
+            host,
+            String.valueOf(port),
+            String.valueOf(isSecure),
+            String.valueOf(grpcConfiguration.getMaxReceivedMessageSize().orElse(null)),
+            String.valueOf(grpcConfiguration.getKeepAliveTime().orElse(null)),
+            String.valueOf(grpcConfiguration.getKeepAliveTimeout().orElse(null)),
+            String.valueOf(grpcConfiguration.getKeepAliveWithoutCalls().orElse(null)),
+            grpcConfiguration
+                .getNettyTransport()
+                .map(
+                    t ->
+                        t.getAllocator()
+                            + ","
+                            + t.getWriteBufferLowWaterMark().orElse(null)
+                            + ","
+                            + t.getWriteBufferHighWaterMark().orElse(null)
+                            + ","
+                            + t.getFlowControlWindow().orElse(null))
+                .orElse("default"),
+            poolName,
+            String.valueOf(slot));
+    return runtime.acquire(key, channelBuilder, interceptors);
+  }
+
+  private synchronized ManagedChannel newUnsharedChannel(
+      NettyChannelBuilder channelBuilder, List<ClientInterceptor> interceptors) {
+    if (closed) {
+      throw new IllegalStateException("The Momento runtime is closed");
+    }
+    NettyResources.useEventLoopGroup(channelBuilder, eventLoopGroup);
+    channelBuilder.intercept(interceptors);
+    return channelBuilder.build();
+  }
+
+  private synchronized ManagedChannel acquire(
+      String key, NettyChannelBuilder channelBuilder, List<ClientInterceptor> interceptors) {
+    if (closed) {
+      throw new IllegalStateException("The Momento runtime is closed");
+    }
+    final SharedChannel shared =
+        channels.computeIfAbsent(
+            key,
+            k -> {
+              // The event loops of the runtime replace those of the transport settings.
+              NettyResources.useEventLoopGroup(channelBuilder, eventLoopGroup);
+              return new SharedChannel(channelBuilder.build());
+            });
+    shared.references++;
+    return new SharedManagedChannel(
+        shared.channel,
+        ClientInterceptors.intercept(shared.channel, interceptors),
+        shutdownNow -> release(key, shared, shutdownNow));
+  }
+
+  /**
+   * Gives back a channel taken with {@link #newChannel}. The channel is shut down once no client
+   * uses it.
+   *
+   * @return whether the channel was shut down.
+   */
+  private synchronized boolean release(String key, SharedChannel shared, boolean shutdownNow) {
+    if (--shared.references > 0) {
+      return false;
+    }
+    channels.remove(key, shared);
+    if (shutdownNow) {
+      shared.channel.shutdownNow();
+    } else {
+      shared.channel.shutdown();
+    }
+    return true;
+  }
+
+  /**
+   * The scheduler shared by the clients, for timers. Tasks scheduled on it must be short, and
+   * clients cancel their pending tasks when they close rather than shutting it down.
+   *
+   * @return the scheduler.
+   */
+  ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  /**
+   * The event loops shared by the clients, which also delay and send their retries. Starting a
+   * retry only hands it to gRPC, so it does not hold up the I/O of the event loop.
+   *
+   * @return the event loop group.
+   */
+  EventLoopGroup getEventLoopGroup() {
+    return eventLoopGroup;
+  }
+
+  /**
+   * Shuts down the shared resources. Channels still used by clients that were not closed are shut
+   * down with them.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      for (SharedChannel shared : channels.values()) {
+        shared.channel.shutdownNow();
+      }
+      channels.clear();
+    }
+    scheduler.shutdown();
+    eventLoopGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+  }
+
+  private static final class SharedChannel {
+    private final ManagedChannel channel;
+    private int references;
+
+    private SharedChannel(@Nonnull ManagedChannel channel) {
+      this.channel = channel;
+    }
+  }
+}
@@ -0,0 +1,253 @@
+package momento.sdk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.NearCacheConfiguration;
+import momento.sdk.responses.cache.GetResponse;
+
+/**
+ * A bounded, in-process cache of scalar values that sits in front of {@link ScsDataClient} reads.
+ *
+ * <p>Entries are evicted when the configured size is exceeded or once they have been held for the
+ * near cache ttl, whichever comes first. An entry written through this client also never outlives
+ * the item ttl it was written with.
+ *
+ * <p>Reads race with writes: a get that was sent before a set or delete may complete after it and
+ * would otherwise re-populate the near cache with the old value. To prevent that, every write bumps
+ * a version counter for the key's stripe, and a read only populates the near cache if no write to
+ * its stripe happened while the read was in flight.
+ *
+ * <p>Sets race with each other the same way: two sets in flight may complete in the opposite order
+ * the server applied them. A set therefore captures the stripe version when it is sent, and only
+ * writes its value through if no other write to the stripe happened meanwhile. Otherwise it drops
+ * the entry, and the next read fetches whichever value the server holds.
+ */
+final class NearCache {
+
+  private static final int NUM_VERSION_STRIPES = 64;
+
+  private final long ttlNanos;
+  private final Cache<Key, Entry> entries;
+  private final AtomicLongArray stripeVersions = new AtomicLongArray(NUM_VERSION_STRIPES);
+  // Makes checking a stripe version and updating the entries of the stripe atomic.
+  private final Object[] stripeLocks = new Object[NUM_VERSION_STRIPES];
+
+  NearCache(@Nonnull NearCacheConfiguration configuration) {
+    this.ttlNanos = configuration.getTtl().toNanos();
+    this.entries =
+        CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaxEntries())
+            .expireAfterWrite(ttlNanos, TimeUnit.NANOSECONDS)
+            .build();
+    for (int i = 0; i < NUM_VERSION_STRIPES; i++) {
+      stripeLocks[i] = new Object();
+    }
+  }
+
+  /**
+   * Looks up a value.
+   *
+   * @param cacheName The cache the key belongs to.
+   * @param key The key to look up.
+   * @return the cached hit, or null if there is no unexpired entry for the key.
+   */
+  @Nullable
+  GetResponse.Hit get(@Nonnull String cacheName, @Nonnull ByteString key) {
+    final Key cacheKey = new Key(cacheName, key);
+    final Entry entry = entries.getIfPresent(cacheKey);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      entries.asMap().remove(cacheKey, entry);
+      return null;
+    }
+    return entry.hit;
+  }
+
+  /**
+   * Returns the current version of the stripe a key belongs to. A read must capture this before it
+   * is sent and hand it back to {@link #populate} once it completes.
+   *
+   * @param key The key about to be read.
+   * @return the stripe version.
+   */
+  long readVersion(@Nonnull ByteString key) {
+    return stripeVersions.get(stripe(key));
+  }
+
+  /**
+   * Stores the result of a read, unless a write to the same stripe happened while it was in flight.
+   *
+   * @param cacheName The cache the key belongs to.
+   * @param key The key that was read.
+   * @param response The response of the read. Only hits are stored.
+   * @param readVersion The stripe version captured before the read was sent.
+   */
+  void populate(
+      @Nonnull String cacheName,
+      @Nonnull ByteString key,
+      @Nonnull GetResponse response,
+      long readVersion) {
+    if (!(response instanceof GetResponse.Hit)) {
+      return;
+    }
+    final int stripe = stripe(key);
+    synchronized (stripeLocks[stripe]) {
+      if (stripeVersions.get(stripe) != readVersion) {
+        return;
+      }
+      entries.put(
+          new Key(cacheName, key),
+          new Entry((GetResponse.Hit) response, System.nanoTime() + ttlNanos));
+    }
+  }
+
+  /**
+   * Drops any entry for a key that is about to be set, and returns the version the set must hand
+   * back to {@link #put} once it completes.
+   *
+   * @param cacheName The cache the key belongs to.
+   * @param key The key about to be set.
+   * @return the stripe version of the set.
+   */
+  long startWrite(@Nonnull String cacheName, @Nonnull ByteString key) {
+    final int stripe = stripe(key);
+    synchronized (stripeLocks[stripe]) {
+      entries.invalidate(new Key(cacheName, key));
+      return stripeVersions.incrementAndGet(stripe);
+    }
+  }
+
+  /**
+   * Stores a value that was successfully written through this client, unless another write to the
+   * same stripe happened while the set was in flight, in which case the entry is dropped instead.
+   *
+   * @param cacheName The cache the key belongs to.
+   * @param key The key that was written.
+   * @param value The value that was written.
+   * @param itemTtl The ttl the item was written with.
+   * @param writeVersion The stripe version returned by {@link #startWrite} when the set was sent.
+   */
+  void put(
+      @Nonnull String cacheName,
+      @Nonnull ByteString key,
+      @Nonnull ByteString value,
+      @Nonnull Duration itemTtl,
+      long writeVersion) {
+    final int stripe = stripe(key);
+    final Key cacheKey = new Key(cacheName, key);
+    synchronized (stripeLocks[stripe]) {
+      // Either way, reads that were in flight alongside the set must not populate the entry.
+      final boolean latestWrite = stripeVersions.getAndIncrement(stripe) == writeVersion;
+      if (!latestWrite) {
+        entries.invalidate(cacheKey);
+        return;
+      }
+      final long expiresAt = System.nanoTime() + Math.min(ttlNanos, saturatedNanos(itemTtl));
+      entries.put(cacheKey, new Entry(new GetResponse.Hit(value), expiresAt));
+    }
+  }
+
+  /**
+   * Drops any entry for a key that is about to be, or has been, modified.
+   *
+   * @param cacheName The cache the key belongs to.
+   * @param key The modified key.
+   */
+  void invalidate(@Nonnull String cacheName, @Nonnull ByteString key) {
+    final int stripe = stripe(key);
+    synchronized (stripeLocks[stripe]) {
+      stripeVersions.incrementAndGet(stripe);
+      entries.invalidate(new Key(cacheName, key));
+    }
+  }
+
+  /**
+   * Drops every entry belonging to a cache, e.g. after it was flushed or deleted.
+   *
+   * @param cacheName The cache whose entries should be dropped.
+   */
+  void invalidateAll(@Nonnull String cacheName) {
+    for (int i = 0; i < NUM_VERSION_STRIPES; i++) {
+      stripeVersions.incrementAndGet(i);
+    }
+    entries.asMap().keySet().removeIf(key -> key.cacheName.equals(cacheName));
+  }
+
+  /**
+   * The number of entries currently held, including entries that expired but were not yet evicted.
+   *
+   * @return the approximate number of entries.
+   */
+  long size() {
+    return entries.size();
+  }
+
+  private static int stripe(ByteString key) {
+    return (key.hashCode() & Integer.MAX_VALUE) % NUM_VERSION_STRIPES;
+  }
+
+  private static long saturatedNanos(Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static final class Key {
+    private final String cacheName;
+    private final ByteString key;
+    private final int hash;
+
+    private Key(String cacheName, ByteString key) {
+      this.cacheName = cacheName;
+      this.key = key;
+      this.hash = 31 * cacheName.hashCode() + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return hash == other.hash && cacheName.equals(other.cacheName) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      return "Key{cacheName=" + cacheName + ", keySize=" + key.size() + "}";
+    }
+  }
+
+  private static final class Entry {
+    private final GetResponse.Hit hit;
+    private final long expiresAtNanos;
+
+    private Entry(GetResponse.Hit hit, long expiresAtNanos) {
+      this.hit = Objects.requireNonNull(hit);
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private boolean isExpired(long nowNanos) {
+      return nowNanos - expiresAtNanos >= 0;
+    }
+  }
+}
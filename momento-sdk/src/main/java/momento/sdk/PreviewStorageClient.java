@@ -2,6 +2,7 @@ package momento.sdk;
 
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.StorageConfiguration;
 import momento.sdk.responses.storage.CreateStoreResponse;
@@ -22,8 +23,15 @@ public class PreviewStorageClient implements IPreviewStorageClient, AutoCloseabl
 
   public PreviewStorageClient(
       @Nonnull CredentialProvider credentialProvider, @Nonnull StorageConfiguration configuration) {
-    this.controlClient = new StorageControlClient(credentialProvider, configuration);
-    this.dataClient = new StorageDataClient(credentialProvider, configuration);
+    this(credentialProvider, configuration, null);
+  }
+
+  PreviewStorageClient(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
+    this.controlClient = new StorageControlClient(credentialProvider, configuration, runtime);
+    this.dataClient = new StorageDataClient(credentialProvider, configuration, runtime);
   }
 
   // Control operations
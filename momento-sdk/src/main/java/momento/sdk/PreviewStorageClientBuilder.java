@@ -1,6 +1,7 @@
 package momento.sdk;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.auth.EnvVarCredentialProvider;
 import momento.sdk.config.StorageConfiguration;
@@ -13,6 +14,7 @@ public final class PreviewStorageClientBuilder {
   private final Logger logger = LoggerFactory.getLogger(PreviewStorageClient.class);
   private CredentialProvider credentialProvider;
   private StorageConfiguration configuration;
+  private @Nullable MomentoRuntime runtime;
 
   /** Creates a PreviewStorageClient builder. */
   PreviewStorageClientBuilder() {
@@ -44,6 +46,18 @@ public final class PreviewStorageClientBuilder {
     return this;
   }
 
+  /**
+   * Shares the connections, threads and executors of the given runtime with the other clients built
+   * with it, instead of creating the client's own.
+   *
+   * @param runtime The runtime to use. It must be closed after the client.
+   * @return the builder.
+   */
+  public PreviewStorageClientBuilder withRuntime(@Nonnull MomentoRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
   /**
    * Builds a PreviewStorageClient.
    *
@@ -59,6 +73,6 @@ public final class PreviewStorageClientBuilder {
           "Using the Laptop configuration for the PreviewStorageClient. This is not recommended for production use.");
     }
 
-    return new PreviewStorageClient(credentialProvider, configuration);
+    return new PreviewStorageClient(credentialProvider, configuration, runtime);
   }
 }
@@ -0,0 +1,302 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.config.RateLimitConfiguration;
+import momento.sdk.exceptions.ClientRateLimitedException;
+
+/**
+ * Limits the rate of calls to each cache, per class of operation, so that calls the service would
+ * throttle are not sent. See {@link RateLimitConfiguration}.
+ *
+ * <p>The cache of a call is read from its cache header, so calls without one, such as pings, are
+ * not limited. A call over the limit is either failed without being sent, or held back and started
+ * on the scheduler once its token is free. A single instance is shared by all channels of a client.
+ * It runs after the circuit breaker, so a call failed by the breaker takes no token, and before the
+ * retry interceptor, so a call takes one token however many attempts it takes.
+ */
+final class RateLimitInterceptor implements ClientInterceptor {
+
+  enum OperationClass {
+    READ,
+    WRITE,
+    COLLECTION
+  }
+
+  private static final Set<String> READ_METHODS =
+      new HashSet<>(Arrays.asList("Get", "GetBatch", "KeysExist", "ItemGetTtl", "ItemGetType"));
+
+  private static final Set<String> WRITE_METHODS =
+      new HashSet<>(
+          Arrays.asList(
+              "Set", "SetBatch", "SetIf", "SetIfNotExists", "Delete", "Increment", "UpdateTtl"));
+
+  // The values of the "err" trailer with which the service reports an account rate limit.
+  private static final Set<String> RATE_LIMIT_ERRORS =
+      new HashSet<>(
+          Arrays.asList("operations_rate_limit_exceeded", "throughput_rate_limit_exceeded"));
+
+  private static final Metadata.Key<String> ERROR_KEY =
+      Metadata.Key.of("err", Metadata.ASCII_STRING_MARSHALLER);
+
+  // The most buckets kept. Calls to further caches are sent without a limit.
+  private static final int MAX_LIMITERS = 4096;
+
+  private final RateLimitConfiguration configuration;
+  private final Map<OperationClass, Double> rates = new EnumMap<>(OperationClass.class);
+  private final double burstSeconds;
+  private final boolean autoTuneEnabled;
+  private final ScheduledExecutorService scheduler;
+  private final LongSupplier nanoClock;
+  private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+  RateLimitInterceptor(
+      @Nonnull RateLimitConfiguration configuration, @Nonnull ScheduledExecutorService scheduler) {
+    this(configuration, scheduler, System::nanoTime);
+  }
+
+  RateLimitInterceptor(
+      @Nonnull RateLimitConfiguration configuration,
+      @Nonnull ScheduledExecutorService scheduler,
+      LongSupplier nanoClock) {
+    this.configuration = configuration;
+    configuration.getReadsPerSecond().ifPresent(rate -> rates.put(OperationClass.READ, rate));
+    configuration.getWritesPerSecond().ifPresent(rate -> rates.put(OperationClass.WRITE, rate));
+    configuration
+        .getCollectionOperationsPerSecond()
+        .ifPresent(rate -> rates.put(OperationClass.COLLECTION, rate));
+    this.burstSeconds = configuration.getBurstDuration().toNanos() / 1e9;
+    this.autoTuneEnabled = configuration.isAutoTuneEnabled();
+    this.scheduler = scheduler;
+    this.nanoClock = nanoClock;
+  }
+
+  static OperationClass classify(String bareMethodName) {
+    if (READ_METHODS.contains(bareMethodName)) {
+      return OperationClass.READ;
+    }
+    if (WRITE_METHODS.contains(bareMethodName)) {
+      return OperationClass.WRITE;
+    }
+    return OperationClass.COLLECTION;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+    return new RateLimitedCall<>(next.newCall(method, callOptions), method, callOptions);
+  }
+
+  @Nullable
+  private RateLimiter limiterFor(String cacheName, String bareMethodName) {
+    final OperationClass operationClass = classify(bareMethodName);
+    final Double rate = rates.get(operationClass);
+    if (rate == null) {
+      return null;
+    }
+    final String key = cacheName + '/' + operationClass;
+    final RateLimiter limiter = limiters.get(key);
+    if (limiter != null || limiters.size() >= MAX_LIMITERS) {
+      return limiter;
+    }
+    return limiters.computeIfAbsent(
+        key, k -> new RateLimiter(rate, burstSeconds, autoTuneEnabled, nanoClock));
+  }
+
+  private long maxWaitNanos(CallOptions callOptions) {
+    if (configuration.getOverflowAction() == RateLimitConfiguration.OverflowAction.REJECT) {
+      return 0;
+    }
+    final long maxQueueNanos = configuration.getMaxQueueDelay().toNanos();
+    final Deadline deadline = callOptions.getDeadline();
+    return deadline == null
+        ? maxQueueNanos
+        : Math.min(maxQueueNanos, deadline.timeRemaining(TimeUnit.NANOSECONDS));
+  }
+
+  private static boolean isThrottled(Status status, Metadata trailers) {
+    if (status.getCode() != Status.Code.RESOURCE_EXHAUSTED) {
+      return false;
+    }
+    final String error = trailers.get(ERROR_KEY);
+    return error != null && RATE_LIMIT_ERRORS.contains(error);
+  }
+
+  /**
+   * A call that is started right away if its bucket has a token, and otherwise held back until it
+   * has. While it is held back, the calls made on it are recorded and replayed in order once it is
+   * started.
+   */
+  private final class RateLimitedCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+    private final ClientCall<ReqT, RespT> delegate;
+    private final MethodDescriptor<ReqT, RespT> method;
+    private final CallOptions callOptions;
+
+    // The calls to replay once the call is started, or null once it has been.
+    @Nullable private List<Runnable> pending;
+    private boolean rejected;
+    @Nullable private volatile ScheduledFuture<?> startTask;
+
+    private RateLimitedCall(
+        ClientCall<ReqT, RespT> delegate,
+        MethodDescriptor<ReqT, RespT> method,
+        CallOptions callOptions) {
+      this.delegate = delegate;
+      this.method = method;
+      this.callOptions = callOptions;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      final String cacheName = headers.get(ScsClientBase.CACHE_NAME_KEY);
+      final RateLimiter limiter =
+          cacheName == null ? null : limiterFor(cacheName, method.getBareMethodName());
+      if (limiter == null) {
+        delegate.start(responseListener, headers);
+        return;
+      }
+
+      final long waitNanos = limiter.acquire(maxWaitNanos(callOptions));
+      if (waitNanos < 0) {
+        reject(responseListener, cacheName);
+        return;
+      }
+
+      final Listener<RespT> listener =
+          new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+              responseListener) {
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+              if (status.isOk()) {
+                limiter.onSuccess();
+              } else if (isThrottled(status, trailers)) {
+                limiter.onThrottled();
+              }
+              super.onClose(status, trailers);
+            }
+          };
+      if (waitNanos == 0) {
+        delegate.start(listener, headers);
+        return;
+      }
+
+      synchronized (this) {
+        pending = new ArrayList<>();
+        pending.add(() -> delegate.start(listener, headers));
+      }
+      try {
+        startTask = scheduler.schedule(this::drain, waitNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        synchronized (this) {
+          pending = null;
+        }
+        reject(responseListener, cacheName);
+      }
+    }
+
+    @Override
+    public void request(int numMessages) {
+      whenStarted(() -> delegate.request(numMessages));
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      whenStarted(() -> delegate.sendMessage(message));
+    }
+
+    @Override
+    public void halfClose() {
+      whenStarted(delegate::halfClose);
+    }
+
+    @Override
+    public void setMessageCompression(boolean enabled) {
+      whenStarted(() -> delegate.setMessageCompression(enabled));
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+      whenStarted(() -> delegate.cancel(message, cause));
+      // A call cancelled while held back is started right away, so its listener hears of it.
+      final ScheduledFuture<?> task = startTask;
+      if (task != null && task.cancel(false)) {
+        drain();
+      }
+    }
+
+    @Override
+    public boolean isReady() {
+      synchronized (this) {
+        if (pending != null || rejected) {
+          return false;
+        }
+      }
+      return delegate.isReady();
+    }
+
+    private void reject(Listener<RespT> responseListener, String cacheName) {
+      synchronized (this) {
+        rejected = true;
+      }
+      responseListener.onClose(
+          Status.RESOURCE_EXHAUSTED
+              .withDescription("Client-side rate limit exceeded")
+              .withCause(new ClientRateLimitedException(cacheName, method.getBareMethodName())),
+          new Metadata());
+    }
+
+    private void whenStarted(Runnable action) {
+      synchronized (this) {
+        // A call failed by the limiter was never started, so the rest of its calls are dropped.
+        if (rejected) {
+          return;
+        }
+        if (pending != null) {
+          pending.add(action);
+          return;
+        }
+      }
+      action.run();
+    }
+
+    // Replays the recorded calls. Calls made meanwhile are recorded and replayed after them.
+    private void drain() {
+      while (true) {
+        final List<Runnable> actions;
+        synchronized (this) {
+          if (pending == null || pending.isEmpty()) {
+            pending = null;
+            return;
+          }
+          actions = pending;
+          pending = new ArrayList<>();
+        }
+        for (Runnable action : actions) {
+          action.run();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package momento.sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket that limits the rate of one class of operation on one cache. See {@link
+ * momento.sdk.config.RateLimitConfiguration}.
+ *
+ * <p>A request takes a token before it is sent. When the bucket is empty, a request may reserve a
+ * token that has not been refilled yet, and is then sent once it has. The bucket goes into debt
+ * for reserved tokens, so later requests wait behind earlier ones.
+ *
+ * <p>With auto-tuning, a throttled request lowers the rate by {@link #BACKOFF_RATIO}, at most once
+ * per {@link #BACKOFF_INTERVAL_NANOS} since the requests sent before the backoff are still being
+ * throttled. Each successful request raises it by {@link #RECOVERY_STEP} requests per second, i.e.
+ * a few percent per second while the bucket is in use, up to the configured rate.
+ */
+final class RateLimiter {
+
+  static final double BACKOFF_RATIO = 0.8;
+  static final long BACKOFF_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  static final double RECOVERY_STEP = 0.05;
+  // An auto-tuned rate does not drop below this fraction of the configured rate.
+  static final double MIN_RATE_RATIO = 0.1;
+
+  private final double maxRate;
+  private final double burstSeconds;
+  private final boolean autoTuneEnabled;
+  private final LongSupplier nanoClock;
+
+  private double rate;
+  private double tokens;
+  private long refilledAtNanos;
+  private long backedOffAtNanos;
+  private boolean backedOff;
+
+  RateLimiter(
+      double permitsPerSecond,
+      double burstSeconds,
+      boolean autoTuneEnabled,
+      LongSupplier nanoClock) {
+    this.maxRate = permitsPerSecond;
+    this.burstSeconds = burstSeconds;
+    this.autoTuneEnabled = autoTuneEnabled;
+    this.nanoClock = nanoClock;
+    this.rate = permitsPerSecond;
+    this.tokens = capacity();
+    this.refilledAtNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Takes a token, or reserves the next free one.
+   *
+   * @param maxWaitNanos The longest time the request may wait for a token.
+   * @return the nanoseconds to wait before sending the request, 0 to send it right away, or -1 if
+   *     it would have to wait longer than allowed and must be rejected.
+   */
+  synchronized long acquire(long maxWaitNanos) {
+    refill(nanoClock.getAsLong());
+    if (tokens >= 1) {
+      tokens--;
+      return 0;
+    }
+    final long waitNanos = (long) Math.ceil((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+    if (waitNanos > maxWaitNanos) {
+      return -1;
+    }
+    tokens--;
+    return waitNanos;
+  }
+
+  /** Reports that the service throttled a request sent with a token from this bucket. */
+  synchronized void onThrottled() {
+    if (!autoTuneEnabled) {
+      return;
+    }
+    final long now = nanoClock.getAsLong();
+    if (backedOff && now - backedOffAtNanos < BACKOFF_INTERVAL_NANOS) {
+      return;
+    }
+    refill(now);
+    backedOff = true;
+    backedOffAtNanos = now;
+    rate = Math.max(maxRate * MIN_RATE_RATIO, rate * BACKOFF_RATIO);
+    tokens = Math.min(tokens, capacity());
+  }
+
+  /** Reports that a request sent with a token from this bucket succeeded. */
+  synchronized void onSuccess() {
+    if (autoTuneEnabled && rate < maxRate) {
+      refill(nanoClock.getAsLong());
+      rate = Math.min(maxRate, rate + RECOVERY_STEP);
+    }
+  }
+
+  /**
+   * The current rate.
+   *
+   * @return the permits per second.
+   */
+  synchronized double getRate() {
+    return rate;
+  }
+
+  private double capacity() {
+    return Math.max(1, rate * burstSeconds);
+  }
+
+  private void refill(long now) {
+    final double elapsedSeconds = (now - refilledAtNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    tokens = Math.min(capacity(), tokens + elapsedSeconds * rate);
+    refilledAtNanos = now;
+  }
+}
@@ -0,0 +1,30 @@
+package momento.sdk;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import org.reactivestreams.Publisher;
+
+/** Adapts the asynchronous operations of the Momento clients to Reactive Streams. */
+public final class ReactivePublishers {
+
+  private ReactivePublishers() {}
+
+  /**
+   * Creates a cold publisher of the response of an operation, such as {@code () ->
+   * leaderboard.fetchByRank(0, 10, null)}. The operation is started separately for each
+   * subscriber, when it first requests the response, and cancelling the subscription cancels the
+   * operation's future.
+   *
+   * <p>On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts the publisher to a
+   * {@code java.util.concurrent.Flow.Publisher}.
+   *
+   * @param operation Starts the operation.
+   * @param <T> The type of the response.
+   * @return a publisher of the response.
+   */
+  public static <T> Publisher<T> fromFuture(@Nonnull Supplier<CompletableFuture<T>> operation) {
+    return new FuturePublisher<>(Objects.requireNonNull(operation, "operation"));
+  }
+}
@@ -0,0 +1,142 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Collapses concurrent identical read requests into a single RPC.
+ *
+ * <p>The first caller for a given request becomes the leader and sends it; callers that arrive
+ * while it is in flight share its result instead of sending their own. Once the request completes
+ * it is forgotten, so a later caller always triggers a fresh request and never observes a result
+ * that was produced before it called.
+ *
+ * <p>A read must also not share a request sent before a write to the same item completed, or a
+ * caller could miss its own write. Each item hashes to a write epoch that is bumped whenever a
+ * write to one of the items completes, and reads only share requests sent in the same epoch. Items
+ * share epochs, so a write may stop unrelated reads from being coalesced for a moment, but never
+ * the other way round.
+ *
+ * <p>Every caller gets its own dependent future, so cancelling one caller's future does not affect
+ * the others, nor the shared RPC.
+ */
+final class RequestCoalescer {
+
+  private static final int EPOCH_STRIPES = 256;
+
+  private final ConcurrentHashMap<Key, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLongArray writeEpochs = new AtomicLongArray(EPOCH_STRIPES);
+
+  /**
+   * Sends the request, or joins an identical request that is already in flight.
+   *
+   * @param send Sends the request. Only invoked by the leader.
+   * @param cacheName The cache the request reads from.
+   * @param itemName The item the request reads.
+   * @param keyParts Everything else that identifies the request, e.g. the operation and its
+   *     arguments. Parts must implement value equality.
+   * @param <R> The response type.
+   * @return a future that completes with the shared response.
+   */
+  @SuppressWarnings("unchecked")
+  <R> CompletableFuture<R> coalesce(
+      @Nonnull Supplier<CompletableFuture<R>> send,
+      @Nonnull String cacheName,
+      @Nonnull ByteString itemName,
+      @Nonnull Object... keyParts) {
+    final long epoch = writeEpochs.get(stripe(cacheName, itemName));
+    final Key key = new Key(cacheName, itemName, epoch, keyParts);
+    final CompletableFuture<R> leader = new CompletableFuture<>();
+
+    final CompletableFuture<?> existing = inFlight.putIfAbsent(key, leader);
+    if (existing != null) {
+      return ((CompletableFuture<R>) existing).thenApply(Function.identity());
+    }
+
+    try {
+      send.get()
+          .whenComplete(
+              (rsp, e) -> {
+                // Stop accepting followers before completing, so that anyone who arrives from now
+                // on sends a new request.
+                inFlight.remove(key, leader);
+                if (e != null) {
+                  leader.completeExceptionally(e);
+                } else {
+                  leader.complete(rsp);
+                }
+              });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, leader);
+      leader.completeExceptionally(e);
+    }
+    return leader.thenApply(Function.identity());
+  }
+
+  /**
+   * Records that a write to an item has completed, so that reads sent from now on do not share a
+   * request sent before it. Must be called before the write's caller can observe its completion.
+   *
+   * @param cacheName The cache that was written to.
+   * @param itemName The item that was written.
+   */
+  void onWriteCompleted(@Nonnull String cacheName, @Nonnull ByteString itemName) {
+    writeEpochs.incrementAndGet(stripe(cacheName, itemName));
+  }
+
+  /**
+   * The number of distinct requests currently in flight.
+   *
+   * @return the number of in-flight requests.
+   */
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private static int stripe(String cacheName, ByteString itemName) {
+    return Math.floorMod(31 * cacheName.hashCode() + itemName.hashCode(), EPOCH_STRIPES);
+  }
+
+  private static final class Key {
+    private final String cacheName;
+    private final ByteString itemName;
+    private final long epoch;
+    private final Object[] parts;
+    private final int hash;
+
+    private Key(String cacheName, ByteString itemName, long epoch, Object[] parts) {
+      this.cacheName = cacheName;
+      this.itemName = itemName;
+      this.epoch = epoch;
+      this.parts = parts;
+      this.hash = 31 * (31 * cacheName.hashCode() + itemName.hashCode()) + Arrays.hashCode(parts);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) o;
+      return hash == other.hash
+          && epoch == other.epoch
+          && cacheName.equals(other.cacheName)
+          && itemName.equals(other.itemName)
+          && Arrays.equals(parts, other.parts);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package momento.sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import momento.sdk.config.RetryBudgetConfiguration;
+
+/**
+ * The retries a client may still send, shared by all of its channels. See {@link
+ * RetryBudgetConfiguration}.
+ *
+ * <p>The balance is kept in thousandths of a retry, so that every request updates it with a
+ * compare-and-set rather than taking a lock.
+ */
+final class RetryBudget {
+
+  private static final long THOUSANDTHS_PER_RETRY = 1000;
+
+  private final long retryRatioThousandths;
+  private final double minThousandthsPerNano;
+  private final long maxBalanceThousandths;
+  private final LongSupplier nanoClock;
+
+  private final AtomicLong balanceThousandths;
+  // The time up to which the minimum rate has been added to the balance.
+  private final AtomicLong lastRefillNanos;
+  private final AtomicLong rejectedRetries = new AtomicLong();
+
+  RetryBudget(RetryBudgetConfiguration configuration) {
+    this(configuration, System::nanoTime);
+  }
+
+  RetryBudget(RetryBudgetConfiguration configuration, LongSupplier nanoClock) {
+    this.retryRatioThousandths = Math.round(configuration.getRetryRatio() * THOUSANDTHS_PER_RETRY);
+    this.minThousandthsPerNano =
+        configuration.getMinRetriesPerSecond()
+            * THOUSANDTHS_PER_RETRY
+            / TimeUnit.SECONDS.toNanos(1);
+    this.maxBalanceThousandths = configuration.getMaxSavedRetries() * THOUSANDTHS_PER_RETRY;
+    this.nanoClock = nanoClock;
+    // Start with a second of the minimum rate, so that a new client can retry before it has had
+    // any success.
+    this.balanceThousandths =
+        new AtomicLong(
+            Math.min(
+                maxBalanceThousandths,
+                Math.round(configuration.getMinRetriesPerSecond() * THOUSANDTHS_PER_RETRY)));
+    this.lastRefillNanos = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  /** Adds the retries a successful request pays for. */
+  void onSuccess() {
+    refill();
+    add(retryRatioThousandths);
+  }
+
+  /**
+   * Takes a retry from the budget.
+   *
+   * @return whether the retry is allowed.
+   */
+  boolean tryRetry() {
+    refill();
+    long balance;
+    do {
+      balance = balanceThousandths.get();
+      if (balance < THOUSANDTHS_PER_RETRY) {
+        rejectedRetries.incrementAndGet();
+        return false;
+      }
+    } while (!balanceThousandths.compareAndSet(balance, balance - THOUSANDTHS_PER_RETRY));
+    return true;
+  }
+
+  /** Gives back a retry taken with {@link #tryRetry()} that was not sent after all. */
+  void refund() {
+    add(THOUSANDTHS_PER_RETRY);
+  }
+
+  /**
+   * The number of retries the budget did not allow.
+   *
+   * @return the number of rejected retries.
+   */
+  long rejectedRetryCount() {
+    return rejectedRetries.get();
+  }
+
+  private void add(long thousandths) {
+    if (thousandths == 0) {
+      return;
+    }
+    long balance;
+    long updated;
+    do {
+      balance = balanceThousandths.get();
+      if (balance >= maxBalanceThousandths) {
+        return;
+      }
+      updated = Math.min(maxBalanceThousandths, balance + thousandths);
+    } while (!balanceThousandths.compareAndSet(balance, updated));
+  }
+
+  private void refill() {
+    final long last = lastRefillNanos.get();
+    final long thousandths = (long) ((nanoClock.getAsLong() - last) * minThousandthsPerNano);
+    if (thousandths <= 0) {
+      return;
+    }
+    // Only the time the whole thousandths pay for is used up, so that frequent refills do not
+    // lose the remainder. Whichever caller moves the refill time forward adds them.
+    final long usedNanos = (long) (thousandths / minThousandthsPerNano);
+    if (lastRefillNanos.compareAndSet(last, last + usedNanos)) {
+      add(thousandths);
+    }
+  }
+}
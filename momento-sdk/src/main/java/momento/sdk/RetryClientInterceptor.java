@@ -12,9 +12,6 @@ import io.grpc.MethodDescriptor;
 import io.grpc.Status;
 import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import momento.sdk.retry.RetryEligibilityStrategy;
@@ -55,18 +52,22 @@ import org.slf4j.LoggerFactory;
  */
 final class RetryClientInterceptor implements ClientInterceptor {
 
+  /** The number of the retry a call is, set on the options of every retried call. */
+  static final CallOptions.Key<Integer> RETRY_ATTEMPT = CallOptions.Key.create("retry-attempt");
+
   private final RetryStrategy retryStrategy;
-  private final ScheduledExecutorService scheduler;
-  private final ExecutorService executor;
+  private final RetryScheduler retryScheduler;
+  // The budget shared by the channels of the client, or null if only the strategy limits retries.
+  private final @Nullable RetryBudget retryBudget;
   private final Logger logger = LoggerFactory.getLogger(RetryClientInterceptor.class);
 
   public RetryClientInterceptor(
       final RetryStrategy retryStrategy,
-      final ScheduledExecutorService scheduler,
-      final ExecutorService executor) {
+      final RetryScheduler retryScheduler,
+      @Nullable final RetryBudget retryBudget) {
     this.retryStrategy = retryStrategy;
-    this.scheduler = scheduler;
-    this.executor = executor;
+    this.retryScheduler = retryScheduler;
+    this.retryBudget = retryBudget;
   }
 
   @Override
@@ -81,7 +82,7 @@ final class RetryClientInterceptor implements ClientInterceptor {
 
     return new RetryingClientCall<ReqT, RespT>(channel.newCall(method, callOptions)) {
       private int attemptNumber = 0;
-      @Nullable private Future<?> future = null;
+      @Nullable private RetryScheduler.ScheduledRetry scheduledRetry = null;
       private final Deadline overallDeadline = callOptions.getDeadline();
 
       @Override
@@ -89,6 +90,8 @@ final class RetryClientInterceptor implements ClientInterceptor {
         super.start(
             new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
                 responseListener) {
+              private boolean receivedMessage = false;
+
               /**
                * At this point, the ClientCall has been closed. Any additional calls to the
                * ClientCall will not be processed by the server. The server does not send any
@@ -111,6 +114,16 @@ final class RetryClientInterceptor implements ClientInterceptor {
                 // anything other than an OK status means it's an erroneous situation.
                 // OK indicates the gRPC call completed successfully and hence we return
                 if (status.isOk()) {
+                  if (retryBudget != null) {
+                    retryBudget.onSuccess();
+                  }
+                  super.onClose(status, trailers);
+                  return;
+                }
+
+                // Responses of a streaming call are handed to the caller as they arrive. Once any
+                // were delivered, a retry would deliver them a second time.
+                if (receivedMessage) {
                   super.onClose(status, trailers);
                   return;
                 }
@@ -134,6 +147,16 @@ final class RetryClientInterceptor implements ClientInterceptor {
                   return;
                 }
 
+                // the client as a whole may have run out of retries even if this call has not
+                if (retryBudget != null && !retryBudget.tryRetry()) {
+                  logger.debug(
+                      "Not retrying request {} on error code {}: the retry budget is exhausted",
+                      method.getFullMethodName(),
+                      status.getCode().toString());
+                  super.onClose(status, trailers);
+                  return;
+                }
+
                 logger.debug(
                     "Retrying request {} on error code {} with delay {} milliseconds",
                     method.getFullMethodName(),
@@ -166,21 +189,30 @@ final class RetryClientInterceptor implements ClientInterceptor {
                                           aLong ->
                                               callOptions.withDeadlineAfter(
                                                   aLong, TimeUnit.MILLISECONDS))
-                                      .orElse(callOptions);
+                                      .orElse(callOptions)
+                                      .withOption(RETRY_ATTEMPT, attemptNumber);
 
                               retry(channel.newCall(method, retryCallOptions));
                             });
 
-                // schedule the task to be executed on the executor
-                future =
-                    scheduler.schedule(
-                        () -> executor.submit(runnable),
-                        retryDelay.get().toMillis(),
-                        TimeUnit.MILLISECONDS);
+                // the retry is sent from the thread its delay expires on
+                scheduledRetry = retryScheduler.schedule(runnable, retryDelay.get().toMillis());
+                if (scheduledRetry == null) {
+                  logger.debug(
+                      "Not retrying request {} on error code {}: too many retries are pending",
+                      method.getFullMethodName(),
+                      status.getCode().toString());
+                  // the retry was never sent, so it should not count against the budget
+                  if (retryBudget != null) {
+                    retryBudget.refund();
+                  }
+                  super.onClose(status, trailers);
+                }
               }
 
               @Override
               public void onMessage(RespT message) {
+                receivedMessage = true;
                 super.onMessage(message);
               }
             },
@@ -194,8 +226,10 @@ final class RetryClientInterceptor implements ClientInterceptor {
       }
 
       private void cancelAttempt() {
-        if (future != null) {
-          future.cancel(true);
+        // a retry cancelled while it waits for its delay was never sent, so it should not count
+        // against the budget
+        if (scheduledRetry != null && scheduledRetry.cancel() && retryBudget != null) {
+          retryBudget.refund();
         }
       }
     };
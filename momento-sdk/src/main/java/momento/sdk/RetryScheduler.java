@@ -0,0 +1,177 @@
+package momento.sdk;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.netty.shaded.io.netty.util.HashedWheelTimer;
+import io.grpc.netty.shaded.io.netty.util.Timeout;
+import io.grpc.netty.shaded.io.netty.util.Timer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delays the retries of failed requests, and sends each retry from the thread its delay expires on.
+ *
+ * <p>Starting a retry only hands the request to gRPC, which sends it from its own event loop, so it
+ * is run where the timer fires rather than passed on to another executor. Without a shared
+ * scheduler, the delays are kept on a hashed timer wheel, whose single thread adds and expires
+ * timers in constant time however many retries are pending. With a {@link MomentoRuntime}, they are
+ * scheduled on the Netty event loops of the runtime instead.
+ *
+ * <p>The number of pending retries is bounded. When the bound is reached, further retries are shed,
+ * and their requests fail with the error of the attempt that was not retried, so a mass of failures
+ * cannot pile up an unbounded backlog of retries.
+ */
+final class RetryScheduler implements AutoCloseable {
+
+  /** Cancels a scheduled retry. */
+  interface ScheduledRetry {
+    /**
+     * Cancels the retry if it has not started.
+     *
+     * @return whether the retry was cancelled, and so will never be sent.
+     */
+    boolean cancel();
+  }
+
+  // The most retries that may be waiting for their delay at once.
+  static final int MAX_PENDING_RETRIES = 10_000;
+
+  // A delay expires up to a tick late. Retry delays are jittered anyway, and a finer tick would
+  // wake the timer thread more often while no retries are pending.
+  private static final long TICK_MILLIS = 5;
+  private static final int TICKS_PER_WHEEL = 512;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RetryScheduler.class);
+
+  private final @Nullable Timer timer;
+  private final @Nullable ScheduledExecutorService sharedScheduler;
+  private final int maxPendingRetries;
+  private final AtomicInteger pendingRetries = new AtomicInteger();
+  private final AtomicLong shedRetries = new AtomicLong();
+
+  /** Creates a scheduler with a timer wheel of its own. */
+  RetryScheduler() {
+    this.timer =
+        new HashedWheelTimer(
+            new ThreadFactoryBuilder()
+                .setNameFormat("momento-retry-timer-%d")
+                .setDaemon(true)
+                .build(),
+            TICK_MILLIS,
+            TimeUnit.MILLISECONDS,
+            TICKS_PER_WHEEL);
+    this.sharedScheduler = null;
+    this.maxPendingRetries = MAX_PENDING_RETRIES;
+  }
+
+  /**
+   * Creates a scheduler that delays retries on a scheduler shared with other clients.
+   *
+   * @param sharedScheduler The scheduler, which the retries are also sent from.
+   */
+  RetryScheduler(ScheduledExecutorService sharedScheduler) {
+    this(sharedScheduler, MAX_PENDING_RETRIES);
+  }
+
+  RetryScheduler(ScheduledExecutorService sharedScheduler, int maxPendingRetries) {
+    this.timer = null;
+    this.sharedScheduler = sharedScheduler;
+    this.maxPendingRetries = maxPendingRetries;
+  }
+
+  /**
+   * Schedules a retry.
+   *
+   * @param retry Sends the retry.
+   * @param delayMillis The delay before the retry is sent.
+   * @return the scheduled retry, or null if it was shed because too many retries are pending or the
+   *     scheduler is closed.
+   */
+  @Nullable
+  ScheduledRetry schedule(Runnable retry, long delayMillis) {
+    if (delayMillis <= 0) {
+      // Nothing to wait for, so the retry is sent from the thread that saw the failure.
+      retry.run();
+      return () -> false;
+    }
+    if (pendingRetries.incrementAndGet() > maxPendingRetries) {
+      pendingRetries.decrementAndGet();
+      shedRetries.incrementAndGet();
+      return null;
+    }
+    final Runnable task =
+        () -> {
+          pendingRetries.decrementAndGet();
+          retry.run();
+        };
+    try {
+      if (timer != null) {
+        final Timeout timeout =
+            timer.newTimeout(t -> task.run(), delayMillis, TimeUnit.MILLISECONDS);
+        return () -> {
+          if (!timeout.cancel()) {
+            return false;
+          }
+          pendingRetries.decrementAndGet();
+          return true;
+        };
+      }
+      final ScheduledFuture<?> future =
+          sharedScheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+      return () -> {
+        if (!future.cancel(false)) {
+          return false;
+        }
+        pendingRetries.decrementAndGet();
+        return true;
+      };
+    } catch (IllegalStateException | RejectedExecutionException e) {
+      // The timer or the shared scheduler has shut down along with the client.
+      pendingRetries.decrementAndGet();
+      shedRetries.incrementAndGet();
+      return null;
+    }
+  }
+
+  /**
+   * The number of retries waiting for their delay.
+   *
+   * @return the number of pending retries.
+   */
+  int pendingRetryCount() {
+    return pendingRetries.get();
+  }
+
+  /**
+   * The number of retries shed because too many were pending.
+   *
+   * @return the number of shed retries.
+   */
+  long shedRetryCount() {
+    return shedRetries.get();
+  }
+
+  /**
+   * Stops the timer wheel of the scheduler, if it has one, and sends the retries still waiting on
+   * it right away, so that their requests fail on the closed channels rather than never completing.
+   */
+  @Override
+  public void close() {
+    if (timer == null) {
+      return;
+    }
+    for (Timeout timeout : timer.stop()) {
+      try {
+        timeout.task().run(timeout);
+      } catch (Exception e) {
+        LOGGER.debug("Failed to send a pending retry while closing", e);
+      }
+    }
+  }
+}
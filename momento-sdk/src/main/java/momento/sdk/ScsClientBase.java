@@ -8,11 +8,11 @@ import io.grpc.stub.MetadataUtils;
 import javax.annotation.Nullable;
 
 abstract class ScsClientBase extends ClientBase {
-  private static final Metadata.Key<String> CACHE_NAME_KEY =
+  static final Metadata.Key<String> CACHE_NAME_KEY =
       Metadata.Key.of("cache", ASCII_STRING_MARSHALLER);
 
-  public ScsClientBase(@Nullable Integer concurrencyLimit) {
-    super(concurrencyLimit);
+  public ScsClientBase(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+    super(concurrencyLimiter);
   }
 
   protected Metadata metadataWithCache(String cacheName) {
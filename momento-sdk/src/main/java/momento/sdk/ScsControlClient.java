@@ -29,6 +29,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
@@ -49,11 +50,16 @@ final class ScsControlClient extends ScsClientBase {
   private final CredentialProvider credentialProvider;
   private final ScsControlGrpcStubsManager controlGrpcStubsManager;
 
-  ScsControlClient(@Nonnull CredentialProvider credentialProvider, Configuration configuration) {
-    super(configuration.getTransportStrategy().getMaxConcurrentRequests());
+  ScsControlClient(
+      @Nonnull CredentialProvider credentialProvider,
+      Configuration configuration,
+      @Nullable MomentoRuntime runtime) {
+    super(
+        ConcurrencyLimiter.withLimit(
+            configuration.getTransportStrategy().getMaxConcurrentRequests()));
     this.credentialProvider = credentialProvider;
     this.controlGrpcStubsManager =
-        new ScsControlGrpcStubsManager(credentialProvider, configuration);
+        new ScsControlGrpcStubsManager(credentialProvider, configuration, runtime);
   }
 
   CompletableFuture<CacheCreateResponse> createCache(String cacheName) {
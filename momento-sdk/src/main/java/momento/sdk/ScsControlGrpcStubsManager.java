@@ -3,16 +3,15 @@ package momento.sdk;
 import grpc.control_client.ScsControlGrpc;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
 import momento.sdk.config.transport.GrpcConfiguration;
-import momento.sdk.internal.GrpcChannelOptions;
 
 /**
  * Manager responsible for GRPC channels and stubs for the Control Plane.
@@ -30,29 +29,32 @@ final class ScsControlGrpcStubsManager implements AutoCloseable {
   private final ScsControlGrpc.ScsControlFutureStub futureStub;
 
   ScsControlGrpcStubsManager(
-      @Nonnull CredentialProvider credentialProvider, Configuration configuration) {
-    this.channel = setupConnection(credentialProvider, configuration);
+      @Nonnull CredentialProvider credentialProvider,
+      Configuration configuration,
+      @Nullable MomentoRuntime runtime) {
+    this.channel = setupConnection(credentialProvider, configuration, runtime);
     this.futureStub = ScsControlGrpc.newFutureStub(channel);
   }
 
   private static ManagedChannel setupConnection(
-      CredentialProvider credentialProvider, Configuration configuration) {
-    int port = credentialProvider.getPort();
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getControlEndpoint(), port);
-
+      CredentialProvider credentialProvider,
+      Configuration configuration,
+      @Nullable MomentoRuntime runtime) {
     // Override grpc config to disable keepalive for control clients
     final GrpcConfiguration controlConfig =
         configuration.getTransportStrategy().getGrpcConfiguration().withKeepAliveDisabled();
 
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
-        controlConfig, channelBuilder, credentialProvider.isEndpointSecure());
-
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken(), "cache"));
-    channelBuilder.intercept(clientInterceptors);
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getControlEndpoint(),
+        credentialProvider.getPort(),
+        credentialProvider.isEndpointSecure(),
+        controlConfig,
+        clientInterceptors,
+        "control",
+        0);
   }
 
   /**
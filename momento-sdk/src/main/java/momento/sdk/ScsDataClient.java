@@ -19,7 +19,9 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import grpc.cache_client.ECacheResult;
 import grpc.cache_client._DeleteRequest;
 import grpc.cache_client._DeleteResponse;
@@ -87,10 +89,11 @@ import grpc.cache_client._SortedSetRemoveRequest;
 import grpc.cache_client._SortedSetRemoveResponse;
 import grpc.cache_client._UpdateTtlRequest;
 import grpc.cache_client._UpdateTtlResponse;
-import io.grpc.Metadata;
 import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -99,15 +102,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
+import momento.sdk.config.AdaptiveConcurrencyConfiguration;
+import momento.sdk.config.AutoBatchingConfiguration;
 import momento.sdk.config.Configuration;
+import momento.sdk.config.HedgingConfiguration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
 import momento.sdk.exceptions.InternalServerException;
 import momento.sdk.exceptions.UnknownException;
@@ -115,6 +129,7 @@ import momento.sdk.requests.CollectionTtl;
 import momento.sdk.responses.SortOrder;
 import momento.sdk.responses.cache.DeleteResponse;
 import momento.sdk.responses.cache.GetBatchResponse;
+import momento.sdk.responses.cache.GetBatchStreamResponse;
 import momento.sdk.responses.cache.GetResponse;
 import momento.sdk.responses.cache.IncrementResponse;
 import momento.sdk.responses.cache.SetBatchResponse;
@@ -157,26 +172,268 @@ import momento.sdk.responses.cache.ttl.DecreaseTtlResponse;
 import momento.sdk.responses.cache.ttl.IncreaseTtlResponse;
 import momento.sdk.responses.cache.ttl.ItemGetTtlResponse;
 import momento.sdk.responses.cache.ttl.UpdateTtlResponse;
+import momento.sdk.retry.MomentoRpcMethod;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Client for interacting with Scs Data plane. */
 final class ScsDataClient extends ScsClientBase {
 
+  // How getBatch publishers split their keys: the keys fetched by one request, and the most
+  // requests loading or holding unpublished results at a time.
+  private static final int GET_BATCH_PUBLISHER_BATCH_SIZE = 100;
+  private static final int GET_BATCH_PUBLISHER_BATCHES_IN_FLIGHT = 4;
+  // How long closing the client waits for its batched requests that are still in flight.
+  private static final Duration BATCH_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ScsDataClient.class);
+
   private final Duration itemDefaultTtl;
   private final ScsDataGrpcStubsManager scsDataGrpcStubsManager;
+  private final @Nullable NearCache nearCache;
+  private final @Nullable RequestCoalescer requestCoalescer;
+  private final @Nullable ValueCompressor valueCompressor;
+  private final @Nullable ScheduledExecutorService autoBatchScheduler;
+  private final @Nullable AutoBatcher<String, ByteString, GetResponse> getBatcher;
+  private final @Nullable AutoBatcher<SetBatchKey, SetBatchItem, SetResponse> setBatcher;
+  private final @Nullable ScheduledExecutorService hedgeScheduler;
+  private final @Nullable Hedger hedger;
+  // The runtime whose scheduler this uses, or null if it has schedulers of its own.
+  private final @Nullable MomentoRuntime runtime;
 
   ScsDataClient(
       @Nonnull CredentialProvider credentialProvider,
       @Nonnull Configuration configuration,
-      @Nonnull Duration defaultTtl) {
-    super(configuration.getTransportStrategy().getMaxConcurrentRequests());
+      @Nonnull Duration defaultTtl,
+      @Nullable MomentoRuntime runtime) {
+    super(createConcurrencyLimiter(configuration));
     this.itemDefaultTtl = defaultTtl;
-    this.scsDataGrpcStubsManager = new ScsDataGrpcStubsManager(credentialProvider, configuration);
+    this.runtime = runtime;
+    this.scsDataGrpcStubsManager =
+        new ScsDataGrpcStubsManager(credentialProvider, configuration, runtime);
+    this.nearCache = configuration.getNearCacheConfiguration().map(NearCache::new).orElse(null);
+    this.requestCoalescer =
+        configuration.isRequestCoalescingEnabled() ? new RequestCoalescer() : null;
+    this.valueCompressor =
+        configuration.getCompressionConfiguration().map(ValueCompressor::new).orElse(null);
+
+    final AutoBatchingConfiguration autoBatchingConfiguration =
+        configuration.getAutoBatchingConfiguration().orElse(null);
+    if (autoBatchingConfiguration != null) {
+      this.autoBatchScheduler =
+          runtime != null
+              ? runtime.getScheduler()
+              : Executors.newSingleThreadScheduledExecutor(
+                  new ThreadFactoryBuilder()
+                      .setNameFormat("momento-auto-batcher-%d")
+                      .setDaemon(true)
+                      .build());
+      this.getBatcher =
+          new AutoBatcher<>(
+              autoBatchingConfiguration.getMaxBatchSize(),
+              autoBatchingConfiguration.getMaxDelay(),
+              autoBatchScheduler,
+              this::sendGetBatchItems,
+              e -> new GetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+      this.setBatcher =
+          new AutoBatcher<>(
+              autoBatchingConfiguration.getMaxBatchSize(),
+              autoBatchingConfiguration.getMaxDelay(),
+              autoBatchScheduler,
+              (batchKey, items) -> sendSetBatchItems(batchKey.cacheName, items, batchKey.ttl),
+              e -> new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    } else {
+      this.autoBatchScheduler = null;
+      this.getBatcher = null;
+      this.setBatcher = null;
+    }
+
+    final HedgingConfiguration hedgingConfiguration =
+        configuration.getHedgingConfiguration().orElse(null);
+    if (hedgingConfiguration != null) {
+      this.hedgeScheduler =
+          runtime != null
+              ? runtime.getScheduler()
+              : Executors.newSingleThreadScheduledExecutor(
+                  new ThreadFactoryBuilder()
+                      .setNameFormat("momento-hedger-%d")
+                      .setDaemon(true)
+                      .build());
+      this.hedger = new Hedger(hedgingConfiguration, hedgeScheduler);
+    } else {
+      this.hedgeScheduler = null;
+      this.hedger = null;
+    }
+  }
+
+  @Nullable
+  private static ConcurrencyLimiter createConcurrencyLimiter(Configuration configuration) {
+    final Optional<AdaptiveConcurrencyConfiguration> adaptiveConcurrencyConfiguration =
+        configuration.getAdaptiveConcurrencyConfiguration();
+    if (adaptiveConcurrencyConfiguration.isPresent()) {
+      return new ConcurrencyLimiter(
+          new AdaptiveConcurrencyLimit(adaptiveConcurrencyConfiguration.get()));
+    }
+    return ConcurrencyLimiter.withLimit(
+        configuration.getTransportStrategy().getMaxConcurrentRequests());
   }
 
   public void connect(final long eagerConnectionTimeout) {
     this.scsDataGrpcStubsManager.connect(eagerConnectionTimeout);
   }
 
+  /**
+   * Connects every channel concurrently, then sends the given number of ping requests on each.
+   *
+   * @param timeout The time beyond which to give up on connecting.
+   * @param requestsPerChannel The number of pings to send on each channel once connected.
+   * @return a future that completes once the client is warmed up.
+   */
+  CompletableFuture<Void> warmUp(Duration timeout, int requestsPerChannel) {
+    final CompletableFuture<Void> connected = scsDataGrpcStubsManager.connectAsync(timeout);
+    if (requestsPerChannel == 0) {
+      return connected;
+    }
+    return connected.thenCompose(ignored -> scsDataGrpcStubsManager.ping(requestsPerChannel));
+  }
+
+  /**
+   * The number of retries the retry budget did not allow.
+   *
+   * @return the number of rejected retries.
+   */
+  long rejectedRetryCount() {
+    return scsDataGrpcStubsManager.rejectedRetryCount();
+  }
+
+  // The blocking operations below back SyncCacheClient. They call blocking stubs directly on the
+  // calling thread, so they bypass the concurrency limiter, request coalescing and auto-batching,
+  // but keep the near cache and compression consistent with the asynchronous operations.
+
+  GetResponse getBlocking(String cacheName, ByteString key) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKey(key);
+
+      final long nearCacheVersion;
+      if (nearCache != null) {
+        final GetResponse.Hit cachedHit = nearCache.get(cacheName, key);
+        if (cachedHit != null) {
+          return cachedHit;
+        }
+        nearCacheVersion = nearCache.readVersion(key);
+      } else {
+        nearCacheVersion = 0L;
+      }
+
+      final GetResponse response =
+          convertGetResponse(
+              scsDataGrpcStubsManager.getBlockingStub(cacheName).get(buildGetRequest(key)));
+      if (nearCache != null) {
+        nearCache.populate(cacheName, key, response, nearCacheVersion);
+      }
+      return response;
+    } catch (Exception e) {
+      return new GetResponse.Error(CacheServiceExceptionMapper.convert(e));
+    }
+  }
+
+  SetResponse setBlocking(
+      String cacheName, ByteString key, ByteString value, @Nullable Duration ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      ensureValidCacheSet(key, value, ttl);
+      final long nearCacheVersion = nearCache != null ? nearCache.startWrite(cacheName, key) : 0L;
+
+      final SetResponse response;
+      try {
+        response =
+            convertSetResponse(
+                value,
+                scsDataGrpcStubsManager
+                    .getBlockingStub(cacheName)
+                    .set(buildSetRequest(key, value, ttl)));
+      } catch (RuntimeException e) {
+        if (nearCache != null) {
+          nearCache.invalidate(cacheName, key);
+        }
+        throw e;
+      } finally {
+        onBlockingWriteCompleted(cacheName, key);
+      }
+      if (nearCache != null) {
+        if (response instanceof SetResponse.Success) {
+          nearCache.put(cacheName, key, value, ttl, nearCacheVersion);
+        } else {
+          nearCache.invalidate(cacheName, key);
+        }
+      }
+      return response;
+    } catch (Exception e) {
+      return new SetResponse.Error(CacheServiceExceptionMapper.convert(e));
+    }
+  }
+
+  DeleteResponse deleteBlocking(String cacheName, ByteString key) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKey(key);
+      if (nearCache != null) {
+        nearCache.invalidate(cacheName, key);
+      }
+      try {
+        scsDataGrpcStubsManager.getBlockingStub(cacheName).delete(buildDeleteRequest(key));
+      } finally {
+        if (nearCache != null) {
+          nearCache.invalidate(cacheName, key);
+        }
+        onBlockingWriteCompleted(cacheName, key);
+      }
+      return new DeleteResponse.Success();
+    } catch (Exception e) {
+      return new DeleteResponse.Error(CacheServiceExceptionMapper.convert(e));
+    }
+  }
+
+  IncrementResponse incrementBlocking(
+      String cacheName, ByteString field, long amount, @Nullable Duration ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      ensureValidKey(field);
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      if (nearCache != null) {
+        nearCache.invalidate(cacheName, field);
+      }
+      try {
+        final _IncrementResponse rsp =
+            scsDataGrpcStubsManager
+                .getBlockingStub(cacheName)
+                .increment(buildIncrementRequest(field, amount, ttl));
+        return new IncrementResponse.Success((int) rsp.getValue());
+      } finally {
+        if (nearCache != null) {
+          nearCache.invalidate(cacheName, field);
+        }
+        onBlockingWriteCompleted(cacheName, field);
+      }
+    } catch (Exception e) {
+      return new IncrementResponse.Error(CacheServiceExceptionMapper.convert(e));
+    }
+  }
+
+  // Asynchronous reads sent after a blocking write must not share a request sent before it.
+  private void onBlockingWriteCompleted(String cacheName, ByteString key) {
+    if (requestCoalescer != null) {
+      requestCoalescer.onWriteCompleted(cacheName, key);
+    }
+  }
+
   CompletableFuture<GetResponse> get(String cacheName, byte[] key) {
     try {
       ensureValidKey(key);
@@ -197,6 +454,16 @@ final class ScsDataClient extends ScsClientBase {
     }
   }
 
+  CompletableFuture<GetResponse> get(String cacheName, ByteString key) {
+    try {
+      ensureValidKey(key);
+      return sendGet(cacheName, key);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new GetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
   CompletableFuture<GetBatchResponse> getBatch(String cacheName, Iterable<String> keys) {
     try {
       keys.forEach(ValidationUtils::ensureValidKey);
@@ -207,10 +474,64 @@ final class ScsDataClient extends ScsClientBase {
     }
   }
 
+  /**
+   * Gets a batch of keys that are already encoded.
+   *
+   * @return one response per key, in the order of the keys.
+   */
+  CompletableFuture<List<GetResponse>> getBatchByteString(String cacheName, List<ByteString> keys) {
+    try {
+      checkCacheNameValid(cacheName);
+      keys.forEach(ValidationUtils::ensureValidKey);
+      return sendGetBatchItems(cacheName, keys);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          Collections.nCopies(
+              keys.size(), new GetResponse.Error(CacheServiceExceptionMapper.convert(e))));
+    }
+  }
+
+  CompletableFuture<GetBatchStreamResponse> getBatch(
+      String cacheName, Iterable<String> keys, BiConsumer<String, GetResponse> itemConsumer) {
+    try {
+      keys.forEach(ValidationUtils::ensureValidKey);
+      return sendGetBatchStream(cacheName, convertStringIterable(keys), itemConsumer);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new GetBatchStreamResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  Publisher<Map.Entry<String, GetResponse>> getBatchPublisher(
+      String cacheName, Iterable<String> keys) {
+    final List<String> keyList = new ArrayList<>();
+    keys.forEach(keyList::add);
+    return new BatchedPublisher<>(
+        keyList,
+        GET_BATCH_PUBLISHER_BATCH_SIZE,
+        GET_BATCH_PUBLISHER_BATCHES_IN_FLIGHT,
+        batchKeys ->
+            getBatchByteString(
+                    cacheName,
+                    batchKeys.stream().map(this::convert).collect(Collectors.toList()))
+                .thenApply(
+                    responses -> {
+                      final List<Map.Entry<String, GetResponse>> items =
+                          new ArrayList<>(responses.size());
+                      for (int i = 0; i < responses.size(); i++) {
+                        items.add(
+                            new AbstractMap.SimpleImmutableEntry<>(
+                                batchKeys.get(i), responses.get(i)));
+                      }
+                      return items;
+                    }));
+  }
+
   CompletableFuture<DeleteResponse> delete(String cacheName, byte[] key) {
     try {
       ensureValidKey(key);
-      return sendDelete(cacheName, convert(key));
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(cacheName, keyBytes, sendDelete(cacheName, keyBytes));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new DeleteResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -220,7 +541,18 @@ final class ScsDataClient extends ScsClientBase {
   CompletableFuture<DeleteResponse> delete(String cacheName, String key) {
     try {
       ensureValidKey(key);
-      return sendDelete(cacheName, convert(key));
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(cacheName, keyBytes, sendDelete(cacheName, keyBytes));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new DeleteResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<DeleteResponse> delete(String cacheName, ByteString key) {
+    try {
+      ensureValidKey(key);
+      return invalidateNearCacheOnCompletion(cacheName, key, sendDelete(cacheName, key));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new DeleteResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -234,7 +566,10 @@ final class ScsDataClient extends ScsClientBase {
         ttl = itemDefaultTtl;
       }
       ensureValidCacheSet(key, value, ttl);
-      return sendSet(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      final ByteString valueBytes = convert(value);
+      return writeThroughNearCache(
+          cacheName, keyBytes, valueBytes, ttl, sendSet(cacheName, keyBytes, valueBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -248,7 +583,42 @@ final class ScsDataClient extends ScsClientBase {
         ttl = itemDefaultTtl;
       }
       ensureValidCacheSet(key, value, ttl);
-      return sendSet(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      final ByteString valueBytes = convert(value);
+      return writeThroughNearCache(
+          cacheName, keyBytes, valueBytes, ttl, sendSet(cacheName, keyBytes, valueBytes, ttl));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<SetResponse> set(
+      String cacheName, ByteString key, ByteString value, @Nullable Duration ttl) {
+    try {
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      ensureValidCacheSet(key, value, ttl);
+      return writeThroughNearCache(cacheName, key, value, ttl, sendSet(cacheName, key, value, ttl));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<SetResponse> set(
+      String cacheName, ByteBuffer key, ByteBuffer value, @Nullable Duration ttl) {
+    try {
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      ensureValidCacheSet(key, value, ttl);
+      final ByteString keyBytes = convert(key);
+      // The buffers are wrapped rather than copied and may be reused by the caller once the set
+      // completes, so they must not be kept in the near cache.
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendSet(cacheName, keyBytes, convert(value), ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -262,7 +632,9 @@ final class ScsDataClient extends ScsClientBase {
         ttl = itemDefaultTtl;
       }
       items.forEach((k, v) -> ensureValidKey(k));
-      return sendSetBatch(cacheName, convertStringStringEntryList(items), ttl);
+      final Map<ByteString, ByteString> keysToValues = convertStringStringEntryList(items);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keysToValues.keySet(), sendSetBatch(cacheName, keysToValues, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetBatchResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -276,7 +648,44 @@ final class ScsDataClient extends ScsClientBase {
         ttl = itemDefaultTtl;
       }
       items.forEach((k, v) -> ensureValidKey(k));
-      return sendSetBatch(cacheName, convertStringBytesEntryList(items), ttl);
+      final Map<ByteString, ByteString> keysToValues = convertStringBytesEntryList(items);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keysToValues.keySet(), sendSetBatch(cacheName, keysToValues, ttl));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetBatchResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<SetBatchResponse> setBatchByteString(
+      String cacheName, Map<ByteString, ByteString> items, @Nullable Duration ttl) {
+    try {
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      items.forEach((k, v) -> ensureValidKey(k));
+      return invalidateNearCacheOnCompletion(
+          cacheName, items.keySet(), sendSetBatch(cacheName, items, ttl));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new SetBatchResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
+  CompletableFuture<SetBatchResponse> setBatchStringByteBuffer(
+      String cacheName, Map<String, ByteBuffer> items, @Nullable Duration ttl) {
+    try {
+      if (ttl == null) {
+        ttl = itemDefaultTtl;
+      }
+      items.forEach(
+          (k, v) -> {
+            ensureValidKey(k);
+            ensureValidValue(v);
+          });
+      final Map<ByteString, ByteString> keysToValues = convertStringByteBufferEntryList(items);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keysToValues.keySet(), sendSetBatch(cacheName, keysToValues, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetBatchResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -290,7 +699,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendIncrement(cacheName, convert(field), amount, ttl);
+      final ByteString fieldBytes = convert(field);
+      return invalidateNearCacheOnCompletion(
+          cacheName, fieldBytes, sendIncrement(cacheName, fieldBytes, amount, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new IncrementResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -304,7 +715,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendIncrement(cacheName, convert(field), amount, ttl);
+      final ByteString fieldBytes = convert(field);
+      return invalidateNearCacheOnCompletion(
+          cacheName, fieldBytes, sendIncrement(cacheName, fieldBytes, amount, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new IncrementResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -318,7 +731,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendSetIfNotExists(cacheName, keyBytes, convert(value), ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -332,7 +747,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendSetIfNotExists(cacheName, keyBytes, convert(value), ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -346,7 +763,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendSetIfNotExists(cacheName, keyBytes, convert(value), ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -360,7 +779,9 @@ final class ScsDataClient extends ScsClientBase {
       if (ttl == null) {
         ttl = itemDefaultTtl;
       }
-      return sendSetIfNotExists(cacheName, convert(key), convert(value), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendSetIfNotExists(cacheName, keyBytes, convert(value), ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetIfNotExistsResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -372,7 +793,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendUpdateTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendUpdateTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new UpdateTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -384,7 +807,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendUpdateTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendUpdateTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new UpdateTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -397,7 +822,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendIncreaseTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendIncreaseTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new IncreaseTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -410,7 +837,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendIncreaseTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendIncreaseTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new IncreaseTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -423,7 +852,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendDecreaseTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendDecreaseTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new DecreaseTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -436,7 +867,9 @@ final class ScsDataClient extends ScsClientBase {
       ensureValidKey(key);
       ensureValidTtl(ttl);
       checkCacheNameValid(cacheName);
-      return sendDecreaseTtl(cacheName, convert(key), ttl);
+      final ByteString keyBytes = convert(key);
+      return invalidateNearCacheOnCompletion(
+          cacheName, keyBytes, sendDecreaseTtl(cacheName, keyBytes, ttl));
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new DecreaseTtlResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -586,7 +1019,12 @@ final class ScsDataClient extends ScsClientBase {
     try {
       checkCacheNameValid(cacheName);
       checkListNameValid(setName);
-      return sendSetFetch(cacheName, convert(setName));
+      final ByteString setNameBytes = convert(setName);
+      return coalesce(
+          () -> sendSetFetch(cacheName, setNameBytes),
+          cacheName,
+          setNameBytes,
+          MomentoRpcMethod.SET_FETCH);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SetFetchResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -715,7 +1153,15 @@ final class ScsDataClient extends ScsClientBase {
       checkSortedSetNameValid(sortedSetName);
       checkIndexRangeValid(startRank, endRank);
 
-      return sendSortedSetFetchByRank(cacheName, convert(sortedSetName), startRank, endRank, order);
+      final ByteString sortedSetNameBytes = convert(sortedSetName);
+      return coalesce(
+          () -> sendSortedSetFetchByRank(cacheName, sortedSetNameBytes, startRank, endRank, order),
+          cacheName,
+          sortedSetNameBytes,
+          MomentoRpcMethod.SORTED_SET_FETCH,
+          startRank,
+          endRank,
+          order);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new SortedSetFetchResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -1169,6 +1615,30 @@ final class ScsDataClient extends ScsClientBase {
     }
   }
 
+  CompletableFuture<ListPushBackResponse> listPushBack(
+      @Nonnull String cacheName,
+      @Nonnull String listName,
+      @Nonnull ByteBuffer value,
+      @Nullable Integer truncateFrontToSize,
+      @Nullable CollectionTtl ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      checkListNameValid(listName);
+      ensureValidValue(value);
+      ensureValidTruncateToSize(truncateFrontToSize);
+
+      if (ttl == null) {
+        ttl = CollectionTtl.of(itemDefaultTtl);
+      }
+
+      return sendListPushBack(
+          cacheName, convert(listName), convert(value), truncateFrontToSize, ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new ListPushBackResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
   CompletableFuture<ListPushFrontResponse> listPushFront(
       @Nonnull String cacheName,
       @Nonnull String listName,
@@ -1285,7 +1755,12 @@ final class ScsDataClient extends ScsClientBase {
       checkCacheNameValid(cacheName);
       checkDictionaryNameValid(dictionaryName);
 
-      return sendDictionaryFetch(cacheName, convert(dictionaryName));
+      final ByteString dictionaryNameBytes = convert(dictionaryName);
+      return coalesce(
+          () -> sendDictionaryFetch(cacheName, dictionaryNameBytes),
+          cacheName,
+          dictionaryNameBytes,
+          MomentoRpcMethod.DICTIONARY_FETCH);
     } catch (Exception e) {
       return CompletableFuture.completedFuture(
           new DictionaryFetchResponse.Error(CacheServiceExceptionMapper.convert(e)));
@@ -1340,6 +1815,30 @@ final class ScsDataClient extends ScsClientBase {
     }
   }
 
+  CompletableFuture<DictionarySetFieldResponse> dictionarySetField(
+      @Nonnull String cacheName,
+      @Nonnull String dictionaryName,
+      @Nonnull String field,
+      @Nonnull ByteBuffer value,
+      @Nullable CollectionTtl ttl) {
+    try {
+      checkCacheNameValid(cacheName);
+      checkDictionaryNameValid(dictionaryName);
+      ensureValidKey(field);
+      ensureValidValue(value);
+
+      if (ttl == null) {
+        ttl = CollectionTtl.of(itemDefaultTtl);
+      }
+
+      return sendDictionarySetField(
+          cacheName, convert(dictionaryName), convert(field), convert(value), ttl);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new DictionarySetFieldResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+  }
+
   CompletableFuture<DictionarySetFieldsResponse> dictionarySetFields(
       @Nonnull String cacheName,
       @Nonnull String dictionaryName,
@@ -1473,6 +1972,141 @@ final class ScsDataClient extends ScsClientBase {
     }
   }
 
+  /**
+   * Drops every near cache entry of a cache. Called after the cache was flushed or deleted.
+   *
+   * @param cacheName The cache whose entries should be dropped.
+   */
+  void invalidateNearCache(String cacheName) {
+    if (nearCache != null && cacheName != null) {
+      nearCache.invalidateAll(cacheName);
+    }
+  }
+
+  /**
+   * Keeps the near cache coherent with a write to a single key. The entry is dropped as soon as the
+   * write is sent and again once it completes, so that reads racing with the write cannot leave the
+   * old value behind.
+   */
+  private <R> CompletableFuture<R> invalidateNearCacheOnCompletion(
+      String cacheName, ByteString key, CompletableFuture<R> writeFuture) {
+    if (nearCache != null) {
+      nearCache.invalidate(cacheName, key);
+    }
+    return onWriteCompletion(
+        writeFuture,
+        (rsp, e) -> {
+          if (nearCache != null) {
+            nearCache.invalidate(cacheName, key);
+          }
+          if (requestCoalescer != null) {
+            requestCoalescer.onWriteCompleted(cacheName, key);
+          }
+        });
+  }
+
+  private <R> CompletableFuture<R> invalidateNearCacheOnCompletion(
+      String cacheName, Iterable<ByteString> keys, CompletableFuture<R> writeFuture) {
+    if (nearCache != null) {
+      keys.forEach(key -> nearCache.invalidate(cacheName, key));
+    }
+    return onWriteCompletion(
+        writeFuture,
+        (rsp, e) ->
+            keys.forEach(
+                key -> {
+                  if (nearCache != null) {
+                    nearCache.invalidate(cacheName, key);
+                  }
+                  if (requestCoalescer != null) {
+                    requestCoalescer.onWriteCompleted(cacheName, key);
+                  }
+                }));
+  }
+
+  /**
+   * Keeps the near cache coherent with a set. The written value replaces the entry once the server
+   * acknowledged it, unless another write to the key was sent meanwhile; a failed set leaves no
+   * entry behind.
+   */
+  private CompletableFuture<SetResponse> writeThroughNearCache(
+      String cacheName,
+      ByteString key,
+      ByteString value,
+      Duration ttl,
+      CompletableFuture<SetResponse> setFuture) {
+    final long writeVersion = nearCache != null ? nearCache.startWrite(cacheName, key) : 0L;
+    return onWriteCompletion(
+        setFuture,
+        (rsp, e) -> {
+          if (nearCache != null) {
+            if (rsp instanceof SetResponse.Success) {
+              nearCache.put(cacheName, key, value, ttl, writeVersion);
+            } else {
+              nearCache.invalidate(cacheName, key);
+            }
+          }
+          if (requestCoalescer != null) {
+            requestCoalescer.onWriteCompleted(cacheName, key);
+          }
+        });
+  }
+
+  /** Stops coalesced reads of a collection from sharing a request sent before the write. */
+  private <R> CompletableFuture<R> collectionWritten(
+      String cacheName, ByteString collectionName, CompletableFuture<R> writeFuture) {
+    if (requestCoalescer == null) {
+      return writeFuture;
+    }
+    return onWriteCompletion(
+        writeFuture, (rsp, e) -> requestCoalescer.onWriteCompleted(cacheName, collectionName));
+  }
+
+  /**
+   * Runs an action when a write completes, before the caller can see it complete, so that a read
+   * the caller sends after its write has completed always sees the effects of the action.
+   * Cancelling the returned future cancels the write.
+   */
+  private <R> CompletableFuture<R> onWriteCompletion(
+      CompletableFuture<R> writeFuture, BiConsumer<? super R, ? super Throwable> action) {
+    if (nearCache == null && requestCoalescer == null) {
+      return writeFuture;
+    }
+    final CompletableFuture<R> result =
+        new CompletableFuture<R>() {
+          @Override
+          public boolean cancel(boolean mayInterruptIfRunning) {
+            writeFuture.cancel(mayInterruptIfRunning);
+            return super.cancel(mayInterruptIfRunning);
+          }
+        };
+    writeFuture.whenComplete(
+        (rsp, e) -> {
+          action.accept(rsp, e);
+          if (e != null) {
+            result.completeExceptionally(e);
+          } else {
+            result.complete(rsp);
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Sends a read through the request coalescer, if request coalescing is enabled, so that it shares
+   * an identical request that is already in flight.
+   */
+  private <R> CompletableFuture<R> coalesce(
+      Supplier<CompletableFuture<R>> send,
+      String cacheName,
+      ByteString itemName,
+      Object... requestKeyParts) {
+    if (requestCoalescer == null) {
+      return send.get();
+    }
+    return requestCoalescer.coalesce(send, cacheName, itemName, requestKeyParts);
+  }
+
   private ByteString convert(String string) {
     if (string == null) {
       return ByteString.EMPTY;
@@ -1487,6 +2121,17 @@ final class ScsDataClient extends ScsClientBase {
     return ByteString.copyFrom(bytes);
   }
 
+  /**
+   * Wraps the remaining bytes of a buffer without copying them. The buffer's position and limit are
+   * captured, but its contents must not change until the request has been sent.
+   */
+  private ByteString convert(ByteBuffer buffer) {
+    if (buffer == null) {
+      return ByteString.EMPTY;
+    }
+    return UnsafeByteOperations.unsafeWrap(buffer);
+  }
+
   private List<ByteString> convertStringIterable(Iterable<String> strings) {
     return StreamSupport.stream(strings.spliterator(), false)
         .map(this::convert)
@@ -1511,6 +2156,13 @@ final class ScsDataClient extends ScsClientBase {
             Collectors.toMap(entry -> convert(entry.getKey()), entry -> convert(entry.getValue())));
   }
 
+  private Map<ByteString, ByteString> convertStringByteBufferEntryList(
+      Map<String, ByteBuffer> elements) {
+    return elements.entrySet().stream()
+        .collect(
+            Collectors.toMap(entry -> convert(entry.getKey()), entry -> convert(entry.getValue())));
+  }
+
   private List<ScoredElement> convertStringScoreMap(Map<String, Double> elements) {
     return elements.entrySet().stream()
         .map(entry -> new ScoredElement(entry.getKey(), entry.getValue()))
@@ -1526,11 +2178,54 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<GetResponse> sendGet(String cacheName, ByteString key) {
     checkCacheNameValid(cacheName);
 
-    final Metadata metadata = metadataWithCache(cacheName);
+    final long nearCacheVersion;
+    if (nearCache != null) {
+      final GetResponse.Hit cachedHit = nearCache.get(cacheName, key);
+      if (cachedHit != null) {
+        return CompletableFuture.completedFuture(cachedHit);
+      }
+      nearCacheVersion = nearCache.readVersion(key);
+    } else {
+      nearCacheVersion = 0L;
+    }
+
+    return coalesce(
+        () -> sendGetRequest(cacheName, key, nearCacheVersion),
+        cacheName,
+        key,
+        MomentoRpcMethod.GET);
+  }
+
+  private CompletableFuture<GetResponse> sendGetRequest(
+      String cacheName, ByteString key, long nearCacheVersion) {
+    if (getBatcher != null) {
+      final CompletableFuture<GetResponse> batchedFuture = getBatcher.submit(cacheName, key);
+      if (nearCache == null) {
+        return batchedFuture;
+      }
+      return batchedFuture.thenApply(
+          response -> {
+            nearCache.populate(cacheName, key, response, nearCacheVersion);
+            return response;
+          });
+    }
+
+    return executeHedged(channel -> sendGetRequest(cacheName, key, nearCacheVersion, channel));
+  }
+
+  private CompletableFuture<GetResponse> sendGetRequest(
+      String cacheName, ByteString key, long nearCacheVersion, int channel) {
     final Supplier<ListenableFuture<_GetResponse>> stubSupplier =
-        () -> attachMetadata(scsDataGrpcStubsManager.getStub(), metadata).get(buildGetRequest(key));
+        () -> scsDataGrpcStubsManager.getStub(cacheName, channel).get(buildGetRequest(key));
 
-    final Function<_GetResponse, GetResponse> success = this::convertGetResponse;
+    final Function<_GetResponse, GetResponse> success =
+        rsp -> {
+          final GetResponse response = convertGetResponse(rsp);
+          if (nearCache != null) {
+            nearCache.populate(cacheName, key, response, nearCacheVersion);
+          }
+          return response;
+        };
     final Function<Throwable, GetResponse> failure =
         e -> new GetResponse.Error(CacheServiceExceptionMapper.convert(e));
 
@@ -1539,43 +2234,115 @@ final class ScsDataClient extends ScsClientBase {
 
   private CompletableFuture<GetBatchResponse> sendGetBatch(
       String cacheName, List<ByteString> keys) {
-    checkCacheNameValid(cacheName);
+    return executeHedged(channel -> sendGetBatch(cacheName, keys, channel));
+  }
 
-    final Metadata metadata = metadataWithCache(cacheName);
+  private CompletableFuture<GetBatchResponse> sendGetBatch(
+      String cacheName, List<ByteString> keys, int channel) {
+    checkCacheNameValid(cacheName);
 
     final Consumer<StreamObserver<_GetResponse>> stubMethod =
         observer -> {
           final _GetBatchRequest request = buildGetBatchRequest(keys);
-          attachObservableMetadata(scsDataGrpcStubsManager.getObservableStub(), metadata)
-              .getBatch(request, observer);
+          scsDataGrpcStubsManager.getObservableStub(cacheName, channel).getBatch(request, observer);
         };
 
-    final Function<List<_GetResponse>, GetBatchResponse> success =
-        responses -> {
-          final Iterator<ByteString> keysIt = keys.iterator();
-          final Iterator<_GetResponse> responsesIt = responses.iterator();
-
-          final Map<String, GetResponse> responseMap = new HashMap<>();
-          while (keysIt.hasNext() && responsesIt.hasNext()) {
-            final String key = keysIt.next().toStringUtf8();
-            final _GetResponse value = responsesIt.next();
-            responseMap.put(key, convertGetResponse(value));
+    // Responses arrive in the order of the requested keys. Convert each one as it arrives rather
+    // than holding on to the raw responses until the batch is complete.
+    final Iterator<ByteString> keysIt = keys.iterator();
+    final Map<String, GetResponse> responseMap = new HashMap<>();
+    final Consumer<_GetResponse> itemConsumer =
+        rsp -> {
+          if (keysIt.hasNext()) {
+            responseMap.put(keysIt.next().toStringUtf8(), convertGetResponse(rsp));
           }
-          return new GetBatchResponse.Success(responseMap);
         };
 
+    final Supplier<GetBatchResponse> completed = () -> new GetBatchResponse.Success(responseMap);
+
     final Function<Throwable, GetBatchResponse> error =
         e -> new GetBatchResponse.Error(CacheServiceExceptionMapper.convert(e));
 
+    return executeGrpcStreamingFunction(stubMethod, itemConsumer, completed, error);
+  }
+
+  private CompletableFuture<GetBatchStreamResponse> sendGetBatchStream(
+      String cacheName, List<ByteString> keys, BiConsumer<String, GetResponse> itemConsumer) {
+    checkCacheNameValid(cacheName);
+
+    final Consumer<StreamObserver<_GetResponse>> stubMethod =
+        observer ->
+            scsDataGrpcStubsManager
+                .getObservableStub(cacheName)
+                .getBatch(buildGetBatchRequest(keys), observer);
+
+    final Iterator<ByteString> keysIt = keys.iterator();
+    final AtomicInteger itemCount = new AtomicInteger();
+    final Consumer<_GetResponse> grpcItemConsumer =
+        rsp -> {
+          if (keysIt.hasNext()) {
+            itemConsumer.accept(keysIt.next().toStringUtf8(), convertGetResponse(rsp));
+            itemCount.incrementAndGet();
+          }
+        };
+
+    final Supplier<GetBatchStreamResponse> completed =
+        () -> new GetBatchStreamResponse.Success(itemCount.get());
+
+    final Function<Throwable, GetBatchStreamResponse> error =
+        e -> new GetBatchStreamResponse.Error(CacheServiceExceptionMapper.convert(e));
+
+    return executeGrpcStreamingFunction(stubMethod, grpcItemConsumer, completed, error);
+  }
+
+  /**
+   * Sends a getBatch request on behalf of individually batched gets.
+   *
+   * @return one response per key, in the order of the keys.
+   */
+  private CompletableFuture<List<GetResponse>> sendGetBatchItems(
+      String cacheName, List<ByteString> keys) {
+
+    final Consumer<StreamObserver<_GetResponse>> stubMethod =
+        observer ->
+            scsDataGrpcStubsManager
+                .getObservableStub(cacheName)
+                .getBatch(buildGetBatchRequest(keys), observer);
+
+    final Function<List<_GetResponse>, List<GetResponse>> success =
+        responses -> responses.stream().map(this::convertGetResponse).collect(Collectors.toList());
+
+    final Function<Throwable, List<GetResponse>> error =
+        e ->
+            Collections.nCopies(
+                keys.size(), new GetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+
     return executeGrpcBatchFunction(stubMethod, success, error);
   }
 
+  /**
+   * Sends a read on the next channel, and hedges it on another channel picked the same way if
+   * hedging is enabled and the read is slow.
+   *
+   * @param send Sends the read on the channel with the given index.
+   * @return the response of the read.
+   */
+  private <R> CompletableFuture<R> executeHedged(IntFunction<CompletableFuture<R>> send) {
+    final int channel = scsDataGrpcStubsManager.nextChannelIndex();
+    if (hedger == null) {
+      return send.apply(channel);
+    }
+    return hedger.execute(
+        attempt ->
+            send.apply(attempt == 0 ? channel : scsDataGrpcStubsManager.nextChannelIndex(channel)));
+  }
+
   private GetResponse convertGetResponse(_GetResponse response) {
     final ECacheResult result = response.getResult();
 
     final GetResponse getResponse;
     if (result == ECacheResult.Hit) {
-      getResponse = new GetResponse.Hit(response.getCacheBody());
+      getResponse = new GetResponse.Hit(decompressValue(response.getCacheBody()));
     } else if (result == ECacheResult.Miss) {
       getResponse = new GetResponse.Miss();
     } else {
@@ -1589,12 +2356,9 @@ final class ScsDataClient extends ScsClientBase {
 
   private CompletableFuture<DeleteResponse> sendDelete(String cacheName, ByteString key) {
     checkCacheNameValid(cacheName);
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_DeleteResponse>> stubSupplier =
-        () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-                .delete(buildDeleteRequest(key));
+        () -> scsDataGrpcStubsManager.getStub(cacheName).delete(buildDeleteRequest(key));
 
     final Function<_DeleteResponse, DeleteResponse> success = rsp -> new DeleteResponse.Success();
     final Function<Throwable, DeleteResponse> failure =
@@ -1607,12 +2371,12 @@ final class ScsDataClient extends ScsClientBase {
       String cacheName, ByteString key, ByteString value, Duration ttl) {
     checkCacheNameValid(cacheName);
 
-    final Metadata metadata = metadataWithCache(cacheName);
+    if (setBatcher != null) {
+      return setBatcher.submit(new SetBatchKey(cacheName, ttl), new SetBatchItem(key, value));
+    }
 
     final Supplier<ListenableFuture<_SetResponse>> stubSupplier =
-        () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-                .set(buildSetRequest(key, value, ttl));
+        () -> scsDataGrpcStubsManager.getStub(cacheName).set(buildSetRequest(key, value, ttl));
 
     final Function<_SetResponse, SetResponse> success = rsp -> convertSetResponse(value, rsp);
     final Function<Throwable, SetResponse> error =
@@ -1625,26 +2389,27 @@ final class ScsDataClient extends ScsClientBase {
       String cacheName, Map<ByteString, ByteString> keysToValues, Duration ttl) {
     checkCacheNameValid(cacheName);
 
-    final Metadata metadata = metadataWithCache(cacheName);
     final _SetBatchRequest request = buildSetBatchRequest(keysToValues, ttl);
 
     final Consumer<StreamObserver<_SetResponse>> stubMethod =
         observer -> {
-          attachObservableMetadata(scsDataGrpcStubsManager.getObservableStub(), metadata)
-              .setBatch(request, observer);
+          scsDataGrpcStubsManager.getObservableStub(cacheName).setBatch(request, observer);
         };
 
     final Function<List<_SetResponse>, SetBatchResponse> success =
         responses -> {
-          final Iterator<_SetRequest> requestsIt = request.getItemsList().iterator();
+          // The request items were built in the map's iteration order. The responses echo the
+          // original values rather than the possibly compressed ones that were sent.
+          final Iterator<Map.Entry<ByteString, ByteString>> entriesIt =
+              keysToValues.entrySet().iterator();
           final Iterator<_SetResponse> responsesIt = responses.iterator();
 
           final Map<String, SetResponse> responseMap = new HashMap<>();
-          while (requestsIt.hasNext() && responsesIt.hasNext()) {
-            final _SetRequest setRequest = requestsIt.next();
-            final String key = setRequest.getCacheKey().toStringUtf8();
+          while (entriesIt.hasNext() && responsesIt.hasNext()) {
+            final Map.Entry<ByteString, ByteString> entry = entriesIt.next();
+            final String key = entry.getKey().toStringUtf8();
             final SetResponse setResponse =
-                convertSetResponse(setRequest.getCacheBody(), responsesIt.next());
+                convertSetResponse(entry.getValue(), responsesIt.next());
             responseMap.put(key, setResponse);
           }
           return new SetBatchResponse.Success(responseMap);
@@ -1656,6 +2421,42 @@ final class ScsDataClient extends ScsClientBase {
     return executeGrpcBatchFunction(stubMethod, success, error);
   }
 
+  /**
+   * Sends a setBatch request on behalf of individually batched sets.
+   *
+   * @return one response per item, in the order of the items.
+   */
+  private CompletableFuture<List<SetResponse>> sendSetBatchItems(
+      String cacheName, List<SetBatchItem> items, Duration ttl) {
+    final _SetBatchRequest request =
+        _SetBatchRequest.newBuilder()
+            .addAllItems(
+                items.stream()
+                    .map(item -> buildSetRequest(item.key, item.value, ttl))
+                    .collect(Collectors.toList()))
+            .build();
+
+    final Consumer<StreamObserver<_SetResponse>> stubMethod =
+        observer ->
+            scsDataGrpcStubsManager.getObservableStub(cacheName).setBatch(request, observer);
+
+    final Function<List<_SetResponse>, List<SetResponse>> success =
+        responses -> {
+          final List<SetResponse> setResponses = new ArrayList<>(responses.size());
+          for (int i = 0; i < responses.size() && i < items.size(); i++) {
+            setResponses.add(convertSetResponse(items.get(i).value, responses.get(i)));
+          }
+          return setResponses;
+        };
+
+    final Function<Throwable, List<SetResponse>> error =
+        e ->
+            Collections.nCopies(
+                items.size(), new SetResponse.Error(CacheServiceExceptionMapper.convert(e)));
+
+    return executeGrpcBatchFunction(stubMethod, success, error);
+  }
+
   private SetResponse convertSetResponse(ByteString value, _SetResponse response) {
     final ECacheResult result = response.getResult();
 
@@ -1674,10 +2475,10 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<IncrementResponse> sendIncrement(
       String cacheName, ByteString field, long amount, Duration ttl) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
     final Supplier<ListenableFuture<_IncrementResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .increment(buildIncrementRequest(field, amount, ttl));
 
     final Function<_IncrementResponse, IncrementResponse> success =
@@ -1692,11 +2493,10 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<SetIfNotExistsResponse> sendSetIfNotExists(
       String cacheName, ByteString key, ByteString value, Duration ttl) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
-
     final Supplier<ListenableFuture<_SetIfNotExistsResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .setIfNotExists(buildSetIfNotExistsRequest(key, value, ttl));
 
     final Function<_SetIfNotExistsResponse, SetIfNotExistsResponse> success =
@@ -1721,12 +2521,8 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<UpdateTtlResponse> sendUpdateTtl(
       String cacheName, ByteString key, Duration ttl) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
-
     final Supplier<ListenableFuture<_UpdateTtlResponse>> stubSupplier =
-        () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-                .updateTtl(buildUpdateTtlRequest(key, ttl));
+        () -> scsDataGrpcStubsManager.getStub(cacheName).updateTtl(buildUpdateTtlRequest(key, ttl));
 
     final Function<_UpdateTtlResponse, UpdateTtlResponse> success =
         rsp -> {
@@ -1749,12 +2545,9 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<IncreaseTtlResponse> sendIncreaseTtl(
       String cacheName, ByteString key, Duration ttl) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
-
     final Supplier<ListenableFuture<_UpdateTtlResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-                .updateTtl(buildIncreaseTtlRequest(key, ttl));
+            scsDataGrpcStubsManager.getStub(cacheName).updateTtl(buildIncreaseTtlRequest(key, ttl));
 
     final Function<_UpdateTtlResponse, IncreaseTtlResponse> success =
         rsp -> {
@@ -1779,12 +2572,9 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<DecreaseTtlResponse> sendDecreaseTtl(
       String cacheName, ByteString key, Duration ttl) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
-
     final Supplier<ListenableFuture<_UpdateTtlResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-                .updateTtl(buildDecreaseTtlRequest(key, ttl));
+            scsDataGrpcStubsManager.getStub(cacheName).updateTtl(buildDecreaseTtlRequest(key, ttl));
 
     final Function<_UpdateTtlResponse, DecreaseTtlResponse> success =
         rsp -> {
@@ -1807,12 +2597,16 @@ final class ScsDataClient extends ScsClientBase {
   }
 
   private CompletableFuture<ItemGetTtlResponse> sendItemGetTtl(String cacheName, ByteString key) {
+    return executeHedged(channel -> sendItemGetTtl(cacheName, key, channel));
+  }
 
-    final Metadata metadata = metadataWithCache(cacheName);
+  private CompletableFuture<ItemGetTtlResponse> sendItemGetTtl(
+      String cacheName, ByteString key, int channel) {
 
     final Supplier<ListenableFuture<_ItemGetTtlResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName, channel)
                 .itemGetTtl(buildItemGetTtlRequest(key));
 
     final Function<_ItemGetTtlResponse, ItemGetTtlResponse> success =
@@ -1838,9 +2632,9 @@ final class ScsDataClient extends ScsClientBase {
       String cacheName, ByteString setName, ByteString element, CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetUnionResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .setUnion(buildSetUnionRequest(setName, Collections.singleton(element), ttl));
 
     // Build a CompletableFuture to return to caller
@@ -1873,16 +2667,16 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, setName, returnFuture);
   }
 
   private CompletableFuture<SetAddElementsResponse> sendSetAddElements(
       String cacheName, ByteString setName, Iterable<ByteString> elements, CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetUnionResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .setUnion(buildSetUnionRequest(setName, elements, ttl));
 
     // Build a CompletableFuture to return to caller
@@ -1915,16 +2709,16 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, setName, returnFuture);
   }
 
   private CompletableFuture<SetRemoveElementResponse> sendSetRemoveElement(
       String cacheName, ByteString setName, ByteString element) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetDifferenceResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .setDifference(buildSetDifferenceRequest(setName, Collections.singleton(element)));
 
     // Build a CompletableFuture to return to caller
@@ -1957,16 +2751,16 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, setName, returnFuture);
   }
 
   private CompletableFuture<SetRemoveElementsResponse> sendSetRemoveElements(
       String cacheName, ByteString setName, Iterable<ByteString> elements) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetDifferenceResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .setDifference(buildSetDifferenceRequest(setName, elements));
 
     // Build a CompletableFuture to return to caller
@@ -1999,17 +2793,20 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, setName, returnFuture);
   }
 
   private CompletableFuture<SetFetchResponse> sendSetFetch(String cacheName, ByteString setName) {
+    return executeHedged(channel -> sendSetFetch(cacheName, setName, channel));
+  }
+
+  private CompletableFuture<SetFetchResponse> sendSetFetch(
+      String cacheName, ByteString setName, int channel) {
     checkCacheNameValid(cacheName);
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .setFetch(buildSetFetchRequest(setName));
+        scsDataGrpcStubsManager.getStub(cacheName, channel).setFetch(buildSetFetchRequest(setName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<SetFetchResponse> returnFuture =
@@ -2056,9 +2853,9 @@ final class ScsDataClient extends ScsClientBase {
       CollectionTtl collectionTtl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetPutResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .sortedSetPut(
                 buildSortedSetPutRequest(
                     sortedSetName,
@@ -2095,7 +2892,7 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, sortedSetName, returnFuture);
   }
 
   private CompletableFuture<SortedSetPutElementsResponse> sendSortedSetPutElements(
@@ -2105,9 +2902,9 @@ final class ScsDataClient extends ScsClientBase {
       CollectionTtl collectionTtl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetPutResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .sortedSetPut(buildSortedSetPutRequest(sortedSetName, elements, collectionTtl));
 
     // Build a CompletableFuture to return to caller
@@ -2140,7 +2937,7 @@ final class ScsDataClient extends ScsClientBase {
         // Execute on same thread that called execute on CompletionStage
         MoreExecutors.directExecutor());
 
-    return returnFuture;
+    return collectionWritten(cacheName, sortedSetName, returnFuture);
   }
 
   private CompletableFuture<SortedSetFetchResponse> sendSortedSetFetchByRank(
@@ -2151,9 +2948,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nullable SortOrder order) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .sortedSetFetch(
                 buildSortedSetFetchRequestByRank(sortedSetName, startRank, endRank, order));
 
@@ -2206,9 +3003,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nullable Integer count) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_SortedSetFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .sortedSetFetch(
                 buildSortedSetFetchRequestByScore(
                     sortedSetName, minScore, maxScore, order, offset, count));
@@ -2254,11 +3051,11 @@ final class ScsDataClient extends ScsClientBase {
 
   private CompletableFuture<SortedSetGetRankResponse> sendSortedSetGetRank(
       String cacheName, ByteString sortedSetName, ByteString value, @Nullable SortOrder order) {
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_SortedSetGetRankResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetGetRank(buildSortedSetGetRank(sortedSetName, value, order));
 
     final Function<_SortedSetGetRankResponse, SortedSetGetRankResponse> success =
@@ -2278,11 +3075,11 @@ final class ScsDataClient extends ScsClientBase {
 
   private CompletableFuture<SortedSetGetScoreResponse> sendSortedSetGetScore(
       String cacheName, ByteString sortedSetName, ByteString value) {
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_SortedSetGetScoreResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetGetScore(
                     buildSortedSetGetScores(sortedSetName, Collections.singletonList(value)));
 
@@ -2321,11 +3118,10 @@ final class ScsDataClient extends ScsClientBase {
   private CompletableFuture<SortedSetGetScoresResponse> sendSortedSetGetScores(
       String cacheName, ByteString sortedSetName, List<ByteString> values) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
-
     final Supplier<ListenableFuture<_SortedSetGetScoreResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetGetScore(buildSortedSetGetScores(sortedSetName, values));
 
     final Function<_SortedSetGetScoreResponse, SortedSetGetScoresResponse> success =
@@ -2366,11 +3162,11 @@ final class ScsDataClient extends ScsClientBase {
       ByteString value,
       double amount,
       CollectionTtl ttl) {
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_SortedSetIncrementResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetIncrement(buildSortedSetIncrement(sortedSetName, value, amount, ttl));
 
     final Function<_SortedSetIncrementResponse, SortedSetIncrementScoreResponse> success =
@@ -2379,16 +3175,17 @@ final class ScsDataClient extends ScsClientBase {
     final Function<Throwable, SortedSetIncrementScoreResponse> failure =
         e -> new SortedSetIncrementScoreResponse.Error(CacheServiceExceptionMapper.convert(e));
 
-    return executeGrpcFunction(stubSupplier, success, failure);
+    return collectionWritten(
+        cacheName, sortedSetName, executeGrpcFunction(stubSupplier, success, failure));
   }
 
   private CompletableFuture<SortedSetRemoveElementResponse> sendSortedSetRemoveElement(
       String cacheName, ByteString sortedSetName, ByteString value) {
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_SortedSetRemoveResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetRemove(buildSortedSetRemove(sortedSetName, Collections.singleton(value)));
 
     final Function<_SortedSetRemoveResponse, SortedSetRemoveElementResponse> success =
@@ -2397,16 +3194,17 @@ final class ScsDataClient extends ScsClientBase {
     final Function<Throwable, SortedSetRemoveElementResponse> failure =
         e -> new SortedSetRemoveElementResponse.Error(CacheServiceExceptionMapper.convert(e));
 
-    return executeGrpcFunction(stubSupplier, success, failure);
+    return collectionWritten(
+        cacheName, sortedSetName, executeGrpcFunction(stubSupplier, success, failure));
   }
 
   private CompletableFuture<SortedSetRemoveElementsResponse> sendSortedSetRemoveElements(
       String cacheName, ByteString sortedSetName, Iterable<ByteString> values) {
-    final Metadata metadata = metadataWithCache(cacheName);
 
     final Supplier<ListenableFuture<_SortedSetRemoveResponse>> stubSupplier =
         () ->
-            attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+            scsDataGrpcStubsManager
+                .getStub(cacheName)
                 .sortedSetRemove(buildSortedSetRemove(sortedSetName, values));
 
     final Function<_SortedSetRemoveResponse, SortedSetRemoveElementsResponse> success =
@@ -2415,7 +3213,8 @@ final class ScsDataClient extends ScsClientBase {
     final Function<Throwable, SortedSetRemoveElementsResponse> failure =
         e -> new SortedSetRemoveElementsResponse.Error(CacheServiceExceptionMapper.convert(e));
 
-    return executeGrpcFunction(stubSupplier, success, failure);
+    return collectionWritten(
+        cacheName, sortedSetName, executeGrpcFunction(stubSupplier, success, failure));
   }
 
   private CompletableFuture<ListConcatenateBackResponse> sendListConcatenateBack(
@@ -2426,9 +3225,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListConcatenateBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listConcatenateBack(
                 buildListConcatenateBackRequest(listName, values, truncateFrontToSize, ttl));
 
@@ -2474,9 +3273,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListConcatenateFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listConcatenateFront(
                 buildListConcatenateFrontRequest(listName, values, truncateBackToSize, ttl));
 
@@ -2519,11 +3318,21 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull ByteString listName,
       @Nullable Integer startIndex,
       @Nullable Integer endIndex) {
+    return executeHedged(
+        channel -> sendListFetch(cacheName, listName, startIndex, endIndex, channel));
+  }
+
+  private CompletableFuture<ListFetchResponse> sendListFetch(
+      @Nonnull String cacheName,
+      @Nonnull ByteString listName,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex,
+      int channel) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName, channel)
             .listFetch(buildListFetchRequest(listName, startIndex, endIndex));
 
     // Build a CompletableFuture to return to caller
@@ -2567,10 +3376,8 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull String cacheName, @Nonnull ByteString listName) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListLengthResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listLength(buildListLengthRequest(listName));
+        scsDataGrpcStubsManager.getStub(cacheName).listLength(buildListLengthRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<ListLengthResponse> returnFuture =
@@ -2613,10 +3420,8 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull String cacheName, @Nonnull ByteString listName) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPopBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPopBack(buildListPopBackRequest(listName));
+        scsDataGrpcStubsManager.getStub(cacheName).listPopBack(buildListPopBackRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<ListPopBackResponse> returnFuture =
@@ -2663,9 +3468,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPushBackResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listPushBack(buildListPushBackRequest(listName, value, truncateFrontToSize, ttl));
 
     // Build a CompletableFuture to return to caller
@@ -2706,10 +3511,8 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull String cacheName, @Nonnull ByteString listName) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPopFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
-            .listPopFront(buildListPopFrontRequest(listName));
+        scsDataGrpcStubsManager.getStub(cacheName).listPopFront(buildListPopFrontRequest(listName));
 
     // Build a CompletableFuture to return to caller
     final CompletableFuture<ListPopFrontResponse> returnFuture =
@@ -2756,9 +3559,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListPushFrontResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listPushFront(buildListPushFrontRequest(listName, value, truncateBackToSize, ttl));
 
     // Build a CompletableFuture to return to caller
@@ -2799,9 +3602,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull String cacheName, @Nonnull ByteString listName, @Nonnull ByteString value) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListRemoveResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listRemove(buildListRemoveValueRequest(listName, value));
 
     // Build a CompletableFuture to return to caller
@@ -2845,9 +3648,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nullable Integer endIndex) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_ListRetainResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .listRetain(buildListRetainRequest(listName, startIndex, endIndex));
 
     // Build a CompletableFuture to return to caller
@@ -2886,11 +3689,16 @@ final class ScsDataClient extends ScsClientBase {
 
   private CompletableFuture<DictionaryFetchResponse> sendDictionaryFetch(
       @Nonnull String cacheName, @Nonnull ByteString dictionaryName) {
+    return executeHedged(channel -> sendDictionaryFetch(cacheName, dictionaryName, channel));
+  }
+
+  private CompletableFuture<DictionaryFetchResponse> sendDictionaryFetch(
+      @Nonnull String cacheName, @Nonnull ByteString dictionaryName, int channel) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryFetchResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName, channel)
             .dictionaryFetch(buildDictionaryFetchRequest(dictionaryName));
 
     // Build a CompletableFuture to return to caller
@@ -2917,7 +3725,7 @@ final class ScsDataClient extends ScsClientBase {
                       .collect(
                           Collectors.toMap(
                               _DictionaryFieldValuePair::getField,
-                              _DictionaryFieldValuePair::getValue));
+                              pair -> decompressValue(pair.getValue())));
               returnFuture.complete(new DictionaryFetchResponse.Hit(fieldsToValues));
             } else if (rsp.hasMissing()) {
               returnFuture.complete(new DictionaryFetchResponse.Miss());
@@ -2945,9 +3753,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionarySetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .dictionarySet(buildDictionarySetFieldRequest(dictionaryName, field, value, ttl));
 
     // Build a CompletableFuture to return to caller
@@ -2981,7 +3789,7 @@ final class ScsDataClient extends ScsClientBase {
             .directExecutor()); // Execute on same thread that called execute on CompletionStage
     // returned
 
-    return returnFuture;
+    return collectionWritten(cacheName, dictionaryName, returnFuture);
   }
 
   private CompletableFuture<DictionarySetFieldsResponse> sendDictionarySetFields(
@@ -2991,9 +3799,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionarySetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .dictionarySet(buildDictionarySetFieldsRequest(dictionaryName, elements, ttl));
 
     // Build a CompletableFuture to return to caller
@@ -3027,16 +3835,25 @@ final class ScsDataClient extends ScsClientBase {
             .directExecutor()); // Execute on same thread that called execute on CompletionStage
     // returned
 
-    return returnFuture;
+    return collectionWritten(cacheName, dictionaryName, returnFuture);
   }
 
   private CompletableFuture<DictionaryGetFieldResponse> sendDictionaryGetField(
       @Nonnull String cacheName, @Nonnull ByteString dictionaryName, @Nonnull ByteString field) {
+    return executeHedged(
+        channel -> sendDictionaryGetField(cacheName, dictionaryName, field, channel));
+  }
+
+  private CompletableFuture<DictionaryGetFieldResponse> sendDictionaryGetField(
+      @Nonnull String cacheName,
+      @Nonnull ByteString dictionaryName,
+      @Nonnull ByteString field,
+      int channel) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryGetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName, channel)
             .dictionaryGet(buildDictionaryGetFieldRequest(dictionaryName, field));
 
     // Build a CompletableFuture to return to caller
@@ -3072,7 +3889,8 @@ final class ScsDataClient extends ScsClientBase {
               } else {
                 returnFuture.complete(
                     new DictionaryGetFieldResponse.Hit(
-                        field, rsp.getFound().getItemsList().get(0).getCacheBody()));
+                        field,
+                        decompressValue(rsp.getFound().getItemsList().get(0).getCacheBody())));
               }
             }
           }
@@ -3095,10 +3913,19 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull String cacheName,
       @Nonnull ByteString dictionaryName,
       @Nonnull List<ByteString> fields) {
+    return executeHedged(
+        channel -> sendDictionaryGetFields(cacheName, dictionaryName, fields, channel));
+  }
+
+  private CompletableFuture<DictionaryGetFieldsResponse> sendDictionaryGetFields(
+      @Nonnull String cacheName,
+      @Nonnull ByteString dictionaryName,
+      @Nonnull List<ByteString> fields,
+      int channel) {
 
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryGetResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName, channel)
             .dictionaryGet(buildDictionaryGetFieldsRequest(dictionaryName, fields));
 
     // Build a CompletableFuture to return to caller
@@ -3128,7 +3955,8 @@ final class ScsDataClient extends ScsClientBase {
                 final _DictionaryGetResponse._DictionaryGetResponsePart part = elements.get(i);
                 if (part.getResult().equals(ECacheResult.Hit)) {
                   responses.add(
-                      new DictionaryGetFieldResponse.Hit(fields.get(i), part.getCacheBody()));
+                      new DictionaryGetFieldResponse.Hit(
+                          fields.get(i), decompressValue(part.getCacheBody())));
                 } else if (part.getResult().equals(ECacheResult.Miss)) {
                   responses.add(new DictionaryGetFieldResponse.Miss(fields.get(i)));
                 } else {
@@ -3165,9 +3993,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull CollectionTtl ttl) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryIncrementResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .dictionaryIncrement(
                 buildDictionaryIncrementRequest(dictionaryName, field, amount, ttl));
 
@@ -3202,16 +4030,16 @@ final class ScsDataClient extends ScsClientBase {
             .directExecutor()); // Execute on same thread that called execute on CompletionStage
     // returned
 
-    return returnFuture;
+    return collectionWritten(cacheName, dictionaryName, returnFuture);
   }
 
   private CompletableFuture<DictionaryRemoveFieldResponse> sendDictionaryRemoveField(
       @Nonnull String cacheName, @Nonnull ByteString dictionaryName, @Nonnull ByteString field) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryDeleteResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .dictionaryDelete(buildDictionaryRemoveFieldRequest(dictionaryName, field));
 
     // Build a CompletableFuture to return to caller
@@ -3245,7 +4073,7 @@ final class ScsDataClient extends ScsClientBase {
             .directExecutor()); // Execute on same thread that called execute on CompletionStage
     // returned
 
-    return returnFuture;
+    return collectionWritten(cacheName, dictionaryName, returnFuture);
   }
 
   private CompletableFuture<DictionaryRemoveFieldsResponse> sendDictionaryRemoveFields(
@@ -3254,9 +4082,9 @@ final class ScsDataClient extends ScsClientBase {
       @Nonnull List<ByteString> fields) {
 
     // Submit request to non-blocking stub
-    final Metadata metadata = metadataWithCache(cacheName);
     final ListenableFuture<_DictionaryDeleteResponse> rspFuture =
-        attachMetadata(scsDataGrpcStubsManager.getStub(), metadata)
+        scsDataGrpcStubsManager
+            .getStub(cacheName)
             .dictionaryDelete(buildDictionaryRemoveFieldsRequest(dictionaryName, fields));
 
     // Build a CompletableFuture to return to caller
@@ -3290,7 +4118,7 @@ final class ScsDataClient extends ScsClientBase {
             .directExecutor()); // Execute on same thread that called execute on CompletionStage
     // returned
 
-    return returnFuture;
+    return collectionWritten(cacheName, dictionaryName, returnFuture);
   }
 
   private _GetRequest buildGetRequest(ByteString key) {
@@ -3303,6 +4131,14 @@ final class ScsDataClient extends ScsClientBase {
     return _GetBatchRequest.newBuilder().addAllItems(getRequests).build();
   }
 
+  private ByteString compressValue(ByteString value) {
+    return valueCompressor != null ? valueCompressor.compress(value) : value;
+  }
+
+  private ByteString decompressValue(ByteString value) {
+    return valueCompressor != null ? valueCompressor.decompress(value) : value;
+  }
+
   private _DeleteRequest buildDeleteRequest(ByteString key) {
     return _DeleteRequest.newBuilder().setCacheKey(key).build();
   }
@@ -3310,7 +4146,7 @@ final class ScsDataClient extends ScsClientBase {
   private _SetRequest buildSetRequest(ByteString key, ByteString value, Duration ttl) {
     return _SetRequest.newBuilder()
         .setCacheKey(key)
-        .setCacheBody(value)
+        .setCacheBody(compressValue(value))
         .setTtlMilliseconds(ttl.toMillis())
         .build();
   }
@@ -3336,7 +4172,7 @@ final class ScsDataClient extends ScsClientBase {
       ByteString key, ByteString value, Duration ttl) {
     return _SetIfNotExistsRequest.newBuilder()
         .setCacheKey(key)
-        .setCacheBody(value)
+        .setCacheBody(compressValue(value))
         .setTtlMilliseconds(ttl.toMillis())
         .build();
   }
@@ -3691,7 +4527,10 @@ final class ScsDataClient extends ScsClientBase {
 
   private _DictionaryFieldValuePair toSingletonFieldValuePair(
       @Nonnull ByteString field, @Nonnull ByteString value) {
-    return _DictionaryFieldValuePair.newBuilder().setField(field).setValue(value).build();
+    return _DictionaryFieldValuePair.newBuilder()
+        .setField(field)
+        .setValue(compressValue(value))
+        .build();
   }
 
   private _DictionarySetRequest buildDictionarySetFieldsRequest(
@@ -3713,7 +4552,7 @@ final class ScsDataClient extends ScsClientBase {
             fieldValuePair ->
                 _DictionaryFieldValuePair.newBuilder()
                     .setField(fieldValuePair.getKey())
-                    .setValue(fieldValuePair.getValue())
+                    .setValue(compressValue(fieldValuePair.getValue()))
                     .build())
         .collect(Collectors.toList());
   }
@@ -3774,6 +4613,69 @@ final class ScsDataClient extends ScsClientBase {
 
   @Override
   public void doClose() {
+    if (autoBatchScheduler != null) {
+      // Send whatever is still buffered, and give the batches in flight time to complete before
+      // the channels go away.
+      final CompletableFuture<Void> batchesSent =
+          CompletableFuture.allOf(getBatcher.flushAll(), setBatcher.flushAll());
+      try {
+        batchesSent.get(BATCH_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException | TimeoutException e) {
+        LOGGER.warn("Closing the client before all of its batched requests completed.", e);
+      }
+    }
+    // A scheduler shared through the runtime outlives the client.
+    if (runtime == null) {
+      if (autoBatchScheduler != null) {
+        autoBatchScheduler.shutdown();
+      }
+      if (hedgeScheduler != null) {
+        hedgeScheduler.shutdown();
+      }
+    }
     scsDataGrpcStubsManager.close();
+    if (valueCompressor != null) {
+      valueCompressor.close();
+    }
+  }
+
+  /** Identifies the sets that can be sent in the same setBatch request. */
+  private static final class SetBatchKey {
+    private final String cacheName;
+    private final Duration ttl;
+
+    private SetBatchKey(String cacheName, Duration ttl) {
+      this.cacheName = cacheName;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SetBatchKey)) {
+        return false;
+      }
+      final SetBatchKey other = (SetBatchKey) o;
+      return cacheName.equals(other.cacheName) && ttl.equals(other.ttl);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * cacheName.hashCode() + ttl.hashCode();
+    }
+  }
+
+  private static final class SetBatchItem {
+    private final ByteString key;
+    private final ByteString value;
+
+    private SetBatchItem(ByteString key, ByteString value) {
+      this.key = key;
+      this.value = value;
+    }
   }
 }
@@ -1,11 +1,17 @@
 package momento.sdk;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import grpc.cache_client.PingGrpc;
 import grpc.cache_client.ScsGrpc;
+import grpc.cache_client._PingRequest;
+import grpc.cache_client._PingResponse;
 import io.grpc.ClientInterceptor;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -15,23 +21,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.Configuration;
 import momento.sdk.config.ReadConcern;
 import momento.sdk.config.middleware.Middleware;
 import momento.sdk.config.middleware.MiddlewareRequestHandlerContext;
+import momento.sdk.config.transport.ElasticChannelPoolConfiguration;
+import momento.sdk.config.transport.GrpcConfiguration;
 import momento.sdk.exceptions.ConnectionFailedException;
 import momento.sdk.internal.GrpcChannelOptions;
 import org.slf4j.Logger;
@@ -46,68 +54,107 @@ import org.slf4j.LoggerFactory;
  */
 final class ScsDataGrpcStubsManager implements AutoCloseable {
 
-  private final List<ManagedChannel> channels;
-  private final List<ScsGrpc.ScsFutureStub> futureStubs;
-  private final List<ScsGrpc.ScsStub> observableStubs;
-  private final AtomicInteger nextStubIndex = new AtomicInteger(0);
   public static final UUID CONNECTION_ID_KEY = UUID.randomUUID();
 
+  // The pool grows once the calls in flight per channel reach this share of the streams an HTTP/2
+  // connection allows, and shrinks once a channel fewer would have stayed below half of them.
+  private static final int GROW_AT_IN_FLIGHT_PER_CHANNEL =
+      GrpcChannelOptions.NUM_CONCURRENT_STREAMS_PER_GRPC_CHANNEL * 4 / 5;
+  private static final int SHRINK_AT_IN_FLIGHT_PER_CHANNEL =
+      GrpcChannelOptions.NUM_CONCURRENT_STREAMS_PER_GRPC_CHANNEL / 2;
+
+  private final CredentialProvider credentialProvider;
+  private final Configuration configuration;
+  private final ChannelSelector channelSelector;
   private final int numGrpcChannels;
+  private final @Nullable ElasticChannelPoolConfiguration elasticChannelPool;
   private final Duration deadline;
 
-  /**
-   * These two executors are used by {@link RetryClientInterceptor} to schedule and execute retries
-   * on failed gRPC requests. One is a single threaded scheduling executor {@link
-   * ScheduledExecutorService} that's only responsible to schedule retries with a given delay. The
-   * other executor {@link ThreadPoolExecutor} is a dynamic executor that spawns threads as
-   * necessary and executes the retries (essentially doing the I/O work).
-   *
-   * <p>{@link ScheduledExecutorService} creates idle threads and hence the choice of using two
-   * executors. The small overhead of a single thread doing the scheduling negates the implications
-   * of creating potentially hundreds of idle threads with the ScheduledExecutorService. This
-   * executor is chosen to avoid a Thread.sleep() while doing retries. There are no available
-   * configurations to ScheduledExecutorService such that it grows dynamically.
-   *
-   * <p>The {@link ThreadPoolExecutor} has a size of 0 and grows onDemand. The maximumPoolSize is
-   * present to cap the number of threads we create for retries; where the {@link
-   * LinkedBlockingQueue} essentially stores any pending retries. Note that the keep alive time for
-   * each thread is 60 seconds, beyond which the JVM will destroy the thread. This is the default
-   * value of {@link Executors#newCachedThreadPool()} and also applies in our situation as even with
-   * backoffs, one retry should be below 60 seconds. We aren't directly using a cached thread pool
-   * because it grows unbounded.
-   */
-  private final ScheduledExecutorService retryScheduler;
+  // The channels in use. It is replaced rather than modified when the pool grows or shrinks, so a
+  // request reads it once without locking.
+  private volatile ChannelPool pool;
+  private final Object poolLock = new Object();
+  private boolean closed;
+  // The most calls in flight across the pool since the pool last considered shrinking.
+  private final AtomicInteger peakInFlight = new AtomicInteger();
+  // Channels taken out of the pool, which are shut down once calls already headed for them start.
+  private final Map<ManagedChannel, ScheduledFuture<?>> retiringChannels =
+      new ConcurrentHashMap<>();
+
+  // The most caches whose stubs are kept for reuse on each channel.
+  private static final int MAX_CACHED_CACHE_NAMES = 256;
 
-  private final ExecutorService retryExecutor;
+  // Runs the timers of the pool: the connection timeout, shrinking, and retiring channels.
+  private final ScheduledExecutorService scheduler;
 
-  // An arbitrary selection of twice the number of available processors.
-  private static final int MAX_RETRY_THREAD_POOL_SIZE = 64;
-  // Timeout to keep threads idle/alive in the retry thread pool
-  private static final long RETRY_THREAD_POOL_KEEP_ALIVE_SECONDS = 60L;
+  // Delays the retries of the RetryClientInterceptor and sends them once their delay expires.
+  private final RetryScheduler retryScheduler;
+  // The retries all channels may still send, or null if only the retry strategy limits them.
+  private final @Nullable RetryBudget retryBudget;
+  // The circuit breakers shared by all channels, or null if circuit breaking is disabled.
+  private final @Nullable CircuitBreakerInterceptor circuitBreakerInterceptor;
+  // The rate limits shared by all channels, or null if the client does not limit its rate.
+  private final @Nullable RateLimitInterceptor rateLimitInterceptor;
+
+  // The runtime whose channels and executors this uses, or null if it has its own.
+  private final @Nullable MomentoRuntime runtime;
+  private final @Nullable ScheduledFuture<?> shrinkTask;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ScsDataGrpcStubsManager.class);
 
   ScsDataGrpcStubsManager(
       @Nonnull CredentialProvider credentialProvider, @Nonnull Configuration configuration) {
-    this.deadline = configuration.getTransportStrategy().getGrpcConfiguration().getDeadline();
-    this.numGrpcChannels =
-        configuration.getTransportStrategy().getGrpcConfiguration().getNumUnaryGrpcChannels();
-
-    this.retryScheduler = Executors.newSingleThreadScheduledExecutor();
-    this.retryExecutor =
-        new ThreadPoolExecutor(
-            0,
-            MAX_RETRY_THREAD_POOL_SIZE,
-            RETRY_THREAD_POOL_KEEP_ALIVE_SECONDS,
-            TimeUnit.SECONDS,
-            new LinkedBlockingQueue<>());
-
-    this.channels =
-        IntStream.range(0, this.numGrpcChannels)
-            .mapToObj(i -> setupChannel(credentialProvider, configuration))
-            .collect(Collectors.toList());
-    this.futureStubs = channels.stream().map(ScsGrpc::newFutureStub).collect(Collectors.toList());
-    this.observableStubs = channels.stream().map(ScsGrpc::newStub).collect(Collectors.toList());
+    this(credentialProvider, configuration, null);
+  }
+
+  ScsDataGrpcStubsManager(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull Configuration configuration,
+      @Nullable MomentoRuntime runtime) {
+    final GrpcConfiguration grpcConfiguration =
+        configuration.getTransportStrategy().getGrpcConfiguration();
+    this.credentialProvider = credentialProvider;
+    this.configuration = configuration;
+    this.deadline = grpcConfiguration.getDeadline();
+    this.numGrpcChannels = grpcConfiguration.getNumUnaryGrpcChannels();
+    this.elasticChannelPool = grpcConfiguration.getElasticChannelPool().orElse(null);
+    this.channelSelector = new ChannelSelector(grpcConfiguration.getChannelSelectionStrategy());
+    this.retryBudget =
+        configuration.getRetryBudgetConfiguration().map(RetryBudget::new).orElse(null);
+
+    this.runtime = runtime;
+    if (runtime != null) {
+      this.scheduler = runtime.getScheduler();
+      this.retryScheduler = new RetryScheduler(runtime.getEventLoopGroup());
+    } else {
+      this.scheduler = Executors.newSingleThreadScheduledExecutor();
+      this.retryScheduler = new RetryScheduler();
+    }
+    this.rateLimitInterceptor =
+        configuration
+            .getRateLimitConfiguration()
+            .map(rateLimits -> new RateLimitInterceptor(rateLimits, scheduler))
+            .orElse(null);
+    this.circuitBreakerInterceptor =
+        configuration
+            .getCircuitBreakerConfiguration()
+            .map(breakers -> new CircuitBreakerInterceptor(breakers, scheduler))
+            .orElse(null);
+
+    this.pool =
+        new ChannelPool(
+            IntStream.range(0, this.numGrpcChannels)
+                .mapToObj(i -> new DataChannel(setupChannel(i)))
+                .collect(Collectors.toList()));
+
+    if (elasticChannelPool != null) {
+      final long coolDownMillis = elasticChannelPool.getCoolDown().toMillis();
+      this.shrinkTask =
+          scheduler.scheduleWithFixedDelay(
+              this::shrinkIfOverProvisioned, coolDownMillis, coolDownMillis, TimeUnit.MILLISECONDS);
+    } else {
+      this.shrinkTask = null;
+    }
   }
 
   /**
@@ -117,32 +164,107 @@ final class ScsDataGrpcStubsManager implements AutoCloseable {
    *     attempt.
    */
   public void connect(final long timeoutSeconds) {
-    // TODO: client initialization time could be optimized, in the case where a user configures more
-    // than one gRPC
-    //  channel, by attempting to connect these channels asynchronously rather than serially.
-    for (ManagedChannel channel : channels) {
-      final ConnectivityState currentState = channel.getState(true /* tryToConnect */);
-      if (ConnectivityState.READY.equals(currentState)) {
-        LOGGER.debug("Connected to Momento's server! Happy Caching!");
-        continue;
+    try {
+      connectAsync(Duration.ofSeconds(timeoutSeconds)).get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ConnectionFailedException) {
+        throw (ConnectionFailedException) e.getCause();
       }
+      throw new ConnectionFailedException(
+          "Error while waiting for eager connection to establish.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConnectionFailedException(
+          "Error while waiting for eager connection to establish.", e);
+    }
+  }
+
+  /**
+   * Connects every channel concurrently, within one timeout shared by all of them.
+   *
+   * @param timeout the time beyond which to give up on connecting.
+   * @return a future that completes once every channel is connected, or fails with a {@link
+   *     ConnectionFailedException} if one of them cannot connect in time.
+   */
+  CompletableFuture<Void> connectAsync(Duration timeout) {
+    final Instant deadline = Instant.now().plus(timeout);
+    final CompletableFuture<?>[] connections =
+        pool.channels.stream()
+            .map(
+                channel -> {
+                  final CompletableFuture<Void> connectionFuture = new CompletableFuture<>();
+                  final ConnectivityState currentState = channel.getState(true /* tryToConnect */);
+                  if (ConnectivityState.READY.equals(currentState)) {
+                    LOGGER.debug("Connected to Momento's server! Happy Caching!");
+                    connectionFuture.complete(null);
+                  } else {
+                    eagerlyConnect(currentState, connectionFuture, channel, deadline);
+                  }
+                  return connectionFuture;
+                })
+            .toArray(CompletableFuture<?>[]::new);
+
+    final CompletableFuture<Void> connected = new CompletableFuture<>();
+    CompletableFuture.allOf(connections)
+        .whenComplete(
+            (ignored, e) -> {
+              if (e == null) {
+                connected.complete(null);
+              } else {
+                connected.completeExceptionally(
+                    e instanceof CompletionException ? e.getCause() : e);
+              }
+            });
+    final ScheduledFuture<?> timeoutTask =
+        scheduler.schedule(
+            () -> {
+              connected.completeExceptionally(
+                  new ConnectionFailedException(
+                      "Failed to connect within the allotted time of "
+                          + timeout.toMillis()
+                          + " milliseconds."));
+              for (CompletableFuture<?> connection : connections) {
+                connection.cancel(true);
+              }
+            },
+            timeout.toMillis(),
+            TimeUnit.MILLISECONDS);
+    connected.whenComplete((ignored, e) -> timeoutTask.cancel(false));
+    return connected;
+  }
 
-      final CompletableFuture<Void> connectionFuture = new CompletableFuture<>();
-      eagerlyConnect(
-          currentState, connectionFuture, channel, Instant.now().plusSeconds(timeoutSeconds));
-
-      try {
-        connectionFuture.get(timeoutSeconds, TimeUnit.SECONDS);
-      } catch (TimeoutException e) {
-        connectionFuture.cancel(true);
-        throw new ConnectionFailedException(
-            "Failed to connect within the allotted time of " + timeoutSeconds + " seconds.", e);
-      } catch (InterruptedException | ExecutionException e) {
-        connectionFuture.cancel(true);
-        throw new ConnectionFailedException(
-            "Error while waiting for eager connection to establish.", e);
+  /**
+   * Sends ping requests on every channel, so that the TLS session, HTTP/2 connection and client
+   * interceptors of each are exercised before the first real request. Failed pings are ignored.
+   *
+   * @param requestsPerChannel the number of pings to send on each channel.
+   * @return a future that completes once every ping has completed.
+   */
+  CompletableFuture<Void> ping(int requestsPerChannel) {
+    final List<CompletableFuture<Void>> pings = new ArrayList<>();
+    for (ManagedChannel channel : pool.channels) {
+      final PingGrpc.PingFutureStub stub = PingGrpc.newFutureStub(channel);
+      for (int i = 0; i < requestsPerChannel; i++) {
+        final CompletableFuture<Void> ping = new CompletableFuture<>();
+        Futures.addCallback(
+            stub.ping(_PingRequest.getDefaultInstance()),
+            new FutureCallback<_PingResponse>() {
+              @Override
+              public void onSuccess(_PingResponse rsp) {
+                ping.complete(null);
+              }
+
+              @Override
+              public void onFailure(@Nonnull Throwable e) {
+                LOGGER.debug("Warm-up ping failed", e);
+                ping.complete(null);
+              }
+            },
+            MoreExecutors.directExecutor());
+        pings.add(ping);
       }
     }
+    return CompletableFuture.allOf(pings.toArray(new CompletableFuture<?>[0]));
   }
 
   private static void eagerlyConnect(
@@ -185,18 +307,7 @@ final class ScsDataGrpcStubsManager implements AutoCloseable {
         });
   }
 
-  private ManagedChannel setupChannel(
-      CredentialProvider credentialProvider, Configuration configuration) {
-    int port = credentialProvider.getPort();
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getCacheEndpoint(), port);
-
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
-        configuration.getTransportStrategy().getGrpcConfiguration(),
-        channelBuilder,
-        credentialProvider.isEndpointSecure());
-
+  private ManagedChannel setupChannel(int slot) {
     final Map<Metadata.Key<String>, String> extraHeaders = new HashMap<>();
     if (configuration.getReadConcern() != ReadConcern.BALANCED) {
       extraHeaders.put(
@@ -214,53 +325,330 @@ final class ScsDataGrpcStubsManager implements AutoCloseable {
         new UserHeaderInterceptor(credentialProvider.getAuthToken(), "cache", extraHeaders));
     clientInterceptors.add(
         new RetryClientInterceptor(
-            configuration.getRetryStrategy(), retryScheduler, retryExecutor));
+            configuration.getRetryStrategy(), retryScheduler, retryBudget));
+    // Runs before the retries, so that a call takes a single token.
+    if (rateLimitInterceptor != null) {
+      clientInterceptors.add(rateLimitInterceptor);
+    }
+    // Runs before the rate limiter and the retries, so that a call failed by an open breaker takes
+    // no token and is not retried.
+    if (circuitBreakerInterceptor != null) {
+      clientInterceptors.add(circuitBreakerInterceptor);
+    }
+    // Interceptors run in reverse order, so this applies the deadline before anything else runs.
+    clientInterceptors.add(new DeadlineInterceptor(deadline));
+
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getCacheEndpoint(),
+        credentialProvider.getPort(),
+        credentialProvider.isEndpointSecure(),
+        configuration.getTransportStrategy().getGrpcConfiguration(),
+        clientInterceptors,
+        // An elastic pool sizes itself by the calls in flight on its channels, which only counts
+        // the calls of this client, so its channels are not shared.
+        elasticChannelPool != null ? null : "unary",
+        slot);
+  }
 
-    channelBuilder.intercept(clientInterceptors);
+  /**
+   * Returns a stub that sends the cache name header for the given cache.
+   *
+   * <p>The deadline is applied by {@link DeadlineInterceptor} when each call starts rather than on
+   * the stub, so the stubs for a cache are created once and reused, and getting one does not
+   * allocate.
+   *
+   * @param cacheName The cache the requests made with the stub are for.
+   * @return the stub for the next channel.
+   */
+  ScsGrpc.ScsFutureStub getStub(String cacheName) {
+    final ChannelPool pool = this.pool;
+    return pool.get(nextChannelIndex(pool)).stubsFor(cacheName).futureStub;
+  }
+
+  /**
+   * Returns a stream observable stub that sends the cache name header for the given cache. See
+   * {@link #getStub(String)}.
+   *
+   * @param cacheName The cache the requests made with the stub are for.
+   * @return the stub for the next channel.
+   */
+  ScsGrpc.ScsStub getObservableStub(String cacheName) {
+    final ChannelPool pool = this.pool;
+    return pool.get(nextChannelIndex(pool)).stubsFor(cacheName).observableStub;
+  }
 
-    return channelBuilder.build();
+  /**
+   * Returns a blocking stub that sends the cache name header for the given cache. See {@link
+   * #getStub(String)}.
+   *
+   * <p>Calls made with a blocking stub wait for the response by parking the calling thread, without
+   * holding a monitor, so they do not pin virtual threads to their carrier thread.
+   *
+   * @param cacheName The cache the requests made with the stub are for.
+   * @return the stub for the next channel.
+   */
+  ScsGrpc.ScsBlockingStub getBlockingStub(String cacheName) {
+    final ChannelPool pool = this.pool;
+    return pool.get(nextChannelIndex(pool)).stubsFor(cacheName).blockingStub;
   }
 
   /**
-   * Returns a stub with appropriate deadlines.
+   * Returns a stub for a given channel that sends the cache name header for the given cache. See
+   * {@link #getStub(String)}.
    *
-   * <p>Each stub is deliberately decorated with Deadline. Deadlines work differently than timeouts.
-   * When a deadline is set on a stub, it simply means that once the stub is created it must be used
-   * before the deadline expires. Hence, the stub returned from here should never be cached and the
-   * safest behavior is for clients to request a new stub each time.
+   * @param cacheName The cache the requests made with the stub are for.
+   * @param channelIndex The channel, as returned by {@link #nextChannelIndex()}. Successive indexes
+   *     wrap around, so adding one to an index gives a different channel if there is more than one.
+   *     If the pool has shrunk since the index was picked, it may give a different channel.
+   * @return the stub for the channel.
+   */
+  ScsGrpc.ScsFutureStub getStub(String cacheName, int channelIndex) {
+    return pool.getWrapped(channelIndex).stubsFor(cacheName).futureStub;
+  }
+
+  /**
+   * Returns a stream observable stub for a given channel that sends the cache name header for the
+   * given cache. See {@link #getStub(String, int)}.
    *
-   * <p><a href="https://github.com/grpc/grpc-java/issues/1495">more information</a>
+   * @param cacheName The cache the requests made with the stub are for.
+   * @param channelIndex The channel, as returned by {@link #nextChannelIndex()}.
+   * @return the stub for the channel.
    */
-  ScsGrpc.ScsFutureStub getStub() {
-    int nextStubIndex = this.nextStubIndex.getAndIncrement();
-    return futureStubs
-        .get(nextStubIndex % this.numGrpcChannels)
-        .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+  ScsGrpc.ScsStub getObservableStub(String cacheName, int channelIndex) {
+    return pool.getWrapped(channelIndex).stubsFor(cacheName).observableStub;
   }
 
   /**
-   * Returns a stream observable stub with appropriate deadlines.
+   * Picks the channel for the next request with the configured {@link
+   * momento.sdk.config.transport.ChannelSelectionStrategy}.
    *
-   * <p>Each stub is deliberately decorated with Deadline. Deadlines work differently than timeouts.
-   * When a deadline is set on a stub, it simply means that once the stub is created it must be used
-   * before the deadline expires. Hence, the stub returned from here should never be cached and the
-   * safest behavior is for clients to request a new stub each time.
+   * @return the index of the channel.
+   */
+  int nextChannelIndex() {
+    return nextChannelIndex(pool);
+  }
+
+  /**
+   * Picks the channel for a second copy of a request with the configured {@link
+   * momento.sdk.config.transport.ChannelSelectionStrategy}, other than the channel of the first
+   * copy.
    *
-   * <p><a href="https://github.com/grpc/grpc-java/issues/1495">more information</a>
+   * @param excludedIndex The channel of the first copy, as returned by {@link #nextChannelIndex()}.
+   * @return the index of the channel.
    */
-  ScsGrpc.ScsStub getObservableStub() {
-    int nextStubIndex = this.nextStubIndex.getAndIncrement();
-    return observableStubs
-        .get(nextStubIndex % this.numGrpcChannels)
-        .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+  int nextChannelIndex(int excludedIndex) {
+    final ChannelPool pool = this.pool;
+    return channelSelector.next(pool.channels, pool.loads, excludedIndex);
+  }
+
+  private int nextChannelIndex(ChannelPool pool) {
+    if (elasticChannelPool != null) {
+      adjustForLoad(pool.inFlight());
+    }
+    return channelSelector.next(pool.channels, pool.loads);
+  }
+
+  /**
+   * The number of unary channels in the pool.
+   *
+   * @return the number of channels.
+   */
+  int numChannels() {
+    return pool.size();
+  }
+
+  /**
+   * The number of retries the retry budget did not allow.
+   *
+   * @return the number of rejected retries, or 0 without a retry budget.
+   */
+  long rejectedRetryCount() {
+    return retryBudget != null ? retryBudget.rejectedRetryCount() : 0;
+  }
+
+  /**
+   * Records the calls in flight across the pool, and adds a channel if every channel is close to
+   * the number of concurrent calls it can carry.
+   *
+   * @param inFlight The calls in flight across the pool.
+   */
+  void adjustForLoad(int inFlight) {
+    if (elasticChannelPool == null) {
+      return;
+    }
+    if (inFlight > peakInFlight.get()) {
+      peakInFlight.accumulateAndGet(inFlight, Math::max);
+    }
+    final ChannelPool observed = this.pool;
+    if (observed.size() >= elasticChannelPool.getMaxNumChannels()
+        || inFlight < observed.size() * GROW_AT_IN_FLIGHT_PER_CHANNEL) {
+      return;
+    }
+    synchronized (poolLock) {
+      // Another request may have grown the pool for the same burst already.
+      if (closed || pool != observed) {
+        return;
+      }
+      final DataChannel added = new DataChannel(setupChannel(observed.size()));
+      added.channel.getState(true /* tryToConnect */);
+      pool = observed.with(added);
+    }
+    LOGGER.debug(
+        "Added a unary channel for {} calls in flight; the pool has {} channels.",
+        inFlight,
+        observed.size() + 1);
+  }
+
+  /**
+   * Retires the newest channel if the pool had more channels than its peak load needed since this
+   * last ran, and has more than it started with. Runs every cool-down period.
+   */
+  void shrinkIfOverProvisioned() {
+    final int peak = peakInFlight.getAndSet(0);
+    final ManagedChannel retired;
+    synchronized (poolLock) {
+      final ChannelPool current = pool;
+      if (closed
+          || current.size() <= numGrpcChannels
+          || peak > (current.size() - 1) * SHRINK_AT_IN_FLIGHT_PER_CHANNEL) {
+        return;
+      }
+      retired = current.get(current.size() - 1).channel;
+      pool = current.withoutLast();
+      // Calls that picked the channel before it left the pool, and their retries, start within
+      // the deadline; calls in flight when it shuts down still complete.
+      retiringChannels.put(
+          retired,
+          scheduler.schedule(
+              () -> {
+                retiringChannels.remove(retired);
+                retired.shutdown();
+              },
+              deadline.toMillis(),
+              TimeUnit.MILLISECONDS));
+    }
+    LOGGER.debug(
+        "Retired an idle unary channel after a peak of {} calls in flight; the pool has {}"
+            + " channels.",
+        peak,
+        pool.size());
+  }
+
+  /** The channels in use, with their loads in the same order. */
+  private static final class ChannelPool {
+    private final List<DataChannel> dataChannels;
+    private final List<ManagedChannel> channels;
+    private final List<ChannelLoad> loads;
+
+    private ChannelPool(List<DataChannel> dataChannels) {
+      this.dataChannels = Collections.unmodifiableList(dataChannels);
+      this.channels =
+          Collections.unmodifiableList(
+              dataChannels.stream().map(c -> c.channel).collect(Collectors.toList()));
+      this.loads =
+          Collections.unmodifiableList(
+              dataChannels.stream().map(c -> c.load).collect(Collectors.toList()));
+    }
+
+    private int size() {
+      return dataChannels.size();
+    }
+
+    private DataChannel get(int index) {
+      return dataChannels.get(index);
+    }
+
+    private DataChannel getWrapped(int index) {
+      return dataChannels.get(Math.floorMod(index, dataChannels.size()));
+    }
+
+    private int inFlight() {
+      int inFlight = 0;
+      for (ChannelLoad load : loads) {
+        inFlight += load.inFlight();
+      }
+      return inFlight;
+    }
+
+    private ChannelPool with(DataChannel added) {
+      final List<DataChannel> grown = new ArrayList<>(dataChannels);
+      grown.add(added);
+      return new ChannelPool(grown);
+    }
+
+    private ChannelPool withoutLast() {
+      return new ChannelPool(new ArrayList<>(dataChannels.subList(0, dataChannels.size() - 1)));
+    }
+  }
+
+  /** A channel with its load and the stubs for it, including those kept per cache. */
+  private static final class DataChannel {
+    private final ManagedChannel channel;
+    private final ChannelLoad load = new ChannelLoad();
+    private final ScsGrpc.ScsFutureStub futureStub;
+    private final ScsGrpc.ScsStub observableStub;
+    private final ScsGrpc.ScsBlockingStub blockingStub;
+    private final ConcurrentHashMap<String, CacheStubs> cacheStubs = new ConcurrentHashMap<>();
+
+    private DataChannel(ManagedChannel channel) {
+      this.channel = channel;
+      this.futureStub = ScsGrpc.newFutureStub(channel).withInterceptors(load);
+      this.observableStub = ScsGrpc.newStub(channel).withInterceptors(load);
+      this.blockingStub = ScsGrpc.newBlockingStub(channel).withInterceptors(load);
+    }
+
+    private CacheStubs stubsFor(String cacheName) {
+      final CacheStubs stubs = cacheStubs.get(cacheName);
+      if (stubs != null) {
+        return stubs;
+      }
+      if (cacheStubs.size() >= MAX_CACHED_CACHE_NAMES) {
+        // A client used with an unbounded set of cache names builds the stubs per request instead.
+        return new CacheStubs(this, cacheName);
+      }
+      return cacheStubs.computeIfAbsent(cacheName, name -> new CacheStubs(this, name));
+    }
+  }
+
+  /** The stubs for one channel with the cache name header of one cache attached. */
+  private static final class CacheStubs {
+    private final ScsGrpc.ScsFutureStub futureStub;
+    private final ScsGrpc.ScsStub observableStub;
+    private final ScsGrpc.ScsBlockingStub blockingStub;
+
+    private CacheStubs(DataChannel channel, String cacheName) {
+      final Metadata metadata = new Metadata();
+      metadata.put(ScsClientBase.CACHE_NAME_KEY, cacheName);
+      final ClientInterceptor headerInterceptor =
+          MetadataUtils.newAttachHeadersInterceptor(metadata);
+      this.futureStub = channel.futureStub.withInterceptors(headerInterceptor);
+      this.observableStub = channel.observableStub.withInterceptors(headerInterceptor);
+      this.blockingStub = channel.blockingStub.withInterceptors(headerInterceptor);
+    }
   }
 
   @Override
   public void close() {
-    retryScheduler.shutdown();
-    retryExecutor.shutdown();
-    for (ManagedChannel channel : channels) {
+    final ChannelPool closing;
+    synchronized (poolLock) {
+      closed = true;
+      closing = pool;
+    }
+    for (Map.Entry<ManagedChannel, ScheduledFuture<?>> retiring : retiringChannels.entrySet()) {
+      retiring.getValue().cancel(false);
+      retiring.getKey().shutdown();
+    }
+    retiringChannels.clear();
+    if (runtime == null) {
+      scheduler.shutdown();
+    } else if (shrinkTask != null) {
+      shrinkTask.cancel(false);
+    }
+    for (ManagedChannel channel : closing.channels) {
       channel.shutdown();
     }
+    // Retries still waiting are sent now, and fail on the channels that were just shut down.
+    retryScheduler.close();
   }
 }
@@ -9,6 +9,7 @@ import grpc.permission_messages.PermissionsType;
 import grpc.permission_messages.TopicRole;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.auth.accessControl.CacheItemSelector;
 import momento.sdk.auth.accessControl.CacheSelector;
@@ -27,9 +28,10 @@ final class ScsTokenClient {
   private final CredentialProvider credentialProvider;
   private final ScsTokenGrpcStubsManager tokenGrpcStubsManager;
 
-  public ScsTokenClient(@Nonnull CredentialProvider credentialProvider) {
+  public ScsTokenClient(
+      @Nonnull CredentialProvider credentialProvider, @Nullable MomentoRuntime runtime) {
     this.credentialProvider = credentialProvider;
-    this.tokenGrpcStubsManager = new ScsTokenGrpcStubsManager(credentialProvider);
+    this.tokenGrpcStubsManager = new ScsTokenGrpcStubsManager(credentialProvider, runtime);
   }
 
   private Permissions permissionsFromDisposableTokenScope(DisposableTokenScope scope) {
@@ -2,15 +2,14 @@ package momento.sdk;
 
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.transport.GrpcConfiguration;
-import momento.sdk.internal.GrpcChannelOptions;
 import momento.token.TokenGrpc;
 
 /**
@@ -28,26 +27,29 @@ final class ScsTokenGrpcStubsManager implements AutoCloseable {
 
   private final TokenGrpc.TokenFutureStub futureStub;
 
-  ScsTokenGrpcStubsManager(@Nonnull CredentialProvider credentialProvider) {
-    this.channel = setupConnection(credentialProvider);
+  ScsTokenGrpcStubsManager(
+      @Nonnull CredentialProvider credentialProvider, @Nullable MomentoRuntime runtime) {
+    this.channel = setupConnection(credentialProvider, runtime);
     this.futureStub = TokenGrpc.newFutureStub(channel);
   }
 
-  private static ManagedChannel setupConnection(CredentialProvider credentialProvider) {
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getTokenEndpoint(), 443);
-
+  private static ManagedChannel setupConnection(
+      CredentialProvider credentialProvider, @Nullable MomentoRuntime runtime) {
     // Note: This is hard-coded for now but we may want to expose it via configuration object
     // in the future, as we do with some of the other clients.
     final GrpcConfiguration grpcConfig = new GrpcConfiguration(Duration.ofMillis(15000));
 
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(grpcConfig, channelBuilder);
-
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken(), "auth"));
-    channelBuilder.intercept(clientInterceptors);
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getTokenEndpoint(),
+        443,
+        true,
+        grpcConfig,
+        clientInterceptors,
+        "token",
+        0);
   }
 
   /**
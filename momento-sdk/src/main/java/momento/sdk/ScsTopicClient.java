@@ -1,12 +1,15 @@
 package momento.sdk;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import grpc.cache_client.pubsub._PublishRequest;
 import grpc.cache_client.pubsub._TopicValue;
 import grpc.common._Empty;
 import io.grpc.stub.StreamObserver;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
@@ -21,11 +24,21 @@ public class ScsTopicClient extends ScsClientBase {
   private final ScsTopicGrpcStubsManager topicGrpcStubsManager;
   private final long DEFAULT_REQUEST_TIMEOUT_SECONDS = 5;
   private final SubscriptionRetryStrategy subscriptionRetryStrategy;
+  private final @Nullable MomentoRuntime runtime;
 
   public ScsTopicClient(
       @Nonnull CredentialProvider credentialProvider, @Nonnull TopicConfiguration configuration) {
+    this(credentialProvider, configuration, null);
+  }
+
+  ScsTopicClient(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull TopicConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     super(null);
-    this.topicGrpcStubsManager = new ScsTopicGrpcStubsManager(credentialProvider, configuration);
+    this.runtime = runtime;
+    this.topicGrpcStubsManager =
+        new ScsTopicGrpcStubsManager(credentialProvider, configuration, runtime);
     this.subscriptionRetryStrategy = configuration.getSubscriptionRetryStrategy();
   }
 
@@ -44,6 +57,22 @@ public class ScsTopicClient extends ScsClientBase {
     return sendPublish(cacheName, topicName, topicValue);
   }
 
+  public CompletableFuture<TopicPublishResponse> publish(
+      String cacheName, String topicName, ByteBuffer value) {
+    try {
+      ValidationUtils.checkCacheNameValid(cacheName);
+      ValidationUtils.checkTopicNameValid(topicName);
+      ValidationUtils.ensureValidValue(value);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(
+          new TopicPublishResponse.Error(CacheServiceExceptionMapper.convert(e)));
+    }
+
+    _TopicValue topicValue =
+        _TopicValue.newBuilder().setBinary(UnsafeByteOperations.unsafeWrap(value)).build();
+    return sendPublish(cacheName, topicName, topicValue);
+  }
+
   public CompletableFuture<TopicPublishResponse> publish(
       String cacheName, String topicName, String value) {
     try {
@@ -61,6 +90,14 @@ public class ScsTopicClient extends ScsClientBase {
 
   public CompletableFuture<TopicSubscribeResponse> subscribe(
       String cacheName, String topicName, ISubscriptionCallbacks callbacks) {
+    return subscribe(cacheName, topicName, callbacks, null);
+  }
+
+  CompletableFuture<TopicSubscribeResponse> subscribe(
+      String cacheName,
+      String topicName,
+      ISubscriptionCallbacks callbacks,
+      @Nullable SubscriptionFlowControl flowControl) {
     try {
       ValidationUtils.checkCacheNameValid(cacheName);
       ValidationUtils.checkTopicNameValid(topicName);
@@ -69,7 +106,7 @@ public class ScsTopicClient extends ScsClientBase {
           new TopicSubscribeResponse.Error(CacheServiceExceptionMapper.convert(e)));
     }
 
-    return sendSubscribe(cacheName, topicName, callbacks);
+    return sendSubscribe(cacheName, topicName, callbacks, flowControl);
   }
 
   private CompletableFuture<TopicPublishResponse> sendPublish(
@@ -116,7 +153,10 @@ public class ScsTopicClient extends ScsClientBase {
   }
 
   private CompletableFuture<TopicSubscribeResponse> sendSubscribe(
-      String cacheName, String topicName, ISubscriptionCallbacks callbacks) {
+      String cacheName,
+      String topicName,
+      ISubscriptionCallbacks callbacks,
+      @Nullable SubscriptionFlowControl flowControl) {
     final SubscriptionState subscriptionState = new SubscriptionState();
 
     try {
@@ -146,7 +186,9 @@ public class ScsTopicClient extends ScsClientBase {
               callbacks,
               subscriptionState,
               firstMessageSubscribeTimeoutSeconds,
-              subscriptionRetryStrategy);
+              subscriptionRetryStrategy,
+              flowControl,
+              runtime != null ? runtime.getScheduler() : null);
 
       final CompletableFuture<Void> subscribeFuture = subscriptionWrapper.subscribeWithRetry();
       return subscribeFuture.handle(
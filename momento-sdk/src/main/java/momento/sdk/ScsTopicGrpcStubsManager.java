@@ -4,6 +4,7 @@ import grpc.cache_client.pubsub.PubsubGrpc;
 import java.io.Closeable;
 import java.util.UUID;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 
@@ -23,17 +24,22 @@ final class ScsTopicGrpcStubsManager implements Closeable {
   private final TopicConfiguration configuration;
 
   ScsTopicGrpcStubsManager(
-      @Nonnull CredentialProvider credentialProvider, @Nonnull TopicConfiguration configuration) {
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull TopicConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     this.configuration = configuration;
     this.unaryConnectionPool =
-        new StaticUnaryGrpcConnectionPool(credentialProvider, configuration, CONNECTION_ID_KEY);
+        new StaticUnaryGrpcConnectionPool(
+            credentialProvider, configuration, CONNECTION_ID_KEY, runtime);
 
     if (configuration.getIsNumStreamChannelsDynamic()) {
       this.streamConnectionPool =
-          new DynamicStreamGrpcConnectionPool(credentialProvider, configuration, CONNECTION_ID_KEY);
+          new DynamicStreamGrpcConnectionPool(
+              credentialProvider, configuration, CONNECTION_ID_KEY, runtime);
     } else {
       this.streamConnectionPool =
-          new StaticStreamGrpcConnectionPool(credentialProvider, configuration, CONNECTION_ID_KEY);
+          new StaticStreamGrpcConnectionPool(
+              credentialProvider, configuration, CONNECTION_ID_KEY, runtime);
     }
   }
 
@@ -0,0 +1,109 @@
+package momento.sdk;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One client's use of a channel shared through a {@link MomentoRuntime}. Calls go through the
+ * interceptors of the client, connectivity is that of the shared channel, and shutting it down
+ * gives the channel back to the runtime, which shuts the shared channel down once no client uses
+ * it.
+ */
+final class SharedManagedChannel extends ManagedChannel {
+
+  /** Gives the channel back to the runtime. */
+  interface Releaser {
+    /**
+     * Gives the channel back.
+     *
+     * @param shutdownNow Whether to cancel the calls in flight if the shared channel shuts down.
+     * @return whether the shared channel was shut down.
+     */
+    boolean release(boolean shutdownNow);
+  }
+
+  private final ManagedChannel shared;
+  private final Channel intercepted;
+  private final Releaser releaser;
+  private final AtomicBoolean released = new AtomicBoolean();
+  private volatile boolean sharedShutDown;
+
+  SharedManagedChannel(ManagedChannel shared, Channel intercepted, Releaser releaser) {
+    this.shared = shared;
+    this.intercepted = intercepted;
+    this.releaser = releaser;
+  }
+
+  @Override
+  public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+      MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+    return intercepted.newCall(methodDescriptor, callOptions);
+  }
+
+  @Override
+  public String authority() {
+    return intercepted.authority();
+  }
+
+  @Override
+  public ManagedChannel shutdown() {
+    if (released.compareAndSet(false, true)) {
+      sharedShutDown = releaser.release(false);
+    }
+    return this;
+  }
+
+  @Override
+  public ManagedChannel shutdownNow() {
+    if (released.compareAndSet(false, true)) {
+      sharedShutDown = releaser.release(true);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return released.get();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    // The calls of this client on a channel other clients still use are not tracked, so the
+    // channel counts as terminated for this client once it is given back.
+    return released.get() && (!sharedShutDown || shared.isTerminated());
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    if (released.get() && sharedShutDown) {
+      return shared.awaitTermination(timeout, unit);
+    }
+    return isTerminated();
+  }
+
+  @Override
+  public ConnectivityState getState(boolean requestConnection) {
+    return shared.getState(requestConnection);
+  }
+
+  @Override
+  public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+    shared.notifyWhenStateChanged(source, callback);
+  }
+
+  @Override
+  public void resetConnectBackoff() {
+    shared.resetConnectBackoff();
+  }
+
+  @Override
+  public void enterIdle() {
+    shared.enterIdle();
+  }
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 import momento.sdk.exceptions.ClientSdkException;
@@ -23,15 +24,23 @@ class StaticStreamGrpcConnectionPool implements StreamTopicGrpcConnectionPool, C
   public StaticStreamGrpcConnectionPool(
       CredentialProvider credentialProvider,
       TopicConfiguration configuration,
-      UUID connectionIdKey) {
+      UUID connectionIdKey,
+      @Nullable MomentoRuntime runtime) {
     this.numStreamGrpcChannels =
         configuration.getTransportStrategy().getGrpcConfiguration().getNumStreamGrpcChannels();
+    // The channels are not shared through the runtime, since each pool budgets the streams of its
+    // channels for itself.
     this.streamChannels =
         IntStream.range(0, this.numStreamGrpcChannels)
             .mapToObj(
                 i ->
                     TopicGrpcConnectionPoolUtils.setupConnection(
-                        credentialProvider, configuration, connectionIdKey))
+                        credentialProvider,
+                        configuration,
+                        connectionIdKey,
+                        runtime,
+                        null,
+                        i))
             .collect(Collectors.toList());
     this.streamStubs =
         streamChannels.stream()
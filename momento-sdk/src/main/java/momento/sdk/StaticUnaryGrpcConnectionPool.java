@@ -11,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 
@@ -24,7 +25,8 @@ class StaticUnaryGrpcConnectionPool implements UnaryTopicGrpcConnectionPool, Clo
   public StaticUnaryGrpcConnectionPool(
       CredentialProvider credentialProvider,
       TopicConfiguration configuration,
-      UUID connectionIdKey) {
+      UUID connectionIdKey,
+      @Nullable MomentoRuntime runtime) {
     this.deadline = configuration.getTransportStrategy().getGrpcConfiguration().getDeadline();
     this.numUnaryGrpcChannels =
         configuration.getTransportStrategy().getGrpcConfiguration().getNumUnaryGrpcChannels();
@@ -33,7 +35,7 @@ class StaticUnaryGrpcConnectionPool implements UnaryTopicGrpcConnectionPool, Clo
             .mapToObj(
                 i ->
                     TopicGrpcConnectionPoolUtils.setupConnection(
-                        credentialProvider, configuration, connectionIdKey))
+                        credentialProvider, configuration, connectionIdKey, runtime, "unary", i))
             .collect(Collectors.toList());
     this.unaryStubs = unaryChannels.stream().map(PubsubGrpc::newStub).collect(Collectors.toList());
   }
@@ -10,7 +10,7 @@ abstract class StorageClientBase extends ClientBase {
       Metadata.Key.of("store", ASCII_STRING_MARSHALLER);
 
   public StorageClientBase(@Nullable Integer concurrencyLimit) {
-    super(concurrencyLimit);
+    super(ConcurrencyLimiter.withLimit(concurrencyLimit));
   }
 
   protected Metadata metadataWithStore(String storeName) {
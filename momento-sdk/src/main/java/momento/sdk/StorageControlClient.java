@@ -14,6 +14,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.StorageConfiguration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
@@ -31,11 +32,13 @@ final class StorageControlClient extends ScsClientBase {
   private final StorageControlGrpcStubsManager controlGrpcStubsManager;
 
   StorageControlClient(
-      @Nonnull CredentialProvider credentialProvider, StorageConfiguration configuration) {
+      @Nonnull CredentialProvider credentialProvider,
+      StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     super(null);
     this.credentialProvider = credentialProvider;
     this.controlGrpcStubsManager =
-        new StorageControlGrpcStubsManager(credentialProvider, configuration);
+        new StorageControlGrpcStubsManager(credentialProvider, configuration, runtime);
   }
 
   CompletableFuture<CreateStoreResponse> createStore(String storeName) {
@@ -3,16 +3,15 @@ package momento.sdk;
 import grpc.control_client.ScsControlGrpc;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.StorageConfiguration;
 import momento.sdk.config.transport.storage.StorageGrpcConfiguration;
-import momento.sdk.internal.GrpcChannelOptions;
 
 /**
  * Manager responsible for GRPC channels and stubs for the Control Plane.
@@ -30,27 +29,32 @@ final class StorageControlGrpcStubsManager implements AutoCloseable {
   private final ScsControlGrpc.ScsControlFutureStub futureStub;
 
   StorageControlGrpcStubsManager(
-      @Nonnull CredentialProvider credentialProvider, StorageConfiguration configuration) {
-    this.channel = setupConnection(credentialProvider, configuration);
+      @Nonnull CredentialProvider credentialProvider,
+      StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
+    this.channel = setupConnection(credentialProvider, configuration, runtime);
     this.futureStub = ScsControlGrpc.newFutureStub(channel);
   }
 
   private static ManagedChannel setupConnection(
-      CredentialProvider credentialProvider, StorageConfiguration configuration) {
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getControlEndpoint(), 443);
-
+      CredentialProvider credentialProvider,
+      StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     // Override grpc config to disable keepalive for control clients
     final StorageGrpcConfiguration controlConfig =
         configuration.getTransportStrategy().getGrpcConfiguration().withKeepAliveDisabled();
 
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(controlConfig, channelBuilder);
-
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken(), "store"));
-    channelBuilder.intercept(clientInterceptors);
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getControlEndpoint(),
+        443,
+        true,
+        controlConfig,
+        clientInterceptors,
+        "control",
+        0);
   }
 
   /**
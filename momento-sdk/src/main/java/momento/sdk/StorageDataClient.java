@@ -18,6 +18,7 @@ import grpc.store._StoreValue;
 import io.grpc.Metadata;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.StorageConfiguration;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
@@ -32,10 +33,12 @@ final class StorageDataClient extends StorageClientBase {
   private final StorageDataGrpcStubsManager storageDataGrpcStubsManager;
 
   StorageDataClient(
-      @Nonnull CredentialProvider credentialProvider, @Nonnull StorageConfiguration configuration) {
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     super(null);
     this.storageDataGrpcStubsManager =
-        new StorageDataGrpcStubsManager(credentialProvider, configuration);
+        new StorageDataGrpcStubsManager(credentialProvider, configuration, runtime);
   }
 
   public void connect(final long eagerConnectionTimeout) {
@@ -4,7 +4,6 @@ import grpc.store.StoreGrpc;
 import io.grpc.ClientInterceptor;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -17,10 +16,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.StorageConfiguration;
 import momento.sdk.exceptions.ConnectionFailedException;
-import momento.sdk.internal.GrpcChannelOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +41,16 @@ final class StorageDataGrpcStubsManager implements AutoCloseable {
   private static final Logger LOGGER = LoggerFactory.getLogger(StorageDataGrpcStubsManager.class);
 
   StorageDataGrpcStubsManager(
-      @Nonnull CredentialProvider credentialProvider, @Nonnull StorageConfiguration configuration) {
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
     this.deadline = configuration.getTransportStrategy().getGrpcConfiguration().getDeadline();
     this.numGrpcChannels =
         configuration.getTransportStrategy().getGrpcConfiguration().getMinNumGrpcChannels();
 
     this.channels =
         IntStream.range(0, this.numGrpcChannels)
-            .mapToObj(i -> setupChannel(credentialProvider, configuration))
+            .mapToObj(i -> setupChannel(credentialProvider, configuration, runtime, i))
             .collect(Collectors.toList());
     this.futureStubs = channels.stream().map(StoreGrpc::newFutureStub).collect(Collectors.toList());
   }
@@ -130,19 +131,22 @@ final class StorageDataGrpcStubsManager implements AutoCloseable {
   }
 
   private ManagedChannel setupChannel(
-      CredentialProvider credentialProvider, StorageConfiguration configuration) {
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(credentialProvider.getCacheEndpoint(), 443);
-
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
-        configuration.getTransportStrategy().getGrpcConfiguration(), channelBuilder);
-
+      CredentialProvider credentialProvider,
+      StorageConfiguration configuration,
+      @Nullable MomentoRuntime runtime,
+      int slot) {
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken(), "store"));
-    channelBuilder.intercept(clientInterceptors);
 
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getCacheEndpoint(),
+        443,
+        true,
+        configuration.getTransportStrategy().getGrpcConfiguration(),
+        clientInterceptors,
+        "unary",
+        slot);
   }
 
   /**
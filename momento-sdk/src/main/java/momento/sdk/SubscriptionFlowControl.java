@@ -0,0 +1,23 @@
+package momento.sdk;
+
+import io.grpc.stub.ClientCallStreamObserver;
+
+/**
+ * Controls how many messages a topic subscription stream delivers, instead of letting gRPC request
+ * them as fast as they arrive. Messages that have not been requested stay unread in the transport,
+ * so the server is held back by HTTP/2 flow control.
+ */
+interface SubscriptionFlowControl {
+
+  /**
+   * Called before a subscription stream starts, including each time it is resumed after the
+   * connection was lost. Implementations must disable automatic requests on the stream and may
+   * request messages from it from then on.
+   *
+   * @param stream The stream that is about to start.
+   */
+  void onStreamStarting(ClientCallStreamObserver<?> stream);
+
+  /** Called after each message from the current stream has been handled, whatever its kind. */
+  void onMessageHandled();
+}
@@ -7,15 +7,21 @@ import grpc.cache_client.pubsub._TopicItem;
 import grpc.cache_client.pubsub._TopicValue;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 import momento.sdk.exceptions.CacheServiceExceptionMapper;
 import momento.sdk.exceptions.InternalServerException;
 import momento.sdk.exceptions.TimeoutException;
@@ -39,13 +45,17 @@ class SubscriptionWrapper implements Closeable {
   private final ISubscriptionCallbacks callbacks;
   private final SubscriptionState subscriptionState;
   private final SubscriptionRetryStrategy retryStrategy;
+  private final @Nullable SubscriptionFlowControl flowControl;
   private final AtomicBoolean firstMessage = new AtomicBoolean(true);
   private final AtomicBoolean isConnectionLost = new AtomicBoolean(false);
   private final AtomicBoolean isSubscribed = new AtomicBoolean(true);
 
-  // TODO: share a thread pool across subscription wrappers for retries and potentially for
-  // callbacks
-  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  // The scheduler of the runtime the client was built with, shared by its subscriptions, or a
+  // scheduler of this subscription's own.
+  private final ScheduledExecutorService scheduler;
+  private final boolean ownsScheduler;
+  // The timers and retries this subscription has scheduled, cancelled when it closes.
+  private final Set<ScheduledFuture<?>> scheduledTasks = ConcurrentHashMap.newKeySet();
 
   private final AtomicReference<CancelableClientCallStreamObserver<_SubscriptionItem>>
       subscription = new AtomicReference<>();
@@ -58,6 +68,28 @@ class SubscriptionWrapper implements Closeable {
       SubscriptionState subscriptionState,
       long requestTimeoutSeconds,
       SubscriptionRetryStrategy retryStrategy) {
+    this(
+        cacheName,
+        topicName,
+        connection,
+        callbacks,
+        subscriptionState,
+        requestTimeoutSeconds,
+        retryStrategy,
+        null,
+        null);
+  }
+
+  SubscriptionWrapper(
+      String cacheName,
+      String topicName,
+      IScsTopicConnection connection,
+      ISubscriptionCallbacks callbacks,
+      SubscriptionState subscriptionState,
+      long requestTimeoutSeconds,
+      SubscriptionRetryStrategy retryStrategy,
+      @Nullable SubscriptionFlowControl flowControl,
+      @Nullable ScheduledExecutorService sharedScheduler) {
     this.cacheName = cacheName;
     this.topicName = topicName;
     this.connection = connection;
@@ -65,6 +97,10 @@ class SubscriptionWrapper implements Closeable {
     this.subscriptionState = subscriptionState;
     this.requestTimeoutSeconds = requestTimeoutSeconds;
     this.retryStrategy = retryStrategy;
+    this.flowControl = flowControl;
+    this.ownsScheduler = sharedScheduler == null;
+    this.scheduler =
+        sharedScheduler != null ? sharedScheduler : Executors.newSingleThreadScheduledExecutor();
   }
 
   /**
@@ -86,7 +122,7 @@ class SubscriptionWrapper implements Closeable {
       return future;
     }
 
-    scheduler.schedule(
+    schedule(
         () -> {
           if (!firstMessageTimeoutFuture.isDone()) {
             logger.warn(
@@ -115,8 +151,26 @@ class SubscriptionWrapper implements Closeable {
 
     final CancelableClientCallStreamObserver<_SubscriptionItem> observer =
         new CancelableClientCallStreamObserver<_SubscriptionItem>() {
+          @Override
+          public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+            super.beforeStart(requestStream);
+            if (flowControl != null) {
+              flowControl.onStreamStarting(requestStream);
+            }
+          }
+
           @Override
           public void onNext(_SubscriptionItem item) {
+            try {
+              handleNext(item);
+            } finally {
+              if (flowControl != null) {
+                flowControl.onMessageHandled();
+              }
+            }
+          }
+
+          private void handleNext(_SubscriptionItem item) {
             if (firstMessage.compareAndSet(true, false)) {
               if (item.getKindCase() != _SubscriptionItem.KindCase.HEARTBEAT) {
                 completeExceptionally(
@@ -248,7 +302,12 @@ class SubscriptionWrapper implements Closeable {
   }
 
   private void scheduleRetry(Duration retryDelay, Runnable retryAction) {
-    scheduler.schedule(retryAction, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+    schedule(retryAction, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void schedule(Runnable task, long delay, TimeUnit unit) {
+    scheduledTasks.removeIf(Future::isDone);
+    scheduledTasks.add(scheduler.schedule(task, delay, unit));
   }
 
   private void handleSubscriptionCompleted() {
@@ -349,6 +408,11 @@ class SubscriptionWrapper implements Closeable {
   @Override
   public void close() {
     subscriptionState.decrementActiveSubscriptionsCount();
-    scheduler.shutdown();
+    if (ownsScheduler) {
+      scheduler.shutdown();
+    } else {
+      scheduledTasks.forEach(task -> task.cancel(false));
+      scheduledTasks.clear();
+    }
   }
 }
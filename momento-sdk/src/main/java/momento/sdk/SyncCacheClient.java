@@ -0,0 +1,174 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.responses.cache.DeleteResponse;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.IncrementResponse;
+import momento.sdk.responses.cache.SetResponse;
+
+/**
+ * A blocking view of a {@link CacheClient}, for applications that handle each request on its own
+ * thread, such as virtual threads. Create one with {@link CacheClient#sync()}.
+ *
+ * <p>Each call is made with a gRPC blocking stub on the calling thread and returns its response
+ * directly, without creating futures or handing the response to another thread. While waiting, the
+ * thread is parked without holding a monitor, so virtual threads are not pinned to their carrier
+ * thread.
+ *
+ * <p>The view shares the connections, near cache and compression settings of its client. Because
+ * the calling threads already bound the number of requests in flight, blocking calls are not
+ * counted against the client's maximum concurrent requests, and are not coalesced or automatically
+ * batched.
+ */
+public final class SyncCacheClient {
+
+  private final ScsDataClient scsDataClient;
+
+  SyncCacheClient(@Nonnull ScsDataClient scsDataClient) {
+    this.scsDataClient = scsDataClient;
+  }
+
+  /**
+   * Get the cache value stored for the given key.
+   *
+   * @param cacheName Name of the cache to get the item from.
+   * @param key The key to get.
+   * @return {@link GetResponse} containing the status of the get operation and the associated value
+   *     data.
+   */
+  public GetResponse get(String cacheName, String key) {
+    return scsDataClient.getBlocking(cacheName, convert(key));
+  }
+
+  /**
+   * Get the cache value stored for the given key.
+   *
+   * @param cacheName Name of the cache to get the item from.
+   * @param key The key to get.
+   * @return {@link GetResponse} containing the status of the get operation and the associated value
+   *     data.
+   */
+  public GetResponse get(String cacheName, byte[] key) {
+    return scsDataClient.getBlocking(cacheName, convert(key));
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building the cache client.
+   * @return the result of the set operation.
+   */
+  public SetResponse set(String cacheName, String key, String value, @Nullable Duration ttl) {
+    return scsDataClient.setBlocking(cacheName, convert(key), convert(value), ttl);
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value. The Time to Live (TTL) defaults to the one used when building the cache client.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @return the result of the set operation.
+   */
+  public SetResponse set(String cacheName, String key, String value) {
+    return set(cacheName, key, value, null);
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building the cache client.
+   * @return the result of the set operation.
+   */
+  public SetResponse set(String cacheName, byte[] key, byte[] value, @Nullable Duration ttl) {
+    return scsDataClient.setBlocking(cacheName, convert(key), convert(value), ttl);
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value. The Time to Live (TTL) defaults to the one used when building the cache client.
+   *
+   * @param cacheName Name of the cache to store the item in.
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @return the result of the set operation.
+   */
+  public SetResponse set(String cacheName, byte[] key, byte[] value) {
+    return set(cacheName, key, value, null);
+  }
+
+  /**
+   * Delete the value stored in Momento cache.
+   *
+   * @param cacheName Name of the cache to delete the item from.
+   * @param key The key to delete.
+   * @return the result of the delete operation.
+   */
+  public DeleteResponse delete(String cacheName, String key) {
+    return scsDataClient.deleteBlocking(cacheName, convert(key));
+  }
+
+  /**
+   * Delete the value stored in Momento cache.
+   *
+   * @param cacheName Name of the cache to delete the item from.
+   * @param key The key to delete.
+   * @return the result of the delete operation.
+   */
+  public DeleteResponse delete(String cacheName, byte[] key) {
+    return scsDataClient.deleteBlocking(cacheName, convert(key));
+  }
+
+  /**
+   * Adds to the value of a field, if and only if the existing value is a UTF-8 string encoding a
+   * base 10 integer.
+   *
+   * @param cacheName Name of the cache to store the field in.
+   * @param field The field to increment.
+   * @param amount The quantity to add to the value. May be positive, negative, or zero.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building the cache client.
+   * @return the result of the increment operation.
+   */
+  public IncrementResponse increment(
+      String cacheName, String field, long amount, @Nullable Duration ttl) {
+    return scsDataClient.incrementBlocking(cacheName, convert(field), amount, ttl);
+  }
+
+  /**
+   * Adds to the value of a field, if and only if the existing value is a UTF-8 string encoding a
+   * base 10 integer. The Time to Live (TTL) defaults to the one used when building the cache
+   * client.
+   *
+   * @param cacheName Name of the cache to store the field in.
+   * @param field The field to increment.
+   * @param amount The quantity to add to the value. May be positive, negative, or zero.
+   * @return the result of the increment operation.
+   */
+  public IncrementResponse increment(String cacheName, String field, long amount) {
+    return increment(cacheName, field, amount, null);
+  }
+
+  // Null is passed through so that it is reported as an invalid argument.
+  private static ByteString convert(String string) {
+    return string != null ? ByteString.copyFromUtf8(string) : null;
+  }
+
+  private static ByteString convert(byte[] bytes) {
+    return bytes != null ? ByteString.copyFrom(bytes) : null;
+  }
+}
@@ -1,12 +1,16 @@
 package momento.sdk;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
+import momento.sdk.responses.topic.TopicMessage;
 import momento.sdk.responses.topic.TopicPublishResponse;
 import momento.sdk.responses.topic.TopicSubscribeResponse;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +28,21 @@ public final class TopicClient implements Closeable {
    */
   public TopicClient(
       @Nonnull CredentialProvider credentialProvider, @Nonnull TopicConfiguration configuration) {
-    this.scsTopicClient = new ScsTopicClient(credentialProvider, configuration);
+    this(credentialProvider, configuration, null);
+  }
+
+  /**
+   * Constructs a TopicClient that may share resources with other clients.
+   *
+   * @param credentialProvider Provider for the credentials required to connect to Momento.
+   * @param configuration Configuration object containing all tunable client settings.
+   * @param runtime The runtime whose resources the client uses, or null to use its own.
+   */
+  TopicClient(
+      @Nonnull CredentialProvider credentialProvider,
+      @Nonnull TopicConfiguration configuration,
+      @Nullable MomentoRuntime runtime) {
+    this.scsTopicClient = new ScsTopicClient(credentialProvider, configuration, runtime);
     logger.debug("Creating Momento Topic Client");
     logger.debug("Cache endpoint: " + credentialProvider.getCacheEndpoint());
     logger.debug("Control endpoint: " + credentialProvider.getControlEndpoint());
@@ -82,6 +100,23 @@ public final class TopicClient implements Closeable {
     return scsTopicClient.publish(cacheName, topicName, message);
   }
 
+  /**
+   * Publish a message to a topic with provided topic name in a cache with provided cache name.
+   *
+   * <p>The remaining bytes of the buffer are sent without being copied, so direct buffers can be
+   * used as is. The buffer's contents must not be modified until the returned future completes.
+   *
+   * @param cacheName The name of the cache where topic resides.
+   * @param topicName The name of the topic.
+   * @param message The message to be published.
+   * @return A future containing the result of the topic publish: {@link
+   *     TopicPublishResponse.Success} or {@link TopicPublishResponse.Error}.
+   */
+  public CompletableFuture<TopicPublishResponse> publish(
+      String cacheName, String topicName, ByteBuffer message) {
+    return scsTopicClient.publish(cacheName, topicName, message);
+  }
+
   /**
    * Subscribe to a topic with provided topic name in a cache with provided cache name.
    *
@@ -97,6 +132,25 @@ public final class TopicClient implements Closeable {
     return scsTopicClient.subscribe(cacheName, topicName, options);
   }
 
+  /**
+   * Creates a Reactive Streams publisher of the messages on a topic. Each subscriber gets its own
+   * topic subscription, which starts when the subscriber first requests a message and ends when it
+   * cancels. Messages are only read from the server as the subscriber requests them, so a slow
+   * subscriber holds back the server instead of buffering messages in memory. Heartbeats and
+   * discontinuities are not published.
+   *
+   * <p>On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts the publisher to a
+   * {@code java.util.concurrent.Flow.Publisher}.
+   *
+   * @param cacheName The name of the cache where topic resides.
+   * @param topicName The name of the topic.
+   * @return a publisher that fails with {@link TopicSubscribeResponse.Error} if the subscription
+   *     cannot be made or is lost for good.
+   */
+  public Publisher<TopicMessage> subscribePublisher(String cacheName, String topicName) {
+    return new TopicSubscriptionPublisher(scsTopicClient, cacheName, topicName);
+  }
+
   @Override
   public void close() {
     scsTopicClient.close();
@@ -1,6 +1,7 @@
 package momento.sdk;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 
@@ -9,6 +10,7 @@ public final class TopicClientBuilder {
 
   private final CredentialProvider credentialProvider;
   private TopicConfiguration configuration;
+  private @Nullable MomentoRuntime runtime;
 
   /**
    * Creates a TopicClient builder.
@@ -22,12 +24,24 @@ public final class TopicClientBuilder {
     this.configuration = configuration;
   }
 
+  /**
+   * Shares the connections, threads and executors of the given runtime with the other clients built
+   * with it, instead of creating the client's own.
+   *
+   * @param runtime The runtime to use. It must be closed after the client.
+   * @return the builder.
+   */
+  public TopicClientBuilder withRuntime(@Nonnull MomentoRuntime runtime) {
+    this.runtime = runtime;
+    return this;
+  }
+
   /**
    * Builds a TopicClient.
    *
    * @return the client.
    */
   public TopicClient build() {
-    return new TopicClient(credentialProvider, configuration);
+    return new TopicClient(credentialProvider, configuration, runtime);
   }
 }
@@ -2,35 +2,27 @@ package momento.sdk;
 
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
-import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import momento.sdk.auth.CredentialProvider;
 import momento.sdk.config.TopicConfiguration;
 import momento.sdk.config.middleware.Middleware;
 import momento.sdk.config.middleware.MiddlewareRequestHandlerContext;
-import momento.sdk.internal.GrpcChannelOptions;
 
 // Utility class for setting up a connection to the Momento Topic service.
 final class TopicGrpcConnectionPoolUtils {
 
-  // Set up a connection to the Momento Topic service.
+  // Set up a connection to the Momento Topic service, shared through the runtime if there is one.
   protected static ManagedChannel setupConnection(
       CredentialProvider credentialProvider,
       TopicConfiguration configuration,
-      UUID connectionIdKey) {
-    final NettyChannelBuilder channelBuilder =
-        NettyChannelBuilder.forAddress(
-            credentialProvider.getCacheEndpoint(), credentialProvider.getPort());
-
-    // set additional channel options (message size, keepalive, auth, etc)
-    GrpcChannelOptions.applyGrpcConfigurationToChannelBuilder(
-        configuration.getTransportStrategy().getGrpcConfiguration(),
-        channelBuilder,
-        credentialProvider.isEndpointSecure());
-
+      UUID connectionIdKey,
+      @Nullable MomentoRuntime runtime,
+      @Nullable String poolName,
+      int slot) {
     final List<ClientInterceptor> clientInterceptors = new ArrayList<>();
 
     final List<Middleware> middlewares = configuration.getMiddlewares();
@@ -39,7 +31,14 @@ final class TopicGrpcConnectionPoolUtils {
     clientInterceptors.add(new GrpcMiddlewareInterceptor(middlewares, context));
 
     clientInterceptors.add(new UserHeaderInterceptor(credentialProvider.getAuthToken(), "topic"));
-    channelBuilder.intercept(clientInterceptors);
-    return channelBuilder.build();
+    return MomentoRuntime.newChannel(
+        runtime,
+        credentialProvider.getCacheEndpoint(),
+        credentialProvider.getPort(),
+        credentialProvider.isEndpointSecure(),
+        configuration.getTransportStrategy().getGrpcConfiguration(),
+        clientInterceptors,
+        poolName,
+        slot);
   }
 }
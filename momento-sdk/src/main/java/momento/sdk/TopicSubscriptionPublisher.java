@@ -0,0 +1,211 @@
+package momento.sdk;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import momento.sdk.responses.topic.TopicMessage;
+import momento.sdk.responses.topic.TopicSubscribeResponse;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A cold publisher of the messages on a topic.
+ *
+ * <p>Each subscriber gets its own topic subscription, started when it first requests a message and
+ * ended when it cancels. The subscriber's demand is passed on to the subscription stream, so
+ * messages beyond what has been requested are left unread in the transport and the server is held
+ * back by flow control; at most one unrequested message is ever held in memory.
+ */
+final class TopicSubscriptionPublisher implements Publisher<TopicMessage> {
+
+  // The most messages requested from a stream at a time, however large the demand.
+  static final int MAX_STREAM_REQUESTS = 1024;
+
+  private final ScsTopicClient scsTopicClient;
+  private final String cacheName;
+  private final String topicName;
+
+  TopicSubscriptionPublisher(
+      @Nonnull ScsTopicClient scsTopicClient,
+      @Nonnull String cacheName,
+      @Nonnull String topicName) {
+    this.scsTopicClient = scsTopicClient;
+    this.cacheName = cacheName;
+    this.topicName = topicName;
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super TopicMessage> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new TopicSubscription(subscriber));
+  }
+
+  private final class TopicSubscription
+      implements Subscription, ISubscriptionCallbacks, SubscriptionFlowControl {
+    private final Subscriber<? super TopicMessage> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final Queue<TopicMessage> messages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable error;
+    private volatile TopicSubscribeResponse.Subscription subscription;
+    private boolean done;
+
+    // Guarded by this.
+    private ClientCallStreamObserver<?> stream;
+    private int streamRequested;
+
+    private TopicSubscription(Subscriber<? super TopicMessage> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        error = Demand.invalidRequest(n);
+        unsubscribe();
+        drain();
+        return;
+      }
+      Demand.add(requested, n);
+      drain();
+      requestFromStream();
+      if (started.compareAndSet(false, true)) {
+        scsTopicClient
+            .subscribe(cacheName, topicName, this, this)
+            .whenComplete(
+                (response, e) -> {
+                  if (response instanceof TopicSubscribeResponse.Subscription) {
+                    subscription = (TopicSubscribeResponse.Subscription) response;
+                    if (cancelled || error != null) {
+                      subscription.unsubscribe();
+                    }
+                  } else {
+                    onError(e != null ? e : (TopicSubscribeResponse.Error) response);
+                  }
+                });
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      unsubscribe();
+      drain();
+    }
+
+    private void unsubscribe() {
+      final TopicSubscribeResponse.Subscription subscription = this.subscription;
+      if (subscription != null) {
+        subscription.unsubscribe();
+      }
+    }
+
+    @Override
+    public synchronized void onStreamStarting(ClientCallStreamObserver<?> stream) {
+      this.stream = stream;
+      streamRequested = wanted();
+      stream.disableAutoRequestWithInitial(streamRequested);
+    }
+
+    @Override
+    public void onMessageHandled() {
+      synchronized (this) {
+        streamRequested--;
+      }
+      requestFromStream();
+    }
+
+    @Override
+    public void onItem(TopicMessage message) {
+      messages.add(message);
+      drain();
+    }
+
+    @Override
+    public void onCompleted() {
+      completed = true;
+      drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (!cancelled) {
+        error = t;
+      }
+      drain();
+    }
+
+    // Keeps enough messages requested from the stream to cover the outstanding demand, plus one so
+    // that heartbeats and discontinuities, which are not published, keep flowing.
+    private synchronized int wanted() {
+      final long demand = requested.get() - messages.size();
+      return (int) Math.max(0, Math.min(demand, MAX_STREAM_REQUESTS)) + 1;
+    }
+
+    private void requestFromStream() {
+      synchronized (this) {
+        final int wanted = wanted();
+        if (stream != null && !cancelled && wanted > streamRequested) {
+          stream.request(wanted - streamRequested);
+          streamRequested = wanted;
+        }
+      }
+    }
+
+    private void drain() {
+      if (drainRequests.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (done) {
+          return;
+        }
+        if (cancelled) {
+          done = true;
+          messages.clear();
+          return;
+        }
+        if (error != null) {
+          done = true;
+          messages.clear();
+          subscriber.onError(error);
+          return;
+        }
+
+        final long demand = requested.get();
+        long published = 0;
+        while (published != demand && !cancelled) {
+          final TopicMessage message = messages.poll();
+          if (message == null) {
+            break;
+          }
+          published++;
+          subscriber.onNext(message);
+        }
+        if (published > 0) {
+          Demand.produced(requested, published);
+        }
+
+        if (completed && messages.isEmpty() && !cancelled) {
+          done = true;
+          subscriber.onComplete();
+          return;
+        }
+        missed = drainRequests.addAndGet(-missed);
+      } while (missed != 0);
+    }
+  }
+}
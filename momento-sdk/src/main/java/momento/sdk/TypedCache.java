@@ -0,0 +1,187 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.codec.Codec;
+import momento.sdk.exceptions.ClientSdkException;
+import momento.sdk.exceptions.InvalidArgumentException;
+import momento.sdk.exceptions.MomentoErrorCode;
+import momento.sdk.exceptions.SdkException;
+import momento.sdk.responses.cache.DeleteResponse;
+import momento.sdk.responses.cache.GetResponse;
+import momento.sdk.responses.cache.SetResponse;
+import momento.sdk.responses.cache.TypedGetResponse;
+
+/**
+ * A view of a single cache that reads and writes typed keys and values, converting them with a
+ * {@link Codec}. Create one with {@link CacheClient#typed(String, Codec, Codec)}.
+ *
+ * <p>Keys and values are encoded into a per-thread buffer that is reused across calls, and the
+ * request takes a single copy of the encoded bytes. Values are decoded straight from the response
+ * without copying it first.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public final class TypedCache<K, V> {
+
+  // Buffers that grew past this size for an unusually large value are not kept for reuse.
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ThreadLocal<EncodeBuffer> ENCODE_BUFFER =
+      ThreadLocal.withInitial(EncodeBuffer::new);
+
+  private final ScsDataClient scsDataClient;
+  private final String cacheName;
+  private final Codec<K> keyCodec;
+  private final Codec<V> valueCodec;
+
+  TypedCache(
+      @Nonnull ScsDataClient scsDataClient,
+      @Nonnull String cacheName,
+      @Nonnull Codec<K> keyCodec,
+      @Nonnull Codec<V> valueCodec) {
+    this.scsDataClient = scsDataClient;
+    this.cacheName = cacheName;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+  }
+
+  /**
+   * The name of the cache this view reads and writes.
+   *
+   * @return the cache name.
+   */
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * Get the cache value stored for the given key.
+   *
+   * @param key The key to get.
+   * @return Future with {@link TypedGetResponse} containing the status of the get operation and the
+   *     decoded value.
+   */
+  public CompletableFuture<TypedGetResponse<V>> get(@Nonnull K key) {
+    final ByteString keyBytes;
+    try {
+      keyBytes = encode(keyCodec, key, "key");
+    } catch (SdkException e) {
+      return CompletableFuture.completedFuture(error(e));
+    }
+    return scsDataClient.get(cacheName, keyBytes).thenApply(this::decodeGetResponse);
+  }
+
+  /**
+   * Sets the value in the cache with a given Time To Live (TTL). If a value for this key is already
+   * present it will be replaced by the new value.
+   *
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @param ttl Time to Live for the item in Cache. This TTL takes precedence over the TTL used when
+   *     building the cache client.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<SetResponse> set(
+      @Nonnull K key, @Nonnull V value, @Nullable Duration ttl) {
+    final ByteString keyBytes;
+    final ByteString valueBytes;
+    try {
+      keyBytes = encode(keyCodec, key, "key");
+      valueBytes = encode(valueCodec, value, "value");
+    } catch (SdkException e) {
+      return CompletableFuture.completedFuture(new SetResponse.Error(e));
+    }
+    return scsDataClient.set(cacheName, keyBytes, valueBytes, ttl);
+  }
+
+  /**
+   * Sets the value in the cache. If a value for this key is already present it will be replaced by
+   * the new value. The Time to Live (TTL) defaults to the one used when building the cache client.
+   *
+   * @param key The key under which the value is to be added.
+   * @param value The value to be stored.
+   * @return Future containing the result of the set operation.
+   */
+  public CompletableFuture<SetResponse> set(@Nonnull K key, @Nonnull V value) {
+    return set(key, value, null);
+  }
+
+  /**
+   * Remove the key from the cache.
+   *
+   * @param key The key to remove.
+   * @return Future containing the result of the delete operation.
+   */
+  public CompletableFuture<DeleteResponse> delete(@Nonnull K key) {
+    final ByteString keyBytes;
+    try {
+      keyBytes = encode(keyCodec, key, "key");
+    } catch (SdkException e) {
+      return CompletableFuture.completedFuture(new DeleteResponse.Error(e));
+    }
+    return scsDataClient.delete(cacheName, keyBytes);
+  }
+
+  private TypedGetResponse<V> decodeGetResponse(GetResponse response) {
+    if (response instanceof GetResponse.Hit) {
+      try {
+        return new TypedGetResponse.Hit<>(
+            valueCodec.decode(((GetResponse.Hit) response).valueByteBuffer()));
+      } catch (IOException | RuntimeException e) {
+        return error(
+            new ClientSdkException(
+                MomentoErrorCode.UNKNOWN, "Failed to decode the cached value", e));
+      }
+    } else if (response instanceof GetResponse.Miss) {
+      return new TypedGetResponse.Miss<>();
+    } else {
+      return error((SdkException) ((GetResponse.Error) response).getCause());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private TypedGetResponse<V> error(SdkException cause) {
+    return new TypedGetResponse.Error(cause);
+  }
+
+  private static <T> ByteString encode(Codec<T> codec, T value, String description) {
+    if (value == null) {
+      throw new InvalidArgumentException(description + " must not be null");
+    }
+    final EncodeBuffer buffer = ENCODE_BUFFER.get();
+    try {
+      codec.encode(value, buffer);
+      return buffer.toByteString();
+    } catch (IOException | RuntimeException e) {
+      throw new InvalidArgumentException("Failed to encode the " + description, e);
+    } finally {
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        ENCODE_BUFFER.remove();
+      } else {
+        buffer.reset();
+      }
+    }
+  }
+
+  /** A growable output buffer whose contents can be copied out without an intermediate array. */
+  private static final class EncodeBuffer extends ByteArrayOutputStream {
+    private EncodeBuffer() {
+      super(256);
+    }
+
+    private ByteString toByteString() {
+      return ByteString.copyFrom(buf, 0, count);
+    }
+
+    private int capacity() {
+      return buf.length;
+    }
+  }
+}
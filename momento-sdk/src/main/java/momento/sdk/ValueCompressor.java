@@ -0,0 +1,180 @@
+package momento.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nonnull;
+import momento.sdk.config.CompressionConfiguration;
+import momento.sdk.internal.GrpcChannelOptions;
+
+/**
+ * Compresses values with Deflate and marks them with a self-describing header.
+ *
+ * <p>A compressed value is laid out as the 4-byte magic {@code 0xFF 'M' 'Z' 0x01}, the original
+ * length as a 4-byte big-endian integer, and a zlib stream whose checksum guards against
+ * corruption. {@code 0xFF} never occurs in UTF-8 text, so string values cannot be mistaken for
+ * compressed ones. A binary value that happens to start with the magic but does not decompress to
+ * the recorded length is returned unchanged.
+ *
+ * <p>Deflaters and inflaters hold native memory until they are ended, so they are pooled rather
+ * than kept per thread, and the pooled ones are ended when the compressor is closed.
+ */
+final class ValueCompressor implements AutoCloseable {
+
+  private static final ByteString MAGIC =
+      ByteString.copyFrom(new byte[] {(byte) 0xFF, 'M', 'Z', 0x01});
+  private static final int HEADER_SIZE = MAGIC.size() + Integer.BYTES;
+  private static final int CHUNK_SIZE = 8192;
+  // Deflate cannot expand data by more than this factor, so a larger recorded length is bogus.
+  private static final long MAX_EXPANSION_FACTOR = 1032;
+  // Values are only compressed up to the largest item size, so a larger recorded length is bogus
+  // too, however well the rest of the value would compress.
+  static final int MAX_ORIGINAL_SIZE = GrpcChannelOptions.DEFAULT_MAX_MESSAGE_SIZE;
+
+  private final int thresholdBytes;
+  private final int level;
+  private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+  private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+  private volatile boolean closed;
+
+  ValueCompressor(@Nonnull CompressionConfiguration configuration) {
+    this.thresholdBytes = configuration.getThresholdBytes();
+    this.level = configuration.getLevel();
+  }
+
+  /**
+   * Compresses a value if it is at least as large as the threshold, no larger than the largest
+   * item size, and compressing it makes it smaller.
+   *
+   * @param value The value to compress.
+   * @return the compressed value, or the value itself.
+   */
+  ByteString compress(@Nonnull ByteString value) {
+    if (value.size() < thresholdBytes || value.isEmpty() || value.size() > MAX_ORIGINAL_SIZE) {
+      return value;
+    }
+
+    final Deflater deflater = acquire(deflaters, () -> new Deflater(level));
+    try {
+      return compress(deflater, value);
+    } finally {
+      deflater.reset();
+      release(deflaters, deflater, Deflater::end);
+    }
+  }
+
+  private static ByteString compress(Deflater deflater, ByteString value) {
+    deflater.setInput(value.toByteArray());
+    deflater.finish();
+
+    final ByteString.Output out = ByteString.newOutput(value.size() / 2 + HEADER_SIZE);
+    out.write(MAGIC.toByteArray(), 0, MAGIC.size());
+    final int size = value.size();
+    out.write(size >>> 24);
+    out.write(size >>> 16);
+    out.write(size >>> 8);
+    out.write(size);
+
+    final byte[] chunk = new byte[CHUNK_SIZE];
+    while (!deflater.finished()) {
+      final int length = deflater.deflate(chunk);
+      out.write(chunk, 0, length);
+      if (out.size() >= value.size()) {
+        // Incompressible; no point in finishing.
+        return value;
+      }
+    }
+    return out.toByteString();
+  }
+
+  /**
+   * Decompresses a value if it carries the compression header.
+   *
+   * @param value The value as stored.
+   * @return the decompressed value, or the value itself if it was not compressed.
+   */
+  ByteString decompress(@Nonnull ByteString value) {
+    if (value.size() < HEADER_SIZE || !value.startsWith(MAGIC)) {
+      return value;
+    }
+
+    final int originalSize =
+        ((value.byteAt(4) & 0xFF) << 24)
+            | ((value.byteAt(5) & 0xFF) << 16)
+            | ((value.byteAt(6) & 0xFF) << 8)
+            | (value.byteAt(7) & 0xFF);
+    if (originalSize <= 0
+        || originalSize > MAX_ORIGINAL_SIZE
+        || originalSize > (value.size() - HEADER_SIZE) * MAX_EXPANSION_FACTOR) {
+      return value;
+    }
+
+    final Inflater inflater = acquire(inflaters, Inflater::new);
+    try {
+      return decompress(inflater, value, originalSize);
+    } finally {
+      inflater.reset();
+      release(inflaters, inflater, Inflater::end);
+    }
+  }
+
+  private static ByteString decompress(Inflater inflater, ByteString value, int originalSize) {
+    inflater.setInput(value.substring(HEADER_SIZE).toByteArray());
+
+    final byte[] decompressed = new byte[originalSize];
+    try {
+      int offset = 0;
+      while (offset < originalSize && !inflater.finished()) {
+        final int length = inflater.inflate(decompressed, offset, originalSize - offset);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          return value;
+        }
+        offset += length;
+      }
+      if (offset != originalSize) {
+        return value;
+      }
+      // The stream may end exactly at the output size without having read its trailer yet.
+      if (!inflater.finished() && (inflater.inflate(new byte[1]) != 0 || !inflater.finished())) {
+        return value;
+      }
+    } catch (DataFormatException e) {
+      return value;
+    }
+    return UnsafeByteOperations.unsafeWrap(decompressed);
+  }
+
+  /** Ends the pooled deflaters and inflaters, and any returned to the pool afterwards. */
+  @Override
+  public void close() {
+    closed = true;
+    endAll(deflaters, Deflater::end);
+    endAll(inflaters, Inflater::end);
+  }
+
+  private static <T> T acquire(Queue<T> pool, Supplier<T> factory) {
+    final T pooled = pool.poll();
+    return pooled != null ? pooled : factory.get();
+  }
+
+  private <T> void release(Queue<T> pool, T item, Consumer<T> end) {
+    pool.add(item);
+    // Checked after adding, so an item returned while closing is ended by one side or the other.
+    if (closed) {
+      endAll(pool, end);
+    }
+  }
+
+  private static <T> void endAll(Queue<T> pool, Consumer<T> end) {
+    T item;
+    while ((item = pool.poll()) != null) {
+      end.accept(item);
+    }
+  }
+}
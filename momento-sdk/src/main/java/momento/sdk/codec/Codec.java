@@ -0,0 +1,37 @@
+package momento.sdk.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import javax.annotation.Nonnull;
+
+/**
+ * Converts values of a type to and from the bytes stored in a cache. Used by {@link
+ * momento.sdk.TypedCache} to read and write typed keys and values.
+ *
+ * <p>Implementations must be thread safe.
+ *
+ * @param <T> The type of the values.
+ */
+public interface Codec<T> {
+
+  /**
+   * Writes the encoded form of a value. The stream is a reusable buffer owned by the SDK, so
+   * encoding directly into it avoids allocating an intermediate array.
+   *
+   * @param value The value to encode.
+   * @param out The stream to write the encoded value to. Must not be closed or retained.
+   * @throws IOException if the value cannot be encoded.
+   */
+  void encode(@Nonnull T value, @Nonnull OutputStream out) throws IOException;
+
+  /**
+   * Reads a value from its encoded form.
+   *
+   * @param bytes A read-only view of the encoded value, as received from the server. The view is
+   *     not copied and is only valid for the duration of the call.
+   * @return the decoded value.
+   * @throws IOException if the bytes cannot be decoded.
+   */
+  T decode(@Nonnull ByteBuffer bytes) throws IOException;
+}
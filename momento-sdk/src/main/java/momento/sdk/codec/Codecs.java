@@ -0,0 +1,60 @@
+package momento.sdk.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nonnull;
+
+/** Built-in {@link Codec}s. */
+public final class Codecs {
+
+  private static final Codec<String> UTF8 =
+      new Codec<String>() {
+        @Override
+        public void encode(@Nonnull String value, @Nonnull OutputStream out) throws IOException {
+          out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(@Nonnull ByteBuffer bytes) {
+          return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+      };
+
+  private static final Codec<byte[]> BYTE_ARRAY =
+      new Codec<byte[]>() {
+        @Override
+        public void encode(@Nonnull byte[] value, @Nonnull OutputStream out) throws IOException {
+          out.write(value);
+        }
+
+        @Override
+        public byte[] decode(@Nonnull ByteBuffer bytes) {
+          final byte[] value = new byte[bytes.remaining()];
+          bytes.get(value);
+          return value;
+        }
+      };
+
+  private Codecs() {}
+
+  /**
+   * A codec that stores strings as UTF-8. Values written with it can be read by the untyped string
+   * methods of {@link momento.sdk.CacheClient}, and vice versa.
+   *
+   * @return the UTF-8 string codec.
+   */
+  public static Codec<String> utf8() {
+    return UTF8;
+  }
+
+  /**
+   * A codec that stores byte arrays as they are.
+   *
+   * @return the byte array codec.
+   */
+  public static Codec<byte[]> byteArray() {
+    return BYTE_ARRAY;
+  }
+}
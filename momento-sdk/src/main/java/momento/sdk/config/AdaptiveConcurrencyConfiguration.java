@@ -0,0 +1,149 @@
+package momento.sdk.config;
+
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for adjusting the limit on concurrent requests to the observed conditions instead
+ * of using a fixed {@link momento.sdk.config.transport.TransportStrategy#getMaxConcurrentRequests()
+ * maximum}.
+ *
+ * <p>The limit grows by about one request for every round of requests that complete without a sign
+ * of congestion, and shrinks by a fixed ratio when a request times out, the service reports that it
+ * is unavailable or rate limited, or the latency of a request exceeds the lowest recently observed
+ * latency by more than the latency tolerance. The client thereby settles on the largest number of
+ * requests in flight that the service and network can absorb without queueing, and backs off
+ * quickly when they slow down.
+ */
+public class AdaptiveConcurrencyConfiguration {
+
+  /** The default number of concurrent requests allowed before any have completed. */
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+  /** The default lowest limit. */
+  public static final int DEFAULT_MIN_LIMIT = 1;
+
+  /** The default highest limit. */
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+
+  /** The default ratio of latency to the lowest observed latency that counts as congestion. */
+  public static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double latencyTolerance;
+
+  /**
+   * Constructs an AdaptiveConcurrencyConfiguration.
+   *
+   * @param initialLimit The number of concurrent requests allowed before any have completed.
+   * @param minLimit The lowest the limit can shrink to.
+   * @param maxLimit The highest the limit can grow to.
+   * @param latencyTolerance How many times the lowest observed latency a request may take before it
+   *     counts as a sign of congestion. Must be greater than 1.
+   */
+  public AdaptiveConcurrencyConfiguration(
+      int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+    if (minLimit <= 0) {
+      throw new InvalidArgumentException("Adaptive concurrency minLimit must be greater than 0");
+    }
+    if (maxLimit < minLimit) {
+      throw new InvalidArgumentException(
+          "Adaptive concurrency maxLimit must not be less than minLimit");
+    }
+    if (initialLimit < minLimit || initialLimit > maxLimit) {
+      throw new InvalidArgumentException(
+          "Adaptive concurrency initialLimit must be between minLimit and maxLimit");
+    }
+    if (!(latencyTolerance > 1.0)) {
+      throw new InvalidArgumentException(
+          "Adaptive concurrency latencyTolerance must be greater than 1");
+    }
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTolerance = latencyTolerance;
+  }
+
+  /** Constructs an AdaptiveConcurrencyConfiguration with the default limits and tolerance. */
+  public AdaptiveConcurrencyConfiguration() {
+    this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_LATENCY_TOLERANCE);
+  }
+
+  /**
+   * The number of concurrent requests allowed before any have completed.
+   *
+   * @return the initial limit.
+   */
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  /**
+   * Copy constructor that updates the initial limit.
+   *
+   * @param initialLimit The new initial limit.
+   * @return The updated AdaptiveConcurrencyConfiguration.
+   */
+  public AdaptiveConcurrencyConfiguration withInitialLimit(int initialLimit) {
+    return new AdaptiveConcurrencyConfiguration(initialLimit, minLimit, maxLimit, latencyTolerance);
+  }
+
+  /**
+   * The lowest the limit can shrink to.
+   *
+   * @return the minimum limit.
+   */
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  /**
+   * Copy constructor that updates the minimum limit.
+   *
+   * @param minLimit The new minimum limit.
+   * @return The updated AdaptiveConcurrencyConfiguration.
+   */
+  public AdaptiveConcurrencyConfiguration withMinLimit(int minLimit) {
+    return new AdaptiveConcurrencyConfiguration(initialLimit, minLimit, maxLimit, latencyTolerance);
+  }
+
+  /**
+   * The highest the limit can grow to.
+   *
+   * @return the maximum limit.
+   */
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  /**
+   * Copy constructor that updates the maximum limit.
+   *
+   * @param maxLimit The new maximum limit.
+   * @return The updated AdaptiveConcurrencyConfiguration.
+   */
+  public AdaptiveConcurrencyConfiguration withMaxLimit(int maxLimit) {
+    return new AdaptiveConcurrencyConfiguration(initialLimit, minLimit, maxLimit, latencyTolerance);
+  }
+
+  /**
+   * How many times the lowest observed latency a request may take before it counts as a sign of
+   * congestion.
+   *
+   * @return the latency tolerance.
+   */
+  public double getLatencyTolerance() {
+    return latencyTolerance;
+  }
+
+  /**
+   * Copy constructor that updates the latency tolerance.
+   *
+   * @param latencyTolerance The new latency tolerance.
+   * @return The updated AdaptiveConcurrencyConfiguration.
+   */
+  public AdaptiveConcurrencyConfiguration withLatencyTolerance(double latencyTolerance) {
+    return new AdaptiveConcurrencyConfiguration(initialLimit, minLimit, maxLimit, latencyTolerance);
+  }
+}
@@ -0,0 +1,87 @@
+package momento.sdk.config;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for automatically batching single-key get and set requests.
+ *
+ * <p>When enabled, individual get and set calls are buffered for a short window and sent together
+ * as a single getBatch or setBatch request. A batch is sent as soon as it reaches the maximum batch
+ * size, or once the oldest request in it has waited for the maximum delay, whichever comes first.
+ * Each call still completes with its own response. This trades a small amount of added latency for
+ * far fewer requests when many independent calls are made concurrently.
+ */
+public class AutoBatchingConfiguration {
+
+  /** The default maximum number of requests sent in one batch. */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  /** The default maximum time a request waits for its batch to fill up. */
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+
+  private final int maxBatchSize;
+  private final Duration maxDelay;
+
+  /**
+   * Constructs an AutoBatchingConfiguration.
+   *
+   * @param maxBatchSize The maximum number of requests sent in one batch.
+   * @param maxDelay The maximum time a request waits for its batch to fill up before the batch is
+   *     sent anyway.
+   */
+  public AutoBatchingConfiguration(int maxBatchSize, @Nonnull Duration maxDelay) {
+    if (maxBatchSize <= 0) {
+      throw new InvalidArgumentException("Auto batching maxBatchSize must be greater than 0");
+    }
+    if (maxDelay == null || maxDelay.isNegative() || maxDelay.isZero()) {
+      throw new InvalidArgumentException("Auto batching maxDelay must be positive");
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelay = maxDelay;
+  }
+
+  /** Constructs an AutoBatchingConfiguration with the default batch size and delay. */
+  public AutoBatchingConfiguration() {
+    this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+  }
+
+  /**
+   * The maximum number of requests sent in one batch.
+   *
+   * @return the maximum batch size.
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Copy constructor that updates the maximum batch size.
+   *
+   * @param maxBatchSize The new maximum batch size.
+   * @return The updated AutoBatchingConfiguration.
+   */
+  public AutoBatchingConfiguration withMaxBatchSize(int maxBatchSize) {
+    return new AutoBatchingConfiguration(maxBatchSize, maxDelay);
+  }
+
+  /**
+   * The maximum time a request waits for its batch to fill up.
+   *
+   * @return the maximum delay.
+   */
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Copy constructor that updates the maximum delay.
+   *
+   * @param maxDelay The new maximum delay.
+   * @return The updated AutoBatchingConfiguration.
+   */
+  public AutoBatchingConfiguration withMaxDelay(@Nonnull Duration maxDelay) {
+    return new AutoBatchingConfiguration(maxBatchSize, maxDelay);
+  }
+}
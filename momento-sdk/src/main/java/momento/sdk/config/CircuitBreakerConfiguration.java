@@ -0,0 +1,258 @@
+package momento.sdk.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for circuit breakers that fail requests fast while a cache is throttled or
+ * unavailable.
+ *
+ * <p>Each cache and operation has its own breaker, so a cache that is over its limits does not
+ * affect requests to the others. A breaker counts the requests that complete within each window.
+ * Once at least the minimum number of requests have completed in a window and the fraction that
+ * failed reaches the threshold, the breaker opens. A request fails if it is throttled, times out,
+ * or the server is unavailable or fails internally. With a slow call duration, a request that
+ * takes longer than it counts as failed as well.
+ *
+ * <p>While a breaker is open, its requests fail right away with a {@link
+ * momento.sdk.exceptions.CircuitOpenException} instead of waiting out the deadline. After the open
+ * duration, the breaker lets the given number of probe requests through. It closes once they all
+ * succeed, and opens again as soon as one fails.
+ */
+public class CircuitBreakerConfiguration {
+
+  /** The default fraction of failed requests at which a breaker opens. */
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+  /** The default number of requests a window needs before a breaker can open. */
+  public static final int DEFAULT_MINIMUM_REQUESTS = 20;
+
+  /** The default length of the window requests are counted over. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(10);
+
+  /** The default time a breaker stays open before it sends probe requests. */
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(5);
+
+  /** The default number of probe requests that must succeed for a breaker to close. */
+  public static final int DEFAULT_PROBE_REQUESTS = 3;
+
+  private final double failureRateThreshold;
+  private final @Nullable Duration slowCallDuration;
+  private final int minimumRequests;
+  private final Duration window;
+  private final Duration openDuration;
+  private final int probeRequests;
+
+  /**
+   * Constructs a CircuitBreakerConfiguration.
+   *
+   * @param failureRateThreshold The fraction of failed requests at which a breaker opens, greater
+   *     than 0 and at most 1.
+   * @param slowCallDuration The duration after which a request counts as failed, or null to only
+   *     count errors.
+   * @param minimumRequests The number of requests a window needs before a breaker can open.
+   * @param window The length of the window requests are counted over.
+   * @param openDuration The time a breaker stays open before it sends probe requests.
+   * @param probeRequests The number of probe requests that must succeed for a breaker to close.
+   */
+  public CircuitBreakerConfiguration(
+      double failureRateThreshold,
+      @Nullable Duration slowCallDuration,
+      int minimumRequests,
+      @Nonnull Duration window,
+      @Nonnull Duration openDuration,
+      int probeRequests) {
+    if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      throw new InvalidArgumentException(
+          "Circuit breaker failureRateThreshold must be greater than 0 and at most 1");
+    }
+    if (slowCallDuration != null && (slowCallDuration.isNegative() || slowCallDuration.isZero())) {
+      throw new InvalidArgumentException("Circuit breaker slowCallDuration must be positive");
+    }
+    if (minimumRequests <= 0) {
+      throw new InvalidArgumentException("Circuit breaker minimumRequests must be positive");
+    }
+    if (window == null || window.isNegative() || window.isZero()) {
+      throw new InvalidArgumentException("Circuit breaker window must be positive");
+    }
+    if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+      throw new InvalidArgumentException("Circuit breaker openDuration must be positive");
+    }
+    if (probeRequests <= 0) {
+      throw new InvalidArgumentException("Circuit breaker probeRequests must be positive");
+    }
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallDuration = slowCallDuration;
+    this.minimumRequests = minimumRequests;
+    this.window = window;
+    this.openDuration = openDuration;
+    this.probeRequests = probeRequests;
+  }
+
+  /**
+   * Constructs a CircuitBreakerConfiguration that only counts errors, with the default thresholds
+   * and durations.
+   */
+  public CircuitBreakerConfiguration() {
+    this(
+        DEFAULT_FAILURE_RATE_THRESHOLD,
+        null,
+        DEFAULT_MINIMUM_REQUESTS,
+        DEFAULT_WINDOW,
+        DEFAULT_OPEN_DURATION,
+        DEFAULT_PROBE_REQUESTS);
+  }
+
+  /**
+   * The fraction of failed requests at which a breaker opens.
+   *
+   * @return the failure rate threshold.
+   */
+  public double getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /**
+   * Copy constructor that updates the failure rate threshold.
+   *
+   * @param failureRateThreshold The new failure rate threshold.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withFailureRateThreshold(double failureRateThreshold) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+
+  /**
+   * The duration after which a request counts as failed.
+   *
+   * @return the slow call duration, or empty if only errors count.
+   */
+  public Optional<Duration> getSlowCallDuration() {
+    return Optional.ofNullable(slowCallDuration);
+  }
+
+  /**
+   * Copy constructor that updates the slow call duration.
+   *
+   * @param slowCallDuration The new slow call duration, or null to only count errors.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withSlowCallDuration(@Nullable Duration slowCallDuration) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+
+  /**
+   * The number of requests a window needs before a breaker can open.
+   *
+   * @return the minimum number of requests.
+   */
+  public int getMinimumRequests() {
+    return minimumRequests;
+  }
+
+  /**
+   * Copy constructor that updates the minimum number of requests.
+   *
+   * @param minimumRequests The new minimum number of requests.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withMinimumRequests(int minimumRequests) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+
+  /**
+   * The length of the window requests are counted over.
+   *
+   * @return the window.
+   */
+  public Duration getWindow() {
+    return window;
+  }
+
+  /**
+   * Copy constructor that updates the window.
+   *
+   * @param window The new window.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withWindow(@Nonnull Duration window) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+
+  /**
+   * The time a breaker stays open before it sends probe requests.
+   *
+   * @return the open duration.
+   */
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  /**
+   * Copy constructor that updates the open duration.
+   *
+   * @param openDuration The new open duration.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withOpenDuration(@Nonnull Duration openDuration) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+
+  /**
+   * The number of probe requests that must succeed for a breaker to close.
+   *
+   * @return the number of probe requests.
+   */
+  public int getProbeRequests() {
+    return probeRequests;
+  }
+
+  /**
+   * Copy constructor that updates the number of probe requests.
+   *
+   * @param probeRequests The new number of probe requests.
+   * @return The updated CircuitBreakerConfiguration.
+   */
+  public CircuitBreakerConfiguration withProbeRequests(int probeRequests) {
+    return new CircuitBreakerConfiguration(
+        failureRateThreshold,
+        slowCallDuration,
+        minimumRequests,
+        window,
+        openDuration,
+        probeRequests);
+  }
+}
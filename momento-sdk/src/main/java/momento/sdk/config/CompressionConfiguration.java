@@ -0,0 +1,87 @@
+package momento.sdk.config;
+
+import java.util.zip.Deflater;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for transparently compressing cached values.
+ *
+ * <p>When enabled, scalar values and dictionary field values at least as large as the threshold are
+ * compressed with Deflate before they are sent, and marked with a header that identifies them as
+ * compressed. Reads of scalar and dictionary values recognize the header and decompress
+ * transparently. Values that would not get smaller are stored as they are.
+ *
+ * <p>Every client that reads compressed values must enable compression as well. Clients without it
+ * see the compressed bytes.
+ */
+public class CompressionConfiguration {
+
+  /** The default minimum size in bytes of a value to be compressed. */
+  public static final int DEFAULT_THRESHOLD_BYTES = 1024;
+
+  /** The default Deflate compression level, which favors speed over compression ratio. */
+  public static final int DEFAULT_LEVEL = Deflater.BEST_SPEED;
+
+  private final int thresholdBytes;
+  private final int level;
+
+  /**
+   * Constructs a CompressionConfiguration.
+   *
+   * @param thresholdBytes The minimum size in bytes of a value to be compressed.
+   * @param level The Deflate compression level, from 1 (fastest) to 9 (smallest).
+   */
+  public CompressionConfiguration(int thresholdBytes, int level) {
+    if (thresholdBytes < 0) {
+      throw new InvalidArgumentException("Compression thresholdBytes must not be negative");
+    }
+    if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+      throw new InvalidArgumentException("Compression level must be between 1 and 9");
+    }
+    this.thresholdBytes = thresholdBytes;
+    this.level = level;
+  }
+
+  /** Constructs a CompressionConfiguration with the default threshold and level. */
+  public CompressionConfiguration() {
+    this(DEFAULT_THRESHOLD_BYTES, DEFAULT_LEVEL);
+  }
+
+  /**
+   * The minimum size in bytes of a value to be compressed.
+   *
+   * @return the compression threshold.
+   */
+  public int getThresholdBytes() {
+    return thresholdBytes;
+  }
+
+  /**
+   * Copy constructor that updates the compression threshold.
+   *
+   * @param thresholdBytes The new minimum size in bytes of a value to be compressed.
+   * @return The updated CompressionConfiguration.
+   */
+  public CompressionConfiguration withThresholdBytes(int thresholdBytes) {
+    return new CompressionConfiguration(thresholdBytes, level);
+  }
+
+  /**
+   * The Deflate compression level.
+   *
+   * @return the compression level.
+   */
+  public int getLevel() {
+    return level;
+  }
+
+  /**
+   * Copy constructor that updates the compression level.
+   *
+   * @param level The new Deflate compression level, from 1 (fastest) to 9 (smallest).
+   * @return The updated CompressionConfiguration.
+   */
+  public CompressionConfiguration withLevel(int level) {
+    return new CompressionConfiguration(thresholdBytes, level);
+  }
+}
@@ -3,7 +3,9 @@ package momento.sdk.config;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import momento.sdk.config.middleware.Middleware;
 import momento.sdk.config.transport.GrpcConfiguration;
 import momento.sdk.config.transport.TransportStrategy;
@@ -16,22 +18,96 @@ public class Configuration {
   private final RetryStrategy retryStrategy;
   private final ReadConcern readConcern;
   private final List<Middleware> middlewares;
+  private final @Nullable NearCacheConfiguration nearCacheConfiguration;
+  private final boolean requestCoalescingEnabled;
+  private final @Nullable AutoBatchingConfiguration autoBatchingConfiguration;
+  private final @Nullable CompressionConfiguration compressionConfiguration;
+  private final @Nullable AdaptiveConcurrencyConfiguration adaptiveConcurrencyConfiguration;
+  private final @Nullable HedgingConfiguration hedgingConfiguration;
+  private final @Nullable RetryBudgetConfiguration retryBudgetConfiguration;
+  private final @Nullable CircuitBreakerConfiguration circuitBreakerConfiguration;
+  private final @Nullable RateLimitConfiguration rateLimitConfiguration;
+
   /**
-   * Creates a new configuration object.
+   * Creates a configuration with every setting. Only the copy constructors use it, so that new
+   * optional settings are added with a {@code with} method rather than a longer public
+   * constructor.
    *
    * @param transportStrategy Responsible for configuring network tunables.
    * @param retryStrategy Responsible for configuring retries
    * @param readConcern The client-wide setting for read-after-write consistency.
+   * @param middlewares List of middleware that can intercept and modify calls to Momento.
+   * @param nearCacheConfiguration Settings for the in-process near cache, or null to disable it.
+   * @param requestCoalescingEnabled Whether concurrent identical reads share a single request.
+   * @param autoBatchingConfiguration Settings for batching single-key gets and sets, or null to
+   *     disable it.
+   * @param compressionConfiguration Settings for compressing values, or null to disable it.
+   * @param adaptiveConcurrencyConfiguration Settings for adapting the concurrent request limit, or
+   *     null to use the transport strategy's fixed maximum.
+   * @param hedgingConfiguration Settings for hedging slow reads, or null to disable it.
+   * @param retryBudgetConfiguration Settings for the client-wide retry budget, or null to let the
+   *     retry strategy retry without a limit on the total.
+   * @param circuitBreakerConfiguration Settings for failing requests to a failing cache fast, or
+   *     null to disable it.
+   * @param rateLimitConfiguration Settings for the client-side rate limits, or null to disable
+   *     them.
    */
-  public Configuration(
+  private Configuration(
       @Nonnull TransportStrategy transportStrategy,
       @Nonnull RetryStrategy retryStrategy,
       @Nonnull ReadConcern readConcern,
-      @Nonnull List<Middleware> middlewares) {
+      @Nonnull List<Middleware> middlewares,
+      @Nullable NearCacheConfiguration nearCacheConfiguration,
+      boolean requestCoalescingEnabled,
+      @Nullable AutoBatchingConfiguration autoBatchingConfiguration,
+      @Nullable CompressionConfiguration compressionConfiguration,
+      @Nullable AdaptiveConcurrencyConfiguration adaptiveConcurrencyConfiguration,
+      @Nullable HedgingConfiguration hedgingConfiguration,
+      @Nullable RetryBudgetConfiguration retryBudgetConfiguration,
+      @Nullable CircuitBreakerConfiguration circuitBreakerConfiguration,
+      @Nullable RateLimitConfiguration rateLimitConfiguration) {
     this.transportStrategy = transportStrategy;
     this.retryStrategy = retryStrategy;
     this.readConcern = readConcern;
     this.middlewares = new ArrayList<>(middlewares);
+    this.nearCacheConfiguration = nearCacheConfiguration;
+    this.requestCoalescingEnabled = requestCoalescingEnabled;
+    this.autoBatchingConfiguration = autoBatchingConfiguration;
+    this.compressionConfiguration = compressionConfiguration;
+    this.adaptiveConcurrencyConfiguration = adaptiveConcurrencyConfiguration;
+    this.hedgingConfiguration = hedgingConfiguration;
+    this.retryBudgetConfiguration = retryBudgetConfiguration;
+    this.circuitBreakerConfiguration = circuitBreakerConfiguration;
+    this.rateLimitConfiguration = rateLimitConfiguration;
+  }
+
+  /**
+   * Creates a new configuration object.
+   *
+   * @param transportStrategy Responsible for configuring network tunables.
+   * @param retryStrategy Responsible for configuring retries
+   * @param readConcern The client-wide setting for read-after-write consistency.
+   * @param middlewares List of middleware that can intercept and modify calls to Momento.
+   */
+  public Configuration(
+      @Nonnull TransportStrategy transportStrategy,
+      @Nonnull RetryStrategy retryStrategy,
+      @Nonnull ReadConcern readConcern,
+      @Nonnull List<Middleware> middlewares) {
+    this(
+        transportStrategy,
+        retryStrategy,
+        readConcern,
+        middlewares,
+        null,
+        false,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
   }
 
   /**
@@ -62,7 +138,19 @@ public class Configuration {
    */
   public Configuration withTransportStrategy(@Nonnull final TransportStrategy transportStrategy) {
     return new Configuration(
-        transportStrategy, this.retryStrategy, this.readConcern, this.middlewares);
+        transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
   }
 
   /**
@@ -83,7 +171,19 @@ public class Configuration {
    */
   public Configuration withRetryStrategy(@Nonnull final RetryStrategy retryStrategy) {
     return new Configuration(
-        this.transportStrategy, retryStrategy, this.readConcern, this.middlewares);
+        this.transportStrategy,
+        retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
   }
 
   /**
@@ -103,7 +203,19 @@ public class Configuration {
    */
   public Configuration withReadConcern(@Nonnull final ReadConcern readConcern) {
     return new Configuration(
-        this.transportStrategy, this.retryStrategy, readConcern, this.middlewares);
+        this.transportStrategy,
+        this.retryStrategy,
+        readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
   }
 
   /**
@@ -118,7 +230,19 @@ public class Configuration {
     final TransportStrategy newTransportStrategy =
         this.getTransportStrategy().withGrpcConfiguration(newGrpcConfiguration);
     return new Configuration(
-        newTransportStrategy, this.retryStrategy, this.readConcern, this.middlewares);
+        newTransportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
   }
 
   /**
@@ -131,7 +255,19 @@ public class Configuration {
     List<Middleware> newMiddlewares = new ArrayList<>(this.middlewares);
     newMiddlewares.add(middleware);
     return new Configuration(
-        this.transportStrategy, this.retryStrategy, this.readConcern, newMiddlewares);
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        newMiddlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
   }
 
   /**
@@ -142,4 +278,483 @@ public class Configuration {
   public List<Middleware> getMiddlewares() {
     return middlewares;
   }
+
+  /**
+   * The settings for the in-process near cache.
+   *
+   * @return the near cache configuration, or empty if the near cache is disabled.
+   */
+  public Optional<NearCacheConfiguration> getNearCacheConfiguration() {
+    return Optional.ofNullable(nearCacheConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables the in-process near cache.
+   *
+   * @param nearCacheConfiguration The near cache settings.
+   * @return a new Configuration with the near cache enabled.
+   */
+  public Configuration withNearCache(@Nonnull final NearCacheConfiguration nearCacheConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables the in-process near cache.
+   *
+   * @return a new Configuration with the near cache disabled.
+   */
+  public Configuration withoutNearCache() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        null,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Whether concurrent identical reads share a single request.
+   *
+   * @return true if request coalescing is enabled.
+   */
+  public boolean isRequestCoalescingEnabled() {
+    return requestCoalescingEnabled;
+  }
+
+  /**
+   * Copy constructor that enables or disables request coalescing. When enabled, concurrent get,
+   * dictionary fetch, set fetch and sorted set fetch by rank requests for the same item share a
+   * single in-flight request and its response, instead of each being sent to the server.
+   *
+   * @param requestCoalescingEnabled Whether concurrent identical reads share a single request.
+   * @return a new Configuration with the updated request coalescing setting.
+   */
+  public Configuration withRequestCoalescing(final boolean requestCoalescingEnabled) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for batching single-key gets and sets.
+   *
+   * @return the auto batching configuration, or empty if auto batching is disabled.
+   */
+  public Optional<AutoBatchingConfiguration> getAutoBatchingConfiguration() {
+    return Optional.ofNullable(autoBatchingConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables automatic batching of single-key get and set requests.
+   *
+   * @param autoBatchingConfiguration The auto batching settings.
+   * @return a new Configuration with auto batching enabled.
+   */
+  public Configuration withAutoBatching(
+      @Nonnull final AutoBatchingConfiguration autoBatchingConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables automatic batching of single-key get and set requests.
+   *
+   * @return a new Configuration with auto batching disabled.
+   */
+  public Configuration withoutAutoBatching() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        null,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for transparently compressing values.
+   *
+   * @return the compression configuration, or empty if compression is disabled.
+   */
+  public Optional<CompressionConfiguration> getCompressionConfiguration() {
+    return Optional.ofNullable(compressionConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables transparent compression of values.
+   *
+   * @param compressionConfiguration The compression settings.
+   * @return a new Configuration with compression enabled.
+   */
+  public Configuration withCompression(
+      @Nonnull final CompressionConfiguration compressionConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables transparent compression of values.
+   *
+   * @return a new Configuration with compression disabled.
+   */
+  public Configuration withoutCompression() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        null,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for adapting the limit on concurrent requests to observed latency and errors.
+   *
+   * @return the adaptive concurrency configuration, or empty if the limit is fixed.
+   */
+  public Optional<AdaptiveConcurrencyConfiguration> getAdaptiveConcurrencyConfiguration() {
+    return Optional.ofNullable(adaptiveConcurrencyConfiguration);
+  }
+
+  /**
+   * Copy constructor that adapts the limit on concurrent data requests to observed latency and
+   * errors. The adaptive limit takes the place of the transport strategy's maximum concurrent
+   * requests for data operations.
+   *
+   * @param adaptiveConcurrencyConfiguration The adaptive concurrency settings.
+   * @return a new Configuration with an adaptive concurrency limit.
+   */
+  public Configuration withAdaptiveConcurrency(
+      @Nonnull final AdaptiveConcurrencyConfiguration adaptiveConcurrencyConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that goes back to the transport strategy's fixed maximum concurrent requests.
+   *
+   * @return a new Configuration without an adaptive concurrency limit.
+   */
+  public Configuration withoutAdaptiveConcurrency() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        null,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for hedging slow reads.
+   *
+   * @return the hedging configuration, or empty if hedging is disabled.
+   */
+  public Optional<HedgingConfiguration> getHedgingConfiguration() {
+    return Optional.ofNullable(hedgingConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables hedging of slow reads. A get, getBatch, item TTL, dictionary,
+   * set or list fetch that has not completed after the hedging delay is sent again on another
+   * channel, and the first response is used.
+   *
+   * @param hedgingConfiguration The hedging settings.
+   * @return a new Configuration with hedging enabled.
+   */
+  public Configuration withHedging(@Nonnull final HedgingConfiguration hedgingConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables hedging of slow reads.
+   *
+   * @return a new Configuration with hedging disabled.
+   */
+  public Configuration withoutHedging() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        null,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for the client-wide retry budget.
+   *
+   * @return the retry budget configuration, or empty if retries are only limited by the retry
+   *     strategy.
+   */
+  public Optional<RetryBudgetConfiguration> getRetryBudgetConfiguration() {
+    return Optional.ofNullable(retryBudgetConfiguration);
+  }
+
+  /**
+   * Copy constructor that limits the retries of the client to a budget. A retry the retry strategy
+   * allows is only sent while the retries of the client stay within the budget.
+   *
+   * @param retryBudgetConfiguration The retry budget settings.
+   * @return a new Configuration with a retry budget.
+   */
+  public Configuration withRetryBudget(
+      @Nonnull final RetryBudgetConfiguration retryBudgetConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that removes the retry budget.
+   *
+   * @return a new Configuration without a retry budget.
+   */
+  public Configuration withoutRetryBudget() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        null,
+        this.circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for the circuit breakers that fail requests to a failing cache fast.
+   *
+   * @return the circuit breaker configuration, or empty if circuit breaking is disabled.
+   */
+  public Optional<CircuitBreakerConfiguration> getCircuitBreakerConfiguration() {
+    return Optional.ofNullable(circuitBreakerConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables circuit breakers. While the requests of an operation on a cache
+   * keep failing or are too slow, further ones fail right away instead of waiting out the deadline.
+   *
+   * @param circuitBreakerConfiguration The circuit breaker settings.
+   * @return a new Configuration with circuit breakers enabled.
+   */
+  public Configuration withCircuitBreaker(
+      @Nonnull final CircuitBreakerConfiguration circuitBreakerConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        circuitBreakerConfiguration,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables circuit breakers.
+   *
+   * @return a new Configuration with circuit breakers disabled.
+   */
+  public Configuration withoutCircuitBreaker() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        null,
+        this.rateLimitConfiguration);
+  }
+
+  /**
+   * The settings for the client-side rate limits.
+   *
+   * @return the rate limit configuration, or empty if the client does not limit its rate.
+   */
+  public Optional<RateLimitConfiguration> getRateLimitConfiguration() {
+    return Optional.ofNullable(rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that enables client-side rate limits. Requests over the rate configured for
+   * their cache and class of operation are queued or failed without being sent to the service.
+   *
+   * @param rateLimitConfiguration The rate limit settings.
+   * @return a new Configuration with client-side rate limits enabled.
+   */
+  public Configuration withRateLimit(@Nonnull final RateLimitConfiguration rateLimitConfiguration) {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        rateLimitConfiguration);
+  }
+
+  /**
+   * Copy constructor that disables client-side rate limits.
+   *
+   * @return a new Configuration without client-side rate limits.
+   */
+  public Configuration withoutRateLimit() {
+    return new Configuration(
+        this.transportStrategy,
+        this.retryStrategy,
+        this.readConcern,
+        this.middlewares,
+        this.nearCacheConfiguration,
+        this.requestCoalescingEnabled,
+        this.autoBatchingConfiguration,
+        this.compressionConfiguration,
+        this.adaptiveConcurrencyConfiguration,
+        this.hedgingConfiguration,
+        this.retryBudgetConfiguration,
+        this.circuitBreakerConfiguration,
+        null);
+  }
 }
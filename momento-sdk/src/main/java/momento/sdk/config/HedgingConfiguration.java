@@ -0,0 +1,140 @@
+package momento.sdk.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for hedging slow reads.
+ *
+ * <p>When enabled, a read that has not completed after the hedging delay is sent a second time, on
+ * a different gRPC channel. Whichever request completes first provides the response, and the other
+ * is cancelled. An error response only wins if the other request fails as well. This cuts the tail
+ * latency caused by an occasional slow server or channel, at the cost of some extra requests.
+ *
+ * <p>The delay is either fixed, or follows a percentile of the recently observed read latencies, in
+ * which case the fixed delay is the lowest it goes. The number of hedged requests is capped at a
+ * fraction of all reads, so hedging cannot multiply the load when the server is slow across the
+ * board.
+ *
+ * <p>Only idempotent reads are hedged: get, getBatch, itemGetTtl, and the dictionary, set and list
+ * fetches. Gets that are automatically batched are not hedged individually.
+ */
+public class HedgingConfiguration {
+
+  /** The default delay, or lowest percentile delay, before a read is hedged. */
+  public static final Duration DEFAULT_DELAY = Duration.ofMillis(10);
+
+  /** The default percentile of observed read latencies after which a read is hedged. */
+  public static final double DEFAULT_PERCENTILE = 95.0;
+
+  /** The default maximum number of hedged requests, as a fraction of all reads. */
+  public static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+
+  private final Duration delay;
+  private final @Nullable Double percentile;
+  private final double maxHedgeRatio;
+
+  /**
+   * Constructs a HedgingConfiguration.
+   *
+   * @param delay The delay before a read is hedged, or the lowest delay if a percentile is given.
+   * @param percentile The percentile of observed read latencies, between 0 and 100 exclusive, after
+   *     which a read is hedged, or null to always use the fixed delay.
+   * @param maxHedgeRatio The maximum number of hedged requests as a fraction of all reads, greater
+   *     than 0 and at most 1.
+   */
+  public HedgingConfiguration(
+      @Nonnull Duration delay, @Nullable Double percentile, double maxHedgeRatio) {
+    if (delay == null || delay.isNegative() || delay.isZero()) {
+      throw new InvalidArgumentException("Hedging delay must be positive");
+    }
+    if (percentile != null && (percentile <= 0 || percentile >= 100)) {
+      throw new InvalidArgumentException("Hedging percentile must be between 0 and 100 exclusive");
+    }
+    if (maxHedgeRatio <= 0 || maxHedgeRatio > 1) {
+      throw new InvalidArgumentException(
+          "Hedging maxHedgeRatio must be greater than 0 and at most 1");
+    }
+    this.delay = delay;
+    this.percentile = percentile;
+    this.maxHedgeRatio = maxHedgeRatio;
+  }
+
+  /**
+   * Constructs a HedgingConfiguration that hedges reads after a fixed delay, with the default hedge
+   * ratio.
+   *
+   * @param delay The delay before a read is hedged.
+   */
+  public HedgingConfiguration(@Nonnull Duration delay) {
+    this(delay, null, DEFAULT_MAX_HEDGE_RATIO);
+  }
+
+  /**
+   * Constructs a HedgingConfiguration that hedges reads slower than the default percentile, with
+   * the default lowest delay and hedge ratio.
+   */
+  public HedgingConfiguration() {
+    this(DEFAULT_DELAY, DEFAULT_PERCENTILE, DEFAULT_MAX_HEDGE_RATIO);
+  }
+
+  /**
+   * The delay before a read is hedged, or the lowest delay if a percentile is used.
+   *
+   * @return the hedging delay.
+   */
+  public Duration getDelay() {
+    return delay;
+  }
+
+  /**
+   * Copy constructor that updates the delay.
+   *
+   * @param delay The new delay.
+   * @return The updated HedgingConfiguration.
+   */
+  public HedgingConfiguration withDelay(@Nonnull Duration delay) {
+    return new HedgingConfiguration(delay, percentile, maxHedgeRatio);
+  }
+
+  /**
+   * The percentile of observed read latencies after which a read is hedged.
+   *
+   * @return the percentile, or empty if the fixed delay is always used.
+   */
+  public Optional<Double> getPercentile() {
+    return Optional.ofNullable(percentile);
+  }
+
+  /**
+   * Copy constructor that updates the percentile.
+   *
+   * @param percentile The new percentile, or null to always use the fixed delay.
+   * @return The updated HedgingConfiguration.
+   */
+  public HedgingConfiguration withPercentile(@Nullable Double percentile) {
+    return new HedgingConfiguration(delay, percentile, maxHedgeRatio);
+  }
+
+  /**
+   * The maximum number of hedged requests, as a fraction of all reads.
+   *
+   * @return the maximum hedge ratio.
+   */
+  public double getMaxHedgeRatio() {
+    return maxHedgeRatio;
+  }
+
+  /**
+   * Copy constructor that updates the maximum hedge ratio.
+   *
+   * @param maxHedgeRatio The new maximum hedge ratio.
+   * @return The updated HedgingConfiguration.
+   */
+  public HedgingConfiguration withMaxHedgeRatio(double maxHedgeRatio) {
+    return new HedgingConfiguration(delay, percentile, maxHedgeRatio);
+  }
+}
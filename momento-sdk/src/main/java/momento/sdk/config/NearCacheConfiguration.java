@@ -0,0 +1,88 @@
+package momento.sdk.config;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for the optional in-process near cache that sits in front of cache reads.
+ *
+ * <p>When enabled, hits returned by the server for scalar get operations are kept in a bounded
+ * local map and served without a network round trip until they expire or are evicted. Entries are
+ * invalidated or replaced by writes made through the same client (set, delete, increment and the
+ * ttl operations), but writes made by other clients are only observed once the local entry expires.
+ * The near cache ttl is therefore the upper bound on how stale a read can be.
+ */
+public class NearCacheConfiguration {
+
+  /** The default maximum number of entries held by the near cache. */
+  public static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+  /** The default time an entry may be served from the near cache. */
+  public static final Duration DEFAULT_TTL = Duration.ofSeconds(1);
+
+  private final long maxEntries;
+  private final Duration ttl;
+
+  /**
+   * Constructs a NearCacheConfiguration.
+   *
+   * @param maxEntries The maximum number of entries held locally. When the limit is reached the
+   *     least recently used entries are evicted.
+   * @param ttl The maximum time an entry is served locally. An entry written through this client
+   *     with a shorter item ttl expires with the item instead.
+   */
+  public NearCacheConfiguration(long maxEntries, @Nonnull Duration ttl) {
+    if (maxEntries <= 0) {
+      throw new InvalidArgumentException("Near cache maxEntries must be greater than 0");
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      throw new InvalidArgumentException("Near cache ttl must be positive");
+    }
+    this.maxEntries = maxEntries;
+    this.ttl = ttl;
+  }
+
+  /** Constructs a NearCacheConfiguration with the default size and ttl. */
+  public NearCacheConfiguration() {
+    this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL);
+  }
+
+  /**
+   * The maximum number of entries held locally.
+   *
+   * @return the maximum number of entries.
+   */
+  public long getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Copy constructor that updates the maximum number of entries.
+   *
+   * @param maxEntries The new maximum number of entries.
+   * @return The updated NearCacheConfiguration.
+   */
+  public NearCacheConfiguration withMaxEntries(long maxEntries) {
+    return new NearCacheConfiguration(maxEntries, ttl);
+  }
+
+  /**
+   * The maximum time an entry is served locally.
+   *
+   * @return the near cache ttl.
+   */
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  /**
+   * Copy constructor that updates the near cache ttl.
+   *
+   * @param ttl The new near cache ttl.
+   * @return The updated NearCacheConfiguration.
+   */
+  public NearCacheConfiguration withTtl(@Nonnull Duration ttl) {
+    return new NearCacheConfiguration(maxEntries, ttl);
+  }
+}
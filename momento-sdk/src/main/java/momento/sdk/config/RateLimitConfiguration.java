@@ -0,0 +1,303 @@
+package momento.sdk.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for client-side rate limits that keep requests the service would throttle from
+ * being sent at all.
+ *
+ * <p>Each cache has a token bucket for each class of operation: reads of scalar items, writes of
+ * scalar items, and operations on collections such as dictionaries, lists, sets and sorted sets.
+ * Each bucket refills at the configured rate and holds up to the burst duration's worth of
+ * requests. A class without a rate is not limited.
+ *
+ * <p>A request that finds its bucket empty is either queued until a token is free or rejected
+ * right away with a {@link momento.sdk.exceptions.ClientRateLimitedException}. A queued request
+ * that would wait longer than the maximum queue delay, or past its deadline, is rejected instead.
+ *
+ * <p>With auto-tuning, a bucket slows down whenever the service reports that the account's
+ * operation or throughput rate limit was exceeded, and speeds back up towards the configured rate
+ * as requests succeed.
+ */
+public class RateLimitConfiguration {
+
+  /** What to do with a request that finds its bucket empty. */
+  public enum OverflowAction {
+    /** Wait until a token is free, up to the maximum queue delay. */
+    QUEUE,
+    /** Fail the request right away. */
+    REJECT
+  }
+
+  /** The default time a bucket can save requests up for. */
+  public static final Duration DEFAULT_BURST_DURATION = Duration.ofSeconds(1);
+
+  /** The default longest time a request waits for a token. */
+  public static final Duration DEFAULT_MAX_QUEUE_DELAY = Duration.ofSeconds(1);
+
+  private final @Nullable Double readsPerSecond;
+  private final @Nullable Double writesPerSecond;
+  private final @Nullable Double collectionOperationsPerSecond;
+  private final Duration burstDuration;
+  private final OverflowAction overflowAction;
+  private final Duration maxQueueDelay;
+  private final boolean autoTuneEnabled;
+
+  /**
+   * Constructs a RateLimitConfiguration.
+   *
+   * @param readsPerSecond The rate of scalar reads per cache, or null to not limit them.
+   * @param writesPerSecond The rate of scalar writes per cache, or null to not limit them.
+   * @param collectionOperationsPerSecond The rate of collection operations per cache, or null to
+   *     not limit them.
+   * @param burstDuration The time a bucket can save requests up for.
+   * @param overflowAction What to do with a request that finds its bucket empty.
+   * @param maxQueueDelay The longest time a queued request waits for a token.
+   * @param autoTuneEnabled Whether to slow down when the service reports rate limits exceeded.
+   */
+  public RateLimitConfiguration(
+      @Nullable Double readsPerSecond,
+      @Nullable Double writesPerSecond,
+      @Nullable Double collectionOperationsPerSecond,
+      @Nonnull Duration burstDuration,
+      @Nonnull OverflowAction overflowAction,
+      @Nonnull Duration maxQueueDelay,
+      boolean autoTuneEnabled) {
+    validateRate("readsPerSecond", readsPerSecond);
+    validateRate("writesPerSecond", writesPerSecond);
+    validateRate("collectionOperationsPerSecond", collectionOperationsPerSecond);
+    if (burstDuration == null || burstDuration.isNegative() || burstDuration.isZero()) {
+      throw new InvalidArgumentException("Rate limit burstDuration must be positive");
+    }
+    if (overflowAction == null) {
+      throw new InvalidArgumentException("Rate limit overflowAction must not be null");
+    }
+    if (maxQueueDelay == null || maxQueueDelay.isNegative()) {
+      throw new InvalidArgumentException("Rate limit maxQueueDelay must not be negative");
+    }
+    this.readsPerSecond = readsPerSecond;
+    this.writesPerSecond = writesPerSecond;
+    this.collectionOperationsPerSecond = collectionOperationsPerSecond;
+    this.burstDuration = burstDuration;
+    this.overflowAction = overflowAction;
+    this.maxQueueDelay = maxQueueDelay;
+    this.autoTuneEnabled = autoTuneEnabled;
+  }
+
+  /**
+   * Constructs a RateLimitConfiguration that queues requests over the given rates, with the
+   * default burst duration and maximum queue delay, and without auto-tuning.
+   *
+   * @param readsPerSecond The rate of scalar reads per cache, or null to not limit them.
+   * @param writesPerSecond The rate of scalar writes per cache, or null to not limit them.
+   * @param collectionOperationsPerSecond The rate of collection operations per cache, or null to
+   *     not limit them.
+   */
+  public RateLimitConfiguration(
+      @Nullable Double readsPerSecond,
+      @Nullable Double writesPerSecond,
+      @Nullable Double collectionOperationsPerSecond) {
+    this(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        DEFAULT_BURST_DURATION,
+        OverflowAction.QUEUE,
+        DEFAULT_MAX_QUEUE_DELAY,
+        false);
+  }
+
+  private static void validateRate(String name, @Nullable Double rate) {
+    if (rate != null && !(rate > 0 && rate < Double.POSITIVE_INFINITY)) {
+      throw new InvalidArgumentException("Rate limit " + name + " must be positive and finite");
+    }
+  }
+
+  /**
+   * The rate of scalar reads per cache.
+   *
+   * @return the reads per second, or empty if reads are not limited.
+   */
+  public Optional<Double> getReadsPerSecond() {
+    return Optional.ofNullable(readsPerSecond);
+  }
+
+  /**
+   * Copy constructor that updates the rate of scalar reads per cache.
+   *
+   * @param readsPerSecond The new reads per second, or null to not limit reads.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withReadsPerSecond(@Nullable Double readsPerSecond) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * The rate of scalar writes per cache.
+   *
+   * @return the writes per second, or empty if writes are not limited.
+   */
+  public Optional<Double> getWritesPerSecond() {
+    return Optional.ofNullable(writesPerSecond);
+  }
+
+  /**
+   * Copy constructor that updates the rate of scalar writes per cache.
+   *
+   * @param writesPerSecond The new writes per second, or null to not limit writes.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withWritesPerSecond(@Nullable Double writesPerSecond) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * The rate of collection operations per cache.
+   *
+   * @return the collection operations per second, or empty if they are not limited.
+   */
+  public Optional<Double> getCollectionOperationsPerSecond() {
+    return Optional.ofNullable(collectionOperationsPerSecond);
+  }
+
+  /**
+   * Copy constructor that updates the rate of collection operations per cache.
+   *
+   * @param collectionOperationsPerSecond The new collection operations per second, or null to not
+   *     limit them.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withCollectionOperationsPerSecond(
+      @Nullable Double collectionOperationsPerSecond) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * The time a bucket can save requests up for.
+   *
+   * @return the burst duration.
+   */
+  public Duration getBurstDuration() {
+    return burstDuration;
+  }
+
+  /**
+   * Copy constructor that updates the burst duration.
+   *
+   * @param burstDuration The new burst duration.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withBurstDuration(@Nonnull Duration burstDuration) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * What to do with a request that finds its bucket empty.
+   *
+   * @return the overflow action.
+   */
+  public OverflowAction getOverflowAction() {
+    return overflowAction;
+  }
+
+  /**
+   * Copy constructor that updates what to do with a request that finds its bucket empty.
+   *
+   * @param overflowAction The new overflow action.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withOverflowAction(@Nonnull OverflowAction overflowAction) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * The longest time a queued request waits for a token.
+   *
+   * @return the maximum queue delay.
+   */
+  public Duration getMaxQueueDelay() {
+    return maxQueueDelay;
+  }
+
+  /**
+   * Copy constructor that updates the longest time a queued request waits for a token.
+   *
+   * @param maxQueueDelay The new maximum queue delay.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withMaxQueueDelay(@Nonnull Duration maxQueueDelay) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+
+  /**
+   * Whether the buckets slow down when the service reports rate limits exceeded.
+   *
+   * @return true if auto-tuning is enabled.
+   */
+  public boolean isAutoTuneEnabled() {
+    return autoTuneEnabled;
+  }
+
+  /**
+   * Copy constructor that enables or disables auto-tuning.
+   *
+   * @param autoTuneEnabled Whether to slow down when the service reports rate limits exceeded.
+   * @return The updated RateLimitConfiguration.
+   */
+  public RateLimitConfiguration withAutoTuneEnabled(boolean autoTuneEnabled) {
+    return new RateLimitConfiguration(
+        readsPerSecond,
+        writesPerSecond,
+        collectionOperationsPerSecond,
+        burstDuration,
+        overflowAction,
+        maxQueueDelay,
+        autoTuneEnabled);
+  }
+}
@@ -0,0 +1,121 @@
+package momento.sdk.config;
+
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration for a client-wide budget on retries.
+ *
+ * <p>The retry strategy decides whether each failed request is retried and when, independently of
+ * the others. When the server is overloaded, that retries nearly every request, multiplying the
+ * load exactly when there is the least capacity for it. A retry budget caps the retries of a client
+ * at a fraction of its successful requests, plus a small rate of retries that is always allowed so
+ * that a client with little traffic can still retry. Retries over the budget fail with the error of
+ * the attempt that was not retried.
+ *
+ * <p>The budget is a token bucket: each successful request adds the retry ratio to it, the minimum
+ * rate adds to it over time, and each retry takes one from it. It holds at most the maximum number
+ * of saved retries, which bounds the burst of retries a long healthy period can pay for. The
+ * budget applies on top of whichever retry strategy is configured.
+ */
+public class RetryBudgetConfiguration {
+
+  /** The default maximum number of retries, as a fraction of successful requests. */
+  public static final double DEFAULT_RETRY_RATIO = 0.1;
+
+  /** The default number of retries per second allowed regardless of successful requests. */
+  public static final double DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+
+  /** The default maximum number of retries the budget can save up. */
+  public static final int DEFAULT_MAX_SAVED_RETRIES = 100;
+
+  private final double retryRatio;
+  private final double minRetriesPerSecond;
+  private final int maxSavedRetries;
+
+  /**
+   * Constructs a RetryBudgetConfiguration.
+   *
+   * @param retryRatio The maximum number of retries as a fraction of successful requests, at least
+   *     0.
+   * @param minRetriesPerSecond The number of retries per second allowed regardless of successful
+   *     requests, at least 0.
+   * @param maxSavedRetries The maximum number of retries the budget can save up, at least 1.
+   */
+  public RetryBudgetConfiguration(
+      double retryRatio, double minRetriesPerSecond, int maxSavedRetries) {
+    if (retryRatio < 0) {
+      throw new InvalidArgumentException("Retry budget retryRatio must not be negative");
+    }
+    if (minRetriesPerSecond < 0) {
+      throw new InvalidArgumentException("Retry budget minRetriesPerSecond must not be negative");
+    }
+    if (maxSavedRetries < 1) {
+      throw new InvalidArgumentException("Retry budget maxSavedRetries must be at least 1");
+    }
+    this.retryRatio = retryRatio;
+    this.minRetriesPerSecond = minRetriesPerSecond;
+    this.maxSavedRetries = maxSavedRetries;
+  }
+
+  /** Constructs a RetryBudgetConfiguration with the default ratio, minimum rate and savings. */
+  public RetryBudgetConfiguration() {
+    this(DEFAULT_RETRY_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND, DEFAULT_MAX_SAVED_RETRIES);
+  }
+
+  /**
+   * The maximum number of retries, as a fraction of successful requests.
+   *
+   * @return the retry ratio.
+   */
+  public double getRetryRatio() {
+    return retryRatio;
+  }
+
+  /**
+   * Copy constructor that updates the retry ratio.
+   *
+   * @param retryRatio The new retry ratio.
+   * @return The updated RetryBudgetConfiguration.
+   */
+  public RetryBudgetConfiguration withRetryRatio(double retryRatio) {
+    return new RetryBudgetConfiguration(retryRatio, minRetriesPerSecond, maxSavedRetries);
+  }
+
+  /**
+   * The number of retries per second allowed regardless of successful requests.
+   *
+   * @return the minimum retry rate.
+   */
+  public double getMinRetriesPerSecond() {
+    return minRetriesPerSecond;
+  }
+
+  /**
+   * Copy constructor that updates the minimum retry rate.
+   *
+   * @param minRetriesPerSecond The new minimum retry rate.
+   * @return The updated RetryBudgetConfiguration.
+   */
+  public RetryBudgetConfiguration withMinRetriesPerSecond(double minRetriesPerSecond) {
+    return new RetryBudgetConfiguration(retryRatio, minRetriesPerSecond, maxSavedRetries);
+  }
+
+  /**
+   * The maximum number of retries the budget can save up.
+   *
+   * @return the maximum saved retries.
+   */
+  public int getMaxSavedRetries() {
+    return maxSavedRetries;
+  }
+
+  /**
+   * Copy constructor that updates the maximum number of saved retries.
+   *
+   * @param maxSavedRetries The new maximum number of saved retries.
+   * @return The updated RetryBudgetConfiguration.
+   */
+  public RetryBudgetConfiguration withMaxSavedRetries(int maxSavedRetries) {
+    return new RetryBudgetConfiguration(retryRatio, minRetriesPerSecond, maxSavedRetries);
+  }
+}
@@ -0,0 +1,83 @@
+package momento.sdk.config.middleware;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, bucketed like an HdrHistogram.
+ *
+ * <p>Latencies are recorded in microseconds. Below {@link #SUB_BUCKETS} microseconds each value
+ * has its own bucket. Above that, each power of two is split into {@link #SUB_BUCKETS} buckets of
+ * equal width, so a bucket is never wider than about 3% of the values in it. Latencies over {@link
+ * #MAX_MICROS} are recorded in the last bucket. Recording a latency is a few atomic increments, and
+ * reading it never blocks the threads that record.
+ */
+final class LatencyHistogram {
+
+  static final int SUB_BUCKET_BITS = 5;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final long MAX_MICROS = (1L << 32) - 1;
+  static final int BUCKETS = indexOf(MAX_MICROS) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder totalMicros = new LongAdder();
+  private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos The latency in nanoseconds.
+   */
+  void record(long nanos) {
+    final long micros = Math.min(MAX_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    counts.incrementAndGet(indexOf(micros));
+    totalMicros.add(micros);
+    maxMicros.accumulate(micros);
+  }
+
+  /**
+   * Copies the bucket counts. Latencies recorded while copying may or may not be included.
+   *
+   * @return the count of each bucket.
+   */
+  long[] counts() {
+    final long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = counts.get(i);
+    }
+    return copy;
+  }
+
+  long totalMicros() {
+    return totalMicros.sum();
+  }
+
+  long maxMicros() {
+    return maxMicros.get();
+  }
+
+  static int indexOf(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) micros;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * The highest latency that is recorded in the given bucket.
+   *
+   * @param index The index of the bucket.
+   * @return the highest latency of the bucket in microseconds.
+   */
+  static long highestMicrosOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+    final long lowest = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,75 @@
+package momento.sdk.config.middleware;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@link MetricsMiddleware}, registered with {@link
+ * MetricsMiddleware#registerMBean(String)}. Every attribute is computed from a fresh snapshot when
+ * it is read. The maps are keyed by the names of the {@link momento.sdk.retry.MomentoRpcMethod}s
+ * that have been called.
+ */
+public interface MetricsMXBean {
+
+  /**
+   * The number of requests sent for all methods, including retries.
+   *
+   * @return the request count.
+   */
+  long getRequestCount();
+
+  /**
+   * The number of requests for all methods that were retries of an earlier attempt.
+   *
+   * @return the retry count.
+   */
+  long getRetryCount();
+
+  /**
+   * The number of requests for all methods that did not complete with an OK status.
+   *
+   * @return the error count.
+   */
+  long getErrorCount();
+
+  /**
+   * The total serialized size of the request messages of all methods.
+   *
+   * @return the number of request bytes.
+   */
+  long getRequestBytes();
+
+  /**
+   * The total serialized size of the response messages of all methods.
+   *
+   * @return the number of response bytes.
+   */
+  long getResponseBytes();
+
+  /**
+   * The number of requests sent for each method, including retries.
+   *
+   * @return the request count by method.
+   */
+  Map<String, Long> getRequestCountByMethod();
+
+  /**
+   * The median latency of each method.
+   *
+   * @return the median latency in milliseconds by method.
+   */
+  Map<String, Double> getP50LatencyMillisByMethod();
+
+  /**
+   * The 99th percentile latency of each method.
+   *
+   * @return the 99th percentile latency in milliseconds by method.
+   */
+  Map<String, Double> getP99LatencyMillisByMethod();
+
+  /**
+   * The highest latency of each method.
+   *
+   * @return the maximum latency in milliseconds by method.
+   */
+  Map<String, Double> getMaxLatencyMillisByMethod();
+}
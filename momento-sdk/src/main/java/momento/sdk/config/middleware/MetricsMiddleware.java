@@ -0,0 +1,325 @@
+package momento.sdk.config.middleware;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import momento.sdk.retry.MomentoRpcMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A middleware that records the latency, status codes, retries and payload sizes of each RPC method
+ * in memory.
+ *
+ * <p>The metrics are read with {@link #getSnapshot()}, or through JMX once {@link
+ * #registerMBean(String)} has been called. Nothing is sent anywhere. Recording takes no locks: each
+ * method has its own counters and a {@link LatencyHistogram}, created the first time the method is
+ * called and looked up once per {@link MethodDescriptor}. Every hook completes right away, so the
+ * middleware chain never waits on it.
+ *
+ * <p>Each attempt of a request is recorded on its own. Its latency is the time from sending its
+ * headers to receiving its status. Requests of unknown RPC methods are not recorded.
+ */
+public class MetricsMiddleware implements Middleware {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetricsMiddleware.class);
+  private static final MomentoRpcMethod[] METHODS = MomentoRpcMethod.values();
+  private static final Status.Code[] STATUS_CODES = Status.Code.values();
+
+  private final AtomicReferenceArray<MethodRecorder> recorders =
+      new AtomicReferenceArray<>(METHODS.length);
+  // The recorder of each method called so far, or empty if it is not a known RPC method.
+  private final ConcurrentHashMap<MethodDescriptor<?, ?>, Optional<MethodRecorder>>
+      recordersByDescriptor = new ConcurrentHashMap<>();
+  private final LongSupplier nanoClock;
+  @Nullable private ObjectName mbeanName;
+
+  /** Constructs a MetricsMiddleware. */
+  public MetricsMiddleware() {
+    this(System::nanoTime);
+  }
+
+  MetricsMiddleware(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  /** Records nothing: each call gets its own handler from {@link #onNewCall}. */
+  @Override
+  public MiddlewareRequestHandler onNewRequest(MiddlewareRequestHandlerContext context) {
+    return PassThroughHandler.INSTANCE;
+  }
+
+  @Override
+  @Nullable
+  public MiddlewareRequestHandler onNewCall(
+      MiddlewareRequestHandlerContext context, MethodDescriptor<?, ?> method) {
+    Optional<MethodRecorder> recorder = recordersByDescriptor.get(method);
+    if (recorder == null) {
+      recorder =
+          recordersByDescriptor.computeIfAbsent(
+              method, m -> Optional.ofNullable(recorderFor(rpcMethodOf(m))));
+    }
+    if (!recorder.isPresent()) {
+      return null;
+    }
+    final boolean retry =
+        context.getContext().containsKey(MiddlewareRequestHandlerContext.RETRY_ATTEMPT_KEY);
+    return new Handler(recorder.get(), retry);
+  }
+
+  /**
+   * Takes a snapshot of the metrics recorded so far.
+   *
+   * @return the snapshot.
+   */
+  public MetricsSnapshot getSnapshot() {
+    final Map<MomentoRpcMethod, RpcMetrics> methods = new EnumMap<>(MomentoRpcMethod.class);
+    for (int i = 0; i < METHODS.length; i++) {
+      final MethodRecorder recorder = recorders.get(i);
+      if (recorder != null) {
+        methods.put(METHODS[i], recorder.snapshot(METHODS[i]));
+      }
+    }
+    return new MetricsSnapshot(Instant.now(), methods);
+  }
+
+  /**
+   * Registers a {@link MetricsMXBean} for this middleware with the platform MBean server, under
+   * {@code momento.sdk:type=Metrics,name=<name>}. It is unregistered when the middleware is closed.
+   *
+   * @param name The name to register the MBean under, unique within the JVM.
+   * @return the object name the MBean was registered under.
+   * @throws JMException if the name is malformed or already registered.
+   */
+  public synchronized ObjectName registerMBean(String name) throws JMException {
+    if (mbeanName != null) {
+      throw new IllegalStateException("The metrics MBean is already registered as " + mbeanName);
+    }
+    final ObjectName objectName =
+        new ObjectName("momento.sdk:type=Metrics,name=" + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), objectName);
+    mbeanName = objectName;
+    return objectName;
+  }
+
+  /** Unregisters the MBean, if one was registered. */
+  @Override
+  public synchronized void close() {
+    if (mbeanName == null) {
+      return;
+    }
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.unregisterMBean(mbeanName);
+    } catch (JMException e) {
+      LOGGER.warn("Failed to unregister the metrics MBean {}", mbeanName, e);
+    }
+    mbeanName = null;
+  }
+
+  @Nullable
+  private static MomentoRpcMethod rpcMethodOf(MethodDescriptor<?, ?> method) {
+    if (!(method.getRequestMarshaller() instanceof MethodDescriptor.PrototypeMarshaller)) {
+      return null;
+    }
+    final Object prototype =
+        ((MethodDescriptor.PrototypeMarshaller<?>) method.getRequestMarshaller())
+            .getMessagePrototype();
+    return prototype == null
+        ? null
+        : MomentoRpcMethod.fromString(prototype.getClass().getSimpleName());
+  }
+
+  @Nullable
+  private MethodRecorder recorderFor(@Nullable MomentoRpcMethod method) {
+    if (method == null) {
+      return null;
+    }
+    final int index = method.ordinal();
+    final MethodRecorder recorder = recorders.get(index);
+    if (recorder != null) {
+      return recorder;
+    }
+    recorders.compareAndSet(index, null, new MethodRecorder());
+    return recorders.get(index);
+  }
+
+  private static final class MethodRecorder {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUS_CODES.length);
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private RpcMetrics snapshot(MomentoRpcMethod method) {
+      final Map<Status.Code, Long> statuses = new EnumMap<>(Status.Code.class);
+      for (int i = 0; i < STATUS_CODES.length; i++) {
+        final long count = statusCounts.get(i);
+        if (count > 0) {
+          statuses.put(STATUS_CODES[i], count);
+        }
+      }
+      return new RpcMetrics(
+          method,
+          requests.sum(),
+          retries.sum(),
+          requestBytes.sum(),
+          responseBytes.sum(),
+          statuses,
+          latency.counts(),
+          latency.totalMicros(),
+          latency.maxMicros());
+    }
+  }
+
+  private static final class PassThroughHandler implements MiddlewareRequestHandler {
+    private static final PassThroughHandler INSTANCE = new PassThroughHandler();
+
+    @Override
+    public CompletableFuture<MiddlewareMetadata> onRequestMetadata(MiddlewareMetadata metadata) {
+      return CompletableFuture.completedFuture(metadata);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMessage> onRequestBody(MiddlewareMessage request) {
+      return CompletableFuture.completedFuture(request);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMetadata> onResponseMetadata(MiddlewareMetadata metadata) {
+      return CompletableFuture.completedFuture(metadata);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMessage> onResponseBody(MiddlewareMessage response) {
+      return CompletableFuture.completedFuture(response);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareStatus> onResponseStatus(MiddlewareStatus status) {
+      return CompletableFuture.completedFuture(status);
+    }
+  }
+
+  private final class Handler implements MiddlewareRequestHandler {
+    private final MethodRecorder recorder;
+    private final boolean retry;
+    private long startNanos;
+
+    private Handler(MethodRecorder recorder, boolean retry) {
+      this.recorder = recorder;
+      this.retry = retry;
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMetadata> onRequestMetadata(MiddlewareMetadata metadata) {
+      startNanos = nanoClock.getAsLong();
+      recorder.requests.increment();
+      if (retry) {
+        recorder.retries.increment();
+      }
+      return CompletableFuture.completedFuture(metadata);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMessage> onRequestBody(MiddlewareMessage request) {
+      recorder.requestBytes.add(request.getMessageLength());
+      return CompletableFuture.completedFuture(request);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMetadata> onResponseMetadata(MiddlewareMetadata metadata) {
+      return CompletableFuture.completedFuture(metadata);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareMessage> onResponseBody(MiddlewareMessage response) {
+      recorder.responseBytes.add(response.getMessageLength());
+      return CompletableFuture.completedFuture(response);
+    }
+
+    @Override
+    public CompletableFuture<MiddlewareStatus> onResponseStatus(MiddlewareStatus status) {
+      recorder.statusCounts.incrementAndGet(status.getCode().ordinal());
+      recorder.latency.record(nanoClock.getAsLong() - startNanos);
+      return CompletableFuture.completedFuture(status);
+    }
+  }
+
+  private final class MBean implements MetricsMXBean {
+    @Override
+    public long getRequestCount() {
+      return getSnapshot().getRequestCount();
+    }
+
+    @Override
+    public long getRetryCount() {
+      return getSnapshot().getRetryCount();
+    }
+
+    @Override
+    public long getErrorCount() {
+      return getSnapshot().getErrorCount();
+    }
+
+    @Override
+    public long getRequestBytes() {
+      return getSnapshot().getRequestBytes();
+    }
+
+    @Override
+    public long getResponseBytes() {
+      return getSnapshot().getResponseBytes();
+    }
+
+    @Override
+    public Map<String, Long> getRequestCountByMethod() {
+      return byMethod(RpcMetrics::getRequestCount);
+    }
+
+    @Override
+    public Map<String, Double> getP50LatencyMillisByMethod() {
+      return byMethod(metrics -> toMillis(metrics.getLatencyPercentile(50)));
+    }
+
+    @Override
+    public Map<String, Double> getP99LatencyMillisByMethod() {
+      return byMethod(metrics -> toMillis(metrics.getLatencyPercentile(99)));
+    }
+
+    @Override
+    public Map<String, Double> getMaxLatencyMillisByMethod() {
+      return byMethod(metrics -> toMillis(metrics.getMaxLatency()));
+    }
+
+    private <T> Map<String, T> byMethod(Function<RpcMetrics, T> value) {
+      final Map<String, T> values = new LinkedHashMap<>();
+      for (RpcMetrics metrics : getSnapshot().getMethods().values()) {
+        values.put(metrics.getMethod().name(), value.apply(metrics));
+      }
+      return values;
+    }
+
+    private double toMillis(Duration duration) {
+      return duration.toNanos() / 1e6;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package momento.sdk.config.middleware;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import momento.sdk.retry.MomentoRpcMethod;
+
+/** The metrics a {@link MetricsMiddleware} has recorded, as of the time the snapshot was taken. */
+public final class MetricsSnapshot {
+
+  private final Instant timestamp;
+  private final Map<MomentoRpcMethod, RpcMetrics> methods;
+
+  MetricsSnapshot(Instant timestamp, Map<MomentoRpcMethod, RpcMetrics> methods) {
+    this.timestamp = timestamp;
+    this.methods = Collections.unmodifiableMap(new EnumMap<>(methods));
+  }
+
+  /**
+   * The time the snapshot was taken.
+   *
+   * @return the timestamp.
+   */
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * The metrics of each RPC method that has been called. Methods that have never been called are
+   * left out.
+   *
+   * @return the metrics by method.
+   */
+  public Map<MomentoRpcMethod, RpcMetrics> getMethods() {
+    return methods;
+  }
+
+  /**
+   * The metrics of the given RPC method.
+   *
+   * @param method The RPC method.
+   * @return the metrics of the method, or empty if it has never been called.
+   */
+  public Optional<RpcMetrics> getMethod(MomentoRpcMethod method) {
+    return Optional.ofNullable(methods.get(method));
+  }
+
+  /**
+   * The number of requests sent for all methods, including retries.
+   *
+   * @return the request count.
+   */
+  public long getRequestCount() {
+    return methods.values().stream().mapToLong(RpcMetrics::getRequestCount).sum();
+  }
+
+  /**
+   * The number of requests for all methods that were retries of an earlier attempt.
+   *
+   * @return the retry count.
+   */
+  public long getRetryCount() {
+    return methods.values().stream().mapToLong(RpcMetrics::getRetryCount).sum();
+  }
+
+  /**
+   * The number of requests for all methods that did not complete with an OK status.
+   *
+   * @return the error count.
+   */
+  public long getErrorCount() {
+    return methods.values().stream().mapToLong(RpcMetrics::getErrorCount).sum();
+  }
+
+  /**
+   * The total serialized size of the request messages of all methods.
+   *
+   * @return the number of request bytes.
+   */
+  public long getRequestBytes() {
+    return methods.values().stream().mapToLong(RpcMetrics::getRequestBytes).sum();
+  }
+
+  /**
+   * The total serialized size of the response messages of all methods.
+   *
+   * @return the number of response bytes.
+   */
+  public long getResponseBytes() {
+    return methods.values().stream().mapToLong(RpcMetrics::getResponseBytes).sum();
+  }
+}
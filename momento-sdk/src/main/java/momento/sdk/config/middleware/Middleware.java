@@ -1,7 +1,33 @@
 package momento.sdk.config.middleware;
 
+import io.grpc.MethodDescriptor;
+import javax.annotation.Nullable;
+
 public interface Middleware {
+  /**
+   * Creates the handler of a channel, which handles every call on the channel that {@link
+   * #onNewCall} does not create a handler for. Called once per channel.
+   *
+   * @param context The context of the channel.
+   * @return the handler.
+   */
   MiddlewareRequestHandler onNewRequest(MiddlewareRequestHandlerContext context);
 
+  /**
+   * Creates the handler of a single call, for middleware that keeps state about each request.
+   * Called when each call, including each retry of a request, is created. By default the handler of
+   * the channel handles the call.
+   *
+   * @param context The context of the call: that of the channel, with {@link
+   *     MiddlewareRequestHandlerContext#RETRY_ATTEMPT_KEY} added for retries.
+   * @param method The RPC method called.
+   * @return the handler of the call, or null to use the handler of the channel.
+   */
+  @Nullable
+  default MiddlewareRequestHandler onNewCall(
+      MiddlewareRequestHandlerContext context, MethodDescriptor<?, ?> method) {
+    return null;
+  }
+
   default void close() {}
 }
@@ -10,7 +10,7 @@ public class MiddlewareMessage {
   }
 
   public int getMessageLength() {
-    return grpcMessage != null ? grpcMessage.toByteArray().length : 0;
+    return grpcMessage != null ? grpcMessage.getSerializedSize() : 0;
   }
 
   public String getConstructorName() {
@@ -3,5 +3,11 @@ package momento.sdk.config.middleware;
 import java.util.Map;
 
 public interface MiddlewareRequestHandlerContext {
+  /**
+   * The context key holding the number of the retry a call is. Only present in the context given to
+   * {@link Middleware#onNewCall}, and absent for first attempts.
+   */
+  String RETRY_ATTEMPT_KEY = "retry-attempt";
+
   Map<String, String> getContext();
 }
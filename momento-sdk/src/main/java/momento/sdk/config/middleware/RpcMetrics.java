@@ -0,0 +1,194 @@
+package momento.sdk.config.middleware;
+
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import momento.sdk.retry.MomentoRpcMethod;
+
+/**
+ * The metrics of one RPC method, as recorded by a {@link MetricsMiddleware} up to the time of a
+ * {@link MetricsSnapshot}. All counts are totals since the middleware was created; the throughput
+ * over an interval is the difference between two snapshots divided by the time between them.
+ *
+ * <p>Each attempt of a request is counted and timed on its own, so a request that was retried
+ * twice counts as three requests, two of which are retries.
+ */
+public final class RpcMetrics {
+
+  private final MomentoRpcMethod method;
+  private final long requestCount;
+  private final long retryCount;
+  private final long requestBytes;
+  private final long responseBytes;
+  private final Map<Status.Code, Long> statusCounts;
+  private final long[] latencyCounts;
+  private final long latencyCount;
+  private final long totalLatencyMicros;
+  private final long maxLatencyMicros;
+
+  RpcMetrics(
+      MomentoRpcMethod method,
+      long requestCount,
+      long retryCount,
+      long requestBytes,
+      long responseBytes,
+      Map<Status.Code, Long> statusCounts,
+      long[] latencyCounts,
+      long totalLatencyMicros,
+      long maxLatencyMicros) {
+    this.method = method;
+    this.requestCount = requestCount;
+    this.retryCount = retryCount;
+    this.requestBytes = requestBytes;
+    this.responseBytes = responseBytes;
+    this.statusCounts = Collections.unmodifiableMap(new EnumMap<>(statusCounts));
+    this.latencyCounts = latencyCounts;
+    long count = 0;
+    for (long bucketCount : latencyCounts) {
+      count += bucketCount;
+    }
+    this.latencyCount = count;
+    this.totalLatencyMicros = totalLatencyMicros;
+    this.maxLatencyMicros = maxLatencyMicros;
+  }
+
+  /**
+   * The RPC method these metrics are for.
+   *
+   * @return the method.
+   */
+  public MomentoRpcMethod getMethod() {
+    return method;
+  }
+
+  /**
+   * The number of requests sent, including retries.
+   *
+   * @return the request count.
+   */
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * The number of requests that were retries of an earlier attempt.
+   *
+   * @return the retry count.
+   */
+  public long getRetryCount() {
+    return retryCount;
+  }
+
+  /**
+   * The total serialized size of the request messages.
+   *
+   * @return the number of request bytes.
+   */
+  public long getRequestBytes() {
+    return requestBytes;
+  }
+
+  /**
+   * The total serialized size of the response messages.
+   *
+   * @return the number of response bytes.
+   */
+  public long getResponseBytes() {
+    return responseBytes;
+  }
+
+  /**
+   * The number of completed requests by the status they completed with. Statuses no request
+   * completed with are left out.
+   *
+   * @return the count of each status code.
+   */
+  public Map<Status.Code, Long> getStatusCounts() {
+    return statusCounts;
+  }
+
+  /**
+   * The number of completed requests that did not complete with an OK status.
+   *
+   * @return the error count.
+   */
+  public long getErrorCount() {
+    long errors = 0;
+    for (Map.Entry<Status.Code, Long> entry : statusCounts.entrySet()) {
+      if (entry.getKey() != Status.Code.OK) {
+        errors += entry.getValue();
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * The latency at or below which the given percentage of completed requests fall. The latency is
+   * the highest one of its histogram bucket, so it is at most about 3% higher than the exact one.
+   *
+   * @param percentile The percentage of requests, between 0 and 100.
+   * @return the latency, or zero if no request has completed.
+   */
+  public Duration getLatencyPercentile(double percentile) {
+    if (latencyCount == 0) {
+      return Duration.ZERO;
+    }
+    final double clamped = Math.min(100, Math.max(0, percentile));
+    final long target = Math.max(1, (long) Math.ceil(clamped / 100 * latencyCount));
+    long cumulative = 0;
+    for (int i = 0; i < latencyCounts.length; i++) {
+      cumulative += latencyCounts[i];
+      if (cumulative >= target) {
+        return Duration.ofNanos(
+            Math.min(LatencyHistogram.highestMicrosOf(i), maxLatencyMicros) * 1000);
+      }
+    }
+    return getMaxLatency();
+  }
+
+  /**
+   * The mean latency of completed requests.
+   *
+   * @return the mean latency, or zero if no request has completed.
+   */
+  public Duration getMeanLatency() {
+    return latencyCount == 0
+        ? Duration.ZERO
+        : Duration.ofNanos(totalLatencyMicros * 1000 / latencyCount);
+  }
+
+  /**
+   * The highest latency of a completed request.
+   *
+   * @return the maximum latency, or zero if no request has completed.
+   */
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(maxLatencyMicros * 1000);
+  }
+
+  @Override
+  public String toString() {
+    return "RpcMetrics{"
+        + "method="
+        + method
+        + ", requestCount="
+        + requestCount
+        + ", retryCount="
+        + retryCount
+        + ", errorCount="
+        + getErrorCount()
+        + ", requestBytes="
+        + requestBytes
+        + ", responseBytes="
+        + responseBytes
+        + ", p50="
+        + getLatencyPercentile(50)
+        + ", p99="
+        + getLatencyPercentile(99)
+        + ", max="
+        + getMaxLatency()
+        + '}';
+  }
+}
@@ -0,0 +1,22 @@
+package momento.sdk.config.transport;
+
+/**
+ * How a client picks the gRPC channel for each request when it has more than one.
+ *
+ * <p>Every strategy other than {@link #ROUND_ROBIN} only picks channels that are connected while
+ * any are, so requests are not queued behind a channel that is reconnecting.
+ */
+public enum ChannelSelectionStrategy {
+  /** Uses the channels in turn, regardless of their state or load. */
+  ROUND_ROBIN,
+
+  /** Uses the channel with the fewest requests in flight. */
+  LEAST_OUTSTANDING_REQUESTS,
+
+  /**
+   * Compares two channels picked at random, and uses the one with the lower load, measured as its
+   * requests in flight weighted by its recent response latency. This avoids slow channels with
+   * less overhead than comparing every channel.
+   */
+  POWER_OF_TWO_CHOICES
+}
@@ -0,0 +1,89 @@
+package momento.sdk.config.transport;
+
+import java.time.Duration;
+import javax.annotation.Nonnull;
+import momento.sdk.exceptions.InvalidArgumentException;
+import momento.sdk.internal.GrpcChannelOptions;
+
+/**
+ * Configuration for growing and shrinking the pool of unary gRPC channels with load.
+ *
+ * <p>Each channel is one HTTP/2 connection, which carries about {@value
+ * GrpcChannelOptions#NUM_CONCURRENT_STREAMS_PER_GRPC_CHANNEL} concurrent calls before further calls
+ * queue up in the client. When enabled, the pool starts with the configured number of unary
+ * channels, and adds a channel whenever the calls in flight approach that limit on every channel,
+ * up to the maximum. Once the pool has had more channels than its peak load needed for a whole
+ * cool-down period, the newest extra channel is retired, until the pool is back at its starting
+ * size.
+ */
+public class ElasticChannelPoolConfiguration {
+
+  /** The default maximum number of unary channels. */
+  public static final int DEFAULT_MAX_NUM_CHANNELS = 16;
+
+  /** The default time the pool must have been larger than needed before it shrinks. */
+  public static final Duration DEFAULT_COOL_DOWN = Duration.ofSeconds(30);
+
+  private final int maxNumChannels;
+  private final Duration coolDown;
+
+  /**
+   * Constructs an ElasticChannelPoolConfiguration.
+   *
+   * @param maxNumChannels The maximum number of unary channels.
+   * @param coolDown The time the pool must have been larger than needed before it shrinks.
+   */
+  public ElasticChannelPoolConfiguration(int maxNumChannels, @Nonnull Duration coolDown) {
+    if (maxNumChannels <= 0) {
+      throw new InvalidArgumentException("Elastic channel pool maxNumChannels must be positive");
+    }
+    if (coolDown == null || coolDown.isNegative() || coolDown.isZero()) {
+      throw new InvalidArgumentException("Elastic channel pool coolDown must be positive");
+    }
+    this.maxNumChannels = maxNumChannels;
+    this.coolDown = coolDown;
+  }
+
+  /** Constructs an ElasticChannelPoolConfiguration with the default maximum and cool-down. */
+  public ElasticChannelPoolConfiguration() {
+    this(DEFAULT_MAX_NUM_CHANNELS, DEFAULT_COOL_DOWN);
+  }
+
+  /**
+   * The maximum number of unary channels.
+   *
+   * @return the maximum number of channels.
+   */
+  public int getMaxNumChannels() {
+    return maxNumChannels;
+  }
+
+  /**
+   * Copy constructor that updates the maximum number of unary channels.
+   *
+   * @param maxNumChannels The new maximum number of channels.
+   * @return The updated ElasticChannelPoolConfiguration.
+   */
+  public ElasticChannelPoolConfiguration withMaxNumChannels(int maxNumChannels) {
+    return new ElasticChannelPoolConfiguration(maxNumChannels, coolDown);
+  }
+
+  /**
+   * The time the pool must have been larger than needed before it shrinks.
+   *
+   * @return the cool-down.
+   */
+  public Duration getCoolDown() {
+    return coolDown;
+  }
+
+  /**
+   * Copy constructor that updates the cool-down.
+   *
+   * @param coolDown The new cool-down.
+   * @return The updated ElasticChannelPoolConfiguration.
+   */
+  public ElasticChannelPoolConfiguration withCoolDown(@Nonnull Duration coolDown) {
+    return new ElasticChannelPoolConfiguration(maxNumChannels, coolDown);
+  }
+}
@@ -19,6 +19,9 @@ public class GrpcConfiguration implements IGrpcConfiguration {
   private final @Nullable Boolean keepAliveWithoutCalls;
   private final @Nullable Duration keepAliveTimeout;
   private final @Nullable Duration keepAliveTime;
+  private final @Nonnull ChannelSelectionStrategy channelSelectionStrategy;
+  private final @Nullable ElasticChannelPoolConfiguration elasticChannelPool;
+  private final @Nullable NettyTransportConfiguration nettyTransport;
 
   /**
    * Constructs a GrpcConfiguration.
@@ -94,6 +97,51 @@ public class GrpcConfiguration implements IGrpcConfiguration {
       @Nullable Boolean keepAliveWithoutCalls,
       @Nullable Duration keepAliveTimeout,
       @Nullable Duration keepAliveTime) {
+    this(
+        deadline,
+        minNumGrpcChannels,
+        numStreamGrpcChannels,
+        numUnaryGrpcChannels,
+        maxMessageSize,
+        keepAliveWithoutCalls,
+        keepAliveTimeout,
+        keepAliveTime,
+        ChannelSelectionStrategy.ROUND_ROBIN,
+        null,
+        null);
+  }
+
+  /**
+   * Constructs a GrpcConfiguration.
+   *
+   * @param deadline The maximum duration of a gRPC call.
+   * @param minNumGrpcChannels The minimum number of gRPC channels to keep open at any given time.
+   * @param numStreamGrpcChannels The number of stream grpc channels to keep open at any given time.
+   * @param numUnaryGrpcChannels The number of unary grpc channels to keep open at any given time.
+   * @param maxMessageSize The maximum size of a message (in bytes) that can be received by the
+   *     client.
+   * @param keepAliveWithoutCalls Whether to send keepalive pings without any active calls.
+   * @param keepAliveTimeout The time to wait for a keepalive ping response before considering the
+   *     connection dead.
+   * @param keepAliveTime The time to wait between keepalive pings.
+   * @param channelSelectionStrategy How the channel for each request is picked.
+   * @param elasticChannelPool How the unary channels grow and shrink with load, or null to keep a
+   *     fixed number of them.
+   * @param nettyTransport The Netty transport settings of the channels, or null for the defaults of
+   *     gRPC.
+   */
+  private GrpcConfiguration(
+      @Nonnull Duration deadline,
+      int minNumGrpcChannels,
+      @Nullable Integer numStreamGrpcChannels,
+      @Nullable Integer numUnaryGrpcChannels,
+      @Nullable Integer maxMessageSize,
+      @Nullable Boolean keepAliveWithoutCalls,
+      @Nullable Duration keepAliveTimeout,
+      @Nullable Duration keepAliveTime,
+      @Nonnull ChannelSelectionStrategy channelSelectionStrategy,
+      @Nullable ElasticChannelPoolConfiguration elasticChannelPool,
+      @Nullable NettyTransportConfiguration nettyTransport) {
     ensureRequestDeadlineValid(deadline);
     this.deadline = deadline;
     this.minNumGrpcChannels = minNumGrpcChannels;
@@ -103,6 +151,9 @@ public class GrpcConfiguration implements IGrpcConfiguration {
     this.keepAliveWithoutCalls = keepAliveWithoutCalls;
     this.keepAliveTimeout = keepAliveTimeout;
     this.keepAliveTime = keepAliveTime;
+    this.channelSelectionStrategy = channelSelectionStrategy;
+    this.elasticChannelPool = elasticChannelPool;
+    this.nettyTransport = nettyTransport;
   }
 
   /**
@@ -133,6 +184,9 @@ public class GrpcConfiguration implements IGrpcConfiguration {
     this.keepAliveWithoutCalls = keepAliveWithoutCalls;
     this.keepAliveTimeout = keepAliveTimeout;
     this.keepAliveTime = keepAliveTime;
+    this.channelSelectionStrategy = ChannelSelectionStrategy.ROUND_ROBIN;
+    this.elasticChannelPool = null;
+    this.nettyTransport = null;
   }
 
   @Override
@@ -143,6 +197,9 @@ public class GrpcConfiguration implements IGrpcConfiguration {
   /**
    * Copy constructor that updates the deadline.
    *
+   * <p>The deadline of a data call starts when the call starts and covers all of its attempts, so
+   * retries only use the time the earlier attempts left.
+   *
    * @param deadline The new deadline.
    * @return The updated GrpcConfiguration.
    */
@@ -155,7 +212,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   @Override
@@ -200,7 +260,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -219,7 +282,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -238,7 +304,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -270,7 +339,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   @Override
@@ -321,7 +393,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -361,7 +436,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         Duration.ofMillis(keepAliveTimeoutMs),
-        keepAliveTime);
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -400,7 +478,10 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         keepAliveWithoutCalls,
         keepAliveTimeout,
-        Duration.ofMillis(keepAliveTimeMs));
+        Duration.ofMillis(keepAliveTimeMs),
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 
   /**
@@ -424,6 +505,121 @@ public class GrpcConfiguration implements IGrpcConfiguration {
         maxMessageSize,
         null,
         null,
-        null);
+        null,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
+  }
+
+  /**
+   * How the channel for each request is picked among the unary channels of the CacheClient.
+   *
+   * @return the channel selection strategy.
+   */
+  public ChannelSelectionStrategy getChannelSelectionStrategy() {
+    return channelSelectionStrategy;
+  }
+
+  /**
+   * Copy constructor that updates how the channel for each request is picked. <b>Note:</b> This
+   * setting is only used by the CacheClient.
+   *
+   * @param channelSelectionStrategy The new channel selection strategy.
+   * @return The updated GrpcConfiguration.
+   */
+  public GrpcConfiguration withChannelSelectionStrategy(
+      @Nonnull ChannelSelectionStrategy channelSelectionStrategy) {
+    return new GrpcConfiguration(
+        deadline,
+        minNumGrpcChannels,
+        numStreamGrpcChannels,
+        numUnaryGrpcChannels,
+        maxMessageSize,
+        keepAliveWithoutCalls,
+        keepAliveTimeout,
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
+  }
+
+  /**
+   * How the unary channels of the CacheClient grow and shrink with load.
+   *
+   * @return the elastic channel pool configuration, or empty if the CacheClient keeps a fixed
+   *     number of unary channels.
+   */
+  public Optional<ElasticChannelPoolConfiguration> getElasticChannelPool() {
+    return Optional.ofNullable(elasticChannelPool);
+  }
+
+  /**
+   * Copy constructor that lets the unary channels grow and shrink with load. The number of unary
+   * channels is the size the pool starts at and never shrinks below. <b>Note:</b> This setting is
+   * only used by the CacheClient.
+   *
+   * @param elasticChannelPool How the unary channels grow and shrink.
+   * @return The updated GrpcConfiguration.
+   */
+  public GrpcConfiguration withElasticChannelPool(
+      @Nonnull ElasticChannelPoolConfiguration elasticChannelPool) {
+    return new GrpcConfiguration(
+        deadline,
+        minNumGrpcChannels,
+        numStreamGrpcChannels,
+        numUnaryGrpcChannels,
+        maxMessageSize,
+        keepAliveWithoutCalls,
+        keepAliveTimeout,
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
+  }
+
+  /**
+   * Copy constructor that keeps a fixed number of unary channels.
+   *
+   * @return The updated GrpcConfiguration.
+   */
+  public GrpcConfiguration withoutElasticChannelPool() {
+    return new GrpcConfiguration(
+        deadline,
+        minNumGrpcChannels,
+        numStreamGrpcChannels,
+        numUnaryGrpcChannels,
+        maxMessageSize,
+        keepAliveWithoutCalls,
+        keepAliveTimeout,
+        keepAliveTime,
+        channelSelectionStrategy,
+        null,
+        nettyTransport);
+  }
+
+  @Override
+  public Optional<NettyTransportConfiguration> getNettyTransport() {
+    return Optional.ofNullable(nettyTransport);
+  }
+
+  /**
+   * Copy constructor that updates the Netty transport settings of the channels.
+   *
+   * @param nettyTransport The new transport settings.
+   * @return The updated GrpcConfiguration.
+   */
+  public GrpcConfiguration withNettyTransport(@Nonnull NettyTransportConfiguration nettyTransport) {
+    return new GrpcConfiguration(
+        deadline,
+        minNumGrpcChannels,
+        numStreamGrpcChannels,
+        numUnaryGrpcChannels,
+        maxMessageSize,
+        keepAliveWithoutCalls,
+        keepAliveTimeout,
+        keepAliveTime,
+        channelSelectionStrategy,
+        elasticChannelPool,
+        nettyTransport);
   }
 }
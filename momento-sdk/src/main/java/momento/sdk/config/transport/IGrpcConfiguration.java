@@ -46,4 +46,14 @@ public interface IGrpcConfiguration {
    * @return the time to wait between keepalive pings.
    */
   Optional<Duration> getKeepAliveTime();
+
+  /**
+   * The Netty transport settings of the channels: the transport and event loops they run on, and
+   * the buffers each connection uses.
+   *
+   * @return the transport settings, or empty for the defaults of gRPC.
+   */
+  default Optional<NettyTransportConfiguration> getNettyTransport() {
+    return Optional.empty();
+  }
 }
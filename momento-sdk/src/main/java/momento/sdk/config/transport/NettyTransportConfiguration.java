@@ -0,0 +1,227 @@
+package momento.sdk.config.transport;
+
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import momento.sdk.exceptions.InvalidArgumentException;
+
+/**
+ * Configuration of the Netty transport that carries the gRPC channels of a client.
+ *
+ * <p>The defaults are those of gRPC: the NIO transport on event loops shared by every channel of
+ * the process, and gRPC's pooled allocator. Clients that sustain very high request rates can use
+ * the native epoll transport on Linux, size the event loops to the host, and tune the buffers each
+ * connection uses.
+ *
+ * <p>Clients built with a {@code MomentoRuntime} run on the event loops of the runtime instead of
+ * those of the transport and number of threads configured here.
+ */
+public class NettyTransportConfiguration {
+
+  /** The allocator of the buffers requests and responses are read into and written from. */
+  public enum Allocator {
+    /** The pooled allocator gRPC shares between all of its channels. */
+    DEFAULT,
+
+    /** A pooled allocator of direct (off-heap) buffers, which are written to sockets unchanged. */
+    POOLED_DIRECT,
+
+    /** A pooled allocator of heap buffers, for processes with tight limits on direct memory. */
+    POOLED_HEAP
+  }
+
+  private final boolean nativeTransport;
+  private final @Nullable Integer eventLoopThreads;
+  private final @Nonnull Allocator allocator;
+  private final @Nullable Integer writeBufferLowWaterMark;
+  private final @Nullable Integer writeBufferHighWaterMark;
+  private final @Nullable Integer flowControlWindow;
+
+  /**
+   * Constructs a NettyTransportConfiguration.
+   *
+   * @param nativeTransport Whether to use the native epoll transport where it is available. Other
+   *     platforms fall back to NIO.
+   * @param eventLoopThreads The number of event loop threads, or null for Netty's default of twice
+   *     the number of processors.
+   * @param allocator The allocator of the buffers of each connection.
+   * @param writeBufferLowWaterMark The number of pending bytes under which a connection that was
+   *     not writable becomes writable again, or null for Netty's default.
+   * @param writeBufferHighWaterMark The number of pending bytes over which a connection stops being
+   *     writable, or null for Netty's default.
+   * @param flowControlWindow The HTTP/2 flow-control window of each connection in bytes, or null
+   *     for gRPC's default.
+   */
+  public NettyTransportConfiguration(
+      boolean nativeTransport,
+      @Nullable Integer eventLoopThreads,
+      @Nonnull Allocator allocator,
+      @Nullable Integer writeBufferLowWaterMark,
+      @Nullable Integer writeBufferHighWaterMark,
+      @Nullable Integer flowControlWindow) {
+    if (eventLoopThreads != null && eventLoopThreads <= 0) {
+      throw new InvalidArgumentException("Netty eventLoopThreads must be positive");
+    }
+    if (allocator == null) {
+      throw new InvalidArgumentException("Netty allocator must not be null");
+    }
+    if ((writeBufferLowWaterMark == null) != (writeBufferHighWaterMark == null)) {
+      throw new InvalidArgumentException(
+          "Netty write buffer low and high water marks must be set together");
+    }
+    if (writeBufferLowWaterMark != null
+        && (writeBufferLowWaterMark < 0 || writeBufferHighWaterMark < writeBufferLowWaterMark)) {
+      throw new InvalidArgumentException(
+          "Netty write buffer water marks must be non-negative, with the high water mark at least"
+              + " the low one");
+    }
+    if (flowControlWindow != null && flowControlWindow <= 0) {
+      throw new InvalidArgumentException("Netty flowControlWindow must be positive");
+    }
+    this.nativeTransport = nativeTransport;
+    this.eventLoopThreads = eventLoopThreads;
+    this.allocator = allocator;
+    this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    this.flowControlWindow = flowControlWindow;
+  }
+
+  /** Constructs a NettyTransportConfiguration with the defaults of gRPC. */
+  public NettyTransportConfiguration() {
+    this(false, null, Allocator.DEFAULT, null, null, null);
+  }
+
+  /**
+   * Whether to use the native epoll transport where it is available.
+   *
+   * @return whether to use the native transport.
+   */
+  public boolean useNativeTransport() {
+    return nativeTransport;
+  }
+
+  /**
+   * Copy constructor that updates whether to use the native epoll transport where it is available.
+   *
+   * @param nativeTransport Whether to use the native transport.
+   * @return The updated NettyTransportConfiguration.
+   */
+  public NettyTransportConfiguration withNativeTransport(boolean nativeTransport) {
+    return new NettyTransportConfiguration(
+        nativeTransport,
+        eventLoopThreads,
+        allocator,
+        writeBufferLowWaterMark,
+        writeBufferHighWaterMark,
+        flowControlWindow);
+  }
+
+  /**
+   * The number of event loop threads.
+   *
+   * @return the number of threads, or empty for Netty's default.
+   */
+  public Optional<Integer> getEventLoopThreads() {
+    return Optional.ofNullable(eventLoopThreads);
+  }
+
+  /**
+   * Copy constructor that updates the number of event loop threads. The threads are shared by every
+   * client configured with the same transport and number of threads.
+   *
+   * @param eventLoopThreads The new number of threads.
+   * @return The updated NettyTransportConfiguration.
+   */
+  public NettyTransportConfiguration withEventLoopThreads(int eventLoopThreads) {
+    return new NettyTransportConfiguration(
+        nativeTransport,
+        eventLoopThreads,
+        allocator,
+        writeBufferLowWaterMark,
+        writeBufferHighWaterMark,
+        flowControlWindow);
+  }
+
+  /**
+   * The allocator of the buffers of each connection.
+   *
+   * @return the allocator.
+   */
+  public Allocator getAllocator() {
+    return allocator;
+  }
+
+  /**
+   * Copy constructor that updates the allocator of the buffers of each connection.
+   *
+   * @param allocator The new allocator.
+   * @return The updated NettyTransportConfiguration.
+   */
+  public NettyTransportConfiguration withAllocator(@Nonnull Allocator allocator) {
+    return new NettyTransportConfiguration(
+        nativeTransport,
+        eventLoopThreads,
+        allocator,
+        writeBufferLowWaterMark,
+        writeBufferHighWaterMark,
+        flowControlWindow);
+  }
+
+  /**
+   * The number of pending bytes under which a connection becomes writable again.
+   *
+   * @return the low water mark, or empty for Netty's default.
+   */
+  public Optional<Integer> getWriteBufferLowWaterMark() {
+    return Optional.ofNullable(writeBufferLowWaterMark);
+  }
+
+  /**
+   * The number of pending bytes over which a connection stops being writable.
+   *
+   * @return the high water mark, or empty for Netty's default.
+   */
+  public Optional<Integer> getWriteBufferHighWaterMark() {
+    return Optional.ofNullable(writeBufferHighWaterMark);
+  }
+
+  /**
+   * Copy constructor that updates the write buffer water marks. A higher mark lets more requests be
+   * buffered on a busy connection before gRPC holds them back.
+   *
+   * @param low The new number of pending bytes under which a connection becomes writable again.
+   * @param high The new number of pending bytes over which a connection stops being writable.
+   * @return The updated NettyTransportConfiguration.
+   */
+  public NettyTransportConfiguration withWriteBufferWaterMark(int low, int high) {
+    return new NettyTransportConfiguration(
+        nativeTransport, eventLoopThreads, allocator, low, high, flowControlWindow);
+  }
+
+  /**
+   * The HTTP/2 flow-control window of each connection.
+   *
+   * @return the window in bytes, or empty for gRPC's default.
+   */
+  public Optional<Integer> getFlowControlWindow() {
+    return Optional.ofNullable(flowControlWindow);
+  }
+
+  /**
+   * Copy constructor that updates the HTTP/2 flow-control window of each connection. A larger
+   * window lets more response bytes be in flight before the server waits for the client to read
+   * them.
+   *
+   * @param flowControlWindow The new window in bytes.
+   * @return The updated NettyTransportConfiguration.
+   */
+  public NettyTransportConfiguration withFlowControlWindow(int flowControlWindow) {
+    return new NettyTransportConfiguration(
+        nativeTransport,
+        eventLoopThreads,
+        allocator,
+        writeBufferLowWaterMark,
+        writeBufferHighWaterMark,
+        flowControlWindow);
+  }
+}
@@ -29,6 +29,12 @@ public final class CacheServiceExceptionMapper {
       return (SdkException) e;
     }
 
+    // A call failed by the client itself, such as by the circuit breaker or the rate limiter,
+    // carries the exception for the caller in its status.
+    if (e instanceof StatusRuntimeException && e.getCause() instanceof ClientSdkException) {
+      return (ClientSdkException) e.getCause();
+    }
+
     if (e instanceof io.grpc.StatusRuntimeException) {
       final StatusRuntimeException grpcException = (StatusRuntimeException) e;
       final Status.Code statusCode = grpcException.getStatus().getCode();
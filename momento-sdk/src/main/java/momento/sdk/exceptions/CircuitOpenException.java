@@ -0,0 +1,24 @@
+package momento.sdk.exceptions;
+
+/**
+ * The request was failed by the client without being sent, because the circuit breaker for its
+ * cache and operation is open after recent requests failed or were too slow.
+ */
+public class CircuitOpenException extends ClientSdkException {
+
+  /**
+   * Constructs a CircuitOpenException for the given cache and operation.
+   *
+   * @param cacheName the cache the request was for.
+   * @param methodName the name of the operation.
+   */
+  public CircuitOpenException(String cacheName, String methodName) {
+    super(
+        MomentoErrorCode.CIRCUIT_OPEN,
+        "Circuit breaker is open for "
+            + methodName
+            + " on cache "
+            + cacheName
+            + ": recent requests failed or were too slow. Not sending the request.");
+  }
+}
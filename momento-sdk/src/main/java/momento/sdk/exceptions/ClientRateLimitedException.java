@@ -0,0 +1,24 @@
+package momento.sdk.exceptions;
+
+/**
+ * The request was failed by the client without being sent, because it would have exceeded the
+ * client-side rate limit for its cache and class of operation.
+ */
+public class ClientRateLimitedException extends ClientSdkException {
+
+  /**
+   * Constructs a ClientRateLimitedException for the given cache and operation.
+   *
+   * @param cacheName the cache the request was for.
+   * @param methodName the name of the operation.
+   */
+  public ClientRateLimitedException(String cacheName, String methodName) {
+    super(
+        MomentoErrorCode.CLIENT_RATE_LIMITED,
+        "Client-side rate limit exceeded for "
+            + methodName
+            + " on cache "
+            + cacheName
+            + ". Not sending the request.");
+  }
+}
@@ -47,6 +47,12 @@ public enum MomentoErrorCode {
   /** A client resource (most likely memory) was exhausted. */
   CLIENT_RESOURCE_EXHAUSTED,
 
+  /** The client failed the request without sending it, as recent requests like it kept failing. */
+  CIRCUIT_OPEN,
+
+  /** The client failed the request without sending it, as it was over the client's rate limit. */
+  CLIENT_RATE_LIMITED,
+
   /** Unknown or non-specific client-side error. */
   UNKNOWN,
 }
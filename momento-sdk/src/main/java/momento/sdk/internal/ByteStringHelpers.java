@@ -0,0 +1,26 @@
+package momento.sdk.internal;
+
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/** Helper methods for working with {@link ByteString}s without copying them. */
+public class ByteStringHelpers {
+
+  /**
+   * Writes the contents of a byte string to a channel without copying them to an intermediate
+   * array.
+   *
+   * @param value The byte string to write.
+   * @param channel The channel to write to.
+   * @throws IOException if writing to the channel fails.
+   */
+  public static void writeTo(ByteString value, WritableByteChannel channel) throws IOException {
+    for (final ByteBuffer buffer : value.asReadOnlyByteBufferList()) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+}
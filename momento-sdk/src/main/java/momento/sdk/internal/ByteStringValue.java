@@ -0,0 +1,109 @@
+package momento.sdk.internal;
+
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nonnull;
+
+/**
+ * A value retrieved from the cache, shared by the responses that return one. Reads the underlying
+ * {@link ByteString} without copying it where possible and decodes it as a string at most once.
+ */
+public final class ByteStringValue {
+  private final ByteString value;
+  private String decodedValue;
+
+  /**
+   * Constructs a value over a byte string.
+   *
+   * @param value the byte string.
+   */
+  public ByteStringValue(@Nonnull ByteString value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the value as a byte array.
+   *
+   * @return a copy of the value.
+   */
+  public byte[] toByteArray() {
+    return value.toByteArray();
+  }
+
+  /**
+   * Gets a read-only view of the value. The value is not copied when it is stored contiguously.
+   *
+   * @return the value.
+   */
+  public ByteBuffer asReadOnlyByteBuffer() {
+    return value.asReadOnlyByteBuffer();
+  }
+
+  /**
+   * Gets a stream that reads the value.
+   *
+   * @return a stream of the value.
+   */
+  public InputStream newInput() {
+    return value.newInput();
+  }
+
+  /**
+   * Gets the size of the value in bytes.
+   *
+   * @return the value size.
+   */
+  public int size() {
+    return value.size();
+  }
+
+  /**
+   * Copies the value into a buffer, starting at its current position.
+   *
+   * @param target the buffer to copy into.
+   */
+  public void copyTo(ByteBuffer target) {
+    value.copyTo(target);
+  }
+
+  /**
+   * Writes the value to a stream.
+   *
+   * @param out the stream to write to.
+   * @throws IOException if writing to the stream fails.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    value.writeTo(out);
+  }
+
+  /**
+   * Writes the value to a channel.
+   *
+   * @param channel the channel to write to.
+   * @throws IOException if writing to the channel fails.
+   */
+  public void writeTo(WritableByteChannel channel) throws IOException {
+    ByteStringHelpers.writeTo(value, channel);
+  }
+
+  /**
+   * Gets the value as a UTF-8 string.
+   *
+   * @return the decoded value.
+   */
+  public String toStringUtf8() {
+    // Decoding is not free for large values, so keep the result. Racing callers may both decode,
+    // which is harmless since the result is the same.
+    String decoded = this.decodedValue;
+    if (decoded == null) {
+      decoded = value.toString(StandardCharsets.UTF_8);
+      this.decodedValue = decoded;
+    }
+    return decoded;
+  }
+}
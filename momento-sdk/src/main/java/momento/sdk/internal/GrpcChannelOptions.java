@@ -56,5 +56,9 @@ public class GrpcChannelOptions {
         .ifPresent(d -> channelBuilder.keepAliveTimeout(d.toMillis(), TimeUnit.MILLISECONDS));
 
     grpcConfig.getKeepAliveWithoutCalls().ifPresent(channelBuilder::keepAliveWithoutCalls);
+
+    grpcConfig
+        .getNettyTransport()
+        .ifPresent(t -> NettyResources.applyTransportConfiguration(t, channelBuilder));
   }
 }
@@ -0,0 +1,147 @@
+package momento.sdk.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.WriteBufferWaterMark;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import momento.sdk.config.transport.NettyTransportConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Netty event loops and allocators the channels of a {@link NettyTransportConfiguration} run
+ * on.
+ *
+ * <p>Event loop groups are created on first use and shared by every channel of the process
+ * configured with the same transport and number of threads. Like the default event loops of gRPC,
+ * their threads are daemon threads, and live as long as the process.
+ */
+public final class NettyResources {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NettyResources.class);
+
+  private static final Map<String, EventLoopGroup> SHARED_EVENT_LOOP_GROUPS =
+      new ConcurrentHashMap<>();
+  private static final AtomicBoolean WARNED_NATIVE_TRANSPORT_UNAVAILABLE = new AtomicBoolean();
+
+  private NettyResources() {}
+
+  // Created on first use, as each pooled allocator reserves its arenas up front.
+  private static final class Allocators {
+    private static final ByteBufAllocator POOLED_DIRECT = new PooledByteBufAllocator(true);
+    private static final ByteBufAllocator POOLED_HEAP = new PooledByteBufAllocator(false);
+  }
+
+  /**
+   * Whether to use the native epoll transport, which must both be asked for and available.
+   *
+   * @param nativeTransport Whether the native transport was asked for.
+   * @return whether to use the native transport.
+   */
+  public static boolean useNativeTransport(boolean nativeTransport) {
+    if (!nativeTransport) {
+      return false;
+    }
+    if (Epoll.isAvailable()) {
+      return true;
+    }
+    if (WARNED_NATIVE_TRANSPORT_UNAVAILABLE.compareAndSet(false, true)) {
+      LOGGER.warn(
+          "The native epoll transport is not available on this platform; using NIO instead.",
+          Epoll.unavailabilityCause());
+    }
+    return false;
+  }
+
+  /**
+   * Creates an event loop group for the given transport.
+   *
+   * @param nativeTransport Whether to use the native epoll transport. Must have been checked with
+   *     {@link #useNativeTransport}.
+   * @param threads The number of threads, or 0 for Netty's default.
+   * @param threadFactory The factory of the threads.
+   * @return the event loop group.
+   */
+  public static EventLoopGroup newEventLoopGroup(
+      boolean nativeTransport, int threads, ThreadFactory threadFactory) {
+    return nativeTransport
+        ? new EpollEventLoopGroup(threads, threadFactory)
+        : new NioEventLoopGroup(threads, threadFactory);
+  }
+
+  /**
+   * Runs the channel on the given event loop group, with the socket type of its transport.
+   *
+   * @param channelBuilder The builder of the channel.
+   * @param eventLoopGroup A group created with {@link #newEventLoopGroup}.
+   */
+  public static void useEventLoopGroup(
+      NettyChannelBuilder channelBuilder, EventLoopGroup eventLoopGroup) {
+    channelBuilder.eventLoopGroup(eventLoopGroup);
+    if (eventLoopGroup instanceof EpollEventLoopGroup) {
+      channelBuilder.channelType(EpollSocketChannel.class);
+    } else {
+      channelBuilder.channelType(NioSocketChannel.class);
+    }
+  }
+
+  /**
+   * Applies the transport settings to the channel.
+   *
+   * @param transport The transport settings.
+   * @param channelBuilder The builder of the channel.
+   */
+  static void applyTransportConfiguration(
+      NettyTransportConfiguration transport, NettyChannelBuilder channelBuilder) {
+    final boolean nativeTransport = useNativeTransport(transport.useNativeTransport());
+    // Without either setting, the channel keeps running on the default event loops of gRPC.
+    if (nativeTransport || transport.getEventLoopThreads().isPresent()) {
+      final int threads = transport.getEventLoopThreads().orElse(0);
+      useEventLoopGroup(
+          channelBuilder,
+          SHARED_EVENT_LOOP_GROUPS.computeIfAbsent(
+              (nativeTransport ? "epoll" : "nio") + "|" + threads,
+              k ->
+                  newEventLoopGroup(
+                      nativeTransport,
+                      threads,
+                      new ThreadFactoryBuilder()
+                          .setNameFormat("momento-" + (nativeTransport ? "epoll" : "nio") + "-%d")
+                          .setDaemon(true)
+                          .build())));
+    }
+
+    switch (transport.getAllocator()) {
+      case POOLED_DIRECT:
+        channelBuilder.withOption(ChannelOption.ALLOCATOR, Allocators.POOLED_DIRECT);
+        break;
+      case POOLED_HEAP:
+        channelBuilder.withOption(ChannelOption.ALLOCATOR, Allocators.POOLED_HEAP);
+        break;
+      default:
+        break;
+    }
+
+    if (transport.getWriteBufferLowWaterMark().isPresent()
+        && transport.getWriteBufferHighWaterMark().isPresent()) {
+      channelBuilder.withOption(
+          ChannelOption.WRITE_BUFFER_WATER_MARK,
+          new WriteBufferWaterMark(
+              transport.getWriteBufferLowWaterMark().get(),
+              transport.getWriteBufferHighWaterMark().get()));
+    }
+
+    transport.getFlowControlWindow().ifPresent(channelBuilder::flowControlWindow);
+  }
+}
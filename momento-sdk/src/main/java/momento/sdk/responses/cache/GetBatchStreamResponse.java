@@ -0,0 +1,56 @@
+package momento.sdk.responses.cache;
+
+import momento.sdk.exceptions.SdkException;
+
+/**
+ * Response for a streaming cache get batch operation. The individual get responses are delivered to
+ * the item callback as they arrive; this response only reports how the batch as a whole ended.
+ */
+public interface GetBatchStreamResponse {
+
+  /** A get batch whose items were all delivered. */
+  class Success implements GetBatchStreamResponse {
+    private final int itemCount;
+
+    /**
+     * Constructs a streaming get batch success.
+     *
+     * @param itemCount the number of items delivered to the callback.
+     */
+    public Success(int itemCount) {
+      this.itemCount = itemCount;
+    }
+
+    /**
+     * Gets the number of items delivered to the callback.
+     *
+     * @return the number of delivered items.
+     */
+    public int itemCount() {
+      return itemCount;
+    }
+
+    @Override
+    public String toString() {
+      return super.toString() + ": itemCount: " + itemCount;
+    }
+  }
+
+  /**
+   * A failed streaming get batch operation. Items that were delivered to the callback before the
+   * failure are still valid. The response itself is an exception, so it can be directly thrown, or
+   * the cause of the error can be retrieved with {@link #getCause()}. The message is a copy of the
+   * message of the cause.
+   */
+  class Error extends SdkException implements GetBatchStreamResponse {
+
+    /**
+     * Constructs a streaming get batch error with a cause.
+     *
+     * @param cause the cause.
+     */
+    public Error(SdkException cause) {
+      super(cause);
+    }
+  }
+}
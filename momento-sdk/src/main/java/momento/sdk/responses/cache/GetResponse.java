@@ -1,9 +1,14 @@
 package momento.sdk.responses.cache;
 
 import com.google.protobuf.ByteString;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Base64;
 import momento.sdk.exceptions.SdkException;
+import momento.sdk.internal.ByteStringValue;
 import momento.sdk.internal.StringHelpers;
 
 /** Response for a cache get operation */
@@ -11,7 +16,7 @@ public interface GetResponse {
 
   /** A successful get operation for a key that has a value. */
   class Hit implements GetResponse {
-    private final ByteString value;
+    private final ByteStringValue value;
 
     /**
      * Constructs a cache get hit with an encoded value.
@@ -19,7 +24,7 @@ public interface GetResponse {
      * @param value the retrieved value.
      */
     public Hit(ByteString value) {
-      this.value = value;
+      this.value = new ByteStringValue(value);
     }
 
     /**
@@ -28,7 +33,65 @@ public interface GetResponse {
      * @return the value.
      */
     public byte[] valueByteArray() {
-      return value.toByteArray();
+      return this.value.toByteArray();
+    }
+
+    /**
+     * Gets a read-only view of the retrieved value. The value is not copied when it is stored
+     * contiguously.
+     *
+     * @return the value.
+     */
+    public ByteBuffer valueByteBuffer() {
+      return this.value.asReadOnlyByteBuffer();
+    }
+
+    /**
+     * Gets a stream that reads the retrieved value without copying it.
+     *
+     * @return a stream of the value.
+     */
+    public InputStream valueInputStream() {
+      return this.value.newInput();
+    }
+
+    /**
+     * Gets the size of the retrieved value in bytes.
+     *
+     * @return the value size.
+     */
+    public int valueSize() {
+      return this.value.size();
+    }
+
+    /**
+     * Copies the retrieved value into the given buffer, starting at its current position.
+     *
+     * @param target the buffer to copy into. Must have at least {@link #valueSize()} bytes
+     *     remaining.
+     */
+    public void copyValueTo(ByteBuffer target) {
+      this.value.copyTo(target);
+    }
+
+    /**
+     * Writes the retrieved value to the given stream without an intermediate copy.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeValueTo(OutputStream out) throws IOException {
+      this.value.writeTo(out);
+    }
+
+    /**
+     * Writes the retrieved value to the given channel without an intermediate copy.
+     *
+     * @param channel the channel to write to.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void writeValueTo(WritableByteChannel channel) throws IOException {
+      this.value.writeTo(channel);
     }
 
     /**
@@ -37,7 +100,7 @@ public interface GetResponse {
      * @return the value.
      */
     public String valueString() {
-      return value.toString(StandardCharsets.UTF_8);
+      return this.value.toStringUtf8();
     }
 
     /**
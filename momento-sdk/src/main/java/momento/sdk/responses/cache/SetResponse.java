@@ -9,7 +9,11 @@ import momento.sdk.internal.StringHelpers;
 /** Response for a cache set operation */
 public interface SetResponse {
 
-  /** A successful set operation. Contains the value that was written. */
+  /**
+   * A successful set operation. Contains the value that was written. For a set made from a {@link
+   * java.nio.ByteBuffer}, the value is a view of the caller's buffer rather than a copy, and
+   * reflects any later changes to it.
+   */
   class Success implements SetResponse {
     private final ByteString value;
 
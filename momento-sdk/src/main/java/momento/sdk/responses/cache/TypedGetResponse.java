@@ -0,0 +1,80 @@
+package momento.sdk.responses.cache;
+
+import momento.sdk.exceptions.SdkException;
+import momento.sdk.internal.StringHelpers;
+
+/**
+ * Response for a typed cache get operation.
+ *
+ * @param <V> The type of the value.
+ */
+public interface TypedGetResponse<V> {
+
+  /**
+   * A successful get operation for a key that has a value.
+   *
+   * @param <V> The type of the value.
+   */
+  class Hit<V> implements TypedGetResponse<V> {
+    private final V value;
+
+    /**
+     * Constructs a typed cache get hit with a decoded value.
+     *
+     * @param value the retrieved value.
+     */
+    public Hit(V value) {
+      this.value = value;
+    }
+
+    /**
+     * Gets the retrieved value.
+     *
+     * @return the value.
+     */
+    public V value() {
+      return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Truncates the value to 20 characters to bound the size of the string.
+     */
+    @Override
+    public String toString() {
+      return super.toString()
+          + ": value: \""
+          + StringHelpers.truncate(String.valueOf(value))
+          + "\"";
+    }
+  }
+
+  /**
+   * A successful get operation for a key that has no value.
+   *
+   * @param <V> The type of the value.
+   */
+  class Miss<V> implements TypedGetResponse<V> {}
+
+  /**
+   * A failed typed get operation. The response itself is an exception, so it can be directly
+   * thrown, or the cause of the error can be retrieved with {@link #getCause()}. The message is a
+   * copy of the message of the cause.
+   *
+   * <p>Exceptions cannot be generic, so an error is a raw {@code TypedGetResponse} that can stand
+   * in for a response of any value type.
+   */
+  @SuppressWarnings("rawtypes")
+  class Error extends SdkException implements TypedGetResponse {
+
+    /**
+     * Constructs a typed cache get error with a cause.
+     *
+     * @param cause the cause.
+     */
+    public Error(SdkException cause) {
+      super(cause);
+    }
+  }
+}
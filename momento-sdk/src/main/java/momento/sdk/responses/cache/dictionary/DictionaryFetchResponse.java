@@ -1,6 +1,7 @@
 package momento.sdk.responses.cache.dictionary;
 
 import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -57,6 +58,20 @@ public interface DictionaryFetchResponse {
                   entry -> entry.getKey().toStringUtf8(), entry -> entry.getValue().toByteArray()));
     }
 
+    /**
+     * Gets the retrieved elements as a map of UTF-8 string fields to read-only buffer values. The
+     * values are not copied when they are stored contiguously.
+     *
+     * @return The map.
+     */
+    public Map<String, ByteBuffer> valueMapStringByteBuffer() {
+      return fieldsToValues.entrySet().stream()
+          .collect(
+              Collectors.toMap(
+                  entry -> entry.getKey().toStringUtf8(),
+                  entry -> entry.getValue().asReadOnlyByteBuffer()));
+    }
+
     /**
      * {@inheritDoc}
      *
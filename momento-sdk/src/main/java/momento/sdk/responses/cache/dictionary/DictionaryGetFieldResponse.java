@@ -1,8 +1,14 @@
 package momento.sdk.responses.cache.dictionary;
 
 import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Base64;
 import momento.sdk.exceptions.SdkException;
+import momento.sdk.internal.ByteStringValue;
 import momento.sdk.internal.StringHelpers;
 
 /** Response for a cache dictionary get field operation */
@@ -12,7 +18,7 @@ public interface DictionaryGetFieldResponse {
    */
   class Hit implements DictionaryGetFieldResponse {
     private final ByteString field;
-    private final ByteString value;
+    private final ByteStringValue value;
 
     /**
      * Constructs a cache dictionary get field hit with an encoded field and value.
@@ -22,7 +28,7 @@ public interface DictionaryGetFieldResponse {
      */
     public Hit(ByteString field, ByteString value) {
       this.field = field;
-      this.value = value;
+      this.value = new ByteStringValue(value);
     }
 
     /**
@@ -49,7 +55,65 @@ public interface DictionaryGetFieldResponse {
      * @return The value.
      */
     public byte[] valueByteArray() {
-      return value.toByteArray();
+      return this.value.toByteArray();
+    }
+
+    /**
+     * Gets a read-only view of the retrieved value. The value is not copied when it is stored
+     * contiguously.
+     *
+     * @return the value.
+     */
+    public ByteBuffer valueByteBuffer() {
+      return this.value.asReadOnlyByteBuffer();
+    }
+
+    /**
+     * Gets a stream that reads the retrieved value without copying it.
+     *
+     * @return a stream of the value.
+     */
+    public InputStream valueInputStream() {
+      return this.value.newInput();
+    }
+
+    /**
+     * Gets the size of the retrieved value in bytes.
+     *
+     * @return the value size.
+     */
+    public int valueSize() {
+      return this.value.size();
+    }
+
+    /**
+     * Copies the retrieved value into the given buffer, starting at its current position.
+     *
+     * @param target the buffer to copy into. Must have at least {@link #valueSize()} bytes
+     *     remaining.
+     */
+    public void copyValueTo(ByteBuffer target) {
+      this.value.copyTo(target);
+    }
+
+    /**
+     * Writes the retrieved value to the given stream without an intermediate copy.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeValueTo(OutputStream out) throws IOException {
+      this.value.writeTo(out);
+    }
+
+    /**
+     * Writes the retrieved value to the given channel without an intermediate copy.
+     *
+     * @param channel the channel to write to.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void writeValueTo(WritableByteChannel channel) throws IOException {
+      this.value.writeTo(channel);
     }
 
     /**
@@ -58,7 +122,7 @@ public interface DictionaryGetFieldResponse {
      * @return The value.
      */
     public String valueString() {
-      return value.toStringUtf8();
+      return this.value.toStringUtf8();
     }
 
     /**
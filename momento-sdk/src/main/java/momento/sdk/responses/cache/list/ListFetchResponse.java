@@ -1,6 +1,7 @@
 package momento.sdk.responses.cache.list;
 
 import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,6 +33,18 @@ public interface ListFetchResponse {
       return byteStringValues.stream().map(ByteString::toByteArray).collect(Collectors.toList());
     }
 
+    /**
+     * Gets the retrieved values as a list of read-only buffers. The values are not copied when they
+     * are stored contiguously.
+     *
+     * @return the values.
+     */
+    public List<ByteBuffer> valueListByteBuffer() {
+      return byteStringValues.stream()
+          .map(ByteString::asReadOnlyByteBuffer)
+          .collect(Collectors.toList());
+    }
+
     /**
      * Gets the retrieved value as a list of UTF-8 Strings
      *
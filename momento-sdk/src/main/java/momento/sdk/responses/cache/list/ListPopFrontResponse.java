@@ -1,9 +1,14 @@
 package momento.sdk.responses.cache.list;
 
 import com.google.protobuf.ByteString;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Base64;
 import momento.sdk.exceptions.SdkException;
+import momento.sdk.internal.ByteStringValue;
 import momento.sdk.internal.StringHelpers;
 
 /** Response for a list pop front operation */
@@ -11,7 +16,7 @@ public interface ListPopFrontResponse {
 
   /** A successful list pop front operation that found element. */
   class Hit implements ListPopFrontResponse {
-    private final ByteString byteStringValue;
+    private final ByteStringValue byteStringValue;
 
     /**
      * Constructs a list pop front hit with encoded value.
@@ -19,7 +24,7 @@ public interface ListPopFrontResponse {
      * @param value the retrieved value.
      */
     public Hit(ByteString value) {
-      this.byteStringValue = value;
+      this.byteStringValue = new ByteStringValue(value);
     }
 
     /**
@@ -31,13 +36,71 @@ public interface ListPopFrontResponse {
       return this.byteStringValue.toByteArray();
     }
 
+    /**
+     * Gets a read-only view of the retrieved value. The value is not copied when it is stored
+     * contiguously.
+     *
+     * @return the value.
+     */
+    public ByteBuffer valueByteBuffer() {
+      return this.byteStringValue.asReadOnlyByteBuffer();
+    }
+
+    /**
+     * Gets a stream that reads the retrieved value without copying it.
+     *
+     * @return a stream of the value.
+     */
+    public InputStream valueInputStream() {
+      return this.byteStringValue.newInput();
+    }
+
+    /**
+     * Gets the size of the retrieved value in bytes.
+     *
+     * @return the value size.
+     */
+    public int valueSize() {
+      return this.byteStringValue.size();
+    }
+
+    /**
+     * Copies the retrieved value into the given buffer, starting at its current position.
+     *
+     * @param target the buffer to copy into. Must have at least {@link #valueSize()} bytes
+     *     remaining.
+     */
+    public void copyValueTo(ByteBuffer target) {
+      this.byteStringValue.copyTo(target);
+    }
+
+    /**
+     * Writes the retrieved value to the given stream without an intermediate copy.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writeValueTo(OutputStream out) throws IOException {
+      this.byteStringValue.writeTo(out);
+    }
+
+    /**
+     * Writes the retrieved value to the given channel without an intermediate copy.
+     *
+     * @param channel the channel to write to.
+     * @throws IOException if writing to the channel fails.
+     */
+    public void writeValueTo(WritableByteChannel channel) throws IOException {
+      this.byteStringValue.writeTo(channel);
+    }
+
     /**
      * Gets the retrieved value as a UTF-8 String
      *
      * @return the value.
      */
     public String valueString() {
-      return this.byteStringValue.toString(StandardCharsets.UTF_8);
+      return this.byteStringValue.toStringUtf8();
     }
 
     /**
@@ -1,6 +1,7 @@
 package momento.sdk.responses.cache.set;
 
 import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.List;
 import java.util.Set;
@@ -33,6 +34,21 @@ public interface SetFetchResponse {
       return byteStringValues.stream().map(ByteString::toByteArray).collect(Collectors.toSet());
     }
 
+    /**
+     * Gets the retrieved values as a set of read-only buffers. The values are not copied when they
+     * are stored contiguously.
+     *
+     * <p>A buffer's hash code depends on its position, so read the buffers with absolute gets, or
+     * read a {@link ByteBuffer#duplicate()}, to keep using the set afterwards.
+     *
+     * @return the values.
+     */
+    public Set<ByteBuffer> valueSetByteBuffer() {
+      return byteStringValues.stream()
+          .map(ByteString::asReadOnlyByteBuffer)
+          .collect(Collectors.toSet());
+    }
+
     /**
      * Gets the retrieved value as a set of UTF-8 Strings
      *
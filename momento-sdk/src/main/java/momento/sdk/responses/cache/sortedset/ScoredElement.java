@@ -1,6 +1,7 @@
 package momento.sdk.responses.cache.sortedset;
 
 import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 
@@ -72,6 +73,15 @@ public class ScoredElement implements Comparable<ScoredElement> {
     return valueByteString.toByteArray();
   }
 
+  /**
+   * Gets a read-only view of the value. The value is not copied when it is stored contiguously.
+   *
+   * @return the element buffer
+   */
+  public ByteBuffer getElementByteBuffer() {
+    return valueByteString.asReadOnlyByteBuffer();
+  }
+
   /**
    * Gets the score.
    *
@@ -0,0 +1,154 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import momento.sdk.config.AdaptiveConcurrencyConfiguration;
+import momento.sdk.exceptions.TimeoutException;
+import momento.sdk.responses.cache.GetResponse;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long FAST = 1_000_000;
+  private static final long SLOW = 10 * FAST;
+
+  @Test
+  void testLimitGrowsByAboutOnePerRoundWhileFullyUsed() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(10, 1, 100, 2.0));
+
+    for (int i = 0; i < 10; i++) {
+      limit.onSample(FAST, false, limit.getLimit());
+    }
+    assertThat(limit.getLimit()).isEqualTo(10);
+
+    for (int i = 0; i < 2; i++) {
+      limit.onSample(FAST, false, limit.getLimit());
+    }
+    assertThat(limit.getLimit()).isEqualTo(11);
+  }
+
+  @Test
+  void testLimitDoesNotGrowWhileMostlyUnused() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(10, 1, 100, 2.0));
+
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(FAST, false, 1);
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void testCongestionShrinksLimitOncePerRound() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(100, 1, 100, 2.0));
+
+    // A burst of failures from requests that were all in flight together counts once.
+    for (int i = 0; i < 10; i++) {
+      limit.onSample(FAST, true, 100);
+    }
+    assertThat(limit.getLimit()).isEqualTo(90);
+
+    for (int i = 0; i < 90; i++) {
+      limit.onSample(FAST, true, 90);
+    }
+    assertThat(limit.getLimit()).isEqualTo(81);
+  }
+
+  @Test
+  void testHighLatencyShrinksLimit() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(100, 1, 100, 2.0));
+    limit.onSample(FAST, false, 100);
+
+    limit.onSample(SLOW, false, 100);
+
+    assertThat(limit.getLimit()).isEqualTo(90);
+  }
+
+  @Test
+  void testSlowBatchesInAMixedWorkloadDoNotShrinkLimit() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(100, 1, 200, 2.0));
+
+    // Single key requests interleaved with batches that take far longer than the lowest latency.
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(FAST, false, 100);
+      limit.onUntimedSample(false, 100);
+    }
+    assertThat(limit.getLimit()).isGreaterThanOrEqualTo(100);
+
+    limit.onUntimedSample(true, 100);
+    assertThat(limit.getLimit()).isLessThan(100);
+  }
+
+  @Test
+  void testLimitStaysWithinBounds() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(2, 2, 3, 2.0));
+
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(FAST, true, 2);
+    }
+    assertThat(limit.getLimit()).isEqualTo(2);
+
+    for (int i = 0; i < 1000; i++) {
+      limit.onSample(FAST, false, 3);
+    }
+    assertThat(limit.getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  void testTimeoutResponsesAreCongestion() {
+    final AdaptiveConcurrencyLimit limit =
+        new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(100, 1, 100, 2.0));
+
+    limit.onSample(FAST, new GetResponse.Miss(), null, 100);
+    assertThat(limit.getLimit()).isEqualTo(100);
+
+    limit.onSample(FAST, new GetResponse.Error(new TimeoutException(null, null)), null, 100);
+    assertThat(limit.getLimit()).isEqualTo(90);
+  }
+
+  @Test
+  void testLimiterFollowsAdaptiveLimit() {
+    final ConcurrencyLimiter limiter =
+        new ConcurrencyLimiter(
+            new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(10, 1, 100, 2.0)));
+
+    final CompletableFuture<GetResponse> operation = new CompletableFuture<>();
+    limiter.execute(() -> operation, e -> new GetResponse.Miss());
+    operation.complete(new GetResponse.Error(new TimeoutException(null, null)));
+
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void testLimiterDoesNotTimeUntimedOperations() {
+    final ConcurrencyLimiter limiter =
+        new ConcurrencyLimiter(
+            new AdaptiveConcurrencyLimit(new AdaptiveConcurrencyConfiguration(1, 1, 100, 2.0)));
+
+    final CompletableFuture<GetResponse> fast = new CompletableFuture<>();
+    limiter.execute(() -> fast, e -> new GetResponse.Miss());
+    fast.complete(new GetResponse.Miss());
+
+    final CompletableFuture<GetResponse> batch = new CompletableFuture<>();
+    limiter.execute(() -> batch, e -> new GetResponse.Miss(), false);
+    // Far longer than the single key request took.
+    busyWait(SLOW);
+    batch.complete(new GetResponse.Miss());
+
+    assertThat(limiter.getLimit()).isEqualTo(2);
+  }
+
+  private static void busyWait(long nanos) {
+    final long deadline = System.nanoTime() + nanos;
+    while (System.nanoTime() < deadline) {
+      Thread.yield();
+    }
+  }
+}
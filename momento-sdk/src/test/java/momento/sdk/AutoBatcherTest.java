@@ -0,0 +1,163 @@
+package momento.sdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AutoBatcherTest {
+
+  private ScheduledExecutorService scheduler;
+  private List<List<Integer>> sentBatches;
+
+  @BeforeEach
+  void setup() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    sentBatches = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @AfterEach
+  void teardown() {
+    scheduler.shutdownNow();
+  }
+
+  private AutoBatcher<String, Integer, String> batcher(int maxBatchSize, Duration maxDelay) {
+    return new AutoBatcher<>(
+        maxBatchSize,
+        maxDelay,
+        scheduler,
+        (key, items) -> {
+          sentBatches.add(new ArrayList<>(items));
+          return CompletableFuture.completedFuture(
+              items.stream().map(i -> key + i).collect(Collectors.toList()));
+        },
+        e -> "error");
+  }
+
+  @Test
+  void testFullBatchIsSentImmediately() {
+    final AutoBatcher<String, Integer, String> batcher = batcher(3, Duration.ofMinutes(1));
+
+    final CompletableFuture<String> first = batcher.submit("a", 1);
+    final CompletableFuture<String> second = batcher.submit("a", 2);
+    assertFalse(first.isDone());
+
+    final CompletableFuture<String> third = batcher.submit("a", 3);
+
+    assertEquals("a1", first.join());
+    assertEquals("a2", second.join());
+    assertEquals("a3", third.join());
+    assertEquals(1, sentBatches.size());
+    assertEquals(0, batcher.openBatchCount());
+  }
+
+  @Test
+  void testPartialBatchIsSentAfterDelay() {
+    final AutoBatcher<String, Integer, String> batcher = batcher(100, Duration.ofMillis(10));
+
+    final CompletableFuture<String> first = batcher.submit("a", 1);
+    final CompletableFuture<String> second = batcher.submit("a", 2);
+
+    assertEquals("a1", first.join());
+    assertEquals("a2", second.join());
+    assertEquals(1, sentBatches.size());
+  }
+
+  @Test
+  void testRequestsWithDifferentKeysAreNotBatchedTogether() {
+    final AutoBatcher<String, Integer, String> batcher = batcher(2, Duration.ofMinutes(1));
+
+    final CompletableFuture<String> first = batcher.submit("a", 1);
+    final CompletableFuture<String> second = batcher.submit("b", 2);
+    assertEquals(2, batcher.openBatchCount());
+
+    batcher.flushAll();
+
+    assertEquals("a1", first.join());
+    assertEquals("b2", second.join());
+    assertEquals(2, sentBatches.size());
+  }
+
+  @Test
+  void testFlushAllCompletesOnceSentBatchesHaveTheirResponses() {
+    final List<CompletableFuture<List<String>>> responses = new ArrayList<>();
+    final AutoBatcher<String, Integer, String> batcher =
+        new AutoBatcher<>(
+            2,
+            Duration.ofMinutes(1),
+            scheduler,
+            (key, items) -> {
+              final CompletableFuture<List<String>> future = new CompletableFuture<>();
+              responses.add(future);
+              return future;
+            },
+            e -> "error");
+
+    final CompletableFuture<String> full = batcher.submit("a", 1);
+    batcher.submit("a", 2);
+    final CompletableFuture<String> buffered = batcher.submit("b", 3);
+
+    final CompletableFuture<Void> flushed = batcher.flushAll();
+    assertEquals(2, responses.size());
+    assertFalse(flushed.isDone());
+
+    responses.get(0).complete(Arrays.asList("a1", "a2"));
+    assertFalse(flushed.isDone());
+    responses.get(1).completeExceptionally(new RuntimeException("boom"));
+
+    assertTrue(flushed.isDone());
+    assertFalse(flushed.isCompletedExceptionally());
+    assertEquals("a1", full.join());
+    assertEquals("error", buffered.join());
+  }
+
+  @Test
+  void testFailedBatchCompletesEveryRequestWithError() {
+    final AutoBatcher<String, Integer, String> batcher =
+        new AutoBatcher<>(
+            2,
+            Duration.ofMinutes(1),
+            scheduler,
+            (key, items) -> {
+              final CompletableFuture<List<String>> future = new CompletableFuture<>();
+              future.completeExceptionally(new RuntimeException("boom"));
+              return future;
+            },
+            e -> "error");
+
+    final CompletableFuture<String> first = batcher.submit("a", 1);
+    final CompletableFuture<String> second = batcher.submit("a", 2);
+
+    assertEquals("error", first.join());
+    assertEquals("error", second.join());
+  }
+
+  @Test
+  void testShortBatchResponseCompletesMissingRequestsWithError() {
+    final AutoBatcher<String, Integer, String> batcher =
+        new AutoBatcher<>(
+            2,
+            Duration.ofMinutes(1),
+            scheduler,
+            (key, items) -> CompletableFuture.completedFuture(Collections.singletonList("only")),
+            e -> "error");
+
+    final CompletableFuture<String> first = batcher.submit("a", 1);
+    final CompletableFuture<String> second = batcher.submit("a", 2);
+
+    assertEquals("only", first.join());
+    assertEquals("error", second.join());
+  }
+}
@@ -0,0 +1,128 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class BatchedPublisherTest {
+
+  private final List<List<Integer>> loadedBatches = new ArrayList<>();
+  private final List<CompletableFuture<List<String>>> loads = new ArrayList<>();
+
+  private BatchedPublisher<Integer, String> publisher(List<Integer> keys) {
+    return new BatchedPublisher<>(
+        keys,
+        2,
+        2,
+        batch -> {
+          loadedBatches.add(new ArrayList<>(batch));
+          final CompletableFuture<List<String>> load = new CompletableFuture<>();
+          loads.add(load);
+          return load;
+        });
+  }
+
+  private static void complete(CompletableFuture<List<String>> load, List<Integer> keys) {
+    load.complete(keys.stream().map(k -> "v" + k).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testRequestedResultsAreLoadedInWholeBatches() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher(Arrays.asList(1, 2, 3, 4, 5)).subscribe(subscriber);
+
+    assertThat(loadedBatches).isEmpty();
+
+    subscriber.subscription.request(3);
+    assertThat(loadedBatches).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+
+    complete(loads.get(1), loadedBatches.get(1));
+    assertThat(subscriber.items).isEmpty();
+
+    complete(loads.get(0), loadedBatches.get(0));
+    assertThat(subscriber.items).containsExactly("v1", "v2", "v3");
+    assertThat(loadedBatches).hasSize(2);
+
+    subscriber.subscription.request(10);
+    assertThat(subscriber.items).containsExactly("v1", "v2", "v3", "v4");
+    assertThat(loadedBatches.get(2)).containsExactly(5);
+
+    complete(loads.get(2), loadedBatches.get(2));
+    assertThat(subscriber.items).containsExactly("v1", "v2", "v3", "v4", "v5");
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  void testSingleRequestsArePublishedFromTheLoadedBatch() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher(Arrays.asList(1, 2, 3, 4)).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    assertThat(loadedBatches).containsExactly(Arrays.asList(1, 2));
+    complete(loads.get(0), loadedBatches.get(0));
+    assertThat(subscriber.items).containsExactly("v1");
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.items).containsExactly("v1", "v2");
+    assertThat(loadedBatches).hasSize(1);
+
+    subscriber.subscription.request(1);
+    assertThat(loadedBatches).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+  }
+
+  @Test
+  void testFailedLoadFailsTheSubscriberAndCancelsOtherLoads() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher(Arrays.asList(1, 2, 3, 4)).subscribe(subscriber);
+    subscriber.subscription.request(4);
+
+    loads.get(0).completeExceptionally(new IllegalStateException("boom"));
+
+    assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+    assertThat(loads.get(1)).isCancelled();
+  }
+
+  @Test
+  void testInvalidRequestFailsTheSubscriber() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher(Arrays.asList(1, 2)).subscribe(subscriber);
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(loadedBatches).isEmpty();
+  }
+
+  private static final class RecordingSubscriber implements Subscriber<String> {
+    private final List<String> items = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+class BatchingSubscriberTest {
+
+  private final List<List<Integer>> writtenBatches = new ArrayList<>();
+  private final List<CompletableFuture<String>> writes = new ArrayList<>();
+  private final RecordingSubscription subscription = new RecordingSubscription();
+
+  private BatchingSubscriber<Integer, String> subscriber() {
+    return new BatchingSubscriber<>(
+        2,
+        batch -> {
+          writtenBatches.add(new ArrayList<>(batch));
+          final CompletableFuture<String> write = new CompletableFuture<>();
+          writes.add(write);
+          return write;
+        },
+        "failure"::equals,
+        () -> "success",
+        e -> "failure");
+  }
+
+  @Test
+  void testNextBatchIsRequestedOnceThePreviousOneIsWritten() {
+    final BatchingSubscriber<Integer, String> subscriber = subscriber();
+    subscriber.onSubscribe(subscription);
+    assertThat(subscription.requested).isEqualTo(2);
+
+    subscriber.onNext(1);
+    subscriber.onNext(2);
+    assertThat(writtenBatches).containsExactly(Arrays.asList(1, 2));
+    assertThat(subscription.requested).isEqualTo(2);
+
+    writes.get(0).complete("ok");
+    assertThat(subscription.requested).isEqualTo(4);
+
+    subscriber.onNext(3);
+    subscriber.onComplete();
+    assertThat(writtenBatches.get(1)).containsExactly(3);
+    assertThat(subscriber.result()).isNotDone();
+
+    writes.get(1).complete("ok");
+    assertThat(subscriber.result()).isCompletedWithValue("success");
+  }
+
+  @Test
+  void testFailedWriteCancelsTheSubscription() {
+    final BatchingSubscriber<Integer, String> subscriber = subscriber();
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(1);
+    subscriber.onNext(2);
+
+    writes.get(0).completeExceptionally(new IllegalStateException("boom"));
+
+    assertThat(subscriber.result()).isCompletedWithValue("failure");
+    assertThat(subscription.cancelled).isTrue();
+    assertThat(subscription.requested).isEqualTo(2);
+  }
+
+  @Test
+  void testPublisherErrorIsTheResult() {
+    final BatchingSubscriber<Integer, String> subscriber = subscriber();
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(1);
+    subscriber.onError(new IllegalStateException("boom"));
+
+    assertThat(subscriber.result()).isCompletedWithValue("failure");
+    assertThat(writtenBatches).isEmpty();
+  }
+
+  private static final class RecordingSubscription implements Subscription {
+    private long requested;
+    private boolean cancelled;
+
+    @Override
+    public void request(long n) {
+      requested += n;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import java.util.ArrayList;
+import java.util.List;
+import momento.sdk.config.transport.ChannelSelectionStrategy;
+import org.junit.jupiter.api.Test;
+
+class ChannelSelectorTest {
+
+  private final List<ManagedChannel> channels = new ArrayList<>();
+  private final List<ChannelLoad> loads = new ArrayList<>();
+
+  private void addChannel(ConnectivityState state, int inFlight, long averageLatencyNanos) {
+    final ManagedChannel channel = mock(ManagedChannel.class);
+    lenient().when(channel.getState(false)).thenReturn(state);
+    final ChannelLoad load = mock(ChannelLoad.class);
+    lenient().when(load.inFlight()).thenReturn(inFlight);
+    lenient().when(load.averageLatencyNanos()).thenReturn(averageLatencyNanos);
+    channels.add(channel);
+    loads.add(load);
+  }
+
+  private int next(ChannelSelector selector) {
+    return selector.next(channels, loads);
+  }
+
+  @Test
+  void testRoundRobinUsesEveryChannelInTurn() {
+    addChannel(ConnectivityState.READY, 10, 0);
+    addChannel(ConnectivityState.TRANSIENT_FAILURE, 0, 0);
+    addChannel(ConnectivityState.READY, 0, 0);
+    final ChannelSelector selector = new ChannelSelector(ChannelSelectionStrategy.ROUND_ROBIN);
+
+    assertThat(next(selector)).isEqualTo(0);
+    assertThat(next(selector)).isEqualTo(1);
+    assertThat(next(selector)).isEqualTo(2);
+    assertThat(next(selector)).isEqualTo(0);
+  }
+
+  @Test
+  void testLeastOutstandingRequestsSkipsChannelsThatAreNotReady() {
+    addChannel(ConnectivityState.READY, 5, 0);
+    addChannel(ConnectivityState.CONNECTING, 0, 0);
+    addChannel(ConnectivityState.READY, 2, 0);
+    final ChannelSelector selector =
+        new ChannelSelector(ChannelSelectionStrategy.LEAST_OUTSTANDING_REQUESTS);
+
+    for (int i = 0; i < 6; i++) {
+      assertThat(next(selector)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void testIdleChannelsAreAskedToConnectAndUsedWhenNoneAreReady() {
+    addChannel(ConnectivityState.IDLE, 0, 0);
+    addChannel(ConnectivityState.IDLE, 0, 0);
+    final ChannelSelector selector =
+        new ChannelSelector(ChannelSelectionStrategy.LEAST_OUTSTANDING_REQUESTS);
+
+    assertThat(next(selector)).isEqualTo(0);
+    assertThat(next(selector)).isEqualTo(1);
+    verify(channels.get(0), atLeastOnce()).getState(true);
+  }
+
+  @Test
+  void testPowerOfTwoChoicesAvoidsTheSlowChannel() {
+    addChannel(ConnectivityState.READY, 1, 1_000_000);
+    addChannel(ConnectivityState.READY, 1, 50_000_000);
+    final ChannelSelector selector =
+        new ChannelSelector(ChannelSelectionStrategy.POWER_OF_TWO_CHOICES);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(next(selector)).isEqualTo(0);
+    }
+  }
+
+  @Test
+  void testPowerOfTwoChoicesPrefersAReadyChannel() {
+    addChannel(ConnectivityState.CONNECTING, 0, 0);
+    addChannel(ConnectivityState.READY, 5, 50_000_000);
+    final ChannelSelector selector =
+        new ChannelSelector(ChannelSelectionStrategy.POWER_OF_TWO_CHOICES);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(next(selector)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void testExcludedChannelIsNotPicked() {
+    addChannel(ConnectivityState.READY, 0, 0);
+    addChannel(ConnectivityState.READY, 1, 0);
+    addChannel(ConnectivityState.READY, 2, 0);
+
+    for (ChannelSelectionStrategy strategy : ChannelSelectionStrategy.values()) {
+      final ChannelSelector selector = new ChannelSelector(strategy);
+      for (int i = 0; i < 20; i++) {
+        assertThat(selector.next(channels, loads, 0)).isNotEqualTo(0);
+      }
+    }
+    assertThat(
+            new ChannelSelector(ChannelSelectionStrategy.LEAST_OUTSTANDING_REQUESTS)
+                .next(channels, loads, 0))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testPowerOfTwoChoicesOnlyChecksItsTwoCandidates() {
+    for (int i = 0; i < 10; i++) {
+      addChannel(ConnectivityState.READY, 0, 0);
+    }
+    final ChannelSelector selector =
+        new ChannelSelector(ChannelSelectionStrategy.POWER_OF_TWO_CHOICES);
+
+    clearInvocations(channels.toArray(new ManagedChannel[0]));
+
+    next(selector);
+
+    assertThat(channels)
+        .filteredOn(channel -> !mockingDetails(channel).getInvocations().isEmpty())
+        .hasSize(2);
+  }
+}
@@ -0,0 +1,155 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import grpc.cache_client.ScsGrpc;
+import grpc.cache_client._GetResponse;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import momento.sdk.config.CircuitBreakerConfiguration;
+import momento.sdk.exceptions.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final CircuitBreakerConfiguration configuration =
+      new CircuitBreakerConfiguration()
+          .withFailureRateThreshold(0.5)
+          .withMinimumRequests(4)
+          .withWindow(Duration.ofSeconds(10))
+          .withOpenDuration(Duration.ofSeconds(5))
+          .withProbeRequests(2);
+
+  private void complete(CircuitBreaker breaker, CircuitBreaker.Outcome outcome) {
+    breaker.onComplete(breaker.tryAcquire(), outcome);
+  }
+
+  private CircuitBreaker openBreaker() {
+    final CircuitBreaker breaker = new CircuitBreaker(configuration, nanos::get);
+    complete(breaker, CircuitBreaker.Outcome.SUCCESS);
+    complete(breaker, CircuitBreaker.Outcome.SUCCESS);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    return breaker;
+  }
+
+  @Test
+  void testOpensOnceTheFailureRateReachesTheThreshold() {
+    final CircuitBreaker breaker = new CircuitBreaker(configuration, nanos::get);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    complete(breaker, CircuitBreaker.Outcome.SUCCESS);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+  }
+
+  @Test
+  void testCancelledRequestsAndOldWindowsDoNotCount() {
+    final CircuitBreaker breaker = new CircuitBreaker(configuration, nanos::get);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.IGNORED);
+    complete(breaker, CircuitBreaker.Outcome.IGNORED);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    complete(breaker, CircuitBreaker.Outcome.FAILURE);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void testClosesOnceTheProbesSucceed() {
+    final CircuitBreaker breaker = openBreaker();
+    nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    final CircuitBreaker.Permit first = breaker.tryAcquire();
+    final CircuitBreaker.Permit second = breaker.tryAcquire();
+    assertThat(first).isEqualTo(CircuitBreaker.Permit.PROBE);
+    assertThat(second).isEqualTo(CircuitBreaker.Permit.PROBE);
+    assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+
+    breaker.onComplete(first, CircuitBreaker.Outcome.SUCCESS);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    breaker.onComplete(second, CircuitBreaker.Outcome.SUCCESS);
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.Permit.NORMAL);
+  }
+
+  @Test
+  void testOpensAgainWhenAProbeFails() {
+    final CircuitBreaker breaker = openBreaker();
+    nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    final CircuitBreaker.Permit probe = breaker.tryAcquire();
+    breaker.onComplete(probe, CircuitBreaker.Outcome.FAILURE);
+
+    assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(breaker.tryAcquire()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testRejectedCallIsClosedOnTheExecutor() {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+    final CircuitBreakerInterceptor interceptor =
+        new CircuitBreakerInterceptor(configuration, tasks::add, nanos::get);
+    final Channel channel = mock(Channel.class);
+    final ClientCall<Object, Object> sentCall = mock(ClientCall.class);
+    doAnswer(
+            invocation -> {
+              final ClientCall.Listener<Object> listener = invocation.getArgument(0);
+              listener.onClose(Status.UNAVAILABLE, new Metadata());
+              return null;
+            })
+        .when(sentCall)
+        .start(any(), any());
+    when(channel.newCall(any(), any())).thenReturn(sentCall);
+
+    for (int i = 0; i < 4; i++) {
+      startCall(interceptor, channel, new AtomicReference<>());
+    }
+    assertThat(tasks).isEmpty();
+
+    final AtomicReference<Status> closed = new AtomicReference<>();
+    startCall(interceptor, channel, closed);
+    assertThat(closed.get()).isNull();
+    assertThat(tasks).hasSize(1);
+
+    tasks.remove().run();
+    assertThat(closed.get().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+    assertThat(closed.get().getCause()).isInstanceOf(CircuitOpenException.class);
+  }
+
+  private static void startCall(
+      CircuitBreakerInterceptor interceptor, Channel channel, AtomicReference<Status> closed) {
+    final Metadata headers = new Metadata();
+    headers.put(ScsClientBase.CACHE_NAME_KEY, "cache");
+    interceptor
+        .interceptCall(ScsGrpc.getGetMethod(), CallOptions.DEFAULT, channel)
+        .start(
+            new ClientCall.Listener<_GetResponse>() {
+              @Override
+              public void onClose(Status status, Metadata trailers) {
+                closed.set(status);
+              }
+            },
+            headers);
+  }
+}
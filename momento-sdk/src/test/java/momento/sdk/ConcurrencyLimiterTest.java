@@ -0,0 +1,119 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+
+  @Test
+  void testOperationsOverTheLimitAreQueuedUntilAPermitIsReleased() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+    final List<CompletableFuture<String>> operations = new ArrayList<>();
+    final List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      final CompletableFuture<String> operation = new CompletableFuture<>();
+      operations.add(operation);
+      results.add(limiter.execute(() -> operation, e -> "error"));
+    }
+
+    assertThat(limiter.inFlightCount()).isEqualTo(2);
+    assertThat(limiter.queuedCount()).isEqualTo(1);
+
+    operations.get(0).complete("first");
+
+    assertThat(results.get(0)).isCompletedWithValue("first");
+    assertThat(limiter.inFlightCount()).isEqualTo(2);
+    assertThat(limiter.queuedCount()).isEqualTo(0);
+
+    operations.get(1).complete("second");
+    operations.get(2).complete("third");
+
+    assertThat(results.get(2)).isCompletedWithValue("third");
+    assertThat(limiter.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  void testQueuedOperationsStartInOrder() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+    limiter.execute(() -> blocker, e -> -1);
+
+    final List<Integer> started = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      final int index = i;
+      limiter.execute(
+          () -> {
+            started.add(index);
+            return CompletableFuture.completedFuture(index);
+          },
+          e -> -1);
+    }
+    assertThat(started).isEmpty();
+
+    blocker.complete(0);
+
+    assertThat(started).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  void testManySynchronouslyCompletingQueuedOperationsDoNotRecurse() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+    limiter.execute(() -> blocker, e -> -1);
+
+    final AtomicInteger completed = new AtomicInteger();
+    for (int i = 0; i < 100_000; i++) {
+      limiter
+          .execute(() -> CompletableFuture.completedFuture(1), e -> -1)
+          .thenRun(completed::incrementAndGet);
+    }
+
+    blocker.complete(0);
+
+    assertThat(completed.get()).isEqualTo(100_000);
+    assertThat(limiter.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  void testExceptionWhileStartingIsConvertedAndReleasesThePermit() {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+
+    final CompletableFuture<String> result =
+        limiter.execute(
+            () -> {
+              throw new IllegalStateException("boom");
+            },
+            e -> "error: " + e.getMessage());
+
+    assertThat(result).isCompletedWithValue("error: boom");
+    assertThat(limiter.inFlightCount()).isEqualTo(0);
+  }
+
+  @Test
+  void testCancelledQueuedOperationIsNeverStarted() throws InterruptedException {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    final CompletableFuture<String> blocker = new CompletableFuture<>();
+    limiter.execute(() -> blocker, e -> "error");
+
+    final AtomicInteger starts = new AtomicInteger();
+    final CompletableFuture<String> queued =
+        limiter.execute(
+            () -> {
+              starts.incrementAndGet();
+              return new CompletableFuture<>();
+            },
+            e -> "error");
+    queued.cancel(true);
+
+    blocker.complete("done");
+
+    assertThat(starts.get()).isEqualTo(0);
+    assertThat(limiter.awaitIdle(1, TimeUnit.SECONDS)).isTrue();
+  }
+}
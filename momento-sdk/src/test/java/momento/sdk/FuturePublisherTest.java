@@ -0,0 +1,119 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class FuturePublisherTest {
+
+  private final List<CompletableFuture<String>> operations = new ArrayList<>();
+  private final FuturePublisher<String> publisher =
+      new FuturePublisher<>(
+          () -> {
+            final CompletableFuture<String> operation = new CompletableFuture<>();
+            operations.add(operation);
+            return operation;
+          });
+
+  @Test
+  void testOperationStartsOnFirstRequestForEachSubscriber() {
+    final RecordingSubscriber first = new RecordingSubscriber();
+    final RecordingSubscriber second = new RecordingSubscriber();
+    publisher.subscribe(first);
+    publisher.subscribe(second);
+    assertThat(operations).isEmpty();
+
+    first.subscription.request(1);
+    first.subscription.request(1);
+    assertThat(operations).hasSize(1);
+
+    second.subscription.request(1);
+    assertThat(operations).hasSize(2);
+
+    operations.get(0).complete("a");
+    assertThat(first.items).containsExactly("a");
+    assertThat(first.completed).isTrue();
+    assertThat(second.items).isEmpty();
+  }
+
+  @Test
+  void testCancelCancelsTheOperation() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    subscriber.subscription.cancel();
+
+    assertThat(operations.get(0)).isCancelled();
+    assertThat(subscriber.items).isEmpty();
+    assertThat(subscriber.error).isNull();
+  }
+
+  @Test
+  void testNullResultFailsTheSubscriber() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    operations.get(0).complete(null);
+
+    assertThat(subscriber.error).isInstanceOf(NullPointerException.class);
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  void testFailedOperationFailsTheSubscriber() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    operations.get(0).completeExceptionally(new IllegalStateException("boom"));
+
+    assertThat(subscriber.error).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void testInvalidRequestFailsTheSubscriber() {
+    final RecordingSubscriber subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("3.9");
+    assertThat(operations).isEmpty();
+  }
+
+  private static final class RecordingSubscriber implements Subscriber<String> {
+    private final List<String> items = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import momento.sdk.config.HedgingConfiguration;
+import momento.sdk.exceptions.UnknownException;
+import momento.sdk.responses.cache.GetResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgerTest {
+
+  private ScheduledExecutorService scheduler;
+  private List<CompletableFuture<GetResponse>> attempts;
+
+  @BeforeEach
+  void setup() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    attempts = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterEach
+  void teardown() {
+    scheduler.shutdownNow();
+  }
+
+  private Hedger hedger(double maxHedgeRatio) {
+    return new Hedger(
+        new HedgingConfiguration(Duration.ofMillis(10), null, maxHedgeRatio), scheduler);
+  }
+
+  private CompletableFuture<GetResponse> attempt(int attempt) {
+    final CompletableFuture<GetResponse> future = new CompletableFuture<>();
+    attempts.add(future);
+    return future;
+  }
+
+  @Test
+  void testFastReadIsNotHedged() throws Exception {
+    final CompletableFuture<GetResponse> result = hedger(1.0).execute(this::attempt);
+    attempts.get(0).complete(new GetResponse.Miss());
+
+    assertThat(result.get(1, TimeUnit.SECONDS)).isInstanceOf(GetResponse.Miss.class);
+    Thread.sleep(50);
+    assertThat(attempts).hasSize(1);
+  }
+
+  @Test
+  void testSlowReadIsHedgedAndTheFirstResponseWins() throws Exception {
+    final CompletableFuture<GetResponse> result = hedger(1.0).execute(this::attempt);
+
+    waitForAttempts(2);
+    attempts.get(1).complete(new GetResponse.Miss());
+
+    assertThat(result.get(1, TimeUnit.SECONDS)).isInstanceOf(GetResponse.Miss.class);
+    assertThat(attempts.get(0)).isCancelled();
+  }
+
+  @Test
+  void testErrorWaitsForTheOtherCopy() throws Exception {
+    final CompletableFuture<GetResponse> result = hedger(1.0).execute(this::attempt);
+
+    waitForAttempts(2);
+    attempts.get(0).complete(new GetResponse.Error(new UnknownException("slow channel")));
+    assertThat(result).isNotDone();
+
+    attempts.get(1).complete(new GetResponse.Miss());
+    assertThat(result.get(1, TimeUnit.SECONDS)).isInstanceOf(GetResponse.Miss.class);
+  }
+
+  @Test
+  void testHedgesAreLimitedByTheBudget() throws Exception {
+    final CompletableFuture<GetResponse> result = hedger(0.5).execute(this::attempt);
+
+    Thread.sleep(50);
+    assertThat(attempts).hasSize(1);
+
+    attempts.get(0).complete(new GetResponse.Miss());
+    assertThat(result.get(1, TimeUnit.SECONDS)).isInstanceOf(GetResponse.Miss.class);
+  }
+
+  private void waitForAttempts(int count) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (attempts.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(attempts).hasSize(count);
+  }
+}
@@ -0,0 +1,66 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import momento.sdk.exceptions.ClientSdkException;
+import org.junit.jupiter.api.Test;
+
+class LargeValueStoreTest {
+
+  @Test
+  void testChunkCount() {
+    assertThat(LargeValueStore.chunkCount(0)).isEqualTo(0);
+    assertThat(LargeValueStore.chunkCount(1)).isEqualTo(1);
+    assertThat(LargeValueStore.chunkCount(LargeValueStore.CHUNK_SIZE)).isEqualTo(1);
+    assertThat(LargeValueStore.chunkCount(LargeValueStore.CHUNK_SIZE + 1)).isEqualTo(2);
+  }
+
+  @Test
+  void testChunkKeysAreUniquePerVersion() {
+    final UUID first = UUID.randomUUID();
+    final UUID second = UUID.randomUUID();
+
+    assertThat(LargeValueStore.chunkKey("key", first, 0))
+        .isNotEqualTo(LargeValueStore.chunkKey("key", second, 0))
+        .isNotEqualTo(LargeValueStore.chunkKey("key", first, 1));
+  }
+
+  @Test
+  void testManifestRoundTrips() {
+    final UUID versionId = UUID.randomUUID();
+    final int totalLength = 2 * LargeValueStore.CHUNK_SIZE + 5;
+    final int[] checksums = {1, -2, 3};
+
+    final ByteString manifest = LargeValueStore.encodeManifest(versionId, totalLength, checksums);
+    final LargeValueStore.Manifest decoded =
+        LargeValueStore.decodeManifest("key", manifest.asReadOnlyByteBuffer());
+
+    assertThat(decoded.versionId).isEqualTo(versionId);
+    assertThat(decoded.totalLength).isEqualTo(totalLength);
+    assertThat(decoded.checksums).containsExactly(checksums);
+  }
+
+  @Test
+  void testManifestWithWrongChunkCountIsRejected() {
+    final ByteString manifest =
+        LargeValueStore.encodeManifest(UUID.randomUUID(), 5, new int[] {1, 2});
+
+    assertThatThrownBy(() -> LargeValueStore.decodeManifest("key", manifest.asReadOnlyByteBuffer()))
+        .isInstanceOf(ClientSdkException.class)
+        .hasMessageContaining("torn");
+  }
+
+  @Test
+  void testPlainValueIsNotAManifest() {
+    assertThatThrownBy(
+            () ->
+                LargeValueStore.decodeManifest(
+                    "key", ByteBuffer.wrap("a plain value that is long enough".getBytes())))
+        .isInstanceOf(ClientSdkException.class)
+        .hasMessageContaining("not a large value manifest");
+  }
+}
@@ -0,0 +1,112 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import java.time.Duration;
+import java.util.Collections;
+import momento.sdk.auth.MomentoLocalProvider;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.transport.GrpcConfiguration;
+import momento.sdk.config.transport.NettyTransportConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MomentoRuntimeTest {
+
+  private final MomentoRuntime runtime = new MomentoRuntime(1);
+  private final GrpcConfiguration grpcConfiguration = new GrpcConfiguration(Duration.ofSeconds(5));
+
+  @AfterEach
+  void teardown() {
+    runtime.close();
+  }
+
+  private ManagedChannel newChannel(String poolName, int slot) {
+    return MomentoRuntime.newChannel(
+        runtime,
+        "localhost",
+        8080,
+        false,
+        grpcConfiguration,
+        Collections.emptyList(),
+        poolName,
+        slot);
+  }
+
+  @Test
+  void testSharedChannelIsShutDownWithItsLastUser() {
+    final ManagedChannel first = newChannel("unary", 0);
+    final ManagedChannel second = newChannel("unary", 0);
+    final ManagedChannel otherSlot = newChannel("unary", 1);
+
+    first.shutdown();
+    assertThat(first.isShutdown()).isTrue();
+    assertThat(second.isShutdown()).isFalse();
+    assertThat(second.getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+
+    second.shutdown();
+    assertThat(second.getState(false)).isEqualTo(ConnectivityState.SHUTDOWN);
+    assertThat(otherSlot.getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+  }
+
+  @Test
+  void testShuttingDownTwiceReleasesTheChannelOnce() {
+    final ManagedChannel first = newChannel("unary", 0);
+    final ManagedChannel second = newChannel("unary", 0);
+
+    first.shutdown();
+    first.shutdownNow();
+
+    assertThat(second.getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+  }
+
+  @Test
+  void testChannelsWithoutAPoolNameAreNotShared() {
+    final ManagedChannel first = newChannel(null, 0);
+    final ManagedChannel second = newChannel(null, 0);
+
+    first.shutdown();
+    assertThat(first.getState(false)).isEqualTo(ConnectivityState.SHUTDOWN);
+    assertThat(second.getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+    second.shutdown();
+  }
+
+  @Test
+  void testChannelsWithDifferentNettySettingsAreNotShared() {
+    final ManagedChannel defaults = newChannel("unary", 0);
+    final ManagedChannel tuned =
+        MomentoRuntime.newChannel(
+            runtime,
+            "localhost",
+            8080,
+            false,
+            grpcConfiguration.withNettyTransport(
+                new NettyTransportConfiguration()
+                    .withAllocator(NettyTransportConfiguration.Allocator.POOLED_DIRECT)
+                    .withFlowControlWindow(4 * 1024 * 1024)),
+            Collections.emptyList(),
+            "unary",
+            0);
+
+    defaults.shutdown();
+    assertThat(defaults.getState(false)).isEqualTo(ConnectivityState.SHUTDOWN);
+    assertThat(tuned.getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+    tuned.shutdown();
+  }
+
+  @Test
+  void testClosingAClientLeavesTheRuntimeRunning() {
+    final CacheClient client =
+        CacheClient.builder(
+                new MomentoLocalProvider(), Configurations.Laptop.latest(), Duration.ofMinutes(1))
+            .withRuntime(runtime)
+            .build();
+    client.close();
+
+    assertThat(runtime.getScheduler().isShutdown()).isFalse();
+    assertThat(runtime.getEventLoopGroup().isShutdown()).isFalse();
+    assertThat(newChannel("unary", 0).getState(false)).isNotEqualTo(ConnectivityState.SHUTDOWN);
+  }
+}
@@ -0,0 +1,127 @@
+package momento.sdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import momento.sdk.config.NearCacheConfiguration;
+import momento.sdk.responses.cache.GetResponse;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+  private static final String CACHE = "cache";
+  private static final ByteString KEY = ByteString.copyFromUtf8("key");
+  private static final ByteString VALUE = ByteString.copyFromUtf8("value");
+
+  private static void write(
+      NearCache nearCache, String cacheName, ByteString key, ByteString value, Duration ttl) {
+    nearCache.put(cacheName, key, value, ttl, nearCache.startWrite(cacheName, key));
+  }
+
+  @Test
+  void testPopulateServesHit() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    final long version = nearCache.readVersion(KEY);
+    nearCache.populate(CACHE, KEY, new GetResponse.Hit(VALUE), version);
+
+    final GetResponse.Hit hit = nearCache.get(CACHE, KEY);
+    assertNotNull(hit);
+    assertEquals("value", hit.valueString());
+    assertNull(nearCache.get("otherCache", KEY));
+  }
+
+  @Test
+  void testMissIsNotCached() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    nearCache.populate(CACHE, KEY, new GetResponse.Miss(), nearCache.readVersion(KEY));
+
+    assertNull(nearCache.get(CACHE, KEY));
+  }
+
+  @Test
+  void testReadRacingWithWriteDoesNotPopulate() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    final long version = nearCache.readVersion(KEY);
+    nearCache.invalidate(CACHE, KEY);
+    nearCache.populate(CACHE, KEY, new GetResponse.Hit(VALUE), version);
+
+    assertNull(nearCache.get(CACHE, KEY));
+  }
+
+  @Test
+  void testWriteThroughAndInvalidate() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    write(nearCache, CACHE, KEY, VALUE, Duration.ofMinutes(1));
+    assertNotNull(nearCache.get(CACHE, KEY));
+
+    nearCache.invalidate(CACHE, KEY);
+    assertNull(nearCache.get(CACHE, KEY));
+  }
+
+  @Test
+  void testSetsCompletingOutOfOrderDoNotWriteThrough() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    final long firstVersion = nearCache.startWrite(CACHE, KEY);
+    final long secondVersion = nearCache.startWrite(CACHE, KEY);
+    nearCache.put(
+        CACHE, KEY, ByteString.copyFromUtf8("second"), Duration.ofMinutes(1), secondVersion);
+    nearCache.put(CACHE, KEY, VALUE, Duration.ofMinutes(1), firstVersion);
+
+    assertNull(nearCache.get(CACHE, KEY));
+  }
+
+  @Test
+  void testReadRacingWithWriteThroughDoesNotPopulate() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    final long readVersion = nearCache.readVersion(KEY);
+    write(nearCache, CACHE, KEY, ByteString.copyFromUtf8("new"), Duration.ofMinutes(1));
+    nearCache.populate(CACHE, KEY, new GetResponse.Hit(VALUE), readVersion);
+
+    assertEquals("new", nearCache.get(CACHE, KEY).valueString());
+  }
+
+  @Test
+  void testEntryExpiresWithItemTtl() throws InterruptedException {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(100, Duration.ofMinutes(1)));
+
+    write(nearCache, CACHE, KEY, VALUE, Duration.ofMillis(10));
+    Thread.sleep(50);
+
+    assertNull(nearCache.get(CACHE, KEY));
+  }
+
+  @Test
+  void testSizeIsBounded() {
+    final NearCache nearCache =
+        new NearCache(new NearCacheConfiguration(10, Duration.ofMinutes(1)));
+
+    for (int i = 0; i < 100; i++) {
+      write(nearCache, CACHE, ByteString.copyFromUtf8("key" + i), VALUE, Duration.ofMinutes(1));
+    }
+
+    assertTrue(nearCache.size() <= 10);
+  }
+
+  @Test
+  void testInvalidateAllOnlyDropsOneCache() {
+    final NearCache nearCache = new NearCache(new NearCacheConfiguration());
+
+    write(nearCache, CACHE, KEY, VALUE, Duration.ofMinutes(1));
+    write(nearCache, "otherCache", KEY, VALUE, Duration.ofMinutes(1));
+    nearCache.invalidateAll(CACHE);
+
+    assertNull(nearCache.get(CACHE, KEY));
+    assertNotNull(nearCache.get("otherCache", KEY));
+  }
+}
@@ -0,0 +1,81 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+  private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Test
+  void testRejectsRequestsOverTheBurstWithoutWaiting() {
+    final RateLimiter limiter = new RateLimiter(10, 1, false, nanos::get);
+    for (int i = 0; i < 10; i++) {
+      assertThat(limiter.acquire(0)).isEqualTo(0);
+    }
+    assertThat(limiter.acquire(0)).isEqualTo(-1);
+
+    nanos.addAndGet(SECOND_NANOS / 10);
+    assertThat(limiter.acquire(0)).isEqualTo(0);
+    assertThat(limiter.acquire(0)).isEqualTo(-1);
+  }
+
+  @Test
+  void testQueuedRequestsWaitBehindEachOther() {
+    final RateLimiter limiter = new RateLimiter(10, 1, false, nanos::get);
+    for (int i = 0; i < 10; i++) {
+      limiter.acquire(0);
+    }
+
+    assertThat(limiter.acquire(SECOND_NANOS)).isCloseTo(SECOND_NANOS / 10, within(1000L));
+    assertThat(limiter.acquire(SECOND_NANOS)).isCloseTo(SECOND_NANOS / 5, within(1000L));
+    // A request that would wait longer than allowed does not reserve a token.
+    assertThat(limiter.acquire(SECOND_NANOS / 10)).isEqualTo(-1);
+    assertThat(limiter.acquire(SECOND_NANOS)).isCloseTo(3 * SECOND_NANOS / 10, within(1000L));
+  }
+
+  @Test
+  void testAutoTuningBacksOffOncePerIntervalAndRecovers() {
+    final RateLimiter limiter = new RateLimiter(100, 1, true, nanos::get);
+
+    limiter.onThrottled();
+    limiter.onThrottled();
+    assertThat(limiter.getRate()).isCloseTo(80, within(1e-9));
+
+    nanos.addAndGet(RateLimiter.BACKOFF_INTERVAL_NANOS);
+    limiter.onThrottled();
+    assertThat(limiter.getRate()).isCloseTo(64, within(1e-9));
+
+    for (int i = 0; i < 1000; i++) {
+      limiter.onSuccess();
+    }
+    assertThat(limiter.getRate()).isCloseTo(100, within(1e-9));
+  }
+
+  @Test
+  void testWithoutAutoTuningTheRateIsFixed() {
+    final RateLimiter limiter = new RateLimiter(100, 1, false, nanos::get);
+
+    limiter.onThrottled();
+
+    assertThat(limiter.getRate()).isEqualTo(100);
+  }
+
+  @Test
+  void testClassifiesOperations() {
+    assertThat(RateLimitInterceptor.classify("Get"))
+        .isEqualTo(RateLimitInterceptor.OperationClass.READ);
+    assertThat(RateLimitInterceptor.classify("SetIf"))
+        .isEqualTo(RateLimitInterceptor.OperationClass.WRITE);
+    assertThat(RateLimitInterceptor.classify("SetFetch"))
+        .isEqualTo(RateLimitInterceptor.OperationClass.COLLECTION);
+    assertThat(RateLimitInterceptor.classify("DictionaryGet"))
+        .isEqualTo(RateLimitInterceptor.OperationClass.COLLECTION);
+  }
+}
@@ -0,0 +1,125 @@
+package momento.sdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+  private static final ByteString KEY = ByteString.copyFromUtf8("key");
+
+  @Test
+  void testConcurrentIdenticalRequestsShareOneSend() {
+    final RequestCoalescer coalescer = new RequestCoalescer();
+    final AtomicInteger sends = new AtomicInteger();
+    final CompletableFuture<String> rpc = new CompletableFuture<>();
+
+    final CompletableFuture<String> first =
+        coalescer.coalesce(
+            () -> {
+              sends.incrementAndGet();
+              return rpc;
+            },
+            "cache",
+            KEY,
+            "get");
+    final CompletableFuture<String> second =
+        coalescer.coalesce(
+            () -> {
+              sends.incrementAndGet();
+              return new CompletableFuture<>();
+            },
+            "cache",
+            KEY,
+            "get");
+
+    assertEquals(1, sends.get());
+    assertFalse(first.isDone());
+
+    rpc.complete("value");
+
+    assertEquals("value", first.join());
+    assertEquals("value", second.join());
+    assertEquals(0, coalescer.inFlightCount());
+  }
+
+  @Test
+  void testDifferentRequestsAreNotShared() {
+    final RequestCoalescer coalescer = new RequestCoalescer();
+    final AtomicInteger sends = new AtomicInteger();
+
+    coalescer.coalesce(
+        () -> {
+          sends.incrementAndGet();
+          return new CompletableFuture<>();
+        },
+        "cache",
+        ByteString.copyFromUtf8("key1"),
+        "get");
+    coalescer.coalesce(
+        () -> {
+          sends.incrementAndGet();
+          return new CompletableFuture<>();
+        },
+        "cache",
+        ByteString.copyFromUtf8("key2"),
+        "get");
+
+    assertEquals(2, sends.get());
+  }
+
+  @Test
+  void testCompletedRequestIsNotReused() {
+    final RequestCoalescer coalescer = new RequestCoalescer();
+    final AtomicInteger sends = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      coalescer
+          .coalesce(
+              () -> CompletableFuture.completedFuture(sends.incrementAndGet()), "cache", KEY, "get")
+          .join();
+    }
+
+    assertEquals(3, sends.get());
+  }
+
+  @Test
+  void testCancellingOneCallerDoesNotAffectOthers() {
+    final RequestCoalescer coalescer = new RequestCoalescer();
+    final CompletableFuture<String> rpc = new CompletableFuture<>();
+
+    final CompletableFuture<String> first = coalescer.coalesce(() -> rpc, "cache", KEY, "get");
+    final CompletableFuture<String> second = coalescer.coalesce(() -> rpc, "cache", KEY, "get");
+
+    first.cancel(true);
+    rpc.complete("value");
+
+    assertTrue(first.isCancelled());
+    assertFalse(rpc.isCancelled());
+    assertEquals("value", second.join());
+  }
+
+  @Test
+  void testReadAfterCompletedWriteDoesNotShareEarlierRead() {
+    final RequestCoalescer coalescer = new RequestCoalescer();
+    final CompletableFuture<String> beforeWrite = new CompletableFuture<>();
+    final CompletableFuture<String> afterWrite = new CompletableFuture<>();
+
+    final CompletableFuture<String> first =
+        coalescer.coalesce(() -> beforeWrite, "cache", KEY, "get");
+    coalescer.onWriteCompleted("cache", KEY);
+    final CompletableFuture<String> second =
+        coalescer.coalesce(() -> afterWrite, "cache", KEY, "get");
+
+    beforeWrite.complete("old");
+    afterWrite.complete("new");
+
+    assertEquals("old", first.join());
+    assertEquals("new", second.join());
+  }
+}
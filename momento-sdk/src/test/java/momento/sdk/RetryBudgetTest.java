@@ -0,0 +1,73 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import momento.sdk.config.RetryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Test
+  void testRetriesAreLimitedToTheRatioOfSuccesses() {
+    final RetryBudget budget =
+        new RetryBudget(new RetryBudgetConfiguration(0.5, 0, 100), nanos::get);
+
+    assertThat(budget.tryRetry()).isFalse();
+
+    for (int i = 0; i < 4; i++) {
+      budget.onSuccess();
+    }
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isFalse();
+    assertThat(budget.rejectedRetryCount()).isEqualTo(2);
+  }
+
+  @Test
+  void testTheMinimumRateAllowsRetriesWithoutSuccesses() {
+    final RetryBudget budget =
+        new RetryBudget(new RetryBudgetConfiguration(0.1, 2, 100), nanos::get);
+
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isFalse();
+
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isFalse();
+  }
+
+  @Test
+  void testRefundedRetryCanBeTakenAgain() {
+    final RetryBudget budget =
+        new RetryBudget(new RetryBudgetConfiguration(0.5, 0, 100), nanos::get);
+    budget.onSuccess();
+    budget.onSuccess();
+
+    assertThat(budget.tryRetry()).isTrue();
+    budget.refund();
+
+    assertThat(budget.tryRetry()).isTrue();
+    assertThat(budget.tryRetry()).isFalse();
+    assertThat(budget.rejectedRetryCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testSavedRetriesAreCapped() {
+    final RetryBudget budget = new RetryBudget(new RetryBudgetConfiguration(1, 1, 3), nanos::get);
+
+    for (int i = 0; i < 100; i++) {
+      budget.onSuccess();
+    }
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(budget.tryRetry()).isTrue();
+    }
+    assertThat(budget.tryRetry()).isFalse();
+  }
+}
@@ -0,0 +1,77 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RetrySchedulerTest {
+
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterEach
+  void teardown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testRetriesOverTheLimitAreShed() {
+    final RetryScheduler scheduler = new RetryScheduler(executor, 2);
+    final AtomicInteger sent = new AtomicInteger();
+
+    assertThat(scheduler.schedule(sent::incrementAndGet, 60_000)).isNotNull();
+    final RetryScheduler.ScheduledRetry second = scheduler.schedule(sent::incrementAndGet, 60_000);
+    assertThat(second).isNotNull();
+    assertThat(scheduler.schedule(sent::incrementAndGet, 60_000)).isNull();
+    assertThat(scheduler.shedRetryCount()).isEqualTo(1);
+
+    assertThat(second.cancel()).isTrue();
+    assertThat(second.cancel()).isFalse();
+    assertThat(scheduler.pendingRetryCount()).isEqualTo(1);
+    assertThat(scheduler.schedule(sent::incrementAndGet, 60_000)).isNotNull();
+    assertThat(sent.get()).isEqualTo(0);
+  }
+
+  @Test
+  void testRetriesWithoutDelayAreSentRightAway() {
+    final RetryScheduler scheduler = new RetryScheduler(executor, 1);
+    final AtomicInteger sent = new AtomicInteger();
+
+    scheduler.schedule(sent::incrementAndGet, 0);
+    scheduler.schedule(sent::incrementAndGet, 0);
+
+    assertThat(sent.get()).isEqualTo(2);
+    assertThat(scheduler.pendingRetryCount()).isEqualTo(0);
+  }
+
+  @Test
+  void testTheTimerWheelSendsRetriesOnceTheirDelayExpires() throws InterruptedException {
+    final RetryScheduler scheduler = new RetryScheduler();
+    try {
+      final CountDownLatch sent = new CountDownLatch(1);
+      scheduler.schedule(sent::countDown, 20);
+
+      assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(scheduler.pendingRetryCount()).isEqualTo(0);
+    } finally {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void testClosingSendsThePendingRetries() {
+    final RetryScheduler scheduler = new RetryScheduler();
+    final AtomicInteger sent = new AtomicInteger();
+    scheduler.schedule(sent::incrementAndGet, 60_000);
+
+    scheduler.close();
+
+    assertThat(sent.get()).isEqualTo(1);
+    assertThat(scheduler.schedule(sent::incrementAndGet, 60_000)).isNull();
+  }
+}
@@ -0,0 +1,197 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import grpc.cache_client.ScsGrpc;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import momento.sdk.auth.MomentoLocalProvider;
+import momento.sdk.config.Configuration;
+import momento.sdk.config.Configurations;
+import momento.sdk.config.transport.ElasticChannelPoolConfiguration;
+import momento.sdk.exceptions.ConnectionFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScsDataGrpcStubsManagerTest {
+
+  private static final int ITERATIONS = 100_000;
+
+  private ScsDataGrpcStubsManager stubsManager;
+
+  @BeforeEach
+  void setup() {
+    final Configuration laptop = Configurations.Laptop.latest();
+    final Configuration configuration =
+        laptop.withTransportStrategy(
+            laptop
+                .getTransportStrategy()
+                .withGrpcConfiguration(
+                    laptop
+                        .getTransportStrategy()
+                        .getGrpcConfiguration()
+                        .withNumUnaryGrpcChannels(2)));
+    stubsManager = new ScsDataGrpcStubsManager(new MomentoLocalProvider(), configuration);
+  }
+
+  @AfterEach
+  void teardown() {
+    stubsManager.close();
+  }
+
+  @Test
+  void testStubsAreReusedPerCacheAndChannel() {
+    final ScsGrpc.ScsFutureStub first = stubsManager.getStub("cache");
+    final ScsGrpc.ScsFutureStub second = stubsManager.getStub("cache");
+    final ScsGrpc.ScsFutureStub third = stubsManager.getStub("cache");
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(third).isSameAs(first);
+    assertThat(stubsManager.getStub("other")).isNotSameAs(first).isNotSameAs(second);
+    assertThat(first.getCallOptions().getDeadline()).isNull();
+  }
+
+  @Test
+  void testElasticPoolGrowsWithLoadUpToTheMaximum() {
+    final ScsDataGrpcStubsManager elastic = elasticStubsManager();
+    try {
+      assertThat(elastic.numChannels()).isEqualTo(2);
+
+      elastic.adjustForLoad(100);
+      assertThat(elastic.numChannels()).isEqualTo(2);
+
+      elastic.adjustForLoad(180);
+      assertThat(elastic.numChannels()).isEqualTo(3);
+      assertThat(elastic.getStub("cache", 2)).isNotSameAs(elastic.getStub("cache", 0));
+
+      for (int i = 0; i < 10; i++) {
+        elastic.adjustForLoad(10_000);
+      }
+      assertThat(elastic.numChannels()).isEqualTo(4);
+    } finally {
+      elastic.close();
+    }
+  }
+
+  @Test
+  void testElasticPoolShrinksToItsStartingSizeOnceIdle() {
+    final ScsDataGrpcStubsManager elastic = elasticStubsManager();
+    try {
+      elastic.adjustForLoad(180);
+      elastic.adjustForLoad(260);
+      assertThat(elastic.numChannels()).isEqualTo(4);
+
+      // The peak since the last check still needs every channel.
+      elastic.shrinkIfOverProvisioned();
+      assertThat(elastic.numChannels()).isEqualTo(4);
+
+      elastic.adjustForLoad(120);
+      elastic.shrinkIfOverProvisioned();
+      assertThat(elastic.numChannels()).isEqualTo(3);
+
+      elastic.shrinkIfOverProvisioned();
+      elastic.shrinkIfOverProvisioned();
+      assertThat(elastic.numChannels()).isEqualTo(2);
+    } finally {
+      elastic.close();
+    }
+  }
+
+  @Test
+  void testFixedPoolDoesNotGrow() {
+    stubsManager.adjustForLoad(10_000);
+    assertThat(stubsManager.numChannels()).isEqualTo(2);
+  }
+
+  @Test
+  void testConnectAsyncFailsWithinTheTimeoutWhenTheServerIsUnreachable() {
+    final ScsDataGrpcStubsManager unreachable =
+        new ScsDataGrpcStubsManager(new MomentoLocalProvider(1), Configurations.Laptop.latest());
+    try {
+      final CompletableFuture<Void> connected = unreachable.connectAsync(Duration.ofSeconds(2));
+
+      assertThatThrownBy(() -> connected.get(10, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(ConnectionFailedException.class);
+    } finally {
+      unreachable.close();
+    }
+  }
+
+  private static ScsDataGrpcStubsManager elasticStubsManager() {
+    final Configuration laptop = Configurations.Laptop.latest();
+    final Configuration configuration =
+        laptop.withTransportStrategy(
+            laptop
+                .getTransportStrategy()
+                .withGrpcConfiguration(
+                    laptop
+                        .getTransportStrategy()
+                        .getGrpcConfiguration()
+                        .withNumUnaryGrpcChannels(2)
+                        .withElasticChannelPool(
+                            new ElasticChannelPoolConfiguration(4, Duration.ofMinutes(1)))));
+    return new ScsDataGrpcStubsManager(new MomentoLocalProvider(), configuration);
+  }
+
+  /**
+   * Compares the bytes allocated to get a stub on the request path with those allocated by
+   * decorating a stub per request with the cache header and a deadline, as was done before stubs
+   * were cached.
+   */
+  @Test
+  void benchmarkStubAcquisitionAllocations() {
+    final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+    final com.sun.management.ThreadMXBean allocationBean =
+        (com.sun.management.ThreadMXBean) threadBean;
+    assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+
+    final ScsGrpc.ScsFutureStub baseStub = stubsManager.getStub("cache");
+    final Duration deadline = Duration.ofSeconds(5);
+    final Supplier<Object> perRequestStub =
+        () -> {
+          final Metadata metadata = new Metadata();
+          metadata.put(ScsClientBase.CACHE_NAME_KEY, "cache");
+          return baseStub
+              .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata))
+              .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        };
+    final Supplier<Object> cachedStub = () -> stubsManager.getStub("cache");
+
+    final long perRequestBytes = allocatedBytes(allocationBean, perRequestStub);
+    final long cachedBytes = allocatedBytes(allocationBean, cachedStub);
+
+    assertThat(cachedBytes)
+        .as(
+            "bytes allocated per stub: per request %.1f, cached %.1f",
+            (double) perRequestBytes / ITERATIONS, (double) cachedBytes / ITERATIONS)
+        .isLessThan(perRequestBytes / 10);
+  }
+
+  private static long allocatedBytes(
+      com.sun.management.ThreadMXBean allocationBean, Supplier<Object> stubSupplier) {
+    final long threadId = Thread.currentThread().getId();
+    Object sink = null;
+    // Warm up so that the measurement does not include class loading and compilation.
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink = stubSupplier.get();
+    }
+    final long before = allocationBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink = stubSupplier.get();
+    }
+    final long after = allocationBean.getThreadAllocatedBytes(threadId);
+    assertThat(sink).isNotNull();
+    return after - before;
+  }
+}
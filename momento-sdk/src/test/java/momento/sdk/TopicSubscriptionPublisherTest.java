@@ -0,0 +1,213 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import grpc.cache_client.pubsub._TopicValue;
+import io.grpc.stub.ClientCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import momento.sdk.responses.topic.TopicMessage;
+import momento.sdk.responses.topic.TopicSubscribeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class TopicSubscriptionPublisherTest {
+
+  private final ScsTopicClient topicClient = mock(ScsTopicClient.class);
+  private final TopicSubscribeResponse.Subscription topicSubscription =
+      mock(TopicSubscribeResponse.Subscription.class);
+  private final CompletableFuture<TopicSubscribeResponse> subscribed = new CompletableFuture<>();
+  private final FakeStream stream = new FakeStream();
+  private final RecordingSubscriber subscriber = new RecordingSubscriber();
+  private ISubscriptionCallbacks callbacks;
+  private SubscriptionFlowControl flowControl;
+
+  @BeforeEach
+  void setup() {
+    when(topicClient.subscribe(eq("cache"), eq("topic"), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              callbacks = invocation.getArgument(2);
+              flowControl = invocation.getArgument(3);
+              return subscribed;
+            });
+    new TopicSubscriptionPublisher(topicClient, "cache", "topic").subscribe(subscriber);
+  }
+
+  private void startStream() {
+    subscribed.complete(topicSubscription);
+    flowControl.onStreamStarting(stream);
+  }
+
+  private void receive(String text) {
+    callbacks.onItem(message(text));
+    flowControl.onMessageHandled();
+  }
+
+  private static TopicMessage message(String text) {
+    return new TopicMessage.Text(_TopicValue.newBuilder().setText(text).build(), null);
+  }
+
+  @Test
+  void testSubscriptionStartsOnFirstRequest() {
+    verify(topicClient, never()).subscribe(any(), any(), any(), any());
+
+    subscriber.subscription.request(1);
+    subscriber.subscription.request(1);
+
+    verify(topicClient).subscribe(eq("cache"), eq("topic"), any(), any());
+  }
+
+  @Test
+  void testStreamRequestsFollowDemand() {
+    subscriber.subscription.request(3);
+    startStream();
+
+    assertThat(stream.initialRequest).isEqualTo(4);
+    assertThat(stream.requests).isEmpty();
+
+    receive("a");
+    receive("b");
+    assertThat(subscriber.items).containsExactly("a", "b");
+    assertThat(stream.requests).isEmpty();
+
+    subscriber.subscription.request(5);
+    assertThat(stream.requests).containsExactly(5);
+  }
+
+  @Test
+  void testStreamRequestsAreCapped() {
+    subscriber.subscription.request(Long.MAX_VALUE);
+    startStream();
+
+    assertThat(stream.initialRequest)
+        .isEqualTo(TopicSubscriptionPublisher.MAX_STREAM_REQUESTS + 1);
+
+    receive("a");
+    assertThat(stream.requests).containsExactly(1);
+  }
+
+  @Test
+  void testNoMessageIsDeliveredBeyondDemand() {
+    subscriber.subscription.request(1);
+    startStream();
+
+    receive("a");
+    receive("b");
+    assertThat(subscriber.items).containsExactly("a");
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.items).containsExactly("a", "b");
+  }
+
+  @Test
+  void testCancelUnsubscribes() {
+    subscriber.subscription.request(1);
+    startStream();
+
+    subscriber.subscription.cancel();
+    verify(topicSubscription).unsubscribe();
+
+    callbacks.onItem(message("a"));
+    subscriber.subscription.request(1);
+    assertThat(subscriber.items).isEmpty();
+    assertThat(stream.requests).isEmpty();
+  }
+
+  @Test
+  void testCancelBeforeSubscribedUnsubscribesOnceSubscribed() {
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    verify(topicSubscription, never()).unsubscribe();
+
+    subscribed.complete(topicSubscription);
+    verify(topicSubscription).unsubscribe();
+  }
+
+  @Test
+  void testInvalidRequestFailsTheSubscriber() {
+    subscriber.subscription.request(1);
+    startStream();
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("3.9");
+    verify(topicSubscription).unsubscribe();
+  }
+
+  private static final class FakeStream extends ClientCallStreamObserver<Object> {
+    private int initialRequest = -1;
+    private final List<Integer> requests = new ArrayList<>();
+
+    @Override
+    public void disableAutoRequestWithInitial(int request) {
+      initialRequest = request;
+    }
+
+    @Override
+    public void request(int count) {
+      requests.add(count);
+    }
+
+    @Override
+    public void cancel(String message, Throwable cause) {}
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setOnReadyHandler(Runnable onReadyHandler) {}
+
+    @Override
+    public void disableAutoInboundFlowControl() {}
+
+    @Override
+    public void setMessageCompression(boolean enable) {}
+
+    @Override
+    public void onNext(Object value) {}
+
+    @Override
+    public void onError(Throwable t) {}
+
+    @Override
+    public void onCompleted() {}
+  }
+
+  private static final class RecordingSubscriber implements Subscriber<TopicMessage> {
+    private final List<String> items = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(TopicMessage item) {
+      items.add(((TopicMessage.Text) item).getValue());
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onComplete() {}
+  }
+}
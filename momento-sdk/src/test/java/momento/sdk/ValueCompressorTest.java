@@ -0,0 +1,106 @@
+package momento.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import momento.sdk.config.CompressionConfiguration;
+import org.junit.jupiter.api.Test;
+
+class ValueCompressorTest {
+
+  private final ValueCompressor compressor =
+      new ValueCompressor(new CompressionConfiguration().withThresholdBytes(64));
+
+  private static ByteString repetitive(int size) {
+    final StringBuilder builder = new StringBuilder(size);
+    while (builder.length() < size) {
+      builder.append("momento ");
+    }
+    return ByteString.copyFrom(builder.substring(0, size), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void testCompressibleValueRoundTrips() {
+    final ByteString value = repetitive(10_000);
+
+    final ByteString compressed = compressor.compress(value);
+
+    assertThat(compressed.size()).isLessThan(value.size());
+    assertThat(compressor.decompress(compressed)).isEqualTo(value);
+  }
+
+  @Test
+  void testValueBelowThresholdIsNotCompressed() {
+    final ByteString value = repetitive(63);
+
+    assertThat(compressor.compress(value)).isSameAs(value);
+  }
+
+  @Test
+  void testIncompressibleValueIsNotCompressed() {
+    final byte[] bytes = new byte[4096];
+    new Random(42).nextBytes(bytes);
+    final ByteString value = ByteString.copyFrom(bytes);
+
+    assertThat(compressor.compress(value)).isSameAs(value);
+  }
+
+  @Test
+  void testUncompressedValueIsReturnedUnchanged() {
+    final ByteString value = repetitive(10_000);
+
+    assertThat(compressor.decompress(value)).isSameAs(value);
+  }
+
+  @Test
+  void testValueWithHeaderButInvalidStreamIsReturnedUnchanged() {
+    final ByteString compressed = compressor.compress(repetitive(10_000));
+    final ByteString corrupted =
+        compressed.substring(0, compressed.size() - 4).concat(ByteString.copyFrom(new byte[4]));
+
+    assertThat(compressor.decompress(corrupted)).isSameAs(corrupted);
+  }
+
+  @Test
+  void testValueOverMaximumSizeIsNotCompressed() {
+    final ByteString value = repetitive(ValueCompressor.MAX_ORIGINAL_SIZE + 1);
+
+    assertThat(compressor.compress(value)).isSameAs(value);
+  }
+
+  @Test
+  void testRecordedSizeOverMaximumIsReturnedUnchanged() {
+    final int size = ValueCompressor.MAX_ORIGINAL_SIZE + 1;
+    final Deflater deflater = new Deflater();
+    deflater.setInput(repetitive(size).toByteArray());
+    deflater.finish();
+    final ByteString.Output out = ByteString.newOutput();
+    out.write(new byte[] {(byte) 0xFF, 'M', 'Z', 0x01}, 0, 4);
+    out.write(size >>> 24);
+    out.write(size >>> 16);
+    out.write(size >>> 8);
+    out.write(size);
+    final byte[] chunk = new byte[8192];
+    while (!deflater.finished()) {
+      out.write(chunk, 0, deflater.deflate(chunk));
+    }
+    deflater.end();
+    final ByteString compressed = out.toByteString();
+
+    assertThat(compressor.decompress(compressed)).isSameAs(compressed);
+  }
+
+  @Test
+  void testClosedCompressorStillRoundTrips() {
+    final ByteString value = repetitive(10_000);
+    final ByteString compressed = compressor.compress(value);
+    assertThat(compressor.decompress(compressed)).isEqualTo(value);
+
+    compressor.close();
+
+    assertThat(compressor.decompress(compressor.compress(value))).isEqualTo(value);
+  }
+}
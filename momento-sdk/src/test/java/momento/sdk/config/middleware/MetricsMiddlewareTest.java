@@ -0,0 +1,101 @@
+package momento.sdk.config.middleware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import grpc.cache_client.ScsGrpc;
+import grpc.cache_client._GetRequest;
+import grpc.cache_client._GetResponse;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import momento.sdk.retry.MomentoRpcMethod;
+import org.junit.jupiter.api.Test;
+
+class MetricsMiddlewareTest {
+
+  private static final _GetRequest REQUEST =
+      _GetRequest.newBuilder().setCacheKey(ByteString.copyFromUtf8("key")).build();
+  private static final _GetResponse RESPONSE =
+      _GetResponse.newBuilder().setCacheBody(ByteString.copyFromUtf8("value")).build();
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final MetricsMiddleware middleware = new MetricsMiddleware(nanos::get);
+
+  private void sendGet(boolean retry, long latencyMillis, Status status) {
+    final MiddlewareRequestHandlerContext context =
+        retry
+            ? () -> Collections.singletonMap(MiddlewareRequestHandlerContext.RETRY_ATTEMPT_KEY, "1")
+            : Collections::emptyMap;
+    final MiddlewareRequestHandler handler = middleware.onNewCall(context, ScsGrpc.getGetMethod());
+    handler.onRequestMetadata(new MiddlewareMetadata(new Metadata()));
+    handler.onRequestBody(new MiddlewareMessage(REQUEST));
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    if (status.isOk()) {
+      handler.onResponseBody(new MiddlewareMessage(RESPONSE));
+    }
+    handler.onResponseStatus(new MiddlewareStatus(status));
+  }
+
+  @Test
+  void testRecordsRequestsRetriesStatusesAndBytesPerMethod() {
+    sendGet(false, 1, Status.UNAVAILABLE);
+    sendGet(true, 1, Status.OK);
+    sendGet(false, 1, Status.OK);
+
+    final MetricsSnapshot snapshot = middleware.getSnapshot();
+    assertThat(snapshot.getMethods()).containsOnlyKeys(MomentoRpcMethod.GET);
+    final RpcMetrics get = snapshot.getMethod(MomentoRpcMethod.GET).get();
+    assertThat(get.getRequestCount()).isEqualTo(3);
+    assertThat(get.getRetryCount()).isEqualTo(1);
+    assertThat(get.getErrorCount()).isEqualTo(1);
+    assertThat(get.getStatusCounts())
+        .containsEntry(Status.Code.OK, 2L)
+        .containsEntry(Status.Code.UNAVAILABLE, 1L);
+    assertThat(get.getRequestBytes()).isEqualTo(3L * REQUEST.getSerializedSize());
+    assertThat(get.getResponseBytes()).isEqualTo(2L * RESPONSE.getSerializedSize());
+  }
+
+  @Test
+  void testChannelHandlerRecordsNothing() {
+    final MiddlewareRequestHandler handler = middleware.onNewRequest(Collections::emptyMap);
+    handler.onRequestMetadata(new MiddlewareMetadata(new Metadata()));
+    handler.onRequestBody(new MiddlewareMessage(REQUEST));
+    handler.onResponseStatus(new MiddlewareStatus(Status.OK));
+
+    assertThat(middleware.getSnapshot().getMethods()).isEmpty();
+  }
+
+  @Test
+  void testLatencyPercentilesAreWithinTheBucketPrecision() {
+    for (int i = 1; i <= 100; i++) {
+      sendGet(false, i, Status.OK);
+    }
+
+    final RpcMetrics get = middleware.getSnapshot().getMethod(MomentoRpcMethod.GET).get();
+    assertThat(get.getLatencyPercentile(50)).isBetween(ms(50), ms(52));
+    assertThat(get.getLatencyPercentile(99)).isBetween(ms(99), ms(102));
+    assertThat(get.getLatencyPercentile(100)).isEqualTo(ms(100));
+    assertThat(get.getMaxLatency()).isEqualTo(ms(100));
+    assertThat(get.getMeanLatency()).isEqualTo(Duration.ofNanos(50_500_000));
+  }
+
+  @Test
+  void testBucketsCoverEveryValueWithoutGaps() {
+    long expectedLowest = 0;
+    for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+      assertThat(LatencyHistogram.indexOf(expectedLowest)).isEqualTo(i);
+      final long highest = LatencyHistogram.highestMicrosOf(i);
+      assertThat(LatencyHistogram.indexOf(highest)).isEqualTo(i);
+      expectedLowest = highest + 1;
+    }
+    assertThat(expectedLowest).isEqualTo(LatencyHistogram.MAX_MICROS + 1);
+  }
+
+  private static Duration ms(long millis) {
+    return Duration.ofMillis(millis);
+  }
+}
@@ -0,0 +1,77 @@
+package momento.sdk.responses.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class GetResponseTest {
+
+  @Test
+  void testValueByteBufferIsReadOnlyAndIndependent() {
+    final GetResponse.Hit hit = new GetResponse.Hit(ByteString.copyFromUtf8("value"));
+
+    final ByteBuffer buffer = hit.valueByteBuffer();
+    assertThat(buffer.isReadOnly()).isTrue();
+    assertThatThrownBy(() -> buffer.put(0, (byte) 'x'))
+        .isInstanceOf(ReadOnlyBufferException.class);
+
+    buffer.get(new byte[3]);
+    assertThat(hit.valueByteBuffer().remaining()).isEqualTo(5);
+    assertThat(hit.valueString()).isEqualTo("value");
+  }
+
+  @Test
+  void testWriteValueToChannelHandlesPartialWrites() throws Exception {
+    final ByteString value =
+        ByteString.copyFromUtf8("first chunk, ").concat(ByteString.copyFromUtf8("second chunk"));
+    final GetResponse.Hit hit = new GetResponse.Hit(value);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    hit.writeValueTo(new TrickleChannel(out, 3));
+
+    assertThat(out.toString(StandardCharsets.UTF_8.name()))
+        .isEqualTo("first chunk, second chunk");
+  }
+
+  @Test
+  void testValueStringIsDecodedOnce() {
+    final GetResponse.Hit hit = new GetResponse.Hit(ByteString.copyFromUtf8("value"));
+
+    assertThat(hit.valueString()).isSameAs(hit.valueString()).isSameAs(hit.value());
+  }
+
+  // Writes at most a few bytes per call, as a non-blocking channel may.
+  private static final class TrickleChannel implements WritableByteChannel {
+    private final ByteArrayOutputStream out;
+    private final int maxBytesPerWrite;
+
+    private TrickleChannel(ByteArrayOutputStream out, int maxBytesPerWrite) {
+      this.out = out;
+      this.maxBytesPerWrite = maxBytesPerWrite;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      final int written = Math.min(src.remaining(), maxBytesPerWrite);
+      for (int i = 0; i < written; i++) {
+        out.write(src.get());
+      }
+      return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}